@@ -0,0 +1,388 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.supplementary;
+
+import jakarta.ws.rs.client.ClientRequestContext;
+import jakarta.ws.rs.client.ClientRequestFilter;
+import jakarta.ws.rs.client.ClientResponseContext;
+import jakarta.ws.rs.client.ClientResponseFilter;
+import jakarta.ws.rs.client.Invocation;
+import jakarta.ws.rs.ext.ReaderInterceptor;
+import jakarta.ws.rs.ext.ReaderInterceptorContext;
+import jakarta.ws.rs.ext.WriterInterceptor;
+import jakarta.ws.rs.ext.WriterInterceptorContext;
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Collection;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * <p>The Flight Recorder events of {@link ClientEvents}. This is the only class referring to <code>jdk.jfr</code>,
+ * which is not part of the Java 8 API, so it is compiled separately from <code>src/jfr/java</code> and loaded by name,
+ * only if the runtime has Flight Recorder.</p>
+ */
+final class JfrEvents extends ClientEvents.Recorder implements ClientRequestFilter, ClientResponseFilter, ReaderInterceptor, WriterInterceptor {
+
+	private static final String CALL = JfrEvents.class.getName() + ".call";
+
+	private static final String NETWORK = JfrEvents.class.getName() + ".network";
+
+	/**
+	 * The getter of the elements of a collection type, e.g. <code>ManagedObjectCollection#getManagedObjects()</code>.
+	 */
+	private static final ClassValue<Method> ELEMENTS = new ClassValue<Method>() {
+
+		@Override
+		protected Method computeValue(final Class<?> type) {
+			if (!type.getSimpleName().endsWith("Collection")) {
+				return null;
+			}
+			for (final Method method : type.getMethods()) {
+				if (method.getName().startsWith("get") && method.getParameterCount() == 0 && method.getReturnType().isArray() && !Modifier.isStatic(method.getModifiers())) {
+					return method;
+				}
+			}
+			return null;
+		}
+	};
+
+	@Override
+	boolean isAvailable() {
+		return FlightRecorder.isAvailable();
+	}
+
+	@Override
+	<T> CompletionStage<T> send(final Invocation.Builder invocation, final String operation, final Supplier<? extends CompletionStage<T>> request) {
+		final RequestEvent event = new RequestEvent();
+		if (!event.isEnabled()) {
+			return request.get();
+		}
+		final Call call = start(invocation, operation, event);
+		final CompletionStage<T> stage;
+		try {
+			stage = request.get();
+		} catch (final RuntimeException e) {
+			call.commit(e);
+			throw e;
+		}
+		return stage.whenComplete((value, error) -> call.commit(error));
+	}
+
+	@Override
+	<T> T call(final Invocation.Builder invocation, final String operation, final Supplier<T> request) {
+		final RequestEvent event = new RequestEvent();
+		if (!event.isEnabled()) {
+			return request.get();
+		}
+		final Call call = start(invocation, operation, event);
+		final T value;
+		try {
+			value = request.get();
+		} catch (final RuntimeException e) {
+			call.commit(e);
+			throw e;
+		}
+		call.commit(null);
+		return value;
+	}
+
+	private static Call start(final Invocation.Builder invocation, final String operation, final RequestEvent event) {
+		final Call call = new Call(operation, event);
+		invocation.property(CALL, call);
+		event.operation = operation;
+		event.begin();
+		return call;
+	}
+
+	private static String operationOf(final Object call) {
+		return call instanceof Call ? ((Call) call).operation : null;
+	}
+
+	@Override
+	public void filter(final ClientRequestContext request) {
+		final NetworkEvent event = new NetworkEvent();
+		if (event.isEnabled()) {
+			event.begin();
+			request.setProperty(NETWORK, event);
+		}
+		final Object call = request.getProperty(CALL);
+		if (call instanceof Call) {
+			((Call) call).event.method = request.getMethod();
+			((Call) call).event.path = request.getUri().getPath();
+			((Call) call).event.tenant = request.getUri().getHost();
+		}
+	}
+
+	@Override
+	public void filter(final ClientRequestContext request, final ClientResponseContext response) {
+		final Object call = request.getProperty(CALL);
+		if (call instanceof Call) {
+			((Call) call).event.status = response.getStatus();
+		}
+		final NetworkEvent event = (NetworkEvent) request.getProperty(NETWORK);
+		if (event == null) {
+			return;
+		}
+		event.end();
+		if (event.shouldCommit()) {
+			event.operation = operationOf(call);
+			event.method = request.getMethod();
+			event.path = request.getUri().getPath();
+			event.tenant = request.getUri().getHost();
+			event.status = response.getStatus();
+			event.contentLength = response.getLength();
+			event.commit();
+		}
+	}
+
+	@Override
+	public void aroundWriteTo(final WriterInterceptorContext context) throws IOException {
+		final Object call = context.getProperty(CALL);
+		final EncodeEvent event = new EncodeEvent();
+		if (!event.isEnabled() && !(call instanceof Call)) {
+			context.proceed();
+			return;
+		}
+		final long[] bytes = new long[1];
+		context.setOutputStream(new FilterOutputStream(context.getOutputStream()) {
+
+			@Override
+			public void write(final int b) throws IOException {
+				out.write(b);
+				bytes[0]++;
+			}
+
+			@Override
+			public void write(final byte[] b, final int off, final int len) throws IOException {
+				out.write(b, off, len);
+				bytes[0] += len;
+			}
+		});
+		event.begin();
+		try {
+			context.proceed();
+		} finally {
+			event.end();
+			if (call instanceof Call) {
+				((Call) call).event.requestBytes += bytes[0];
+			}
+			if (event.shouldCommit()) {
+				event.operation = operationOf(call);
+				event.mediaType = String.valueOf(context.getMediaType());
+				event.bytes = bytes[0];
+				event.commit();
+			}
+		}
+	}
+
+	@Override
+	public Object aroundReadFrom(final ReaderInterceptorContext context) throws IOException {
+		final Object call = context.getProperty(CALL);
+		final DecodeEvent event = new DecodeEvent();
+		if (!event.isEnabled() && !(call instanceof Call)) {
+			return context.proceed();
+		}
+		final long[] bytes = new long[1];
+		context.setInputStream(new FilterInputStream(context.getInputStream()) {
+
+			@Override
+			public int read() throws IOException {
+				final int b = in.read();
+				if (b >= 0) {
+					bytes[0]++;
+				}
+				return b;
+			}
+
+			@Override
+			public int read(final byte[] b, final int off, final int len) throws IOException {
+				final int n = in.read(b, off, len);
+				if (n > 0) {
+					bytes[0] += n;
+				}
+				return n;
+			}
+		});
+		event.begin();
+		Object value = null;
+		try {
+			value = context.proceed();
+			return value;
+		} finally {
+			event.end();
+			if (call instanceof Call) {
+				((Call) call).event.responseBytes += bytes[0];
+			}
+			if (event.shouldCommit()) {
+				event.operation = operationOf(call);
+				event.type = context.getType().getName();
+				event.bytes = bytes[0];
+				event.items = itemsOf(value);
+				event.commit();
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of elements of a decoded array, collection or collection type, e.g. the managed objects of a
+	 * <code>ManagedObjectCollection</code>, otherwise <code>1</code>, or <code>0</code> for <code>null</code>.
+	 */
+	static int itemsOf(final Object value) {
+		if (value == null) {
+			return 0;
+		}
+		if (value.getClass().isArray()) {
+			return Array.getLength(value);
+		}
+		if (value instanceof Collection) {
+			return ((Collection<?>) value).size();
+		}
+		final Method elements = ELEMENTS.get(value.getClass());
+		if (elements == null) {
+			return 1;
+		}
+		try {
+			final Object array = elements.invoke(value);
+			return array != null ? Array.getLength(array) : 0;
+		} catch (final ReflectiveOperationException e) {
+			return 1;
+		}
+	}
+
+	/**
+	 * <p>A request in flight, collecting the fields of its {@link RequestEvent} from the filters.</p>
+	 */
+	private static final class Call {
+
+		private final String operation;
+
+		private final RequestEvent event;
+
+		Call(final String operation, final RequestEvent event) {
+			this.operation = operation;
+			this.event = event;
+		}
+
+		void commit(final Throwable error) {
+			event.end();
+			if (event.shouldCommit()) {
+				event.failure = error != null ? error.toString() : null;
+				event.commit();
+			}
+		}
+	}
+
+	@Name("com.cumulocity.client.Request")
+	@Label("Cumulocity Request")
+	@Description("A request of an API class, from starting it, including waiting for the concurrency limiter, until the response has been decoded")
+	@Category({ "Cumulocity", "Client" })
+	static class RequestEvent extends Event {
+
+		@Label("Operation")
+		String operation;
+
+		@Label("Tenant")
+		@Description("The host the request was sent to")
+		String tenant;
+
+		@Label("Method")
+		String method;
+
+		@Label("Path")
+		String path;
+
+		@Label("Status")
+		int status;
+
+		@Label("Request Bytes")
+		@DataAmount
+		long requestBytes;
+
+		@Label("Response Bytes")
+		@DataAmount
+		long responseBytes;
+
+		@Label("Failure")
+		String failure;
+	}
+
+	@Name("com.cumulocity.client.Network")
+	@Label("Cumulocity Network Wait")
+	@Description("From sending a request, including writing its body, until the response headers have been received")
+	@Category({ "Cumulocity", "Client" })
+	static class NetworkEvent extends Event {
+
+		@Label("Operation")
+		String operation;
+
+		@Label("Tenant")
+		String tenant;
+
+		@Label("Method")
+		String method;
+
+		@Label("Path")
+		String path;
+
+		@Label("Status")
+		int status;
+
+		@Label("Content Length")
+		@DataAmount
+		long contentLength;
+	}
+
+	@Name("com.cumulocity.client.Encode")
+	@Label("Cumulocity Encode")
+	@Description("Writing a request body")
+	@Category({ "Cumulocity", "Client" })
+	static class EncodeEvent extends Event {
+
+		@Label("Operation")
+		String operation;
+
+		@Label("Media Type")
+		String mediaType;
+
+		@Label("Bytes")
+		@DataAmount
+		long bytes;
+	}
+
+	@Name("com.cumulocity.client.Decode")
+	@Label("Cumulocity Decode")
+	@Description("Reading and decoding a response body, including the deserializers of custom fragments")
+	@Category({ "Cumulocity", "Client" })
+	static class DecodeEvent extends Event {
+
+		@Label("Operation")
+		String operation;
+
+		@Label("Type")
+		String type;
+
+		@Label("Bytes")
+		@DataAmount
+		long bytes;
+
+		@Label("Items")
+		int items;
+	}
+}
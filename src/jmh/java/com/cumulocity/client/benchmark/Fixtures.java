@@ -0,0 +1,67 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.cumulocity.client.model.Alarm;
+import com.cumulocity.client.model.Event;
+import com.cumulocity.client.model.ManagedObject;
+import com.cumulocity.client.model.Measurement;
+
+/**
+ * <p>The synthetic JSON payloads of the benchmarks, generated to resemble responses of the platform, see
+ * <code>src/jmh/resources/fixtures</code>.</p>
+ */
+final class Fixtures {
+
+	private static final String[] MANAGED_OBJECT_FRAGMENTS = {
+		"c8y_Hardware", "c8y_Firmware", "c8y_Software", "c8y_Position", "c8y_Mobile", "c8y_RequiredAvailability",
+		"c8y_Availability", "c8y_Connection", "c8y_Configuration", "c8y_Agent", "c8y_ActiveAlarmsStatus", "c8y_DataPoint",
+		"com_example_Maintenance", "com_example_Tags"
+	};
+
+	private static final String[] MEASUREMENT_FRAGMENTS = { "c8y_Temperature", "c8y_Humidity", "c8y_Battery" };
+
+	private Fixtures() {
+	}
+
+	/**
+	 * Reads the fixture <code>name</code>, e.g. <code>measurements</code>.
+	 */
+	static byte[] load(final String name) throws IOException {
+		try (InputStream in = Fixtures.class.getResourceAsStream("/fixtures/" + name + ".json")) {
+			if (in == null) {
+				throw new IOException("Fixture not found: " + name);
+			}
+			final ByteArrayOutputStream out = new ByteArrayOutputStream();
+			final byte[] buffer = new byte[64 * 1024];
+			for (int n; (n = in.read(buffer)) > 0;) {
+				out.write(buffer, 0, n);
+			}
+			return out.toByteArray();
+		}
+	}
+
+	/**
+	 * Registers the custom fragments of the fixtures, so they are decoded instead of being dropped, and selects eager or
+	 * lazy decoding of custom fragments.
+	 */
+	static void registerFragments(final boolean lazyDecoding) {
+		for (final String fragment : MANAGED_OBJECT_FRAGMENTS) {
+			ManagedObject.Serialization.registerAdditionalProperty(fragment, Object.class);
+		}
+		for (final String fragment : MEASUREMENT_FRAGMENTS) {
+			Measurement.Serialization.registerAdditionalProperty(fragment, Object.class);
+		}
+		Alarm.Serialization.registerAdditionalProperty("com_example_Threshold", Object.class);
+		Event.Serialization.registerAdditionalProperty("c8y_Position", Object.class);
+		ManagedObject.Serialization.setLazyDecoding(lazyDecoding);
+		Measurement.Serialization.setLazyDecoding(lazyDecoding);
+		Alarm.Serialization.setLazyDecoding(lazyDecoding);
+		Event.Serialization.setLazyDecoding(lazyDecoding);
+	}
+}
@@ -0,0 +1,71 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.cumulocity.client.supplementary.ColumnarMeasurementSeries;
+import com.cumulocity.client.supplementary.JsonCodec;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * <p>Decodes a day of minutely values of two series into primitive columns, compared with a JSON tree holding the
+ * same values, and encodes the series.</p>
+ * <p>The generated <code>MeasurementSeries</code> model is not measured: its <code>values</code> have no properties,
+ * so decoding into it drops every value. The tree is the generic model keeping all values, and as the client has no
+ * model able to hold the values for encoding, the series is encoded from the tree.</p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class MeasurementSeriesBenchmark {
+
+	private ObjectMapper objectMapper;
+
+	private ObjectReader columnarReader;
+
+	private byte[] json;
+
+	private JsonNode tree;
+
+	@Setup
+	public void setUp() throws IOException {
+		objectMapper = JsonCodec.getDefault().getObjectMapper();
+		columnarReader = JsonCodec.getDefault().readerFor(ColumnarMeasurementSeries.class);
+		json = Fixtures.load("measurementSeries");
+		tree = objectMapper.readTree(json);
+	}
+
+	@Benchmark
+	public JsonNode decodeTree() throws IOException {
+		return objectMapper.readTree(json);
+	}
+
+	@Benchmark
+	public ColumnarMeasurementSeries decodeColumnar() throws IOException {
+		return columnarReader.readValue(json);
+	}
+
+	@Benchmark
+	public byte[] encodeTree() throws IOException {
+		return objectMapper.writeValueAsBytes(tree);
+	}
+}
@@ -0,0 +1,109 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.cumulocity.client.model.AlarmCollection;
+import com.cumulocity.client.model.EventCollection;
+import com.cumulocity.client.model.ManagedObjectCollection;
+import com.cumulocity.client.model.MeasurementCollection;
+import com.cumulocity.client.supplementary.JsonCodec;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * <p>Decodes and encodes collections as returned by the platform with the default {@link JsonCodec}, with custom
+ * fragments decoded eagerly or lazily. Run with <code>-prof gc</code> to report the allocation rate.</p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ModelCodecBenchmark {
+
+	public enum Payload {
+
+		/**
+		 * 2,000 measurements with two or three fragments each.
+		 */
+		MEASUREMENTS("measurements", MeasurementCollection.class),
+
+		/**
+		 * 100 devices with child references and 14 custom fragments each.
+		 */
+		MANAGED_OBJECTS("managedObjects", ManagedObjectCollection.class),
+
+		/**
+		 * 500 alarms with a custom fragment each.
+		 */
+		ALARMS("alarms", AlarmCollection.class),
+
+		/**
+		 * 500 events, half of them with a position.
+		 */
+		EVENTS("events", EventCollection.class);
+
+		private final String fixture;
+
+		private final Class<?> type;
+
+		Payload(final String fixture, final Class<?> type) {
+			this.fixture = fixture;
+			this.type = type;
+		}
+	}
+
+	@Param
+	public Payload payload;
+
+	@Param({ "false", "true" })
+	public boolean lazyDecoding;
+
+	private JsonCodec codec;
+
+	private ObjectReader reader;
+
+	private byte[] json;
+
+	private Object decoded;
+
+	private final ByteArrayOutputStream output = new ByteArrayOutputStream(1024 * 1024);
+
+	@Setup
+	public void setUp() throws IOException {
+		Fixtures.registerFragments(lazyDecoding);
+		codec = JsonCodec.getDefault();
+		reader = codec.readerFor(payload.type);
+		json = Fixtures.load(payload.fixture);
+		decoded = reader.readValue(json);
+	}
+
+	@Benchmark
+	public Object decode() throws IOException {
+		return reader.readValue(json);
+	}
+
+	@Benchmark
+	public int encode() throws IOException {
+		output.reset();
+		codec.writeValue(output, decoded);
+		return output.size();
+	}
+}
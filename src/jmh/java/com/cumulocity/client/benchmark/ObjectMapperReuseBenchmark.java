@@ -0,0 +1,71 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.cumulocity.client.model.ManagedObject;
+import com.cumulocity.client.model.ManagedObjectCollection;
+import com.cumulocity.client.supplementary.JsonCodec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * <p>Compares decoding and printing a single managed object with the shared {@link JsonCodec} against creating an
+ * <code>ObjectMapper</code> per call. The new mapper still decodes with the current model deserializers, which read
+ * fragments through the context of the calling mapper, so the benchmark measures the cost of one fresh mapper and its
+ * empty deserializer cache per call. It does not reproduce the models before the codec was introduced, which created
+ * a mapper per fragment and cost correspondingly more per object.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ObjectMapperReuseBenchmark {
+
+	private byte[] json;
+
+	private ManagedObject managedObject;
+
+	@Setup
+	public void setUp() throws IOException {
+		Fixtures.registerFragments(false);
+		final ManagedObjectCollection collection = JsonCodec.getDefault().readerFor(ManagedObjectCollection.class).readValue(Fixtures.load("managedObjects"));
+		managedObject = collection.getManagedObjects()[0];
+		json = JsonCodec.getDefault().getObjectMapper().writeValueAsBytes(managedObject);
+	}
+
+	@Benchmark
+	public ManagedObject decodeWithSharedCodec() throws IOException {
+		return JsonCodec.getDefault().readerFor(ManagedObject.class).readValue(json);
+	}
+
+	@Benchmark
+	public ManagedObject decodeWithNewObjectMapper() throws IOException {
+		return new ObjectMapper().readValue(json, ManagedObject.class);
+	}
+
+	@Benchmark
+	public String printWithSharedCodec() {
+		return managedObject.toString();
+	}
+
+	@Benchmark
+	public String printWithNewObjectMapper() throws IOException {
+		return new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(managedObject);
+	}
+}
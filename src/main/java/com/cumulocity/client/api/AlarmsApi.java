@@ -4,9 +4,9 @@
 package com.cumulocity.client.api;
 
 import java.util.concurrent.CompletionStage;
-import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.StreamingOutput;
 import jakarta.ws.rs.core.Response;
 import com.cumulocity.client.supplementary.AdaptableApi;
 import com.cumulocity.client.model.Alarm;
@@ -80,7 +80,7 @@ public class AlarmsApi extends AdaptableApi {
 	 * <p>When set to <code>true</code>, the returned result will contain in the statistics object the total number of pages. Only applicable on <a href="https://en.wikipedia.org/wiki/Range_query_(database)">range queries</a>.</p>
 	 */
 	public CompletionStage<AlarmCollection> getAlarms(final String createdFrom, final String createdTo, final int currentPage, final String dateFrom, final String dateTo, final String lastUpdatedFrom, final String lastUpdatedTo, final int pageSize, final boolean resolved, final String[] severity, final String source, final String[] status, final String[] type, final boolean withSourceAssets, final boolean withSourceDevices, final boolean withTotalElements, final boolean withTotalPages) {
-		return adapt().path("alarm").path("alarms")
+		return adapt("getAlarms").path("alarm").path("alarms")
 			.queryParam("createdFrom", createdFrom)
 			.queryParam("createdTo", createdTo)
 			.queryParam("currentPage", currentPage)
@@ -155,19 +155,8 @@ public class AlarmsApi extends AdaptableApi {
 	 * <p>When set to <code>true</code> also alarms for related source devices will be included in the request. When this parameter is provided a <code>source</code> must be specified.</p>
 	 */
 	public CompletionStage<Response> updateAlarms(final Alarm body, final String xCumulocityProcessingMode, final String createdFrom, final String createdTo, final String dateFrom, final String dateTo, final boolean resolved, final String[] severity, final String source, final String[] status, final boolean withSourceAssets, final boolean withSourceDevices) {
-		final JsonNode jsonNode = toJsonNode(body);
-		removeFromNode(jsonNode, "firstOccurrenceTime");
-		removeFromNode(jsonNode, "severity");
-		removeFromNode(jsonNode, "lastUpdated");
-		removeFromNode(jsonNode, "creationTime");
-		removeFromNode(jsonNode, "count");
-		removeFromNode(jsonNode, "self");
-		removeFromNode(jsonNode, "id");
-		removeFromNode(jsonNode, "source");
-		removeFromNode(jsonNode, "text");
-		removeFromNode(jsonNode, "time");
-		removeFromNode(jsonNode, "type");
-		return adapt().path("alarm").path("alarms")
+		final StreamingOutput jsonBody = toJsonBody(body, "firstOccurrenceTime", "severity", "lastUpdated", "creationTime", "count", "self", "id", "source", "text", "time", "type");
+		return adapt("updateAlarms").path("alarm").path("alarms")
 			.queryParam("createdFrom", createdFrom)
 			.queryParam("createdTo", createdTo)
 			.queryParam("dateFrom", dateFrom)
@@ -183,7 +172,7 @@ public class AlarmsApi extends AdaptableApi {
 			.header("Content-Type", "application/vnd.com.nsn.cumulocity.alarm+json")
 			.header("Accept", "application/json")
 			.rx()
-			.method("PUT", Entity.json(jsonNode));
+			.method("PUT", Entity.json(jsonBody));
 	}
 	
 	/**
@@ -227,21 +216,14 @@ public class AlarmsApi extends AdaptableApi {
 	 * <p>Used to explicitly control the processing mode of the request. See <a href="#processing-mode">Processing mode</a> for more details.</p>
 	 */
 	public CompletionStage<Alarm> createAlarm(final Alarm body, final String xCumulocityProcessingMode) {
-		final JsonNode jsonNode = toJsonNode(body);
-		removeFromNode(jsonNode, "firstOccurrenceTime");
-		removeFromNode(jsonNode, "lastUpdated");
-		removeFromNode(jsonNode, "creationTime");
-		removeFromNode(jsonNode, "count");
-		removeFromNode(jsonNode, "self");
-		removeFromNode(jsonNode, "id");
-		removeFromNode(jsonNode, "source", "self");
-		return adapt().path("alarm").path("alarms")
+		final StreamingOutput jsonBody = toJsonBody(body, "firstOccurrenceTime", "lastUpdated", "creationTime", "count", "self", "id", "source.self");
+		return adapt("createAlarm").path("alarm").path("alarms")
 			.request()
 			.header("X-Cumulocity-Processing-Mode", xCumulocityProcessingMode)
 			.header("Content-Type", "application/vnd.com.nsn.cumulocity.alarm+json")
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.alarm+json")
 			.rx()
-			.method("POST", Entity.json(jsonNode), Alarm.class);
+			.method("POST", Entity.json(jsonBody), Alarm.class);
 	}
 	
 	/**
@@ -293,7 +275,7 @@ public class AlarmsApi extends AdaptableApi {
 	 * <p>When set to <code>true</code> also alarms for related source devices will be included in the request. When this parameter is provided a <code>source</code> must be specified.</p>
 	 */
 	public CompletionStage<Response> deleteAlarms(final String xCumulocityProcessingMode, final String createdFrom, final String createdTo, final String dateFrom, final String dateTo, final boolean resolved, final String[] severity, final String source, final String[] status, final String[] type, final boolean withSourceAssets, final boolean withSourceDevices) {
-		return adapt().path("alarm").path("alarms")
+		return adapt("deleteAlarms").path("alarm").path("alarms")
 			.queryParam("createdFrom", createdFrom)
 			.queryParam("createdTo", createdTo)
 			.queryParam("dateFrom", dateFrom)
@@ -335,7 +317,7 @@ public class AlarmsApi extends AdaptableApi {
 	 * <p>Unique identifier of the alarm.</p>
 	 */
 	public CompletionStage<Alarm> getAlarm(final String id) {
-		return adapt().path("alarm").path("alarms").path(valueOf(id))
+		return adapt("getAlarm").path("alarm").path("alarms").path(valueOf(id))
 			.request()
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.alarm+json")
 			.rx()
@@ -373,23 +355,14 @@ public class AlarmsApi extends AdaptableApi {
 	 * <p>Used to explicitly control the processing mode of the request. See <a href="#processing-mode">Processing mode</a> for more details.</p>
 	 */
 	public CompletionStage<Alarm> updateAlarm(final Alarm body, final String id, final String xCumulocityProcessingMode) {
-		final JsonNode jsonNode = toJsonNode(body);
-		removeFromNode(jsonNode, "firstOccurrenceTime");
-		removeFromNode(jsonNode, "lastUpdated");
-		removeFromNode(jsonNode, "creationTime");
-		removeFromNode(jsonNode, "count");
-		removeFromNode(jsonNode, "self");
-		removeFromNode(jsonNode, "id");
-		removeFromNode(jsonNode, "source");
-		removeFromNode(jsonNode, "time");
-		removeFromNode(jsonNode, "type");
-		return adapt().path("alarm").path("alarms").path(valueOf(id))
+		final StreamingOutput jsonBody = toJsonBody(body, "firstOccurrenceTime", "lastUpdated", "creationTime", "count", "self", "id", "source", "time", "type");
+		return adapt("updateAlarm").path("alarm").path("alarms").path(valueOf(id))
 			.request()
 			.header("X-Cumulocity-Processing-Mode", xCumulocityProcessingMode)
 			.header("Content-Type", "application/vnd.com.nsn.cumulocity.alarm+json")
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.alarm+json")
 			.rx()
-			.method("PUT", Entity.json(jsonNode), Alarm.class);
+			.method("PUT", Entity.json(jsonBody), Alarm.class);
 	}
 	
 	/**
@@ -430,7 +403,7 @@ public class AlarmsApi extends AdaptableApi {
 	 * <p>When set to <code>true</code> also alarms for related source devices will be included in the request. When this parameter is provided a <code>source</code> must be specified.</p>
 	 */
 	public CompletionStage<Integer> getNumberOfAlarms(final String dateFrom, final String dateTo, final boolean resolved, final String[] severity, final String source, final String[] status, final String[] type, final boolean withSourceAssets, final boolean withSourceDevices) {
-		return adapt().path("alarm").path("alarms").path("count")
+		return adapt("getNumberOfAlarms").path("alarm").path("alarms").path("count")
 			.queryParam("dateFrom", dateFrom)
 			.queryParam("dateTo", dateTo)
 			.queryParam("resolved", resolved)
@@ -43,7 +43,7 @@ public class ApplicationBinariesApi extends AdaptableApi {
 	 * <p>Unique identifier of the application.</p>
 	 */
 	public CompletionStage<ApplicationBinaries> getApplicationAttachments(final String id) {
-		return adapt().path("application").path("applications").path(valueOf(id)).path("binaries")
+		return adapt("getApplicationAttachments").path("application").path("applications").path(valueOf(id)).path("binaries")
 			.request()
 			.header("Accept", "application/vnd.com.nsn.cumulocity.applicationbinaries+json, application/vnd.com.nsn.cumulocity.error+json")
 			.rx()
@@ -82,7 +82,7 @@ public class ApplicationBinariesApi extends AdaptableApi {
 	public CompletionStage<Application> uploadApplicationAttachment(final byte[] file, final String id) {
 		final FormDataMultiPart multiPartEntity = new FormDataMultiPart();
 		multiPartEntity.field("file", file, MediaType.valueOf("application/zip"));
-		return adapt().path("application").path("applications").path(valueOf(id)).path("binaries")
+		return adapt("uploadApplicationAttachment").path("application").path("applications").path(valueOf(id)).path("binaries")
 			.request()
 			.header("Content-Type", "multipart/form-data")
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.application+json")
@@ -111,7 +111,7 @@ public class ApplicationBinariesApi extends AdaptableApi {
 	 * <p>Unique identifier of the binary.</p>
 	 */
 	public CompletionStage<Response> getApplicationAttachment(final String id, final String binaryId) {
-		return adapt().path("application").path("applications").path(valueOf(id)).path("binaries").path(valueOf(binaryId))
+		return adapt("getApplicationAttachment").path("application").path("applications").path(valueOf(id)).path("binaries").path(valueOf(binaryId))
 			.request()
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/zip")
 			.rx()
@@ -141,7 +141,7 @@ public class ApplicationBinariesApi extends AdaptableApi {
 	 * <p>Unique identifier of the binary.</p>
 	 */
 	public CompletionStage<Response> deleteApplicationAttachment(final String id, final String binaryId) {
-		return adapt().path("application").path("applications").path(valueOf(id)).path("binaries").path(valueOf(binaryId))
+		return adapt("deleteApplicationAttachment").path("application").path("applications").path(valueOf(id)).path("binaries").path(valueOf(binaryId))
 			.request()
 			.header("Accept", "application/json")
 			.rx()
@@ -4,9 +4,9 @@
 package com.cumulocity.client.api;
 
 import java.util.concurrent.CompletionStage;
-import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.StreamingOutput;
 import jakarta.ws.rs.core.Response;
 import org.glassfish.jersey.media.multipart.FormDataMultiPart;
 import jakarta.ws.rs.core.MediaType;
@@ -49,7 +49,7 @@ public class ApplicationVersionsApi extends AdaptableApi {
 	 * <p>The tag of the application version.</p>
 	 */
 	public CompletionStage<ApplicationVersion> getApplicationVersion(final String id, final String version, final String tag) {
-		return adapt().path("application").path("applications").path(valueOf(id)).path("versions?version=1.0")
+		return adapt("getApplicationVersion").path("application").path("applications").path(valueOf(id)).path("versions?version=1.0")
 			.queryParam("version", version)
 			.queryParam("tag", tag)
 			.request()
@@ -81,7 +81,7 @@ public class ApplicationVersionsApi extends AdaptableApi {
 	 * <p>Unique identifier of the application.</p>
 	 */
 	public CompletionStage<ApplicationVersionCollection> getApplicationVersions(final String id) {
-		return adapt().path("application").path("applications").path(valueOf(id)).path("versions")
+		return adapt("getApplicationVersions").path("application").path("applications").path(valueOf(id)).path("versions")
 			.request()
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.applicationVersionCollection+json")
 			.rx()
@@ -121,7 +121,7 @@ public class ApplicationVersionsApi extends AdaptableApi {
 		final FormDataMultiPart multiPartEntity = new FormDataMultiPart();
 		multiPartEntity.field("applicationBinary", applicationBinary, MediaType.valueOf("application/zip"));
 		multiPartEntity.field("applicationVersion", applicationVersion, MediaType.valueOf("text/plain"));
-		return adapt().path("application").path("applications").path(valueOf(id)).path("versions")
+		return adapt("createApplicationVersion").path("application").path("applications").path(valueOf(id)).path("versions")
 			.request()
 			.header("Content-Type", "multipart/form-data")
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.applicationVersion+json")
@@ -158,7 +158,7 @@ public class ApplicationVersionsApi extends AdaptableApi {
 	 * <p>The tag of the application version.</p>
 	 */
 	public CompletionStage<Response> deleteApplicationVersion(final String id, final String version, final String tag) {
-		return adapt().path("application").path("applications").path(valueOf(id)).path("versions")
+		return adapt("deleteApplicationVersion").path("application").path("applications").path(valueOf(id)).path("versions")
 			.queryParam("version", version)
 			.queryParam("tag", tag)
 			.request()
@@ -195,12 +195,12 @@ public class ApplicationVersionsApi extends AdaptableApi {
 	 * <p>Version of the application.</p>
 	 */
 	public CompletionStage<ApplicationVersion> updateApplicationVersion(final ApplicationVersionTag body, final String id, final String version) {
-		final JsonNode jsonNode = toJsonNode(body);
-		return adapt().path("application").path("applications").path(valueOf(id)).path("versions").path(valueOf(version))
+		final StreamingOutput jsonBody = toJsonBody(body);
+		return adapt("updateApplicationVersion").path("application").path("applications").path(valueOf(id)).path("versions").path(valueOf(version))
 			.request()
 			.header("Content-Type", "application/json")
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.applicationVersion+json")
 			.rx()
-			.method("PUT", Entity.json(jsonNode), ApplicationVersion.class);
+			.method("PUT", Entity.json(jsonBody), ApplicationVersion.class);
 	}
 }
@@ -4,9 +4,9 @@
 package com.cumulocity.client.api;
 
 import java.util.concurrent.CompletionStage;
-import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.StreamingOutput;
 import jakarta.ws.rs.core.Response;
 import com.cumulocity.client.supplementary.AdaptableApi;
 import com.cumulocity.client.model.Application;
@@ -68,7 +68,7 @@ public class ApplicationsApi extends AdaptableApi {
 	 * <p>When set to <code>true</code>, the returned result contains applications with an <code>applicationVersions</code> field that is not empty. When set to <code>false</code>, the result will contain applications with an empty <code>applicationVersions</code> field.</p>
 	 */
 	public CompletionStage<ApplicationCollection> getApplications(final int currentPage, final String name, final String owner, final int pageSize, final String providedFor, final String subscriber, final String tenant, final String type, final String user, final boolean withTotalElements, final boolean withTotalPages, final boolean hasVersions) {
-		return adapt().path("application").path("applications")
+		return adapt("getApplications").path("application").path("applications")
 			.queryParam("currentPage", currentPage)
 			.queryParam("name", name)
 			.queryParam("owner", owner)
@@ -111,19 +111,14 @@ public class ApplicationsApi extends AdaptableApi {
 	 * <p>Used to explicitly control the processing mode of the request. See <a href="#processing-mode">Processing mode</a> for more details.</p>
 	 */
 	public CompletionStage<Application> createApplication(final Application body, final String xCumulocityProcessingMode) {
-		final JsonNode jsonNode = toJsonNode(body);
-		removeFromNode(jsonNode, "owner");
-		removeFromNode(jsonNode, "activeVersionId");
-		removeFromNode(jsonNode, "self");
-		removeFromNode(jsonNode, "id");
-		removeFromNode(jsonNode, "resourcesUrl");
-		return adapt().path("application").path("applications")
+		final StreamingOutput jsonBody = toJsonBody(body, "owner", "activeVersionId", "self", "id", "resourcesUrl");
+		return adapt("createApplication").path("application").path("applications")
 			.request()
 			.header("X-Cumulocity-Processing-Mode", xCumulocityProcessingMode)
 			.header("Content-Type", "application/vnd.com.nsn.cumulocity.application+json")
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.application+json")
 			.rx()
-			.method("POST", Entity.json(jsonNode), Application.class);
+			.method("POST", Entity.json(jsonBody), Application.class);
 	}
 	
 	/**
@@ -147,7 +142,7 @@ public class ApplicationsApi extends AdaptableApi {
 	 * <p>Unique identifier of the application.</p>
 	 */
 	public CompletionStage<Application> getApplication(final String id) {
-		return adapt().path("application").path("applications").path(valueOf(id))
+		return adapt("getApplication").path("application").path("applications").path(valueOf(id))
 			.request()
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.application+json")
 			.rx()
@@ -178,20 +173,14 @@ public class ApplicationsApi extends AdaptableApi {
 	 * <p>Used to explicitly control the processing mode of the request. See <a href="#processing-mode">Processing mode</a> for more details.</p>
 	 */
 	public CompletionStage<Application> updateApplication(final Application body, final String id, final String xCumulocityProcessingMode) {
-		final JsonNode jsonNode = toJsonNode(body);
-		removeFromNode(jsonNode, "owner");
-		removeFromNode(jsonNode, "activeVersionId");
-		removeFromNode(jsonNode, "self");
-		removeFromNode(jsonNode, "id");
-		removeFromNode(jsonNode, "type");
-		removeFromNode(jsonNode, "resourcesUrl");
-		return adapt().path("application").path("applications").path(valueOf(id))
+		final StreamingOutput jsonBody = toJsonBody(body, "owner", "activeVersionId", "self", "id", "type", "resourcesUrl");
+		return adapt("updateApplication").path("application").path("applications").path(valueOf(id))
 			.request()
 			.header("X-Cumulocity-Processing-Mode", xCumulocityProcessingMode)
 			.header("Content-Type", "application/vnd.com.nsn.cumulocity.application+json")
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.application+json")
 			.rx()
-			.method("PUT", Entity.json(jsonNode), Application.class);
+			.method("PUT", Entity.json(jsonBody), Application.class);
 	}
 	
 	/**
@@ -224,7 +213,7 @@ public class ApplicationsApi extends AdaptableApi {
 	 * <p>Used to explicitly control the processing mode of the request. See <a href="#processing-mode">Processing mode</a> for more details.</p>
 	 */
 	public CompletionStage<Response> deleteApplication(final String id, final boolean force, final String xCumulocityProcessingMode) {
-		return adapt().path("application").path("applications").path(valueOf(id))
+		return adapt("deleteApplication").path("application").path("applications").path(valueOf(id))
 			.queryParam("force", force)
 			.request()
 			.header("X-Cumulocity-Processing-Mode", xCumulocityProcessingMode)
@@ -260,7 +249,7 @@ public class ApplicationsApi extends AdaptableApi {
 	 * <p>Used to explicitly control the processing mode of the request. See <a href="#processing-mode">Processing mode</a> for more details.</p>
 	 */
 	public CompletionStage<Application> copyApplication(final String id, final String xCumulocityProcessingMode) {
-		return adapt().path("application").path("applications").path(valueOf(id)).path("clone")
+		return adapt("copyApplication").path("application").path("applications").path(valueOf(id)).path("clone")
 			.request()
 			.header("X-Cumulocity-Processing-Mode", xCumulocityProcessingMode)
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.application+json")
@@ -287,7 +276,7 @@ public class ApplicationsApi extends AdaptableApi {
 	 * <p>The name of the application.</p>
 	 */
 	public CompletionStage<ApplicationCollection> getApplicationsByName(final String name) {
-		return adapt().path("application").path("applicationsByName").path(valueOf(name))
+		return adapt("getApplicationsByName").path("application").path("applicationsByName").path(valueOf(name))
 			.request()
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.applicationcollection+json")
 			.rx()
@@ -313,7 +302,7 @@ public class ApplicationsApi extends AdaptableApi {
 	 * <p>Unique identifier of a Cumulocity IoT tenant.</p>
 	 */
 	public CompletionStage<ApplicationCollection> getApplicationsByTenant(final String tenantId) {
-		return adapt().path("application").path("applicationsByTenant").path(valueOf(tenantId))
+		return adapt("getApplicationsByTenant").path("application").path("applicationsByTenant").path(valueOf(tenantId))
 			.request()
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.applicationcollection+json")
 			.rx()
@@ -347,7 +336,7 @@ public class ApplicationsApi extends AdaptableApi {
 	 * <p>When set to <code>true</code>, the returned result will contain in the statistics object the total number of pages. Only applicable on <a href="https://en.wikipedia.org/wiki/Range_query_(database)">range queries</a>.</p>
 	 */
 	public CompletionStage<ApplicationCollection> getApplicationsByOwner(final String tenantId, final int currentPage, final int pageSize, final boolean withTotalElements, final boolean withTotalPages) {
-		return adapt().path("application").path("applicationsByOwner").path(valueOf(tenantId))
+		return adapt("getApplicationsByOwner").path("application").path("applicationsByOwner").path(valueOf(tenantId))
 			.queryParam("currentPage", currentPage)
 			.queryParam("pageSize", pageSize)
 			.queryParam("withTotalElements", withTotalElements)
@@ -385,7 +374,7 @@ public class ApplicationsApi extends AdaptableApi {
 	 * <p>When set to <code>true</code>, the returned result will contain in the statistics object the total number of pages. Only applicable on <a href="https://en.wikipedia.org/wiki/Range_query_(database)">range queries</a>.</p>
 	 */
 	public CompletionStage<ApplicationCollection> getApplicationsByUser(final String username, final int currentPage, final int pageSize, final boolean withTotalElements, final boolean withTotalPages) {
-		return adapt().path("application").path("applicationsByUser").path(valueOf(username))
+		return adapt("getApplicationsByUser").path("application").path("applicationsByUser").path(valueOf(username))
 			.queryParam("currentPage", currentPage)
 			.queryParam("pageSize", pageSize)
 			.queryParam("withTotalElements", withTotalElements)
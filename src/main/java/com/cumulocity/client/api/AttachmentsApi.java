@@ -44,7 +44,7 @@ public class AttachmentsApi extends AdaptableApi {
 	 * <p>Unique identifier of the event.</p>
 	 */
 	public CompletionStage<Response> getEventAttachment(final String id) {
-		return adapt().path("event").path("events").path(valueOf(id)).path("binaries")
+		return adapt("getEventAttachment").path("event").path("events").path(valueOf(id)).path("binaries")
 			.request()
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/octet-stream")
 			.rx()
@@ -73,7 +73,7 @@ public class AttachmentsApi extends AdaptableApi {
 	 * <p>Unique identifier of the event.</p>
 	 */
 	public CompletionStage<EventBinary> replaceEventAttachment(final byte[] body, final String id) {
-		return adapt().path("event").path("events").path(valueOf(id)).path("binaries")
+		return adapt("replaceEventAttachment").path("event").path("events").path(valueOf(id)).path("binaries")
 			.request()
 			.header("Content-Type", "text/plain")
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.event+json")
@@ -132,7 +132,7 @@ public class AttachmentsApi extends AdaptableApi {
 	 * <p>Unique identifier of the event.</p>
 	 */
 	public CompletionStage<EventBinary> uploadEventAttachment(final byte[] body, final String id) {
-		return adapt().path("event").path("events").path(valueOf(id)).path("binaries")
+		return adapt("uploadEventAttachment").path("event").path("events").path(valueOf(id)).path("binaries")
 			.request()
 			.header("Content-Type", "text/plain")
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.event+json")
@@ -196,7 +196,7 @@ public class AttachmentsApi extends AdaptableApi {
 		final FormDataMultiPart multiPartEntity = new FormDataMultiPart();
 		multiPartEntity.field("object", pObject, MediaType.valueOf("application/json"));
 		multiPartEntity.field("file", file, MediaType.valueOf("text/plain"));
-		return adapt().path("event").path("events").path(valueOf(id)).path("binaries")
+		return adapt("uploadEventAttachment").path("event").path("events").path(valueOf(id)).path("binaries")
 			.request()
 			.header("Content-Type", "multipart/form-data")
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.event+json")
@@ -225,7 +225,7 @@ public class AttachmentsApi extends AdaptableApi {
 	 * <p>Unique identifier of the event.</p>
 	 */
 	public CompletionStage<Response> deleteEventAttachment(final String id) {
-		return adapt().path("event").path("events").path(valueOf(id)).path("binaries")
+		return adapt("deleteEventAttachment").path("event").path("events").path(valueOf(id)).path("binaries")
 			.request()
 			.header("Accept", "application/json")
 			.rx()
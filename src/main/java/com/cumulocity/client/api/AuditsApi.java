@@ -4,9 +4,9 @@
 package com.cumulocity.client.api;
 
 import java.util.concurrent.CompletionStage;
-import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.StreamingOutput;
 import com.cumulocity.client.supplementary.AdaptableApi;
 import com.cumulocity.client.model.AuditRecord;
 import com.cumulocity.client.model.AuditRecordCollection;
@@ -68,7 +68,7 @@ public class AuditsApi extends AdaptableApi {
 	 * <p>When set to <code>true</code>, the returned result will contain in the statistics object the total number of pages. Only applicable on <a href="https://en.wikipedia.org/wiki/Range_query_(database)">range queries</a>.</p>
 	 */
 	public CompletionStage<AuditRecordCollection> getAuditRecords(final String application, final int currentPage, final String dateFrom, final String dateTo, final int pageSize, final String source, final String type, final String user, final boolean withTotalElements, final boolean withTotalPages) {
-		return adapt().path("audit").path("auditRecords")
+		return adapt("getAuditRecords").path("audit").path("auditRecords")
 			.queryParam("application", application)
 			.queryParam("currentPage", currentPage)
 			.queryParam("dateFrom", dateFrom)
@@ -103,21 +103,13 @@ public class AuditsApi extends AdaptableApi {
 	 * @param body
 	 */
 	public CompletionStage<AuditRecord> createAuditRecord(final AuditRecord body) {
-		final JsonNode jsonNode = toJsonNode(body);
-		removeFromNode(jsonNode, "severity");
-		removeFromNode(jsonNode, "application");
-		removeFromNode(jsonNode, "creationTime");
-		removeFromNode(jsonNode, "c8y_Metadata");
-		removeFromNode(jsonNode, "changes");
-		removeFromNode(jsonNode, "self");
-		removeFromNode(jsonNode, "id");
-		removeFromNode(jsonNode, "source", "self");
-		return adapt().path("audit").path("auditRecords")
+		final StreamingOutput jsonBody = toJsonBody(body, "severity", "application", "creationTime", "c8y_Metadata", "changes", "self", "id", "source.self");
+		return adapt("createAuditRecord").path("audit").path("auditRecords")
 			.request()
 			.header("Content-Type", "application/vnd.com.nsn.cumulocity.auditrecord+json")
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.auditrecord+json")
 			.rx()
-			.method("POST", Entity.json(jsonNode), AuditRecord.class);
+			.method("POST", Entity.json(jsonBody), AuditRecord.class);
 	}
 	
 	/**
@@ -139,7 +131,7 @@ public class AuditsApi extends AdaptableApi {
 	 * <p>Unique identifier of the audit record.</p>
 	 */
 	public CompletionStage<AuditRecord> getAuditRecord(final String id) {
-		return adapt().path("audit").path("auditRecords").path(valueOf(id))
+		return adapt("getAuditRecord").path("audit").path("auditRecords").path(valueOf(id))
 			.request()
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.auditrecord+json")
 			.rx()
@@ -62,7 +62,7 @@ public class BinariesApi extends AdaptableApi {
 	 * <p>When set to <code>true</code>, the returned result will contain in the statistics object the total number of pages. Only applicable on <a href="https://en.wikipedia.org/wiki/Range_query_(database)">range queries</a>.</p>
 	 */
 	public CompletionStage<BinaryCollection> getBinaries(final String childAdditionId, final String childAssetId, final String childDeviceId, final int currentPage, final String[] ids, final String owner, final int pageSize, final String text, final String type, final boolean withTotalPages) {
-		return adapt().path("inventory").path("binaries")
+		return adapt("getBinaries").path("inventory").path("binaries")
 			.queryParam("childAdditionId", childAdditionId)
 			.queryParam("childAssetId", childAssetId)
 			.queryParam("childDeviceId", childDeviceId)
@@ -113,7 +113,7 @@ public class BinariesApi extends AdaptableApi {
 		final FormDataMultiPart multiPartEntity = new FormDataMultiPart();
 		multiPartEntity.field("object", pObject, MediaType.valueOf("application/json"));
 		multiPartEntity.field("file", file, MediaType.valueOf("text/plain"));
-		return adapt().path("inventory").path("binaries")
+		return adapt("uploadBinary").path("inventory").path("binaries")
 			.request()
 			.header("Content-Type", "multipart/form-data")
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.managedobject+json")
@@ -140,7 +140,7 @@ public class BinariesApi extends AdaptableApi {
 	 * <p>Unique identifier of the managed object.</p>
 	 */
 	public CompletionStage<Response> getBinary(final String id) {
-		return adapt().path("inventory").path("binaries").path(valueOf(id))
+		return adapt("getBinary").path("inventory").path("binaries").path(valueOf(id))
 			.request()
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/octet-stream")
 			.rx()
@@ -167,7 +167,7 @@ public class BinariesApi extends AdaptableApi {
 	 * <p>Unique identifier of the managed object.</p>
 	 */
 	public CompletionStage<Binary> replaceBinary(final byte[] body, final String id) {
-		return adapt().path("inventory").path("binaries").path(valueOf(id))
+		return adapt("replaceBinary").path("inventory").path("binaries").path(valueOf(id))
 			.request()
 			.header("Content-Type", "text/plain")
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.managedobject+json")
@@ -194,7 +194,7 @@ public class BinariesApi extends AdaptableApi {
 	 * <p>Unique identifier of the managed object.</p>
 	 */
 	public CompletionStage<Response> removeBinary(final String id) {
-		return adapt().path("inventory").path("binaries").path(valueOf(id))
+		return adapt("removeBinary").path("inventory").path("binaries").path(valueOf(id))
 			.request()
 			.header("Accept", "application/json")
 			.rx()
@@ -39,7 +39,7 @@ public class BootstrapUserApi extends AdaptableApi {
 	 * <p>Unique identifier of the application.</p>
 	 */
 	public CompletionStage<BootstrapUser> getBootstrapUser(final String id) {
-		return adapt().path("application").path("applications").path(valueOf(id)).path("bootstrapUser")
+		return adapt("getBootstrapUser").path("application").path("applications").path(valueOf(id)).path("bootstrapUser")
 			.request()
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.user+json")
 			.rx()
@@ -4,9 +4,9 @@
 package com.cumulocity.client.api;
 
 import java.util.concurrent.CompletionStage;
-import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.StreamingOutput;
 import jakarta.ws.rs.core.Response;
 import com.cumulocity.client.supplementary.AdaptableApi;
 import com.cumulocity.client.model.BulkOperation;
@@ -56,7 +56,7 @@ public class BulkOperationsApi extends AdaptableApi {
 	 * <p>When set to <code>true</code>, the returned result will contain in the statistics object the total number of elements. Only applicable on <a href="https://en.wikipedia.org/wiki/Range_query_(database)">range queries</a>.</p>
 	 */
 	public CompletionStage<BulkOperationCollection> getBulkOperations(final int currentPage, final int pageSize, final boolean withTotalElements) {
-		return adapt().path("devicecontrol").path("bulkoperations")
+		return adapt("getBulkOperations").path("devicecontrol").path("bulkoperations")
 			.queryParam("currentPage", currentPage)
 			.queryParam("pageSize", pageSize)
 			.queryParam("withTotalElements", withTotalElements)
@@ -86,19 +86,14 @@ public class BulkOperationsApi extends AdaptableApi {
 	 * <p>Used to explicitly control the processing mode of the request. See <a href="#processing-mode">Processing mode</a> for more details.</p>
 	 */
 	public CompletionStage<BulkOperation> createBulkOperation(final BulkOperation body, final String xCumulocityProcessingMode) {
-		final JsonNode jsonNode = toJsonNode(body);
-		removeFromNode(jsonNode, "generalStatus");
-		removeFromNode(jsonNode, "self");
-		removeFromNode(jsonNode, "progress");
-		removeFromNode(jsonNode, "id");
-		removeFromNode(jsonNode, "status");
-		return adapt().path("devicecontrol").path("bulkoperations")
+		final StreamingOutput jsonBody = toJsonBody(body, "generalStatus", "self", "progress", "id", "status");
+		return adapt("createBulkOperation").path("devicecontrol").path("bulkoperations")
 			.request()
 			.header("X-Cumulocity-Processing-Mode", xCumulocityProcessingMode)
 			.header("Content-Type", "application/vnd.com.nsn.cumulocity.bulkoperation+json")
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.bulkoperation+json")
 			.rx()
-			.method("POST", Entity.json(jsonNode), BulkOperation.class);
+			.method("POST", Entity.json(jsonBody), BulkOperation.class);
 	}
 	
 	/**
@@ -122,7 +117,7 @@ public class BulkOperationsApi extends AdaptableApi {
 	 * <p>Unique identifier of the bulk operation.</p>
 	 */
 	public CompletionStage<BulkOperation> getBulkOperation(final String id) {
-		return adapt().path("devicecontrol").path("bulkoperations").path(valueOf(id))
+		return adapt("getBulkOperation").path("devicecontrol").path("bulkoperations").path(valueOf(id))
 			.request()
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.bulkoperation+json")
 			.rx()
@@ -153,19 +148,14 @@ public class BulkOperationsApi extends AdaptableApi {
 	 * <p>Used to explicitly control the processing mode of the request. See <a href="#processing-mode">Processing mode</a> for more details.</p>
 	 */
 	public CompletionStage<BulkOperation> updateBulkOperation(final BulkOperation body, final String id, final String xCumulocityProcessingMode) {
-		final JsonNode jsonNode = toJsonNode(body);
-		removeFromNode(jsonNode, "generalStatus");
-		removeFromNode(jsonNode, "self");
-		removeFromNode(jsonNode, "progress");
-		removeFromNode(jsonNode, "id");
-		removeFromNode(jsonNode, "status");
-		return adapt().path("devicecontrol").path("bulkoperations").path(valueOf(id))
+		final StreamingOutput jsonBody = toJsonBody(body, "generalStatus", "self", "progress", "id", "status");
+		return adapt("updateBulkOperation").path("devicecontrol").path("bulkoperations").path(valueOf(id))
 			.request()
 			.header("X-Cumulocity-Processing-Mode", xCumulocityProcessingMode)
 			.header("Content-Type", "application/vnd.com.nsn.cumulocity.bulkoperation+json")
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.bulkoperation+json")
 			.rx()
-			.method("PUT", Entity.json(jsonNode), BulkOperation.class);
+			.method("PUT", Entity.json(jsonBody), BulkOperation.class);
 	}
 	
 	/**
@@ -193,7 +183,7 @@ public class BulkOperationsApi extends AdaptableApi {
 	 * <p>Used to explicitly control the processing mode of the request. See <a href="#processing-mode">Processing mode</a> for more details.</p>
 	 */
 	public CompletionStage<Response> deleteBulkOperation(final String id, final String xCumulocityProcessingMode) {
-		return adapt().path("devicecontrol").path("bulkoperations").path(valueOf(id))
+		return adapt("deleteBulkOperation").path("devicecontrol").path("bulkoperations").path(valueOf(id))
 			.request()
 			.header("X-Cumulocity-Processing-Mode", xCumulocityProcessingMode)
 			.header("Accept", "application/json")
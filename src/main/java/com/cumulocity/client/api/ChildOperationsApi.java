@@ -4,9 +4,9 @@
 package com.cumulocity.client.api;
 
 import java.util.concurrent.CompletionStage;
-import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.StreamingOutput;
 import jakarta.ws.rs.core.Response;
 import com.cumulocity.client.supplementary.AdaptableApi;
 import com.cumulocity.client.model.ChildOperationsAddOne;
@@ -64,7 +64,7 @@ public class ChildOperationsApi extends AdaptableApi {
 	 * <p>When set to <code>true</code>, the returned result will contain in the statistics object the total number of pages. Only applicable on <a href="https://en.wikipedia.org/wiki/Range_query_(database)">range queries</a>.</p>
 	 */
 	public CompletionStage<ManagedObjectReferenceCollection> getChildAdditions(final String id, final int currentPage, final int pageSize, final String query, final boolean withChildren, final boolean withChildrenCount, final boolean withTotalElements, final boolean withTotalPages) {
-		return adapt().path("inventory").path("managedObjects").path(valueOf(id)).path("childAdditions")
+		return adapt("getChildAdditions").path("inventory").path("managedObjects").path(valueOf(id)).path("childAdditions")
 			.queryParam("currentPage", currentPage)
 			.queryParam("pageSize", pageSize)
 			.queryParam("query", query)
@@ -110,14 +110,14 @@ public class ChildOperationsApi extends AdaptableApi {
 	 * <p>Used to explicitly control the processing mode of the request. See <a href="#processing-mode">Processing mode</a> for more details.</p>
 	 */
 	public CompletionStage<Response> assignAsChildAddition(final ChildOperationsAddOne body, final String id, final String xCumulocityProcessingMode) {
-		final JsonNode jsonNode = toJsonNode(body);
-		return adapt().path("inventory").path("managedObjects").path(valueOf(id)).path("childAdditions")
+		final StreamingOutput jsonBody = toJsonBody(body);
+		return adapt("assignAsChildAddition").path("inventory").path("managedObjects").path(valueOf(id)).path("childAdditions")
 			.request()
 			.header("X-Cumulocity-Processing-Mode", xCumulocityProcessingMode)
 			.header("Content-Type", "application/vnd.com.nsn.cumulocity.managedobjectreference+json")
 			.header("Accept", "application/json")
 			.rx()
-			.method("POST", Entity.json(jsonNode));
+			.method("POST", Entity.json(jsonBody));
 	}
 	
 	/**
@@ -152,14 +152,14 @@ public class ChildOperationsApi extends AdaptableApi {
 	 * <p>Used to explicitly control the processing mode of the request. See <a href="#processing-mode">Processing mode</a> for more details.</p>
 	 */
 	public CompletionStage<Response> assignAsChildAddition(final ChildOperationsAddMultiple body, final String id, final String xCumulocityProcessingMode) {
-		final JsonNode jsonNode = toJsonNode(body);
-		return adapt().path("inventory").path("managedObjects").path(valueOf(id)).path("childAdditions")
+		final StreamingOutput jsonBody = toJsonBody(body);
+		return adapt("assignAsChildAddition").path("inventory").path("managedObjects").path(valueOf(id)).path("childAdditions")
 			.request()
 			.header("X-Cumulocity-Processing-Mode", xCumulocityProcessingMode)
 			.header("Content-Type", "application/vnd.com.nsn.cumulocity.managedobjectreferencecollection+json")
 			.header("Accept", "application/json")
 			.rx()
-			.method("POST", Entity.json(jsonNode));
+			.method("POST", Entity.json(jsonBody));
 	}
 	
 	/**
@@ -194,25 +194,14 @@ public class ChildOperationsApi extends AdaptableApi {
 	 * <p>Used to explicitly control the processing mode of the request. See <a href="#processing-mode">Processing mode</a> for more details.</p>
 	 */
 	public CompletionStage<Response> assignAsChildAddition(final ManagedObject body, final String id, final String xCumulocityProcessingMode) {
-		final JsonNode jsonNode = toJsonNode(body);
-		removeFromNode(jsonNode, "owner");
-		removeFromNode(jsonNode, "additionParents");
-		removeFromNode(jsonNode, "lastUpdated");
-		removeFromNode(jsonNode, "childDevices");
-		removeFromNode(jsonNode, "childAssets");
-		removeFromNode(jsonNode, "creationTime");
-		removeFromNode(jsonNode, "childAdditions");
-		removeFromNode(jsonNode, "self");
-		removeFromNode(jsonNode, "assetParents");
-		removeFromNode(jsonNode, "deviceParents");
-		removeFromNode(jsonNode, "id");
-		return adapt().path("inventory").path("managedObjects").path(valueOf(id)).path("childAdditions")
+		final StreamingOutput jsonBody = toJsonBody(body, "owner", "additionParents", "lastUpdated", "childDevices", "childAssets", "creationTime", "childAdditions", "self", "assetParents", "deviceParents", "id");
+		return adapt("assignAsChildAddition").path("inventory").path("managedObjects").path(valueOf(id)).path("childAdditions")
 			.request()
 			.header("X-Cumulocity-Processing-Mode", xCumulocityProcessingMode)
 			.header("Content-Type", "application/vnd.com.nsn.cumulocity.managedobject+json")
 			.header("Accept", "application/json")
 			.rx()
-			.method("POST", Entity.json(jsonNode));
+			.method("POST", Entity.json(jsonBody));
 	}
 	
 	/**
@@ -241,14 +230,14 @@ public class ChildOperationsApi extends AdaptableApi {
 	 * <p>Used to explicitly control the processing mode of the request. See <a href="#processing-mode">Processing mode</a> for more details.</p>
 	 */
 	public CompletionStage<Response> unassignChildAdditions(final ChildOperationsAddMultiple body, final String id, final String xCumulocityProcessingMode) {
-		final JsonNode jsonNode = toJsonNode(body);
-		return adapt().path("inventory").path("managedObjects").path(valueOf(id)).path("childAdditions")
+		final StreamingOutput jsonBody = toJsonBody(body);
+		return adapt("unassignChildAdditions").path("inventory").path("managedObjects").path(valueOf(id)).path("childAdditions")
 			.request()
 			.header("X-Cumulocity-Processing-Mode", xCumulocityProcessingMode)
 			.header("Content-Type", "application/vnd.com.nsn.cumulocity.managedobjectreferencecollection+json")
 			.header("Accept", "application/json")
 			.rx()
-			.method("DELETE", Entity.json(jsonNode));
+			.method("DELETE", Entity.json(jsonBody));
 	}
 	
 	/**
@@ -276,7 +265,7 @@ public class ChildOperationsApi extends AdaptableApi {
 	 * <p>Unique identifier of the child object.</p>
 	 */
 	public CompletionStage<ManagedObjectReference> getChildAddition(final String id, final String childId) {
-		return adapt().path("inventory").path("managedObjects").path(valueOf(id)).path("childAdditions").path(valueOf(childId))
+		return adapt("getChildAddition").path("inventory").path("managedObjects").path(valueOf(id)).path("childAdditions").path(valueOf(childId))
 			.request()
 			.header("Accept", "application/vnd.com.nsn.cumulocity.managedobjectreference+json, application/vnd.com.nsn.cumulocity.error+json")
 			.rx()
@@ -310,7 +299,7 @@ public class ChildOperationsApi extends AdaptableApi {
 	 * <p>Used to explicitly control the processing mode of the request. See <a href="#processing-mode">Processing mode</a> for more details.</p>
 	 */
 	public CompletionStage<Response> unassignChildAddition(final String id, final String childId, final String xCumulocityProcessingMode) {
-		return adapt().path("inventory").path("managedObjects").path(valueOf(id)).path("childAdditions").path(valueOf(childId))
+		return adapt("unassignChildAddition").path("inventory").path("managedObjects").path(valueOf(id)).path("childAdditions").path(valueOf(childId))
 			.request()
 			.header("X-Cumulocity-Processing-Mode", xCumulocityProcessingMode)
 			.header("Accept", "application/json")
@@ -355,7 +344,7 @@ public class ChildOperationsApi extends AdaptableApi {
 	 * <p>When set to <code>true</code>, the returned result will contain in the statistics object the total number of pages. Only applicable on <a href="https://en.wikipedia.org/wiki/Range_query_(database)">range queries</a>.</p>
 	 */
 	public CompletionStage<ManagedObjectReferenceCollection> getChildAssets(final String id, final int currentPage, final int pageSize, final String query, final boolean withChildren, final boolean withChildrenCount, final boolean withTotalElements, final boolean withTotalPages) {
-		return adapt().path("inventory").path("managedObjects").path(valueOf(id)).path("childAssets")
+		return adapt("getChildAssets").path("inventory").path("managedObjects").path(valueOf(id)).path("childAssets")
 			.queryParam("currentPage", currentPage)
 			.queryParam("pageSize", pageSize)
 			.queryParam("query", query)
@@ -401,14 +390,14 @@ public class ChildOperationsApi extends AdaptableApi {
 	 * <p>Used to explicitly control the processing mode of the request. See <a href="#processing-mode">Processing mode</a> for more details.</p>
 	 */
 	public CompletionStage<Response> assignAsChildAsset(final ChildOperationsAddOne body, final String id, final String xCumulocityProcessingMode) {
-		final JsonNode jsonNode = toJsonNode(body);
-		return adapt().path("inventory").path("managedObjects").path(valueOf(id)).path("childAssets")
+		final StreamingOutput jsonBody = toJsonBody(body);
+		return adapt("assignAsChildAsset").path("inventory").path("managedObjects").path(valueOf(id)).path("childAssets")
 			.request()
 			.header("X-Cumulocity-Processing-Mode", xCumulocityProcessingMode)
 			.header("Content-Type", "application/vnd.com.nsn.cumulocity.managedobjectreference+json")
 			.header("Accept", "application/json")
 			.rx()
-			.method("POST", Entity.json(jsonNode));
+			.method("POST", Entity.json(jsonBody));
 	}
 	
 	/**
@@ -443,14 +432,14 @@ public class ChildOperationsApi extends AdaptableApi {
 	 * <p>Used to explicitly control the processing mode of the request. See <a href="#processing-mode">Processing mode</a> for more details.</p>
 	 */
 	public CompletionStage<Response> assignAsChildAsset(final ChildOperationsAddMultiple body, final String id, final String xCumulocityProcessingMode) {
-		final JsonNode jsonNode = toJsonNode(body);
-		return adapt().path("inventory").path("managedObjects").path(valueOf(id)).path("childAssets")
+		final StreamingOutput jsonBody = toJsonBody(body);
+		return adapt("assignAsChildAsset").path("inventory").path("managedObjects").path(valueOf(id)).path("childAssets")
 			.request()
 			.header("X-Cumulocity-Processing-Mode", xCumulocityProcessingMode)
 			.header("Content-Type", "application/vnd.com.nsn.cumulocity.managedobjectreferencecollection+json")
 			.header("Accept", "application/json")
 			.rx()
-			.method("POST", Entity.json(jsonNode));
+			.method("POST", Entity.json(jsonBody));
 	}
 	
 	/**
@@ -485,25 +474,14 @@ public class ChildOperationsApi extends AdaptableApi {
 	 * <p>Used to explicitly control the processing mode of the request. See <a href="#processing-mode">Processing mode</a> for more details.</p>
 	 */
 	public CompletionStage<Response> assignAsChildAsset(final ManagedObject body, final String id, final String xCumulocityProcessingMode) {
-		final JsonNode jsonNode = toJsonNode(body);
-		removeFromNode(jsonNode, "owner");
-		removeFromNode(jsonNode, "additionParents");
-		removeFromNode(jsonNode, "lastUpdated");
-		removeFromNode(jsonNode, "childDevices");
-		removeFromNode(jsonNode, "childAssets");
-		removeFromNode(jsonNode, "creationTime");
-		removeFromNode(jsonNode, "childAdditions");
-		removeFromNode(jsonNode, "self");
-		removeFromNode(jsonNode, "assetParents");
-		removeFromNode(jsonNode, "deviceParents");
-		removeFromNode(jsonNode, "id");
-		return adapt().path("inventory").path("managedObjects").path(valueOf(id)).path("childAssets")
+		final StreamingOutput jsonBody = toJsonBody(body, "owner", "additionParents", "lastUpdated", "childDevices", "childAssets", "creationTime", "childAdditions", "self", "assetParents", "deviceParents", "id");
+		return adapt("assignAsChildAsset").path("inventory").path("managedObjects").path(valueOf(id)).path("childAssets")
 			.request()
 			.header("X-Cumulocity-Processing-Mode", xCumulocityProcessingMode)
 			.header("Content-Type", "application/vnd.com.nsn.cumulocity.managedobject+json")
 			.header("Accept", "application/json")
 			.rx()
-			.method("POST", Entity.json(jsonNode));
+			.method("POST", Entity.json(jsonBody));
 	}
 	
 	/**
@@ -532,14 +510,14 @@ public class ChildOperationsApi extends AdaptableApi {
 	 * <p>Used to explicitly control the processing mode of the request. See <a href="#processing-mode">Processing mode</a> for more details.</p>
 	 */
 	public CompletionStage<Response> unassignChildAssets(final ChildOperationsAddMultiple body, final String id, final String xCumulocityProcessingMode) {
-		final JsonNode jsonNode = toJsonNode(body);
-		return adapt().path("inventory").path("managedObjects").path(valueOf(id)).path("childAssets")
+		final StreamingOutput jsonBody = toJsonBody(body);
+		return adapt("unassignChildAssets").path("inventory").path("managedObjects").path(valueOf(id)).path("childAssets")
 			.request()
 			.header("X-Cumulocity-Processing-Mode", xCumulocityProcessingMode)
 			.header("Content-Type", "application/vnd.com.nsn.cumulocity.managedobjectreferencecollection+json")
 			.header("Accept", "application/json")
 			.rx()
-			.method("DELETE", Entity.json(jsonNode));
+			.method("DELETE", Entity.json(jsonBody));
 	}
 	
 	/**
@@ -567,7 +545,7 @@ public class ChildOperationsApi extends AdaptableApi {
 	 * <p>Unique identifier of the child object.</p>
 	 */
 	public CompletionStage<ManagedObjectReference> getChildAsset(final String id, final String childId) {
-		return adapt().path("inventory").path("managedObjects").path(valueOf(id)).path("childAssets").path(valueOf(childId))
+		return adapt("getChildAsset").path("inventory").path("managedObjects").path(valueOf(id)).path("childAssets").path(valueOf(childId))
 			.request()
 			.header("Accept", "application/vnd.com.nsn.cumulocity.managedobjectreference+json, application/vnd.com.nsn.cumulocity.error+json")
 			.rx()
@@ -601,7 +579,7 @@ public class ChildOperationsApi extends AdaptableApi {
 	 * <p>Used to explicitly control the processing mode of the request. See <a href="#processing-mode">Processing mode</a> for more details.</p>
 	 */
 	public CompletionStage<Response> unassignChildAsset(final String id, final String childId, final String xCumulocityProcessingMode) {
-		return adapt().path("inventory").path("managedObjects").path(valueOf(id)).path("childAssets").path(valueOf(childId))
+		return adapt("unassignChildAsset").path("inventory").path("managedObjects").path(valueOf(id)).path("childAssets").path(valueOf(childId))
 			.request()
 			.header("X-Cumulocity-Processing-Mode", xCumulocityProcessingMode)
 			.header("Accept", "application/json")
@@ -646,7 +624,7 @@ public class ChildOperationsApi extends AdaptableApi {
 	 * <p>When set to <code>true</code>, the returned result will contain in the statistics object the total number of pages. Only applicable on <a href="https://en.wikipedia.org/wiki/Range_query_(database)">range queries</a>.</p>
 	 */
 	public CompletionStage<ManagedObjectReferenceCollection> getChildDevices(final String id, final int currentPage, final int pageSize, final String query, final boolean withChildren, final boolean withChildrenCount, final boolean withTotalElements, final boolean withTotalPages) {
-		return adapt().path("inventory").path("managedObjects").path(valueOf(id)).path("childDevices")
+		return adapt("getChildDevices").path("inventory").path("managedObjects").path(valueOf(id)).path("childDevices")
 			.queryParam("currentPage", currentPage)
 			.queryParam("pageSize", pageSize)
 			.queryParam("query", query)
@@ -692,14 +670,14 @@ public class ChildOperationsApi extends AdaptableApi {
 	 * <p>Used to explicitly control the processing mode of the request. See <a href="#processing-mode">Processing mode</a> for more details.</p>
 	 */
 	public CompletionStage<Response> assignAsChildDevice(final ChildOperationsAddOne body, final String id, final String xCumulocityProcessingMode) {
-		final JsonNode jsonNode = toJsonNode(body);
-		return adapt().path("inventory").path("managedObjects").path(valueOf(id)).path("childDevices")
+		final StreamingOutput jsonBody = toJsonBody(body);
+		return adapt("assignAsChildDevice").path("inventory").path("managedObjects").path(valueOf(id)).path("childDevices")
 			.request()
 			.header("X-Cumulocity-Processing-Mode", xCumulocityProcessingMode)
 			.header("Content-Type", "application/vnd.com.nsn.cumulocity.managedobjectreference+json")
 			.header("Accept", "application/json")
 			.rx()
-			.method("POST", Entity.json(jsonNode));
+			.method("POST", Entity.json(jsonBody));
 	}
 	
 	/**
@@ -734,14 +712,14 @@ public class ChildOperationsApi extends AdaptableApi {
 	 * <p>Used to explicitly control the processing mode of the request. See <a href="#processing-mode">Processing mode</a> for more details.</p>
 	 */
 	public CompletionStage<Response> assignAsChildDevice(final ChildOperationsAddMultiple body, final String id, final String xCumulocityProcessingMode) {
-		final JsonNode jsonNode = toJsonNode(body);
-		return adapt().path("inventory").path("managedObjects").path(valueOf(id)).path("childDevices")
+		final StreamingOutput jsonBody = toJsonBody(body);
+		return adapt("assignAsChildDevice").path("inventory").path("managedObjects").path(valueOf(id)).path("childDevices")
 			.request()
 			.header("X-Cumulocity-Processing-Mode", xCumulocityProcessingMode)
 			.header("Content-Type", "application/vnd.com.nsn.cumulocity.managedobjectreferencecollection+json")
 			.header("Accept", "application/json")
 			.rx()
-			.method("POST", Entity.json(jsonNode));
+			.method("POST", Entity.json(jsonBody));
 	}
 	
 	/**
@@ -776,25 +754,14 @@ public class ChildOperationsApi extends AdaptableApi {
 	 * <p>Used to explicitly control the processing mode of the request. See <a href="#processing-mode">Processing mode</a> for more details.</p>
 	 */
 	public CompletionStage<Response> assignAsChildDevice(final ManagedObject body, final String id, final String xCumulocityProcessingMode) {
-		final JsonNode jsonNode = toJsonNode(body);
-		removeFromNode(jsonNode, "owner");
-		removeFromNode(jsonNode, "additionParents");
-		removeFromNode(jsonNode, "lastUpdated");
-		removeFromNode(jsonNode, "childDevices");
-		removeFromNode(jsonNode, "childAssets");
-		removeFromNode(jsonNode, "creationTime");
-		removeFromNode(jsonNode, "childAdditions");
-		removeFromNode(jsonNode, "self");
-		removeFromNode(jsonNode, "assetParents");
-		removeFromNode(jsonNode, "deviceParents");
-		removeFromNode(jsonNode, "id");
-		return adapt().path("inventory").path("managedObjects").path(valueOf(id)).path("childDevices")
+		final StreamingOutput jsonBody = toJsonBody(body, "owner", "additionParents", "lastUpdated", "childDevices", "childAssets", "creationTime", "childAdditions", "self", "assetParents", "deviceParents", "id");
+		return adapt("assignAsChildDevice").path("inventory").path("managedObjects").path(valueOf(id)).path("childDevices")
 			.request()
 			.header("X-Cumulocity-Processing-Mode", xCumulocityProcessingMode)
 			.header("Content-Type", "application/vnd.com.nsn.cumulocity.managedobject+json")
 			.header("Accept", "application/json")
 			.rx()
-			.method("POST", Entity.json(jsonNode));
+			.method("POST", Entity.json(jsonBody));
 	}
 	
 	/**
@@ -823,14 +790,14 @@ public class ChildOperationsApi extends AdaptableApi {
 	 * <p>Used to explicitly control the processing mode of the request. See <a href="#processing-mode">Processing mode</a> for more details.</p>
 	 */
 	public CompletionStage<Response> unassignChildDevices(final ChildOperationsAddMultiple body, final String id, final String xCumulocityProcessingMode) {
-		final JsonNode jsonNode = toJsonNode(body);
-		return adapt().path("inventory").path("managedObjects").path(valueOf(id)).path("childDevices")
+		final StreamingOutput jsonBody = toJsonBody(body);
+		return adapt("unassignChildDevices").path("inventory").path("managedObjects").path(valueOf(id)).path("childDevices")
 			.request()
 			.header("X-Cumulocity-Processing-Mode", xCumulocityProcessingMode)
 			.header("Content-Type", "application/vnd.com.nsn.cumulocity.managedobjectreferencecollection+json")
 			.header("Accept", "application/json")
 			.rx()
-			.method("DELETE", Entity.json(jsonNode));
+			.method("DELETE", Entity.json(jsonBody));
 	}
 	
 	/**
@@ -858,7 +825,7 @@ public class ChildOperationsApi extends AdaptableApi {
 	 * <p>Unique identifier of the child object.</p>
 	 */
 	public CompletionStage<ManagedObjectReference> getChildDevice(final String id, final String childId) {
-		return adapt().path("inventory").path("managedObjects").path(valueOf(id)).path("childDevices").path(valueOf(childId))
+		return adapt("getChildDevice").path("inventory").path("managedObjects").path(valueOf(id)).path("childDevices").path(valueOf(childId))
 			.request()
 			.header("Accept", "application/vnd.com.nsn.cumulocity.managedobjectreference+json, application/vnd.com.nsn.cumulocity.error+json")
 			.rx()
@@ -892,7 +859,7 @@ public class ChildOperationsApi extends AdaptableApi {
 	 * <p>Used to explicitly control the processing mode of the request. See <a href="#processing-mode">Processing mode</a> for more details.</p>
 	 */
 	public CompletionStage<Response> unassignChildDevice(final String id, final String childId, final String xCumulocityProcessingMode) {
-		return adapt().path("inventory").path("managedObjects").path(valueOf(id)).path("childDevices").path(valueOf(childId))
+		return adapt("unassignChildDevice").path("inventory").path("managedObjects").path(valueOf(id)).path("childDevices").path(valueOf(childId))
 			.request()
 			.header("X-Cumulocity-Processing-Mode", xCumulocityProcessingMode)
 			.header("Accept", "application/json")
@@ -4,9 +4,9 @@
 package com.cumulocity.client.api;
 
 import java.util.concurrent.CompletionStage;
-import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.StreamingOutput;
 import com.cumulocity.client.supplementary.AdaptableApi;
 import com.cumulocity.client.model.Application;
 import com.cumulocity.client.model.ApplicationSettings;
@@ -39,7 +39,7 @@ public class CurrentApplicationApi extends AdaptableApi {
 	 * </ul>
 	 */
 	public CompletionStage<Application> getCurrentApplication() {
-		return adapt().path("application").path("currentApplication")
+		return adapt("getCurrentApplication").path("application").path("currentApplication")
 			.request()
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.application+json")
 			.rx()
@@ -67,18 +67,13 @@ public class CurrentApplicationApi extends AdaptableApi {
 	 */
 	@Deprecated
 	public CompletionStage<Application> updateCurrentApplication(final Application body) {
-		final JsonNode jsonNode = toJsonNode(body);
-		removeFromNode(jsonNode, "owner");
-		removeFromNode(jsonNode, "activeVersionId");
-		removeFromNode(jsonNode, "self");
-		removeFromNode(jsonNode, "id");
-		removeFromNode(jsonNode, "resourcesUrl");
-		return adapt().path("application").path("currentApplication")
+		final StreamingOutput jsonBody = toJsonBody(body, "owner", "activeVersionId", "self", "id", "resourcesUrl");
+		return adapt("updateCurrentApplication").path("application").path("currentApplication")
 			.request()
 			.header("Content-Type", "application/vnd.com.nsn.cumulocity.application+json")
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.application+json")
 			.rx()
-			.method("PUT", Entity.json(jsonNode), Application.class);
+			.method("PUT", Entity.json(jsonBody), Application.class);
 	}
 	
 	/**
@@ -99,7 +94,7 @@ public class CurrentApplicationApi extends AdaptableApi {
 	 * </ul>
 	 */
 	public CompletionStage<ApplicationSettings[]> getCurrentApplicationSettings() {
-		return adapt().path("application").path("currentApplication").path("settings")
+		return adapt("getCurrentApplicationSettings").path("application").path("currentApplication").path("settings")
 			.request()
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.applicationsettings+json")
 			.rx()
@@ -122,7 +117,7 @@ public class CurrentApplicationApi extends AdaptableApi {
 	 * </ul>
 	 */
 	public CompletionStage<ApplicationUserCollection> getSubscribedUsers() {
-		return adapt().path("application").path("currentApplication").path("subscriptions")
+		return adapt("getSubscribedUsers").path("application").path("currentApplication").path("subscriptions")
 			.request()
 			.header("Accept", "application/vnd.com.nsn.cumulocity.applicationusercollection+json, application/vnd.com.nsn.cumulocity.error+json")
 			.rx()
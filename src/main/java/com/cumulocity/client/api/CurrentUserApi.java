@@ -4,9 +4,9 @@
 package com.cumulocity.client.api;
 
 import java.util.concurrent.CompletionStage;
-import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.StreamingOutput;
 import jakarta.ws.rs.core.Response;
 import com.cumulocity.client.supplementary.AdaptableApi;
 import com.cumulocity.client.model.CurrentUser;
@@ -43,7 +43,7 @@ public class CurrentUserApi extends AdaptableApi {
 	 * </ul>
 	 */
 	public CompletionStage<CurrentUser> getCurrentUser() {
-		return adapt().path("user").path("currentUser")
+		return adapt("getCurrentUser").path("user").path("currentUser")
 			.request()
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.currentuser+json")
 			.rx()
@@ -70,20 +70,13 @@ public class CurrentUserApi extends AdaptableApi {
 	 * @param body
 	 */
 	public CompletionStage<CurrentUser> updateCurrentUser(final CurrentUser body) {
-		final JsonNode jsonNode = toJsonNode(body);
-		removeFromNode(jsonNode, "self");
-		removeFromNode(jsonNode, "effectiveRoles");
-		removeFromNode(jsonNode, "shouldResetPassword");
-		removeFromNode(jsonNode, "id");
-		removeFromNode(jsonNode, "lastPasswordChange");
-		removeFromNode(jsonNode, "twoFactorAuthenticationEnabled");
-		removeFromNode(jsonNode, "devicePermissions");
-		return adapt().path("user").path("currentUser")
+		final StreamingOutput jsonBody = toJsonBody(body, "self", "effectiveRoles", "shouldResetPassword", "id", "lastPasswordChange", "twoFactorAuthenticationEnabled", "devicePermissions");
+		return adapt("updateCurrentUser").path("user").path("currentUser")
 			.request()
 			.header("Content-Type", "application/vnd.com.nsn.cumulocity.currentuser+json")
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.currentuser+json")
 			.rx()
-			.method("PUT", Entity.json(jsonNode), CurrentUser.class);
+			.method("PUT", Entity.json(jsonBody), CurrentUser.class);
 	}
 	
 	/**
@@ -109,13 +102,13 @@ public class CurrentUserApi extends AdaptableApi {
 	 * @param body
 	 */
 	public CompletionStage<Response> updateCurrentUserPassword(final PasswordChange body) {
-		final JsonNode jsonNode = toJsonNode(body);
-		return adapt().path("user").path("currentUser").path("password")
+		final StreamingOutput jsonBody = toJsonBody(body);
+		return adapt("updateCurrentUserPassword").path("user").path("currentUser").path("password")
 			.request()
 			.header("Content-Type", "application/json")
 			.header("Accept", "application/json")
 			.rx()
-			.method("PUT", Entity.json(jsonNode));
+			.method("PUT", Entity.json(jsonBody));
 	}
 	
 	/**
@@ -135,7 +128,7 @@ public class CurrentUserApi extends AdaptableApi {
 	 * </ul>
 	 */
 	public CompletionStage<CurrentUserTotpSecret> generateTfaSecret() {
-		return adapt().path("user").path("currentUser").path("totpSecret")
+		return adapt("generateTfaSecret").path("user").path("currentUser").path("totpSecret")
 			.request()
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/json")
 			.rx()
@@ -160,7 +153,7 @@ public class CurrentUserApi extends AdaptableApi {
 	 * </ul>
 	 */
 	public CompletionStage<CurrentUserTotpSecretActivity> getTfaState() {
-		return adapt().path("user").path("currentUser").path("totpSecret").path("activity")
+		return adapt("getTfaState").path("user").path("currentUser").path("totpSecret").path("activity")
 			.request()
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/json")
 			.rx()
@@ -190,13 +183,13 @@ public class CurrentUserApi extends AdaptableApi {
 	 * @param body
 	 */
 	public CompletionStage<Response> setTfaState(final CurrentUserTotpSecretActivity body) {
-		final JsonNode jsonNode = toJsonNode(body);
-		return adapt().path("user").path("currentUser").path("totpSecret").path("activity")
+		final StreamingOutput jsonBody = toJsonBody(body);
+		return adapt("setTfaState").path("user").path("currentUser").path("totpSecret").path("activity")
 			.request()
 			.header("Content-Type", "application/json")
 			.header("Accept", "application/json")
 			.rx()
-			.method("POST", Entity.json(jsonNode));
+			.method("POST", Entity.json(jsonBody));
 	}
 	
 	/**
@@ -223,12 +216,12 @@ public class CurrentUserApi extends AdaptableApi {
 	 * @param body
 	 */
 	public CompletionStage<Response> verifyTfaCode(final CurrentUserTotpCode body) {
-		final JsonNode jsonNode = toJsonNode(body);
-		return adapt().path("user").path("currentUser").path("totpSecret").path("verify")
+		final StreamingOutput jsonBody = toJsonBody(body);
+		return adapt("verifyTfaCode").path("user").path("currentUser").path("totpSecret").path("verify")
 			.request()
 			.header("Content-Type", "application/json")
 			.header("Accept", "application/json")
 			.rx()
-			.method("POST", Entity.json(jsonNode));
+			.method("POST", Entity.json(jsonBody));
 	}
 }
@@ -4,9 +4,9 @@
 package com.cumulocity.client.api;
 
 import java.util.concurrent.CompletionStage;
-import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.StreamingOutput;
 import org.glassfish.jersey.media.multipart.FormDataMultiPart;
 import jakarta.ws.rs.core.MediaType;
 import com.cumulocity.client.supplementary.AdaptableApi;
@@ -49,18 +49,14 @@ public class DeviceCredentialsApi extends AdaptableApi {
 	 * <p>Used to explicitly control the processing mode of the request. See <a href="#processing-mode">Processing mode</a> for more details.</p>
 	 */
 	public CompletionStage<DeviceCredentials> createDeviceCredentials(final DeviceCredentials body, final String xCumulocityProcessingMode) {
-		final JsonNode jsonNode = toJsonNode(body);
-		removeFromNode(jsonNode, "password");
-		removeFromNode(jsonNode, "tenantId");
-		removeFromNode(jsonNode, "self");
-		removeFromNode(jsonNode, "username");
-		return adapt().path("devicecontrol").path("deviceCredentials")
+		final StreamingOutput jsonBody = toJsonBody(body, "password", "tenantId", "self", "username");
+		return adapt("createDeviceCredentials").path("devicecontrol").path("deviceCredentials")
 			.request()
 			.header("X-Cumulocity-Processing-Mode", xCumulocityProcessingMode)
 			.header("Content-Type", "application/vnd.com.nsn.cumulocity.devicecredentials+json")
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.devicecredentials+json")
 			.rx()
-			.method("POST", Entity.json(jsonNode), DeviceCredentials.class);
+			.method("POST", Entity.json(jsonBody), DeviceCredentials.class);
 	}
 	
 	/**
@@ -140,7 +136,7 @@ public class DeviceCredentialsApi extends AdaptableApi {
 	public CompletionStage<BulkNewDeviceRequest> createBulkDeviceCredentials(final byte[] file, final String xCumulocityProcessingMode) {
 		final FormDataMultiPart multiPartEntity = new FormDataMultiPart();
 		multiPartEntity.field("file", file, MediaType.valueOf("text/csv"));
-		return adapt().path("devicecontrol").path("bulkNewDeviceRequests")
+		return adapt("createBulkDeviceCredentials").path("devicecontrol").path("bulkNewDeviceRequests")
 			.request()
 			.header("X-Cumulocity-Processing-Mode", xCumulocityProcessingMode)
 			.header("Content-Type", "multipart/form-data")
@@ -75,7 +75,7 @@ public class DeviceStatisticsApi extends AdaptableApi {
 	 * <p>When set to <code>true</code>, the returned result will contain in the statistics object the total number of pages. Only applicable on <a href="https://en.wikipedia.org/wiki/Range_query_(database)">range queries</a>.</p>
 	 */
 	public CompletionStage<DeviceStatisticsCollection> getMonthlyDeviceStatistics(final String tenantId, final String date, final int currentPage, final String deviceId, final int pageSize, final boolean withTotalPages) {
-		return adapt().path("tenant").path("statistics").path("device").path(valueOf(tenantId)).path("monthly").path(valueOf(date))
+		return adapt("getMonthlyDeviceStatistics").path("tenant").path("statistics").path("device").path(valueOf(tenantId)).path("monthly").path(valueOf(date))
 			.queryParam("currentPage", currentPage)
 			.queryParam("deviceId", deviceId)
 			.queryParam("pageSize", pageSize)
@@ -117,7 +117,7 @@ public class DeviceStatisticsApi extends AdaptableApi {
 	 * <p>When set to <code>true</code>, the returned result will contain in the statistics object the total number of pages. Only applicable on <a href="https://en.wikipedia.org/wiki/Range_query_(database)">range queries</a>.</p>
 	 */
 	public CompletionStage<DeviceStatisticsCollection> getDailyDeviceStatistics(final String tenantId, final String date, final int currentPage, final String deviceId, final int pageSize, final boolean withTotalPages) {
-		return adapt().path("tenant").path("statistics").path("device").path(valueOf(tenantId)).path("daily").path(valueOf(date))
+		return adapt("getDailyDeviceStatistics").path("tenant").path("statistics").path("device").path(valueOf(tenantId)).path("daily").path(valueOf(date))
 			.queryParam("currentPage", currentPage)
 			.queryParam("deviceId", deviceId)
 			.queryParam("pageSize", pageSize)
@@ -4,9 +4,9 @@
 package com.cumulocity.client.api;
 
 import java.util.concurrent.CompletionStage;
-import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.StreamingOutput;
 import jakarta.ws.rs.core.Response;
 import com.cumulocity.client.supplementary.AdaptableApi;
 import com.cumulocity.client.model.Event;
@@ -77,7 +77,7 @@ public class EventsApi extends AdaptableApi {
 	 * <p>When set to <code>true</code>, the returned result will contain in the statistics object the total number of pages. Only applicable on <a href="https://en.wikipedia.org/wiki/Range_query_(database)">range queries</a>.</p>
 	 */
 	public CompletionStage<EventCollection> getEvents(final String createdFrom, final String createdTo, final int currentPage, final String dateFrom, final String dateTo, final String fragmentType, final String fragmentValue, final String lastUpdatedFrom, final String lastUpdatedTo, final int pageSize, final boolean revert, final String source, final String type, final boolean withSourceAssets, final boolean withSourceDevices, final boolean withTotalElements, final boolean withTotalPages) {
-		return adapt().path("event").path("events")
+		return adapt("getEvents").path("event").path("events")
 			.queryParam("createdFrom", createdFrom)
 			.queryParam("createdTo", createdTo)
 			.queryParam("currentPage", currentPage)
@@ -135,19 +135,14 @@ public class EventsApi extends AdaptableApi {
 	 * <p>Used to explicitly control the processing mode of the request. See <a href="#processing-mode">Processing mode</a> for more details.</p>
 	 */
 	public CompletionStage<Event> createEvent(final Event body, final String xCumulocityProcessingMode) {
-		final JsonNode jsonNode = toJsonNode(body);
-		removeFromNode(jsonNode, "lastUpdated");
-		removeFromNode(jsonNode, "creationTime");
-		removeFromNode(jsonNode, "self");
-		removeFromNode(jsonNode, "id");
-		removeFromNode(jsonNode, "source", "self");
-		return adapt().path("event").path("events")
+		final StreamingOutput jsonBody = toJsonBody(body, "lastUpdated", "creationTime", "self", "id", "source.self");
+		return adapt("createEvent").path("event").path("events")
 			.request()
 			.header("X-Cumulocity-Processing-Mode", xCumulocityProcessingMode)
 			.header("Content-Type", "application/vnd.com.nsn.cumulocity.event+json")
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.event+json")
 			.rx()
-			.method("POST", Entity.json(jsonNode), Event.class);
+			.method("POST", Entity.json(jsonBody), Event.class);
 	}
 	
 	/**
@@ -189,7 +184,7 @@ public class EventsApi extends AdaptableApi {
 	 * <p>The type of event to search for.</p>
 	 */
 	public CompletionStage<Response> deleteEvents(final String xCumulocityProcessingMode, final String createdFrom, final String createdTo, final String dateFrom, final String dateTo, final String fragmentType, final String source, final String type) {
-		return adapt().path("event").path("events")
+		return adapt("deleteEvents").path("event").path("events")
 			.queryParam("createdFrom", createdFrom)
 			.queryParam("createdTo", createdTo)
 			.queryParam("dateFrom", dateFrom)
@@ -225,7 +220,7 @@ public class EventsApi extends AdaptableApi {
 	 * <p>Unique identifier of the event.</p>
 	 */
 	public CompletionStage<Event> getEvent(final String id) {
-		return adapt().path("event").path("events").path(valueOf(id))
+		return adapt("getEvent").path("event").path("events").path(valueOf(id))
 			.request()
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.event+json")
 			.rx()
@@ -258,21 +253,14 @@ public class EventsApi extends AdaptableApi {
 	 * <p>Used to explicitly control the processing mode of the request. See <a href="#processing-mode">Processing mode</a> for more details.</p>
 	 */
 	public CompletionStage<Event> updateEvent(final Event body, final String id, final String xCumulocityProcessingMode) {
-		final JsonNode jsonNode = toJsonNode(body);
-		removeFromNode(jsonNode, "lastUpdated");
-		removeFromNode(jsonNode, "creationTime");
-		removeFromNode(jsonNode, "self");
-		removeFromNode(jsonNode, "id");
-		removeFromNode(jsonNode, "source");
-		removeFromNode(jsonNode, "time");
-		removeFromNode(jsonNode, "type");
-		return adapt().path("event").path("events").path(valueOf(id))
+		final StreamingOutput jsonBody = toJsonBody(body, "lastUpdated", "creationTime", "self", "id", "source", "time", "type");
+		return adapt("updateEvent").path("event").path("events").path(valueOf(id))
 			.request()
 			.header("X-Cumulocity-Processing-Mode", xCumulocityProcessingMode)
 			.header("Content-Type", "application/vnd.com.nsn.cumulocity.event+json")
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.event+json")
 			.rx()
-			.method("PUT", Entity.json(jsonNode), Event.class);
+			.method("PUT", Entity.json(jsonBody), Event.class);
 	}
 	
 	/**
@@ -300,7 +288,7 @@ public class EventsApi extends AdaptableApi {
 	 * <p>Used to explicitly control the processing mode of the request. See <a href="#processing-mode">Processing mode</a> for more details.</p>
 	 */
 	public CompletionStage<Response> deleteEvent(final String id, final String xCumulocityProcessingMode) {
-		return adapt().path("event").path("events").path(valueOf(id))
+		return adapt("deleteEvent").path("event").path("events").path(valueOf(id))
 			.request()
 			.header("X-Cumulocity-Processing-Mode", xCumulocityProcessingMode)
 			.header("Accept", "application/json")
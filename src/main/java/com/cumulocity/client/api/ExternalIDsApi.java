@@ -4,9 +4,9 @@
 package com.cumulocity.client.api;
 
 import java.util.concurrent.CompletionStage;
-import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.StreamingOutput;
 import jakarta.ws.rs.core.Response;
 import com.cumulocity.client.supplementary.AdaptableApi;
 import com.cumulocity.client.model.ExternalId;
@@ -43,7 +43,7 @@ public class ExternalIDsApi extends AdaptableApi {
 	 * <p>Unique identifier of the managed object.</p>
 	 */
 	public CompletionStage<ExternalIds> getExternalIds(final String id) {
-		return adapt().path("identity").path("globalIds").path(valueOf(id)).path("externalIds")
+		return adapt("getExternalIds").path("identity").path("globalIds").path(valueOf(id)).path("externalIds")
 			.request()
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.externalidcollection+json")
 			.rx()
@@ -72,15 +72,13 @@ public class ExternalIDsApi extends AdaptableApi {
 	 * <p>Unique identifier of the managed object.</p>
 	 */
 	public CompletionStage<ExternalId> createExternalId(final ExternalId body, final String id) {
-		final JsonNode jsonNode = toJsonNode(body);
-		removeFromNode(jsonNode, "managedObject");
-		removeFromNode(jsonNode, "self");
-		return adapt().path("identity").path("globalIds").path(valueOf(id)).path("externalIds")
+		final StreamingOutput jsonBody = toJsonBody(body, "managedObject", "self");
+		return adapt("createExternalId").path("identity").path("globalIds").path(valueOf(id)).path("externalIds")
 			.request()
 			.header("Content-Type", "application/vnd.com.nsn.cumulocity.externalid+json")
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.externalid+json")
 			.rx()
-			.method("POST", Entity.json(jsonNode), ExternalId.class);
+			.method("POST", Entity.json(jsonBody), ExternalId.class);
 	}
 	
 	/**
@@ -106,7 +104,7 @@ public class ExternalIDsApi extends AdaptableApi {
 	 * <p>The type of the external identifier.</p>
 	 */
 	public CompletionStage<ExternalId> getExternalId(final String type, final String externalId) {
-		return adapt().path("identity").path("externalIds").path(valueOf(type)).path(valueOf(externalId))
+		return adapt("getExternalId").path("identity").path("externalIds").path(valueOf(type)).path(valueOf(externalId))
 			.request()
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.externalid+json")
 			.rx()
@@ -136,7 +134,7 @@ public class ExternalIDsApi extends AdaptableApi {
 	 * <p>The type of the external identifier.</p>
 	 */
 	public CompletionStage<Response> deleteExternalId(final String type, final String externalId) {
-		return adapt().path("identity").path("externalIds").path(valueOf(type)).path(valueOf(externalId))
+		return adapt("deleteExternalId").path("identity").path("externalIds").path(valueOf(type)).path(valueOf(externalId))
 			.request()
 			.header("Accept", "application/json")
 			.rx()
@@ -4,9 +4,9 @@
 package com.cumulocity.client.api;
 
 import java.util.concurrent.CompletionStage;
-import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.StreamingOutput;
 import jakarta.ws.rs.core.Response;
 import com.cumulocity.client.supplementary.AdaptableApi;
 import com.cumulocity.client.model.Group;
@@ -57,7 +57,7 @@ public class GroupsApi extends AdaptableApi {
 	 * <p>When set to <code>true</code>, the returned result will contain in the statistics object the total number of pages. Only applicable on <a href="https://en.wikipedia.org/wiki/Range_query_(database)">range queries</a>.</p>
 	 */
 	public CompletionStage<UserGroupCollection> getTenantUserGroups(final String tenantId, final int currentPage, final int pageSize, final boolean withTotalElements, final boolean withTotalPages) {
-		return adapt().path("user").path(valueOf(tenantId)).path("groups")
+		return adapt("getTenantUserGroups").path("user").path(valueOf(tenantId)).path("groups")
 			.queryParam("currentPage", currentPage)
 			.queryParam("pageSize", pageSize)
 			.queryParam("withTotalElements", withTotalElements)
@@ -94,19 +94,13 @@ public class GroupsApi extends AdaptableApi {
 	 * <p>Unique identifier of a Cumulocity IoT tenant.</p>
 	 */
 	public CompletionStage<Group> createUserGroup(final Group body, final String tenantId) {
-		final JsonNode jsonNode = toJsonNode(body);
-		removeFromNode(jsonNode, "roles");
-		removeFromNode(jsonNode, "self");
-		removeFromNode(jsonNode, "id");
-		removeFromNode(jsonNode, "devicePermissions");
-		removeFromNode(jsonNode, "users");
-		removeFromNode(jsonNode, "applications");
-		return adapt().path("user").path(valueOf(tenantId)).path("groups")
+		final StreamingOutput jsonBody = toJsonBody(body, "roles", "self", "id", "devicePermissions", "users", "applications");
+		return adapt("createUserGroup").path("user").path(valueOf(tenantId)).path("groups")
 			.request()
 			.header("Content-Type", "application/vnd.com.nsn.cumulocity.group+json")
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.group+json")
 			.rx()
-			.method("POST", Entity.json(jsonNode), Group.class);
+			.method("POST", Entity.json(jsonBody), Group.class);
 	}
 	
 	/**
@@ -134,7 +128,7 @@ public class GroupsApi extends AdaptableApi {
 	 * <p>Unique identifier of the user group.</p>
 	 */
 	public CompletionStage<Group> getUserGroup(final String tenantId, final int groupId) {
-		return adapt().path("user").path(valueOf(tenantId)).path("groups").path(valueOf(groupId))
+		return adapt("getUserGroup").path("user").path(valueOf(tenantId)).path("groups").path(valueOf(groupId))
 			.request()
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.group+json")
 			.rx()
@@ -169,19 +163,13 @@ public class GroupsApi extends AdaptableApi {
 	 * <p>Unique identifier of the user group.</p>
 	 */
 	public CompletionStage<Group> updateUserGroup(final Group body, final String tenantId, final int groupId) {
-		final JsonNode jsonNode = toJsonNode(body);
-		removeFromNode(jsonNode, "roles");
-		removeFromNode(jsonNode, "self");
-		removeFromNode(jsonNode, "id");
-		removeFromNode(jsonNode, "devicePermissions");
-		removeFromNode(jsonNode, "users");
-		removeFromNode(jsonNode, "applications");
-		return adapt().path("user").path(valueOf(tenantId)).path("groups").path(valueOf(groupId))
+		final StreamingOutput jsonBody = toJsonBody(body, "roles", "self", "id", "devicePermissions", "users", "applications");
+		return adapt("updateUserGroup").path("user").path(valueOf(tenantId)).path("groups").path(valueOf(groupId))
 			.request()
 			.header("Content-Type", "application/vnd.com.nsn.cumulocity.group+json")
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.group+json")
 			.rx()
-			.method("PUT", Entity.json(jsonNode), Group.class);
+			.method("PUT", Entity.json(jsonBody), Group.class);
 	}
 	
 	/**
@@ -209,7 +197,7 @@ public class GroupsApi extends AdaptableApi {
 	 * <p>Unique identifier of the user group.</p>
 	 */
 	public CompletionStage<Response> deleteUserGroup(final String tenantId, final int groupId) {
-		return adapt().path("user").path(valueOf(tenantId)).path("groups").path(valueOf(groupId))
+		return adapt("deleteUserGroup").path("user").path(valueOf(tenantId)).path("groups").path(valueOf(groupId))
 			.request()
 			.header("Accept", "application/json")
 			.rx()
@@ -241,7 +229,7 @@ public class GroupsApi extends AdaptableApi {
 	 * <p>The name of the user group.</p>
 	 */
 	public CompletionStage<Group> getUserGroupByName(final String tenantId, final String groupName) {
-		return adapt().path("user").path(valueOf(tenantId)).path("groupByName").path(valueOf(groupName))
+		return adapt("getUserGroupByName").path("user").path(valueOf(tenantId)).path("groupByName").path(valueOf(groupName))
 			.request()
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.group+json")
 			.rx()
@@ -281,7 +269,7 @@ public class GroupsApi extends AdaptableApi {
 	 * <p>When set to <code>true</code>, the returned result will contain in the statistics object the total number of pages. Only applicable on <a href="https://en.wikipedia.org/wiki/Range_query_(database)">range queries</a>.</p>
 	 */
 	public CompletionStage<GroupReferenceCollection> getUserGroups(final String tenantId, final String userId, final int currentPage, final int pageSize, final boolean withTotalElements, final boolean withTotalPages) {
-		return adapt().path("user").path(valueOf(tenantId)).path("users").path(valueOf(userId)).path("groups")
+		return adapt("getUserGroups").path("user").path(valueOf(tenantId)).path("users").path(valueOf(userId)).path("groups")
 			.queryParam("currentPage", currentPage)
 			.queryParam("pageSize", pageSize)
 			.queryParam("withTotalElements", withTotalElements)
@@ -34,7 +34,7 @@ public class IdentityApi extends AdaptableApi {
 	 * </ul>
 	 */
 	public CompletionStage<IdentityApiResource> getIdentityApiResource() {
-		return adapt().path("identity")
+		return adapt("getIdentityApiResource").path("identity")
 			.request()
 			.header("Accept", "application/vnd.com.nsn.cumulocity.identityapi+json, application/vnd.com.nsn.cumulocity.error+json")
 			.rx()
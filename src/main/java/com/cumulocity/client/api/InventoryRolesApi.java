@@ -4,9 +4,9 @@
 package com.cumulocity.client.api;
 
 import java.util.concurrent.CompletionStage;
-import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.StreamingOutput;
 import jakarta.ws.rs.core.Response;
 import com.cumulocity.client.supplementary.AdaptableApi;
 import com.cumulocity.client.model.InventoryRole;
@@ -50,7 +50,7 @@ public class InventoryRolesApi extends AdaptableApi {
 	 * <p>When set to <code>true</code>, the returned result will contain in the statistics object the total number of elements. Only applicable on <a href="https://en.wikipedia.org/wiki/Range_query_(database)">range queries</a>.</p>
 	 */
 	public CompletionStage<InventoryRoleCollection> getInventoryRoles(final int currentPage, final int pageSize, final boolean withTotalElements) {
-		return adapt().path("user").path("inventoryroles")
+		return adapt("getInventoryRoles").path("user").path("inventoryroles")
 			.queryParam("currentPage", currentPage)
 			.queryParam("pageSize", pageSize)
 			.queryParam("withTotalElements", withTotalElements)
@@ -82,15 +82,13 @@ public class InventoryRolesApi extends AdaptableApi {
 	 * @param body
 	 */
 	public CompletionStage<InventoryRole> createInventoryRole(final InventoryRole body) {
-		final JsonNode jsonNode = toJsonNode(body);
-		removeFromNode(jsonNode, "self");
-		removeFromNode(jsonNode, "id");
-		return adapt().path("user").path("inventoryroles")
+		final StreamingOutput jsonBody = toJsonBody(body, "self", "id");
+		return adapt("createInventoryRole").path("user").path("inventoryroles")
 			.request()
 			.header("Content-Type", "application/vnd.com.nsn.cumulocity.inventoryrole+json")
 			.header("Accept", "application/vnd.com.nsn.cumulocity.inventoryrole+json, application/vnd.com.nsn.cumulocity.error+json")
 			.rx()
-			.method("POST", Entity.json(jsonNode), InventoryRole.class);
+			.method("POST", Entity.json(jsonBody), InventoryRole.class);
 	}
 	
 	/**
@@ -114,7 +112,7 @@ public class InventoryRolesApi extends AdaptableApi {
 	 * <p>Unique identifier of the inventory role.</p>
 	 */
 	public CompletionStage<InventoryRole> getInventoryRole(final int id) {
-		return adapt().path("user").path("inventoryroles").path(valueOf(id))
+		return adapt("getInventoryRole").path("user").path("inventoryroles").path(valueOf(id))
 			.request()
 			.header("Accept", "application/vnd.com.nsn.cumulocity.inventoryrole+json, application/vnd.com.nsn.cumulocity.error+json")
 			.rx()
@@ -145,15 +143,13 @@ public class InventoryRolesApi extends AdaptableApi {
 	 * <p>Unique identifier of the inventory role.</p>
 	 */
 	public CompletionStage<InventoryRole> updateInventoryRole(final InventoryRole body, final int id) {
-		final JsonNode jsonNode = toJsonNode(body);
-		removeFromNode(jsonNode, "self");
-		removeFromNode(jsonNode, "id");
-		return adapt().path("user").path("inventoryroles").path(valueOf(id))
+		final StreamingOutput jsonBody = toJsonBody(body, "self", "id");
+		return adapt("updateInventoryRole").path("user").path("inventoryroles").path(valueOf(id))
 			.request()
 			.header("Content-Type", "application/vnd.com.nsn.cumulocity.inventoryrole+json")
 			.header("Accept", "application/vnd.com.nsn.cumulocity.inventoryrole+json, application/vnd.com.nsn.cumulocity.error+json")
 			.rx()
-			.method("PUT", Entity.json(jsonNode), InventoryRole.class);
+			.method("PUT", Entity.json(jsonBody), InventoryRole.class);
 	}
 	
 	/**
@@ -179,7 +175,7 @@ public class InventoryRolesApi extends AdaptableApi {
 	 * <p>Unique identifier of the inventory role.</p>
 	 */
 	public CompletionStage<Response> deleteInventoryRole(final int id) {
-		return adapt().path("user").path("inventoryroles").path(valueOf(id))
+		return adapt("deleteInventoryRole").path("user").path("inventoryroles").path(valueOf(id))
 			.request()
 			.header("Accept", "application/json")
 			.rx()
@@ -211,7 +207,7 @@ public class InventoryRolesApi extends AdaptableApi {
 	 * <p>Unique identifier of the a user.</p>
 	 */
 	public CompletionStage<InventoryAssignmentCollection> getUserInventoryRoles(final String tenantId, final String userId) {
-		return adapt().path("user").path(valueOf(tenantId)).path("users").path(valueOf(userId)).path("roles").path("inventory")
+		return adapt("getUserInventoryRoles").path("user").path(valueOf(tenantId)).path("users").path(valueOf(userId)).path("roles").path("inventory")
 			.request()
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.inventoryassignmentcollection+json")
 			.rx()
@@ -248,15 +244,13 @@ public class InventoryRolesApi extends AdaptableApi {
 	 * <p>Unique identifier of the a user.</p>
 	 */
 	public CompletionStage<InventoryAssignment> assignUserInventoryRole(final InventoryAssignment body, final String tenantId, final String userId) {
-		final JsonNode jsonNode = toJsonNode(body);
-		removeFromNode(jsonNode, "self");
-		removeFromNode(jsonNode, "id");
-		return adapt().path("user").path(valueOf(tenantId)).path("users").path(valueOf(userId)).path("roles").path("inventory")
+		final StreamingOutput jsonBody = toJsonBody(body, "self", "id");
+		return adapt("assignUserInventoryRole").path("user").path(valueOf(tenantId)).path("users").path(valueOf(userId)).path("roles").path("inventory")
 			.request()
 			.header("Content-Type", "application/vnd.com.nsn.cumulocity.inventoryassignment+json")
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.inventoryassignment+json")
 			.rx()
-			.method("POST", Entity.json(jsonNode), InventoryAssignment.class);
+			.method("POST", Entity.json(jsonBody), InventoryAssignment.class);
 	}
 	
 	/**
@@ -286,7 +280,7 @@ public class InventoryRolesApi extends AdaptableApi {
 	 * <p>Unique identifier of the inventory assignment.</p>
 	 */
 	public CompletionStage<InventoryAssignment> getUserInventoryRole(final String tenantId, final String userId, final int id) {
-		return adapt().path("user").path(valueOf(tenantId)).path("users").path(valueOf(userId)).path("roles").path("inventory").path(valueOf(id))
+		return adapt("getUserInventoryRole").path("user").path(valueOf(tenantId)).path("users").path(valueOf(userId)).path("roles").path("inventory").path(valueOf(id))
 			.request()
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.inventoryassignment+json")
 			.rx()
@@ -325,13 +319,13 @@ public class InventoryRolesApi extends AdaptableApi {
 	 * <p>Unique identifier of the inventory assignment.</p>
 	 */
 	public CompletionStage<InventoryAssignment> updateUserInventoryRole(final InventoryAssignmentReference body, final String tenantId, final String userId, final int id) {
-		final JsonNode jsonNode = toJsonNode(body);
-		return adapt().path("user").path(valueOf(tenantId)).path("users").path(valueOf(userId)).path("roles").path("inventory").path(valueOf(id))
+		final StreamingOutput jsonBody = toJsonBody(body);
+		return adapt("updateUserInventoryRole").path("user").path(valueOf(tenantId)).path("users").path(valueOf(userId)).path("roles").path("inventory").path(valueOf(id))
 			.request()
 			.header("Content-Type", "application/vnd.com.nsn.cumulocity.inventoryassignment+json")
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.inventoryassignment+json")
 			.rx()
-			.method("PUT", Entity.json(jsonNode), InventoryAssignment.class);
+			.method("PUT", Entity.json(jsonBody), InventoryAssignment.class);
 	}
 	
 	/**
@@ -361,7 +355,7 @@ public class InventoryRolesApi extends AdaptableApi {
 	 * <p>Unique identifier of the inventory assignment.</p>
 	 */
 	public CompletionStage<Response> unassignUserInventoryRole(final String tenantId, final String userId, final int id) {
-		return adapt().path("user").path(valueOf(tenantId)).path("users").path(valueOf(userId)).path("roles").path("inventory").path(valueOf(id))
+		return adapt("unassignUserInventoryRole").path("user").path(valueOf(tenantId)).path("users").path(valueOf(userId)).path("roles").path("inventory").path(valueOf(id))
 			.request()
 			.header("Accept", "application/json")
 			.rx()
@@ -4,9 +4,9 @@
 package com.cumulocity.client.api;
 
 import java.util.concurrent.CompletionStage;
-import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.StreamingOutput;
 import com.cumulocity.client.supplementary.AdaptableApi;
 import com.cumulocity.client.model.AuthConfig;
 import com.cumulocity.client.model.AuthConfigAccess;
@@ -44,7 +44,7 @@ public class LoginOptionsApi extends AdaptableApi {
 	 * <p>Unique identifier of a Cumulocity IoT tenant.</p>
 	 */
 	public CompletionStage<LoginOptionCollection> getLoginOptions(final boolean management, final String tenantId) {
-		return adapt().path("tenant").path("loginOptions")
+		return adapt("getLoginOptions").path("tenant").path("loginOptions")
 			.queryParam("management", management)
 			.queryParam("tenantId", tenantId)
 			.request()
@@ -75,14 +75,13 @@ public class LoginOptionsApi extends AdaptableApi {
 	 * @param body
 	 */
 	public CompletionStage<AuthConfig> createLoginOption(final AuthConfig body) {
-		final JsonNode jsonNode = toJsonNode(body);
-		removeFromNode(jsonNode, "self");
-		return adapt().path("tenant").path("loginOptions")
+		final StreamingOutput jsonBody = toJsonBody(body, "self");
+		return adapt("createLoginOption").path("tenant").path("loginOptions")
 			.request()
 			.header("Content-Type", "application/vnd.com.nsn.cumulocity.authconfig+json")
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.authconfig+json")
 			.rx()
-			.method("POST", Entity.json(jsonNode), AuthConfig.class);
+			.method("POST", Entity.json(jsonBody), AuthConfig.class);
 	}
 	
 	/**
@@ -109,13 +108,13 @@ public class LoginOptionsApi extends AdaptableApi {
 	 * <p>Unique identifier of a Cumulocity IoT tenant.</p>
 	 */
 	public CompletionStage<AuthConfig> updateLoginOption(final AuthConfigAccess body, final String typeOrId, final String targetTenant) {
-		final JsonNode jsonNode = toJsonNode(body);
-		return adapt().path("tenant").path("loginOptions").path(valueOf(typeOrId)).path("restrict")
+		final StreamingOutput jsonBody = toJsonBody(body);
+		return adapt("updateLoginOption").path("tenant").path("loginOptions").path(valueOf(typeOrId)).path("restrict")
 			.queryParam("targetTenant", targetTenant)
 			.request()
 			.header("Content-Type", "application/json")
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.authconfig+json")
 			.rx()
-			.method("PUT", Entity.json(jsonNode), AuthConfig.class);
+			.method("PUT", Entity.json(jsonBody), AuthConfig.class);
 	}
 }
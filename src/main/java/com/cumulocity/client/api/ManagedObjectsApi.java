@@ -4,9 +4,9 @@
 package com.cumulocity.client.api;
 
 import java.util.concurrent.CompletionStage;
-import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.StreamingOutput;
 import jakarta.ws.rs.core.Response;
 import com.cumulocity.client.supplementary.AdaptableApi;
 import com.cumulocity.client.model.ManagedObject;
@@ -84,7 +84,7 @@ public class ManagedObjectsApi extends AdaptableApi {
 	 * <p>When set to <code>true</code>, the returned result will contain in the statistics object the total number of pages. Only applicable on <a href="https://en.wikipedia.org/wiki/Range_query_(database)">range queries</a>.</p>
 	 */
 	public CompletionStage<ManagedObjectCollection> getManagedObjects(final String childAdditionId, final String childAssetId, final String childDeviceId, final int currentPage, final String fragmentType, final String[] ids, final boolean onlyRoots, final String owner, final int pageSize, final String q, final String query, final boolean skipChildrenNames, final String text, final String type, final boolean withChildren, final boolean withChildrenCount, final boolean withGroups, final boolean withParents, final boolean withTotalElements, final boolean withTotalPages) {
-		return adapt().path("inventory").path("managedObjects")
+		return adapt("getManagedObjects").path("inventory").path("managedObjects")
 			.queryParam("childAdditionId", childAdditionId)
 			.queryParam("childAssetId", childAssetId)
 			.queryParam("childDeviceId", childDeviceId)
@@ -151,25 +151,14 @@ public class ManagedObjectsApi extends AdaptableApi {
 	 * <p>Used to explicitly control the processing mode of the request. See <a href="#processing-mode">Processing mode</a> for more details.</p>
 	 */
 	public CompletionStage<ManagedObject> createManagedObject(final ManagedObject body, final String xCumulocityProcessingMode) {
-		final JsonNode jsonNode = toJsonNode(body);
-		removeFromNode(jsonNode, "owner");
-		removeFromNode(jsonNode, "additionParents");
-		removeFromNode(jsonNode, "lastUpdated");
-		removeFromNode(jsonNode, "childDevices");
-		removeFromNode(jsonNode, "childAssets");
-		removeFromNode(jsonNode, "creationTime");
-		removeFromNode(jsonNode, "childAdditions");
-		removeFromNode(jsonNode, "self");
-		removeFromNode(jsonNode, "assetParents");
-		removeFromNode(jsonNode, "deviceParents");
-		removeFromNode(jsonNode, "id");
-		return adapt().path("inventory").path("managedObjects")
+		final StreamingOutput jsonBody = toJsonBody(body, "owner", "additionParents", "lastUpdated", "childDevices", "childAssets", "creationTime", "childAdditions", "self", "assetParents", "deviceParents", "id");
+		return adapt("createManagedObject").path("inventory").path("managedObjects")
 			.request()
 			.header("X-Cumulocity-Processing-Mode", xCumulocityProcessingMode)
 			.header("Content-Type", "application/vnd.com.nsn.cumulocity.managedobject+json")
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.managedobject+json")
 			.rx()
-			.method("POST", Entity.json(jsonNode), ManagedObject.class);
+			.method("POST", Entity.json(jsonBody), ManagedObject.class);
 	}
 	
 	/**
@@ -206,7 +195,7 @@ public class ManagedObjectsApi extends AdaptableApi {
 	 * <p>The type of managed object to search for.</p>
 	 */
 	public CompletionStage<Integer> getNumberOfManagedObjects(final String childAdditionId, final String childAssetId, final String childDeviceId, final String fragmentType, final String[] ids, final String owner, final String text, final String type) {
-		return adapt().path("inventory").path("managedObjects").path("count")
+		return adapt("getNumberOfManagedObjects").path("inventory").path("managedObjects").path("count")
 			.queryParam("childAdditionId", childAdditionId)
 			.queryParam("childAssetId", childAssetId)
 			.queryParam("childDeviceId", childDeviceId)
@@ -250,7 +239,7 @@ public class ManagedObjectsApi extends AdaptableApi {
 	 * <p>When set to <code>true</code>, the returned references of child parents will return the device's parents (if any). Otherwise, it will be an empty array.</p>
 	 */
 	public CompletionStage<ManagedObject> getManagedObject(final String id, final boolean skipChildrenNames, final boolean withChildren, final boolean withChildrenCount, final boolean withParents) {
-		return adapt().path("inventory").path("managedObjects").path(valueOf(id))
+		return adapt("getManagedObject").path("inventory").path("managedObjects").path(valueOf(id))
 			.queryParam("skipChildrenNames", skipChildrenNames)
 			.queryParam("withChildren", withChildren)
 			.queryParam("withChildrenCount", withChildrenCount)
@@ -287,25 +276,14 @@ public class ManagedObjectsApi extends AdaptableApi {
 	 * <p>Used to explicitly control the processing mode of the request. See <a href="#processing-mode">Processing mode</a> for more details.</p>
 	 */
 	public CompletionStage<ManagedObject> updateManagedObject(final ManagedObject body, final String id, final String xCumulocityProcessingMode) {
-		final JsonNode jsonNode = toJsonNode(body);
-		removeFromNode(jsonNode, "owner");
-		removeFromNode(jsonNode, "additionParents");
-		removeFromNode(jsonNode, "lastUpdated");
-		removeFromNode(jsonNode, "childDevices");
-		removeFromNode(jsonNode, "childAssets");
-		removeFromNode(jsonNode, "creationTime");
-		removeFromNode(jsonNode, "childAdditions");
-		removeFromNode(jsonNode, "self");
-		removeFromNode(jsonNode, "assetParents");
-		removeFromNode(jsonNode, "deviceParents");
-		removeFromNode(jsonNode, "id");
-		return adapt().path("inventory").path("managedObjects").path(valueOf(id))
+		final StreamingOutput jsonBody = toJsonBody(body, "owner", "additionParents", "lastUpdated", "childDevices", "childAssets", "creationTime", "childAdditions", "self", "assetParents", "deviceParents", "id");
+		return adapt("updateManagedObject").path("inventory").path("managedObjects").path(valueOf(id))
 			.request()
 			.header("X-Cumulocity-Processing-Mode", xCumulocityProcessingMode)
 			.header("Content-Type", "application/vnd.com.nsn.cumulocity.managedobject+json")
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.managedobject+json")
 			.rx()
-			.method("PUT", Entity.json(jsonNode), ManagedObject.class);
+			.method("PUT", Entity.json(jsonBody), ManagedObject.class);
 	}
 	
 	/**
@@ -342,7 +320,7 @@ public class ManagedObjectsApi extends AdaptableApi {
 	 * <p>When set to <code>true</code> and the managed object is a device, it deletes the associated device user (credentials).</p>
 	 */
 	public CompletionStage<Response> deleteManagedObject(final String id, final String xCumulocityProcessingMode, final boolean cascade, final boolean forceCascade, final boolean withDeviceUser) {
-		return adapt().path("inventory").path("managedObjects").path(valueOf(id))
+		return adapt("deleteManagedObject").path("inventory").path("managedObjects").path(valueOf(id))
 			.queryParam("cascade", cascade)
 			.queryParam("forceCascade", forceCascade)
 			.queryParam("withDeviceUser", withDeviceUser)
@@ -374,7 +352,7 @@ public class ManagedObjectsApi extends AdaptableApi {
 	 * <p>Unique identifier of the managed object.</p>
 	 */
 	public CompletionStage<String> getLatestAvailability(final String id) {
-		return adapt().path("inventory").path("managedObjects").path(valueOf(id)).path("availability")
+		return adapt("getLatestAvailability").path("inventory").path("managedObjects").path(valueOf(id)).path("availability")
 			.request()
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, text/plain, application/json")
 			.rx()
@@ -402,7 +380,7 @@ public class ManagedObjectsApi extends AdaptableApi {
 	 * <p>Unique identifier of the managed object.</p>
 	 */
 	public CompletionStage<SupportedMeasurements> getSupportedMeasurements(final String id) {
-		return adapt().path("inventory").path("managedObjects").path(valueOf(id)).path("supportedMeasurements")
+		return adapt("getSupportedMeasurements").path("inventory").path("managedObjects").path(valueOf(id)).path("supportedMeasurements")
 			.request()
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/json")
 			.rx()
@@ -430,7 +408,7 @@ public class ManagedObjectsApi extends AdaptableApi {
 	 * <p>Unique identifier of the managed object.</p>
 	 */
 	public CompletionStage<SupportedSeries> getSupportedSeries(final String id) {
-		return adapt().path("inventory").path("managedObjects").path(valueOf(id)).path("supportedSeries")
+		return adapt("getSupportedSeries").path("inventory").path("managedObjects").path(valueOf(id)).path("supportedSeries")
 			.request()
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/json")
 			.rx()
@@ -458,7 +436,7 @@ public class ManagedObjectsApi extends AdaptableApi {
 	 * <p>Unique identifier of the managed object.</p>
 	 */
 	public CompletionStage<ManagedObjectUser> getManagedObjectUser(final String id) {
-		return adapt().path("inventory").path("managedObjects").path(valueOf(id)).path("user")
+		return adapt("getManagedObjectUser").path("inventory").path("managedObjects").path(valueOf(id)).path("user")
 			.request()
 			.header("Accept", "application/vnd.com.nsn.cumulocity.managedobjectuser+json, application/vnd.com.nsn.cumulocity.error+json")
 			.rx()
@@ -489,15 +467,13 @@ public class ManagedObjectsApi extends AdaptableApi {
 	 * <p>Used to explicitly control the processing mode of the request. See <a href="#processing-mode">Processing mode</a> for more details.</p>
 	 */
 	public CompletionStage<ManagedObjectUser> updateManagedObjectUser(final ManagedObjectUser body, final String id, final String xCumulocityProcessingMode) {
-		final JsonNode jsonNode = toJsonNode(body);
-		removeFromNode(jsonNode, "self");
-		removeFromNode(jsonNode, "userName");
-		return adapt().path("inventory").path("managedObjects").path(valueOf(id)).path("user")
+		final StreamingOutput jsonBody = toJsonBody(body, "self", "userName");
+		return adapt("updateManagedObjectUser").path("inventory").path("managedObjects").path(valueOf(id)).path("user")
 			.request()
 			.header("X-Cumulocity-Processing-Mode", xCumulocityProcessingMode)
 			.header("Content-Type", "application/vnd.com.nsn.cumulocity.managedobjectuser+json")
 			.header("Accept", "application/vnd.com.nsn.cumulocity.managedobjectuser+json, application/vnd.com.nsn.cumulocity.error+json")
 			.rx()
-			.method("PUT", Entity.json(jsonNode), ManagedObjectUser.class);
+			.method("PUT", Entity.json(jsonBody), ManagedObjectUser.class);
 	}
 }
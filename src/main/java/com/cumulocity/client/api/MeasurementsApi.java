@@ -3,12 +3,15 @@
 
 package com.cumulocity.client.api;
 
+import java.util.List;
 import java.util.concurrent.CompletionStage;
-import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.StreamingOutput;
 import jakarta.ws.rs.core.Response;
 import com.cumulocity.client.supplementary.AdaptableApi;
+import com.cumulocity.client.supplementary.ColumnarMeasurementSeries;
+import com.cumulocity.client.supplementary.MeasurementEncoder;
 import com.cumulocity.client.model.Measurement;
 import com.cumulocity.client.model.MeasurementCollection;
 import com.cumulocity.client.model.MeasurementSeries;
@@ -67,7 +70,7 @@ public class MeasurementsApi extends AdaptableApi {
 	 * <p>When set to <code>true</code>, the returned result will contain in the statistics object the total number of pages. Only applicable on <a href="https://en.wikipedia.org/wiki/Range_query_(database)">range queries</a>.</p>
 	 */
 	public CompletionStage<MeasurementCollection> getMeasurements(final int currentPage, final String dateFrom, final String dateTo, final int pageSize, final boolean revert, final String source, final String type, final String valueFragmentSeries, final String valueFragmentType, final boolean withTotalElements, final boolean withTotalPages) {
-		return adapt().path("measurement").path("measurements")
+		return adapt("getMeasurements").path("measurement").path("measurements")
 			.queryParam("currentPage", currentPage)
 			.queryParam("dateFrom", dateFrom)
 			.queryParam("dateTo", dateTo)
@@ -126,17 +129,14 @@ public class MeasurementsApi extends AdaptableApi {
 	 * <p>Used to explicitly control the processing mode of the request. See <a href="#processing-mode">Processing mode</a> for more details.</p>
 	 */
 	public CompletionStage<Measurement> createMeasurement(final Measurement body, final String xCumulocityProcessingMode) {
-		final JsonNode jsonNode = toJsonNode(body);
-		removeFromNode(jsonNode, "self");
-		removeFromNode(jsonNode, "id");
-		removeFromNode(jsonNode, "source", "self");
-		return adapt().path("measurement").path("measurements")
+		final StreamingOutput jsonBody = toJsonBody(body, "self", "id", "source.self");
+		return adapt("createMeasurement").path("measurement").path("measurements")
 			.request()
 			.header("X-Cumulocity-Processing-Mode", xCumulocityProcessingMode)
 			.header("Content-Type", "application/vnd.com.nsn.cumulocity.measurement+json")
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.measurement+json, application/vnd.com.nsn.cumulocity.measurementcollection+json")
 			.rx()
-			.method("POST", Entity.json(jsonNode), Measurement.class);
+			.method("POST", Entity.json(jsonBody), Measurement.class);
 	}
 	
 	/**
@@ -180,18 +180,52 @@ public class MeasurementsApi extends AdaptableApi {
 	 * <p>Used to explicitly control the processing mode of the request. See <a href="#processing-mode">Processing mode</a> for more details.</p>
 	 */
 	public CompletionStage<MeasurementCollection> createMeasurement(final MeasurementCollection body, final String xCumulocityProcessingMode) {
-		final JsonNode jsonNode = toJsonNode(body);
-		removeFromNode(jsonNode, "next");
-		removeFromNode(jsonNode, "prev");
-		removeFromNode(jsonNode, "self");
-		removeFromNode(jsonNode, "statistics");
-		return adapt().path("measurement").path("measurements")
+		final StreamingOutput jsonBody = toJsonBody(body, "next", "prev", "self", "statistics");
+		return adapt("createMeasurement").path("measurement").path("measurements")
 			.request()
 			.header("X-Cumulocity-Processing-Mode", xCumulocityProcessingMode)
 			.header("Content-Type", "application/vnd.com.nsn.cumulocity.measurementcollection+json")
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.measurement+json, application/vnd.com.nsn.cumulocity.measurementcollection+json")
 			.rx()
-			.method("POST", Entity.json(jsonNode), MeasurementCollection.class);
+			.method("POST", Entity.json(jsonBody), MeasurementCollection.class);
+	}
+	
+	/**
+	 * <p>Create multiple measurements</p>
+	 * <p>Creates all measurements encoded by <code>body</code>, see {@link #createMeasurement(MeasurementCollection, String)}. The encoded measurements are written straight from the buffer of the encoder while the request is sent, so the encoder must not be changed or reset before the returned stage has completed.</p>
+	 * 
+	 * @param body
+	 * @param xCumulocityProcessingMode
+	 * <p>Used to explicitly control the processing mode of the request. See <a href="#processing-mode">Processing mode</a> for more details.</p>
+	 */
+	public CompletionStage<MeasurementCollection> createMeasurement(final MeasurementEncoder body, final String xCumulocityProcessingMode) {
+		final StreamingOutput jsonBody = body::writeTo;
+		return adapt("createMeasurement").path("measurement").path("measurements")
+			.request()
+			.header("X-Cumulocity-Processing-Mode", xCumulocityProcessingMode)
+			.header("Content-Type", "application/vnd.com.nsn.cumulocity.measurementcollection+json")
+			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.measurement+json, application/vnd.com.nsn.cumulocity.measurementcollection+json")
+			.rx()
+			.method("POST", Entity.json(jsonBody), MeasurementCollection.class);
+	}
+	
+	/**
+	 * <p>Create multiple measurements</p>
+	 * <p>Creates the measurements of <code>body</code>, each of them already serialized as JSON object, see {@link #createMeasurement(MeasurementCollection, String)}. The measurements are written into the measurement collection while the request is sent, so neither the list nor its arrays may be changed before the returned stage has completed.</p>
+	 * 
+	 * @param body
+	 * @param xCumulocityProcessingMode
+	 * <p>Used to explicitly control the processing mode of the request. See <a href="#processing-mode">Processing mode</a> for more details.</p>
+	 */
+	public CompletionStage<MeasurementCollection> createMeasurement(final List<byte[]> body, final String xCumulocityProcessingMode) {
+		final StreamingOutput jsonBody = output -> MeasurementEncoder.writeCollection(output, body);
+		return adapt("createMeasurement").path("measurement").path("measurements")
+			.request()
+			.header("X-Cumulocity-Processing-Mode", xCumulocityProcessingMode)
+			.header("Content-Type", "application/vnd.com.nsn.cumulocity.measurementcollection+json")
+			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.measurement+json, application/vnd.com.nsn.cumulocity.measurementcollection+json")
+			.rx()
+			.method("POST", Entity.json(jsonBody), MeasurementCollection.class);
 	}
 	
 	/**
@@ -229,7 +263,7 @@ public class MeasurementsApi extends AdaptableApi {
 	 * <p>The type of measurement to search for.</p>
 	 */
 	public CompletionStage<Response> deleteMeasurements(final String xCumulocityProcessingMode, final String dateFrom, final String dateTo, final String fragmentType, final String source, final String type) {
-		return adapt().path("measurement").path("measurements")
+		return adapt("deleteMeasurements").path("measurement").path("measurements")
 			.queryParam("dateFrom", dateFrom)
 			.queryParam("dateTo", dateTo)
 			.queryParam("fragmentType", fragmentType)
@@ -263,7 +297,7 @@ public class MeasurementsApi extends AdaptableApi {
 	 * <p>Unique identifier of the measurement.</p>
 	 */
 	public CompletionStage<Measurement> getMeasurement(final String id) {
-		return adapt().path("measurement").path("measurements").path(valueOf(id))
+		return adapt("getMeasurement").path("measurement").path("measurements").path(valueOf(id))
 			.request()
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.measurement+json")
 			.rx()
@@ -295,7 +329,7 @@ public class MeasurementsApi extends AdaptableApi {
 	 * <p>Used to explicitly control the processing mode of the request. See <a href="#processing-mode">Processing mode</a> for more details.</p>
 	 */
 	public CompletionStage<Response> deleteMeasurement(final String id, final String xCumulocityProcessingMode) {
-		return adapt().path("measurement").path("measurements").path(valueOf(id))
+		return adapt("deleteMeasurement").path("measurement").path("measurements").path(valueOf(id))
 			.request()
 			.header("X-Cumulocity-Processing-Mode", xCumulocityProcessingMode)
 			.header("Accept", "application/json")
@@ -337,7 +371,7 @@ public class MeasurementsApi extends AdaptableApi {
 	 * <p>The managed object ID to which the measurement is associated.</p>
 	 */
 	public CompletionStage<MeasurementSeries> getMeasurementSeries(final String aggregationType, final String dateFrom, final String dateTo, final boolean revert, final String[] series, final String source) {
-		return adapt().path("measurement").path("measurements").path("series")
+		return adapt("getMeasurementSeries").path("measurement").path("measurements").path("series")
 			.queryParam("aggregationType", aggregationType)
 			.queryParam("dateFrom", dateFrom)
 			.queryParam("dateTo", dateTo)
@@ -349,4 +383,46 @@ public class MeasurementsApi extends AdaptableApi {
 			.rx()
 			.method("GET", MeasurementSeries.class);
 	}
+	
+	/**
+	 * <p>Retrieve a list of series and their values in columnar form</p>
+	 * <p>Retrieves the same series as {@link #getMeasurementSeries(String, String, String, boolean, String[], String)}, but decodes the response into primitive arrays: one array holding the timestamps of all values in epoch milliseconds and one array of <code>min</code>/<code>max</code> pairs per series. This keeps the heap footprint of large series small.</p>
+	 * <section><h5>Required roles</h5>
+	 * ROLE_MEASUREMENT_READ <b>OR</b> owner of the source <b>OR</b> MEASUREMENT_READ permission on the source
+	 * </section>
+	 * <h5>Response Codes</h5>
+	 * <p>The following table gives an overview of the possible response codes and their meanings:</p>
+	 * <ul>
+	 * 	<li><p>HTTP 200 <p>The request has succeeded and the series are sent in the response.</p></p>
+	 * 	</li>
+	 * 	<li><p>HTTP 401 <p>Authentication information is missing or invalid.</p></p>
+	 * 	</li>
+	 * </ul>
+	 * 
+	 * @param aggregationType
+	 * <p>Fetch aggregated results as specified.</p>
+	 * @param dateFrom
+	 * <p>Start date or date and time of the measurement.</p>
+	 * @param dateTo
+	 * <p>End date or date and time of the measurement.</p>
+	 * @param revert
+	 * <p>If you are using a range query (that is, at least one of the <code>dateFrom</code> or <code>dateTo</code> parameters is included in the request), then setting <code>revert=true</code> will sort the results by the newest measurements first.By default, the results are sorted by the oldest measurements first.</p>
+	 * @param series
+	 * <p>The specific series to search for.</p>
+	 * @param source
+	 * <p>The managed object ID to which the measurement is associated.</p>
+	 */
+	public CompletionStage<ColumnarMeasurementSeries> getColumnarMeasurementSeries(final String aggregationType, final String dateFrom, final String dateTo, final boolean revert, final String[] series, final String source) {
+		return adapt("getColumnarMeasurementSeries").path("measurement").path("measurements").path("series")
+			.queryParam("aggregationType", aggregationType)
+			.queryParam("dateFrom", dateFrom)
+			.queryParam("dateTo", dateTo)
+			.queryParam("revert", revert)
+			.queryParam("series", series, false)
+			.queryParam("source", source)
+			.request()
+			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/json")
+			.rx()
+			.method("GET", ColumnarMeasurementSeries.class);
+	}
 }
@@ -4,9 +4,9 @@
 package com.cumulocity.client.api;
 
 import java.util.concurrent.CompletionStage;
-import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.StreamingOutput;
 import jakarta.ws.rs.core.Response;
 import com.cumulocity.client.supplementary.AdaptableApi;
 import com.cumulocity.client.model.NewDeviceRequest;
@@ -49,7 +49,7 @@ public class NewDeviceRequestsApi extends AdaptableApi {
 	 * <p>When set to <code>true</code>, the returned result will contain in the statistics object the total number of pages. Only applicable on <a href="https://en.wikipedia.org/wiki/Range_query_(database)">range queries</a>.</p>
 	 */
 	public CompletionStage<NewDeviceRequestCollection> getNewDeviceRequests(final int currentPage, final int pageSize, final boolean withTotalElements, final boolean withTotalPages) {
-		return adapt().path("devicecontrol").path("newDeviceRequests")
+		return adapt("getNewDeviceRequests").path("devicecontrol").path("newDeviceRequests")
 			.queryParam("currentPage", currentPage)
 			.queryParam("pageSize", pageSize)
 			.queryParam("withTotalElements", withTotalElements)
@@ -82,16 +82,14 @@ public class NewDeviceRequestsApi extends AdaptableApi {
 	 * <p>Used to explicitly control the processing mode of the request. See <a href="#processing-mode">Processing mode</a> for more details.</p>
 	 */
 	public CompletionStage<NewDeviceRequest> createNewDeviceRequest(final NewDeviceRequest body, final String xCumulocityProcessingMode) {
-		final JsonNode jsonNode = toJsonNode(body);
-		removeFromNode(jsonNode, "self");
-		removeFromNode(jsonNode, "status");
-		return adapt().path("devicecontrol").path("newDeviceRequests")
+		final StreamingOutput jsonBody = toJsonBody(body, "self", "status");
+		return adapt("createNewDeviceRequest").path("devicecontrol").path("newDeviceRequests")
 			.request()
 			.header("X-Cumulocity-Processing-Mode", xCumulocityProcessingMode)
 			.header("Content-Type", "application/vnd.com.nsn.cumulocity.newdevicerequest+json")
 			.header("Accept", "application/vnd.com.nsn.cumulocity.newdevicerequest+json, application/vnd.com.nsn.cumulocity.error+json")
 			.rx()
-			.method("POST", Entity.json(jsonNode), NewDeviceRequest.class);
+			.method("POST", Entity.json(jsonBody), NewDeviceRequest.class);
 	}
 	
 	/**
@@ -115,7 +113,7 @@ public class NewDeviceRequestsApi extends AdaptableApi {
 	 * <p>Unique identifier of the new device request.</p>
 	 */
 	public CompletionStage<NewDeviceRequest> getNewDeviceRequest(final String requestId) {
-		return adapt().path("devicecontrol").path("newDeviceRequests").path(valueOf(requestId))
+		return adapt("getNewDeviceRequest").path("devicecontrol").path("newDeviceRequests").path(valueOf(requestId))
 			.request()
 			.header("Accept", "application/vnd.com.nsn.cumulocity.newdevicerequest+json, application/vnd.com.nsn.cumulocity.error+json")
 			.rx()
@@ -144,15 +142,13 @@ public class NewDeviceRequestsApi extends AdaptableApi {
 	 * <p>Unique identifier of the new device request.</p>
 	 */
 	public CompletionStage<NewDeviceRequest> updateNewDeviceRequest(final NewDeviceRequest body, final String requestId) {
-		final JsonNode jsonNode = toJsonNode(body);
-		removeFromNode(jsonNode, "self");
-		removeFromNode(jsonNode, "id");
-		return adapt().path("devicecontrol").path("newDeviceRequests").path(valueOf(requestId))
+		final StreamingOutput jsonBody = toJsonBody(body, "self", "id");
+		return adapt("updateNewDeviceRequest").path("devicecontrol").path("newDeviceRequests").path(valueOf(requestId))
 			.request()
 			.header("Content-Type", "application/vnd.com.nsn.cumulocity.newdevicerequest+json")
 			.header("Accept", "application/vnd.com.nsn.cumulocity.newdevicerequest+json, application/vnd.com.nsn.cumulocity.error+json")
 			.rx()
-			.method("PUT", Entity.json(jsonNode), NewDeviceRequest.class);
+			.method("PUT", Entity.json(jsonBody), NewDeviceRequest.class);
 	}
 	
 	/**
@@ -178,7 +174,7 @@ public class NewDeviceRequestsApi extends AdaptableApi {
 	 * <p>Unique identifier of the new device request.</p>
 	 */
 	public CompletionStage<Response> deleteNewDeviceRequest(final String requestId) {
-		return adapt().path("devicecontrol").path("newDeviceRequests").path(valueOf(requestId))
+		return adapt("deleteNewDeviceRequest").path("devicecontrol").path("newDeviceRequests").path(valueOf(requestId))
 			.request()
 			.header("Accept", "application/json")
 			.rx()
@@ -4,9 +4,9 @@
 package com.cumulocity.client.api;
 
 import java.util.concurrent.CompletionStage;
-import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.StreamingOutput;
 import jakarta.ws.rs.core.Response;
 import com.cumulocity.client.supplementary.AdaptableApi;
 import com.cumulocity.client.model.Operation;
@@ -74,7 +74,7 @@ public class OperationsApi extends AdaptableApi {
 	 * <p>When set to <code>true</code>, the returned result will contain in the statistics object the total number of pages. Only applicable on <a href="https://en.wikipedia.org/wiki/Range_query_(database)">range queries</a>.</p>
 	 */
 	public CompletionStage<OperationCollection> getOperations(final String agentId, final String bulkOperationId, final int currentPage, final String dateFrom, final String dateTo, final String deviceId, final String fragmentType, final int pageSize, final boolean revert, final String status, final boolean withTotalElements, final boolean withTotalPages) {
-		return adapt().path("devicecontrol").path("operations")
+		return adapt("getOperations").path("devicecontrol").path("operations")
 			.queryParam("agentId", agentId)
 			.queryParam("bulkOperationId", bulkOperationId)
 			.queryParam("currentPage", currentPage)
@@ -116,21 +116,14 @@ public class OperationsApi extends AdaptableApi {
 	 * <p>Used to explicitly control the processing mode of the request. See <a href="#processing-mode">Processing mode</a> for more details.</p>
 	 */
 	public CompletionStage<Operation> createOperation(final Operation body, final String xCumulocityProcessingMode) {
-		final JsonNode jsonNode = toJsonNode(body);
-		removeFromNode(jsonNode, "creationTime");
-		removeFromNode(jsonNode, "deviceExternalIDs", "self");
-		removeFromNode(jsonNode, "bulkOperationId");
-		removeFromNode(jsonNode, "failureReason");
-		removeFromNode(jsonNode, "self");
-		removeFromNode(jsonNode, "id");
-		removeFromNode(jsonNode, "status");
-		return adapt().path("devicecontrol").path("operations")
+		final StreamingOutput jsonBody = toJsonBody(body, "creationTime", "deviceExternalIDs.self", "bulkOperationId", "failureReason", "self", "id", "status");
+		return adapt("createOperation").path("devicecontrol").path("operations")
 			.request()
 			.header("X-Cumulocity-Processing-Mode", xCumulocityProcessingMode)
 			.header("Content-Type", "application/vnd.com.nsn.cumulocity.operation+json")
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.operation+json")
 			.rx()
-			.method("POST", Entity.json(jsonNode), Operation.class);
+			.method("POST", Entity.json(jsonBody), Operation.class);
 	}
 	
 	/**
@@ -165,7 +158,7 @@ public class OperationsApi extends AdaptableApi {
 	 * <p>Status of the operation.</p>
 	 */
 	public CompletionStage<Response> deleteOperations(final String xCumulocityProcessingMode, final String agentId, final String dateFrom, final String dateTo, final String deviceId, final String status) {
-		return adapt().path("devicecontrol").path("operations")
+		return adapt("deleteOperations").path("devicecontrol").path("operations")
 			.queryParam("agentId", agentId)
 			.queryParam("dateFrom", dateFrom)
 			.queryParam("dateTo", dateTo)
@@ -199,7 +192,7 @@ public class OperationsApi extends AdaptableApi {
 	 * <p>Unique identifier of the operation.</p>
 	 */
 	public CompletionStage<Operation> getOperation(final String id) {
-		return adapt().path("devicecontrol").path("operations").path(valueOf(id))
+		return adapt("getOperation").path("devicecontrol").path("operations").path(valueOf(id))
 			.request()
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.operation+json")
 			.rx()
@@ -232,20 +225,13 @@ public class OperationsApi extends AdaptableApi {
 	 * <p>Used to explicitly control the processing mode of the request. See <a href="#processing-mode">Processing mode</a> for more details.</p>
 	 */
 	public CompletionStage<Operation> updateOperation(final Operation body, final String id, final String xCumulocityProcessingMode) {
-		final JsonNode jsonNode = toJsonNode(body);
-		removeFromNode(jsonNode, "creationTime");
-		removeFromNode(jsonNode, "deviceExternalIDs", "self");
-		removeFromNode(jsonNode, "bulkOperationId");
-		removeFromNode(jsonNode, "failureReason");
-		removeFromNode(jsonNode, "self");
-		removeFromNode(jsonNode, "id");
-		removeFromNode(jsonNode, "deviceId");
-		return adapt().path("devicecontrol").path("operations").path(valueOf(id))
+		final StreamingOutput jsonBody = toJsonBody(body, "creationTime", "deviceExternalIDs.self", "bulkOperationId", "failureReason", "self", "id", "deviceId");
+		return adapt("updateOperation").path("devicecontrol").path("operations").path(valueOf(id))
 			.request()
 			.header("X-Cumulocity-Processing-Mode", xCumulocityProcessingMode)
 			.header("Content-Type", "application/vnd.com.nsn.cumulocity.operation+json")
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.operation+json")
 			.rx()
-			.method("PUT", Entity.json(jsonNode), Operation.class);
+			.method("PUT", Entity.json(jsonBody), Operation.class);
 	}
 }
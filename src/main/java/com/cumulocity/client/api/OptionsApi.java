@@ -4,9 +4,9 @@
 package com.cumulocity.client.api;
 
 import java.util.concurrent.CompletionStage;
-import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.StreamingOutput;
 import jakarta.ws.rs.core.Response;
 import com.cumulocity.client.supplementary.AdaptableApi;
 import com.cumulocity.client.model.Option;
@@ -49,7 +49,7 @@ public class OptionsApi extends AdaptableApi {
 	 * <p>When set to <code>true</code>, the returned result will contain in the statistics object the total number of pages. Only applicable on <a href="https://en.wikipedia.org/wiki/Range_query_(database)">range queries</a>.</p>
 	 */
 	public CompletionStage<OptionCollection> getOptions(final int currentPage, final int pageSize, final boolean withTotalPages) {
-		return adapt().path("tenant").path("options")
+		return adapt("getOptions").path("tenant").path("options")
 			.queryParam("currentPage", currentPage)
 			.queryParam("pageSize", pageSize)
 			.queryParam("withTotalPages", withTotalPages)
@@ -96,14 +96,13 @@ public class OptionsApi extends AdaptableApi {
 	 * @param body
 	 */
 	public CompletionStage<Option> createOption(final Option body) {
-		final JsonNode jsonNode = toJsonNode(body);
-		removeFromNode(jsonNode, "self");
-		return adapt().path("tenant").path("options")
+		final StreamingOutput jsonBody = toJsonBody(body, "self");
+		return adapt("createOption").path("tenant").path("options")
 			.request()
 			.header("Content-Type", "application/vnd.com.nsn.cumulocity.option+json")
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.option+json")
 			.rx()
-			.method("POST", Entity.json(jsonNode), Option.class);
+			.method("POST", Entity.json(jsonBody), Option.class);
 	}
 	
 	/**
@@ -125,7 +124,7 @@ public class OptionsApi extends AdaptableApi {
 	 * <p>The category of the options.</p>
 	 */
 	public CompletionStage<CategoryOptions> getOptionsByCategory(final String category) {
-		return adapt().path("tenant").path("options").path(valueOf(category))
+		return adapt("getOptionsByCategory").path("tenant").path("options").path(valueOf(category))
 			.request()
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.option+json")
 			.rx()
@@ -154,13 +153,13 @@ public class OptionsApi extends AdaptableApi {
 	 * <p>The category of the options.</p>
 	 */
 	public CompletionStage<CategoryOptions> updateOptionsByCategory(final CategoryOptions body, final String category) {
-		final JsonNode jsonNode = toJsonNode(body);
-		return adapt().path("tenant").path("options").path(valueOf(category))
+		final StreamingOutput jsonBody = toJsonBody(body);
+		return adapt("updateOptionsByCategory").path("tenant").path("options").path(valueOf(category))
 			.request()
 			.header("Content-Type", "application/json")
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.option+json")
 			.rx()
-			.method("PUT", Entity.json(jsonNode), CategoryOptions.class);
+			.method("PUT", Entity.json(jsonBody), CategoryOptions.class);
 	}
 	
 	/**
@@ -186,7 +185,7 @@ public class OptionsApi extends AdaptableApi {
 	 * <p>The key of an option.</p>
 	 */
 	public CompletionStage<Option> getOption(final String category, final String key) {
-		return adapt().path("tenant").path("options").path(valueOf(category)).path(valueOf(key))
+		return adapt("getOption").path("tenant").path("options").path(valueOf(category)).path(valueOf(key))
 			.request()
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.option+json")
 			.rx()
@@ -219,13 +218,13 @@ public class OptionsApi extends AdaptableApi {
 	 * <p>The key of an option.</p>
 	 */
 	public CompletionStage<Option> updateOption(final CategoryKeyOption body, final String category, final String key) {
-		final JsonNode jsonNode = toJsonNode(body);
-		return adapt().path("tenant").path("options").path(valueOf(category)).path(valueOf(key))
+		final StreamingOutput jsonBody = toJsonBody(body);
+		return adapt("updateOption").path("tenant").path("options").path(valueOf(category)).path(valueOf(key))
 			.request()
 			.header("Content-Type", "application/json")
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.option+json")
 			.rx()
-			.method("PUT", Entity.json(jsonNode), Option.class);
+			.method("PUT", Entity.json(jsonBody), Option.class);
 	}
 	
 	/**
@@ -251,7 +250,7 @@ public class OptionsApi extends AdaptableApi {
 	 * <p>The key of an option.</p>
 	 */
 	public CompletionStage<Response> deleteOption(final String category, final String key) {
-		return adapt().path("tenant").path("options").path(valueOf(category)).path(valueOf(key))
+		return adapt("deleteOption").path("tenant").path("options").path(valueOf(category)).path(valueOf(key))
 			.request()
 			.header("Accept", "application/json")
 			.rx()
@@ -4,9 +4,9 @@
 package com.cumulocity.client.api;
 
 import java.util.concurrent.CompletionStage;
-import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.StreamingOutput;
 import com.cumulocity.client.supplementary.AdaptableApi;
 import com.cumulocity.client.model.RealtimeNotification;
 
@@ -203,17 +203,13 @@ public class RealtimeNotificationApi extends AdaptableApi {
 	 * <p>Used to explicitly control the processing mode of the request. See <a href="#processing-mode">Processing mode</a> for more details.</p>
 	 */
 	public CompletionStage<RealtimeNotification> createRealtimeNotification(final RealtimeNotification body, final String xCumulocityProcessingMode) {
-		final JsonNode jsonNode = toJsonNode(body);
-		removeFromNode(jsonNode, "clientId");
-		removeFromNode(jsonNode, "data");
-		removeFromNode(jsonNode, "error");
-		removeFromNode(jsonNode, "successful");
-		return adapt().path("notification").path("realtime")
+		final StreamingOutput jsonBody = toJsonBody(body, "clientId", "data", "error", "successful");
+		return adapt("createRealtimeNotification").path("notification").path("realtime")
 			.request()
 			.header("X-Cumulocity-Processing-Mode", xCumulocityProcessingMode)
 			.header("Content-Type", "application/json")
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/json")
 			.rx()
-			.method("POST", Entity.json(jsonNode), RealtimeNotification.class);
+			.method("POST", Entity.json(jsonBody), RealtimeNotification.class);
 	}
 }
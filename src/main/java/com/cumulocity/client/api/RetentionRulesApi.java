@@ -4,9 +4,9 @@
 package com.cumulocity.client.api;
 
 import java.util.concurrent.CompletionStage;
-import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.StreamingOutput;
 import jakarta.ws.rs.core.Response;
 import com.cumulocity.client.supplementary.AdaptableApi;
 import com.cumulocity.client.model.RetentionRule;
@@ -51,7 +51,7 @@ public class RetentionRulesApi extends AdaptableApi {
 	 * <p>When set to <code>true</code>, the returned result will contain in the statistics object the total number of pages. Only applicable on <a href="https://en.wikipedia.org/wiki/Range_query_(database)">range queries</a>.</p>
 	 */
 	public CompletionStage<RetentionRuleCollection> getRetentionRules(final int currentPage, final int pageSize, final boolean withTotalElements, final boolean withTotalPages) {
-		return adapt().path("retention").path("retentions")
+		return adapt("getRetentionRules").path("retention").path("retentions")
 			.queryParam("currentPage", currentPage)
 			.queryParam("pageSize", pageSize)
 			.queryParam("withTotalElements", withTotalElements)
@@ -84,15 +84,13 @@ public class RetentionRulesApi extends AdaptableApi {
 	 * @param body
 	 */
 	public CompletionStage<RetentionRule> createRetentionRule(final RetentionRule body) {
-		final JsonNode jsonNode = toJsonNode(body);
-		removeFromNode(jsonNode, "self");
-		removeFromNode(jsonNode, "id");
-		return adapt().path("retention").path("retentions")
+		final StreamingOutput jsonBody = toJsonBody(body, "self", "id");
+		return adapt("createRetentionRule").path("retention").path("retentions")
 			.request()
 			.header("Content-Type", "application/vnd.com.nsn.cumulocity.retentionrule+json")
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.retentionrule+json")
 			.rx()
-			.method("POST", Entity.json(jsonNode), RetentionRule.class);
+			.method("POST", Entity.json(jsonBody), RetentionRule.class);
 	}
 	
 	/**
@@ -118,7 +116,7 @@ public class RetentionRulesApi extends AdaptableApi {
 	 * <p>Unique identifier of the retention rule.</p>
 	 */
 	public CompletionStage<RetentionRule> getRetentionRule(final String id) {
-		return adapt().path("retention").path("retentions").path(valueOf(id))
+		return adapt("getRetentionRule").path("retention").path("retentions").path(valueOf(id))
 			.request()
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.retentionrule+json")
 			.rx()
@@ -151,15 +149,13 @@ public class RetentionRulesApi extends AdaptableApi {
 	 * <p>Unique identifier of the retention rule.</p>
 	 */
 	public CompletionStage<RetentionRule> updateRetentionRule(final RetentionRule body, final String id) {
-		final JsonNode jsonNode = toJsonNode(body);
-		removeFromNode(jsonNode, "self");
-		removeFromNode(jsonNode, "id");
-		return adapt().path("retention").path("retentions").path(valueOf(id))
+		final StreamingOutput jsonBody = toJsonBody(body, "self", "id");
+		return adapt("updateRetentionRule").path("retention").path("retentions").path(valueOf(id))
 			.request()
 			.header("Content-Type", "application/vnd.com.nsn.cumulocity.retentionrule+json")
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.retentionrule+json")
 			.rx()
-			.method("PUT", Entity.json(jsonNode), RetentionRule.class);
+			.method("PUT", Entity.json(jsonBody), RetentionRule.class);
 	}
 	
 	/**
@@ -185,7 +181,7 @@ public class RetentionRulesApi extends AdaptableApi {
 	 * <p>Unique identifier of the retention rule.</p>
 	 */
 	public CompletionStage<Response> deleteRetentionRule(final String id) {
-		return adapt().path("retention").path("retentions").path(valueOf(id))
+		return adapt("deleteRetentionRule").path("retention").path("retentions").path(valueOf(id))
 			.request()
 			.header("Accept", "application/json")
 			.rx()
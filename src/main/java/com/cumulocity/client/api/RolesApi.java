@@ -4,9 +4,9 @@
 package com.cumulocity.client.api;
 
 import java.util.concurrent.CompletionStage;
-import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.StreamingOutput;
 import jakarta.ws.rs.core.Response;
 import com.cumulocity.client.supplementary.AdaptableApi;
 import com.cumulocity.client.model.SubscribedRole;
@@ -52,7 +52,7 @@ public class RolesApi extends AdaptableApi {
 	 * <p>When set to <code>true</code>, the returned result will contain in the statistics object the total number of pages. Only applicable on <a href="https://en.wikipedia.org/wiki/Range_query_(database)">range queries</a>.</p>
 	 */
 	public CompletionStage<UserRoleCollection> getUserRoles(final int currentPage, final int pageSize, final boolean withTotalElements, final boolean withTotalPages) {
-		return adapt().path("user").path("roles")
+		return adapt("getUserRoles").path("user").path("roles")
 			.queryParam("currentPage", currentPage)
 			.queryParam("pageSize", pageSize)
 			.queryParam("withTotalElements", withTotalElements)
@@ -84,7 +84,7 @@ public class RolesApi extends AdaptableApi {
 	 * <p>The name of the user role.</p>
 	 */
 	public CompletionStage<Role> getUserRole(final String name) {
-		return adapt().path("user").path("roles").path(valueOf(name))
+		return adapt("getUserRole").path("user").path("roles").path(valueOf(name))
 			.request()
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.role+json")
 			.rx()
@@ -120,7 +120,7 @@ public class RolesApi extends AdaptableApi {
 	 * <p>Indicates how many entries of the collection shall be returned. The upper limit for one page is 2,000 objects.</p>
 	 */
 	public CompletionStage<RoleReferenceCollection> getGroupRoles(final String tenantId, final int groupId, final int currentPage, final int pageSize) {
-		return adapt().path("user").path(valueOf(tenantId)).path("groups").path(valueOf(groupId)).path("roles")
+		return adapt("getGroupRoles").path("user").path(valueOf(tenantId)).path("groups").path(valueOf(groupId)).path("roles")
 			.queryParam("currentPage", currentPage)
 			.queryParam("pageSize", pageSize)
 			.request()
@@ -159,13 +159,13 @@ public class RolesApi extends AdaptableApi {
 	 * <p>Unique identifier of the user group.</p>
 	 */
 	public CompletionStage<RoleReference> assignGroupRole(final SubscribedRole body, final String tenantId, final int groupId) {
-		final JsonNode jsonNode = toJsonNode(body);
-		return adapt().path("user").path(valueOf(tenantId)).path("groups").path(valueOf(groupId)).path("roles")
+		final StreamingOutput jsonBody = toJsonBody(body);
+		return adapt("assignGroupRole").path("user").path(valueOf(tenantId)).path("groups").path(valueOf(groupId)).path("roles")
 			.request()
 			.header("Content-Type", "application/vnd.com.nsn.cumulocity.rolereference+json")
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.rolereference+json")
 			.rx()
-			.method("POST", Entity.json(jsonNode), RoleReference.class);
+			.method("POST", Entity.json(jsonBody), RoleReference.class);
 	}
 	
 	/**
@@ -195,7 +195,7 @@ public class RolesApi extends AdaptableApi {
 	 * <p>Unique identifier of the user role.</p>
 	 */
 	public CompletionStage<Response> unassignGroupRole(final String tenantId, final int groupId, final String roleId) {
-		return adapt().path("user").path(valueOf(tenantId)).path("groups").path(valueOf(groupId)).path("roles").path(valueOf(roleId))
+		return adapt("unassignGroupRole").path("user").path(valueOf(tenantId)).path("groups").path(valueOf(groupId)).path("roles").path(valueOf(roleId))
 			.request()
 			.header("Accept", "application/json")
 			.rx()
@@ -233,13 +233,13 @@ public class RolesApi extends AdaptableApi {
 	 * <p>Unique identifier of the a user.</p>
 	 */
 	public CompletionStage<RoleReference> assignUserRole(final SubscribedRole body, final String tenantId, final String userId) {
-		final JsonNode jsonNode = toJsonNode(body);
-		return adapt().path("user").path(valueOf(tenantId)).path("users").path(valueOf(userId)).path("roles")
+		final StreamingOutput jsonBody = toJsonBody(body);
+		return adapt("assignUserRole").path("user").path(valueOf(tenantId)).path("users").path(valueOf(userId)).path("roles")
 			.request()
 			.header("Content-Type", "application/vnd.com.nsn.cumulocity.rolereference+json")
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.rolereference+json")
 			.rx()
-			.method("POST", Entity.json(jsonNode), RoleReference.class);
+			.method("POST", Entity.json(jsonBody), RoleReference.class);
 	}
 	
 	/**
@@ -269,7 +269,7 @@ public class RolesApi extends AdaptableApi {
 	 * <p>Unique identifier of the user role.</p>
 	 */
 	public CompletionStage<Response> unassignUserRole(final String tenantId, final String userId, final String roleId) {
-		return adapt().path("user").path(valueOf(tenantId)).path("users").path(valueOf(userId)).path("roles").path(valueOf(roleId))
+		return adapt("unassignUserRole").path("user").path(valueOf(tenantId)).path("users").path(valueOf(userId)).path("roles").path(valueOf(roleId))
 			.request()
 			.header("Accept", "application/json")
 			.rx()
@@ -4,9 +4,9 @@
 package com.cumulocity.client.api;
 
 import java.util.concurrent.CompletionStage;
-import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.StreamingOutput;
 import jakarta.ws.rs.core.Response;
 import com.cumulocity.client.supplementary.AdaptableApi;
 import com.cumulocity.client.model.NotificationSubscription;
@@ -50,7 +50,7 @@ public class SubscriptionsApi extends AdaptableApi {
 	 * <p>When set to <code>true</code>, the returned result will contain in the statistics object the total number of pages. Only applicable on <a href="https://en.wikipedia.org/wiki/Range_query_(database)">range queries</a>.</p>
 	 */
 	public CompletionStage<NotificationSubscriptionCollection> getSubscriptions(final String context, final int currentPage, final int pageSize, final String source, final boolean withTotalPages) {
-		return adapt().path("notification2").path("subscriptions")
+		return adapt("getSubscriptions").path("notification2").path("subscriptions")
 			.queryParam("context", context)
 			.queryParam("currentPage", currentPage)
 			.queryParam("pageSize", pageSize)
@@ -103,17 +103,14 @@ public class SubscriptionsApi extends AdaptableApi {
 	 * <p>Used to explicitly control the processing mode of the request. See <a href="#processing-mode">Processing mode</a> for more details.</p>
 	 */
 	public CompletionStage<NotificationSubscription> createSubscription(final NotificationSubscription body, final String xCumulocityProcessingMode) {
-		final JsonNode jsonNode = toJsonNode(body);
-		removeFromNode(jsonNode, "self");
-		removeFromNode(jsonNode, "id");
-		removeFromNode(jsonNode, "source", "self");
-		return adapt().path("notification2").path("subscriptions")
+		final StreamingOutput jsonBody = toJsonBody(body, "self", "id", "source.self");
+		return adapt("createSubscription").path("notification2").path("subscriptions")
 			.request()
 			.header("X-Cumulocity-Processing-Mode", xCumulocityProcessingMode)
 			.header("Content-Type", "application/vnd.com.nsn.cumulocity.subscription+json")
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.subscription+json")
 			.rx()
-			.method("POST", Entity.json(jsonNode), NotificationSubscription.class);
+			.method("POST", Entity.json(jsonBody), NotificationSubscription.class);
 	}
 	
 	/**
@@ -147,7 +144,7 @@ public class SubscriptionsApi extends AdaptableApi {
 	 * <p>The managed object ID to which the subscription is associated.</p>
 	 */
 	public CompletionStage<Response> deleteSubscriptions(final String xCumulocityProcessingMode, final String context, final String source) {
-		return adapt().path("notification2").path("subscriptions")
+		return adapt("deleteSubscriptions").path("notification2").path("subscriptions")
 			.queryParam("context", context)
 			.queryParam("source", source)
 			.request()
@@ -180,7 +177,7 @@ public class SubscriptionsApi extends AdaptableApi {
 	 * <p>Unique identifier of the notification subscription.</p>
 	 */
 	public CompletionStage<NotificationSubscription> getSubscription(final String id) {
-		return adapt().path("notification2").path("subscriptions").path(valueOf(id))
+		return adapt("getSubscription").path("notification2").path("subscriptions").path(valueOf(id))
 			.request()
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.subscription+json")
 			.rx()
@@ -212,7 +209,7 @@ public class SubscriptionsApi extends AdaptableApi {
 	 * <p>Used to explicitly control the processing mode of the request. See <a href="#processing-mode">Processing mode</a> for more details.</p>
 	 */
 	public CompletionStage<Response> deleteSubscription(final String id, final String xCumulocityProcessingMode) {
-		return adapt().path("notification2").path("subscriptions").path(valueOf(id))
+		return adapt("deleteSubscription").path("notification2").path("subscriptions").path(valueOf(id))
 			.request()
 			.header("X-Cumulocity-Processing-Mode", xCumulocityProcessingMode)
 			.header("Accept", "application/json")
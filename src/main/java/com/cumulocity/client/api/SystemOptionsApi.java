@@ -37,7 +37,7 @@ public class SystemOptionsApi extends AdaptableApi {
 	 * </ul>
 	 */
 	public CompletionStage<SystemOptionCollection> getSystemOptions() {
-		return adapt().path("tenant").path("system").path("options")
+		return adapt("getSystemOptions").path("tenant").path("system").path("options")
 			.request()
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.optioncollection+json")
 			.rx()
@@ -70,7 +70,7 @@ public class SystemOptionsApi extends AdaptableApi {
 	 * <p>The key of a system option.</p>
 	 */
 	public CompletionStage<SystemOption> getSystemOption(final String category, final String key) {
-		return adapt().path("tenant").path("system").path("options").path(valueOf(category)).path(valueOf(key))
+		return adapt("getSystemOption").path("tenant").path("system").path("options").path(valueOf(category)).path(valueOf(key))
 			.request()
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.option+json")
 			.rx()
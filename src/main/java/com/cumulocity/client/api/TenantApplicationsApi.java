@@ -4,9 +4,9 @@
 package com.cumulocity.client.api;
 
 import java.util.concurrent.CompletionStage;
-import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.StreamingOutput;
 import jakarta.ws.rs.core.Response;
 import com.cumulocity.client.supplementary.AdaptableApi;
 import com.cumulocity.client.model.SubscribedApplicationReference;
@@ -56,7 +56,7 @@ public class TenantApplicationsApi extends AdaptableApi {
 	 * <p>When set to <code>true</code>, the returned result will contain in the statistics object the total number of pages. Only applicable on <a href="https://en.wikipedia.org/wiki/Range_query_(database)">range queries</a>.</p>
 	 */
 	public CompletionStage<ApplicationReferenceCollection> getSubscribedApplications(final String tenantId, final int currentPage, final int pageSize, final boolean withTotalElements, final boolean withTotalPages) {
-		return adapt().path("tenant").path("tenants").path(valueOf(tenantId)).path("applications")
+		return adapt("getSubscribedApplications").path("tenant").path("tenants").path(valueOf(tenantId)).path("applications")
 			.queryParam("currentPage", currentPage)
 			.queryParam("pageSize", pageSize)
 			.queryParam("withTotalElements", withTotalElements)
@@ -98,13 +98,13 @@ public class TenantApplicationsApi extends AdaptableApi {
 	 * <p>Unique identifier of a Cumulocity IoT tenant.</p>
 	 */
 	public CompletionStage<ApplicationReference> subscribeApplication(final SubscribedApplicationReference body, final String tenantId) {
-		final JsonNode jsonNode = toJsonNode(body);
-		return adapt().path("tenant").path("tenants").path(valueOf(tenantId)).path("applications")
+		final StreamingOutput jsonBody = toJsonBody(body);
+		return adapt("subscribeApplication").path("tenant").path("tenants").path(valueOf(tenantId)).path("applications")
 			.request()
 			.header("Content-Type", "application/vnd.com.nsn.cumulocity.applicationreference+json")
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.applicationreference+json")
 			.rx()
-			.method("POST", Entity.json(jsonNode), ApplicationReference.class);
+			.method("POST", Entity.json(jsonBody), ApplicationReference.class);
 	}
 	
 	/**
@@ -131,7 +131,7 @@ public class TenantApplicationsApi extends AdaptableApi {
 	 * <p>Unique identifier of the application.</p>
 	 */
 	public CompletionStage<Response> unsubscribeApplication(final String tenantId, final String applicationId) {
-		return adapt().path("tenant").path("tenants").path(valueOf(tenantId)).path("applications").path(valueOf(applicationId))
+		return adapt("unsubscribeApplication").path("tenant").path("tenants").path(valueOf(tenantId)).path("applications").path(valueOf(applicationId))
 			.request()
 			.header("Accept", "application/json")
 			.rx()
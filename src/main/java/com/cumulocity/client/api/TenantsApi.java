@@ -4,9 +4,9 @@
 package com.cumulocity.client.api;
 
 import java.util.concurrent.CompletionStage;
-import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.StreamingOutput;
 import jakarta.ws.rs.core.Response;
 import com.cumulocity.client.supplementary.AdaptableApi;
 import com.cumulocity.client.model.Tenant;
@@ -65,7 +65,7 @@ public class TenantsApi extends AdaptableApi {
 	 * <p>When set to <code>true</code>, the returned result will contain in the statistics object the total number of pages. Only applicable on <a href="https://en.wikipedia.org/wiki/Range_query_(database)">range queries</a>.</p>
 	 */
 	public CompletionStage<TenantCollection> getTenants(final int currentPage, final int pageSize, final boolean withTotalElements, final boolean withTotalPages) {
-		return adapt().path("tenant").path("tenants")
+		return adapt("getTenants").path("tenant").path("tenants")
 			.queryParam("currentPage", currentPage)
 			.queryParam("pageSize", pageSize)
 			.queryParam("withTotalElements", withTotalElements)
@@ -100,21 +100,13 @@ public class TenantsApi extends AdaptableApi {
 	 * @param body
 	 */
 	public CompletionStage<Tenant> createTenant(final Tenant body) {
-		final JsonNode jsonNode = toJsonNode(body);
-		removeFromNode(jsonNode, "allowCreateTenants");
-		removeFromNode(jsonNode, "parent");
-		removeFromNode(jsonNode, "creationTime");
-		removeFromNode(jsonNode, "self");
-		removeFromNode(jsonNode, "id");
-		removeFromNode(jsonNode, "ownedApplications");
-		removeFromNode(jsonNode, "applications");
-		removeFromNode(jsonNode, "status");
-		return adapt().path("tenant").path("tenants")
+		final StreamingOutput jsonBody = toJsonBody(body, "allowCreateTenants", "parent", "creationTime", "self", "id", "ownedApplications", "applications", "status");
+		return adapt("createTenant").path("tenant").path("tenants")
 			.request()
 			.header("Content-Type", "application/vnd.com.nsn.cumulocity.tenant+json")
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.tenant+json")
 			.rx()
-			.method("POST", Entity.json(jsonNode), Tenant.class);
+			.method("POST", Entity.json(jsonBody), Tenant.class);
 	}
 	
 	/**
@@ -136,7 +128,7 @@ public class TenantsApi extends AdaptableApi {
 	 * <p>When set to <code>true</code>, the returned result will contain the parent of the current tenant.</p>
 	 */
 	public CompletionStage<CurrentTenant> getCurrentTenant(final boolean withParent) {
-		return adapt().path("tenant").path("currentTenant")
+		return adapt("getCurrentTenant").path("tenant").path("currentTenant")
 			.queryParam("withParent", withParent)
 			.request()
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.currenttenant+json")
@@ -167,7 +159,7 @@ public class TenantsApi extends AdaptableApi {
 	 * <p>Unique identifier of a Cumulocity IoT tenant.</p>
 	 */
 	public CompletionStage<Tenant> getTenant(final String tenantId) {
-		return adapt().path("tenant").path("tenants").path(valueOf(tenantId))
+		return adapt("getTenant").path("tenant").path("tenants").path(valueOf(tenantId))
 			.request()
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.tenant+json")
 			.rx()
@@ -200,22 +192,13 @@ public class TenantsApi extends AdaptableApi {
 	 * <p>Unique identifier of a Cumulocity IoT tenant.</p>
 	 */
 	public CompletionStage<Tenant> updateTenant(final Tenant body, final String tenantId) {
-		final JsonNode jsonNode = toJsonNode(body);
-		removeFromNode(jsonNode, "adminName");
-		removeFromNode(jsonNode, "allowCreateTenants");
-		removeFromNode(jsonNode, "parent");
-		removeFromNode(jsonNode, "creationTime");
-		removeFromNode(jsonNode, "self");
-		removeFromNode(jsonNode, "id");
-		removeFromNode(jsonNode, "ownedApplications");
-		removeFromNode(jsonNode, "applications");
-		removeFromNode(jsonNode, "status");
-		return adapt().path("tenant").path("tenants").path(valueOf(tenantId))
+		final StreamingOutput jsonBody = toJsonBody(body, "adminName", "allowCreateTenants", "parent", "creationTime", "self", "id", "ownedApplications", "applications", "status");
+		return adapt("updateTenant").path("tenant").path("tenants").path(valueOf(tenantId))
 			.request()
 			.header("Content-Type", "application/vnd.com.nsn.cumulocity.tenant+json")
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.tenant+json")
 			.rx()
-			.method("PUT", Entity.json(jsonNode), Tenant.class);
+			.method("PUT", Entity.json(jsonBody), Tenant.class);
 	}
 	
 	/**
@@ -245,7 +228,7 @@ public class TenantsApi extends AdaptableApi {
 	 * <p>Unique identifier of a Cumulocity IoT tenant.</p>
 	 */
 	public CompletionStage<Response> deleteTenant(final String tenantId) {
-		return adapt().path("tenant").path("tenants").path(valueOf(tenantId))
+		return adapt("deleteTenant").path("tenant").path("tenants").path(valueOf(tenantId))
 			.request()
 			.header("Accept", "application/json")
 			.rx()
@@ -273,7 +256,7 @@ public class TenantsApi extends AdaptableApi {
 	 * <p>Unique identifier of a Cumulocity IoT tenant.</p>
 	 */
 	public CompletionStage<TenantTfaData> getTenantTfaSettings(final String tenantId) {
-		return adapt().path("tenant").path("tenants").path(valueOf(tenantId)).path("tfa")
+		return adapt("getTenantTfaSettings").path("tenant").path("tenants").path(valueOf(tenantId)).path("tfa")
 			.request()
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/json")
 			.rx()
@@ -4,9 +4,9 @@
 package com.cumulocity.client.api;
 
 import java.util.concurrent.CompletionStage;
-import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.StreamingOutput;
 import com.cumulocity.client.supplementary.AdaptableApi;
 import com.cumulocity.client.model.NotificationTokenClaims;
 import com.cumulocity.client.model.NotificationToken;
@@ -54,14 +54,14 @@ public class TokensApi extends AdaptableApi {
 	 * <p>Used to explicitly control the processing mode of the request. See <a href="#processing-mode">Processing mode</a> for more details.</p>
 	 */
 	public CompletionStage<NotificationToken> createToken(final NotificationTokenClaims body, final String xCumulocityProcessingMode) {
-		final JsonNode jsonNode = toJsonNode(body);
-		return adapt().path("notification2").path("token")
+		final StreamingOutput jsonBody = toJsonBody(body);
+		return adapt("createToken").path("notification2").path("token")
 			.request()
 			.header("X-Cumulocity-Processing-Mode", xCumulocityProcessingMode)
 			.header("Content-Type", "application/json")
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/json")
 			.rx()
-			.method("POST", Entity.json(jsonNode), NotificationToken.class);
+			.method("POST", Entity.json(jsonBody), NotificationToken.class);
 	}
 	
 	/**
@@ -83,7 +83,7 @@ public class TokensApi extends AdaptableApi {
 	 * <p>Subscriptions associated with this token will be removed.</p>
 	 */
 	public CompletionStage<NotificationSubscriptionResult> unsubscribeSubscriber(final String xCumulocityProcessingMode, final String token) {
-		return adapt().path("notification2").path("unsubscribe")
+		return adapt("unsubscribeSubscriber").path("notification2").path("unsubscribe")
 			.queryParam("token", token)
 			.request()
 			.header("X-Cumulocity-Processing-Mode", xCumulocityProcessingMode)
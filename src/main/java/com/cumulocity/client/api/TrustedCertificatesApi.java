@@ -4,9 +4,9 @@
 package com.cumulocity.client.api;
 
 import java.util.concurrent.CompletionStage;
-import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.StreamingOutput;
 import jakarta.ws.rs.core.Response;
 import com.cumulocity.client.supplementary.AdaptableApi;
 import com.cumulocity.client.model.TrustedCertificate;
@@ -57,7 +57,7 @@ public class TrustedCertificatesApi extends AdaptableApi {
 	 * <p>When set to <code>true</code>, the returned result will contain in the statistics object the total number of pages. Only applicable on <a href="https://en.wikipedia.org/wiki/Range_query_(database)">range queries</a>.</p>
 	 */
 	public CompletionStage<TrustedCertificateCollection> getTrustedCertificates(final String tenantId, final int currentPage, final int pageSize, final boolean withTotalElements, final boolean withTotalPages) {
-		return adapt().path("tenant").path("tenants").path(valueOf(tenantId)).path("trusted-certificates")
+		return adapt("getTrustedCertificates").path("tenant").path("tenants").path(valueOf(tenantId)).path("trusted-certificates")
 			.queryParam("currentPage", currentPage)
 			.queryParam("pageSize", pageSize)
 			.queryParam("withTotalElements", withTotalElements)
@@ -94,22 +94,13 @@ public class TrustedCertificatesApi extends AdaptableApi {
 	 * <p>Unique identifier of a Cumulocity IoT tenant.</p>
 	 */
 	public CompletionStage<TrustedCertificate> addTrustedCertificate(final TrustedCertificate body, final String tenantId) {
-		final JsonNode jsonNode = toJsonNode(body);
-		removeFromNode(jsonNode, "notAfter");
-		removeFromNode(jsonNode, "serialNumber");
-		removeFromNode(jsonNode, "subject");
-		removeFromNode(jsonNode, "fingerprint");
-		removeFromNode(jsonNode, "self");
-		removeFromNode(jsonNode, "algorithmName");
-		removeFromNode(jsonNode, "version");
-		removeFromNode(jsonNode, "issuer");
-		removeFromNode(jsonNode, "notBefore");
-		return adapt().path("tenant").path("tenants").path(valueOf(tenantId)).path("trusted-certificates")
+		final StreamingOutput jsonBody = toJsonBody(body, "notAfter", "serialNumber", "subject", "fingerprint", "self", "algorithmName", "version", "issuer", "notBefore");
+		return adapt("addTrustedCertificate").path("tenant").path("tenants").path(valueOf(tenantId)).path("trusted-certificates")
 			.request()
 			.header("Content-Type", "application/json")
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/json")
 			.rx()
-			.method("POST", Entity.json(jsonNode), TrustedCertificate.class);
+			.method("POST", Entity.json(jsonBody), TrustedCertificate.class);
 	}
 	
 	/**
@@ -138,17 +129,13 @@ public class TrustedCertificatesApi extends AdaptableApi {
 	 * <p>Unique identifier of a Cumulocity IoT tenant.</p>
 	 */
 	public CompletionStage<TrustedCertificateCollection> addTrustedCertificates(final TrustedCertificateCollection body, final String tenantId) {
-		final JsonNode jsonNode = toJsonNode(body);
-		removeFromNode(jsonNode, "next");
-		removeFromNode(jsonNode, "prev");
-		removeFromNode(jsonNode, "self");
-		removeFromNode(jsonNode, "statistics");
-		return adapt().path("tenant").path("tenants").path(valueOf(tenantId)).path("trusted-certificates").path("bulk")
+		final StreamingOutput jsonBody = toJsonBody(body, "next", "prev", "self", "statistics");
+		return adapt("addTrustedCertificates").path("tenant").path("tenants").path(valueOf(tenantId)).path("trusted-certificates").path("bulk")
 			.request()
 			.header("Content-Type", "application/json")
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/json")
 			.rx()
-			.method("POST", Entity.json(jsonNode), TrustedCertificateCollection.class);
+			.method("POST", Entity.json(jsonBody), TrustedCertificateCollection.class);
 	}
 	
 	/**
@@ -172,7 +159,7 @@ public class TrustedCertificatesApi extends AdaptableApi {
 	 * <p>Unique identifier of a trusted certificate.</p>
 	 */
 	public CompletionStage<TrustedCertificate> getTrustedCertificate(final String tenantId, final String fingerprint) {
-		return adapt().path("tenant").path("tenants").path(valueOf(tenantId)).path("trusted-certificates").path(valueOf(fingerprint))
+		return adapt("getTrustedCertificate").path("tenant").path("tenants").path(valueOf(tenantId)).path("trusted-certificates").path(valueOf(fingerprint))
 			.request()
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/json")
 			.rx()
@@ -205,23 +192,13 @@ public class TrustedCertificatesApi extends AdaptableApi {
 	 * <p>Unique identifier of a trusted certificate.</p>
 	 */
 	public CompletionStage<TrustedCertificate> updateTrustedCertificate(final TrustedCertificate body, final String tenantId, final String fingerprint) {
-		final JsonNode jsonNode = toJsonNode(body);
-		removeFromNode(jsonNode, "notAfter");
-		removeFromNode(jsonNode, "serialNumber");
-		removeFromNode(jsonNode, "subject");
-		removeFromNode(jsonNode, "fingerprint");
-		removeFromNode(jsonNode, "self");
-		removeFromNode(jsonNode, "certInPemFormat");
-		removeFromNode(jsonNode, "algorithmName");
-		removeFromNode(jsonNode, "version");
-		removeFromNode(jsonNode, "issuer");
-		removeFromNode(jsonNode, "notBefore");
-		return adapt().path("tenant").path("tenants").path(valueOf(tenantId)).path("trusted-certificates").path(valueOf(fingerprint))
+		final StreamingOutput jsonBody = toJsonBody(body, "notAfter", "serialNumber", "subject", "fingerprint", "self", "certInPemFormat", "algorithmName", "version", "issuer", "notBefore");
+		return adapt("updateTrustedCertificate").path("tenant").path("tenants").path(valueOf(tenantId)).path("trusted-certificates").path(valueOf(fingerprint))
 			.request()
 			.header("Content-Type", "application/json")
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/json")
 			.rx()
-			.method("PUT", Entity.json(jsonNode), TrustedCertificate.class);
+			.method("PUT", Entity.json(jsonBody), TrustedCertificate.class);
 	}
 	
 	/**
@@ -247,7 +224,7 @@ public class TrustedCertificatesApi extends AdaptableApi {
 	 * <p>Unique identifier of a trusted certificate.</p>
 	 */
 	public CompletionStage<Response> removeTrustedCertificate(final String tenantId, final String fingerprint) {
-		return adapt().path("tenant").path("tenants").path(valueOf(tenantId)).path("trusted-certificates").path(valueOf(fingerprint))
+		return adapt("removeTrustedCertificate").path("tenant").path("tenants").path(valueOf(tenantId)).path("trusted-certificates").path(valueOf(fingerprint))
 			.request()
 			.header("Accept", "application/json")
 			.rx()
@@ -282,13 +259,13 @@ public class TrustedCertificatesApi extends AdaptableApi {
 	 * <p>Unique identifier of a trusted certificate.</p>
 	 */
 	public CompletionStage<TrustedCertificate> proveCertificatePossession(final UploadedTrustedCertSignedVerificationCode body, final String tenantId, final String fingerprint) {
-		final JsonNode jsonNode = toJsonNode(body);
-		return adapt().path("tenant").path("tenants").path(valueOf(tenantId)).path("trusted-certificates-pop").path(valueOf(fingerprint)).path("pop")
+		final StreamingOutput jsonBody = toJsonBody(body);
+		return adapt("proveCertificatePossession").path("tenant").path("tenants").path(valueOf(tenantId)).path("trusted-certificates-pop").path(valueOf(fingerprint)).path("pop")
 			.request()
 			.header("Content-Type", "application/json")
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/json")
 			.rx()
-			.method("POST", Entity.json(jsonNode), TrustedCertificate.class);
+			.method("POST", Entity.json(jsonBody), TrustedCertificate.class);
 	}
 	
 	/**
@@ -316,7 +293,7 @@ public class TrustedCertificatesApi extends AdaptableApi {
 	 * <p>Unique identifier of a trusted certificate.</p>
 	 */
 	public CompletionStage<TrustedCertificate> confirmCertificate(final String tenantId, final String fingerprint) {
-		return adapt().path("tenant").path("tenants").path(valueOf(tenantId)).path("trusted-certificates-pop").path(valueOf(fingerprint)).path("confirmed")
+		return adapt("confirmCertificate").path("tenant").path("tenants").path(valueOf(tenantId)).path("trusted-certificates-pop").path(valueOf(fingerprint)).path("confirmed")
 			.request()
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/json")
 			.rx()
@@ -346,7 +323,7 @@ public class TrustedCertificatesApi extends AdaptableApi {
 	 * <p>Unique identifier of a trusted certificate.</p>
 	 */
 	public CompletionStage<TrustedCertificate> generateVerificationCode(final String tenantId, final String fingerprint) {
-		return adapt().path("tenant").path("tenants").path(valueOf(tenantId)).path("trusted-certificates-pop").path(valueOf(fingerprint)).path("verification-code")
+		return adapt("generateVerificationCode").path("tenant").path("tenants").path(valueOf(tenantId)).path("trusted-certificates-pop").path(valueOf(fingerprint)).path("verification-code")
 			.request()
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/json")
 			.rx()
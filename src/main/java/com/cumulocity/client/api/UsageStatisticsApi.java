@@ -4,9 +4,9 @@
 package com.cumulocity.client.api;
 
 import java.util.concurrent.CompletionStage;
-import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.StreamingOutput;
 import jakarta.ws.rs.core.Response;
 import com.cumulocity.client.supplementary.AdaptableApi;
 import com.cumulocity.client.model.RangeStatisticsFile;
@@ -106,7 +106,7 @@ public class UsageStatisticsApi extends AdaptableApi {
 	 * <p>When set to <code>true</code>, the returned result will contain in the statistics object the total number of pages. Only applicable on <a href="https://en.wikipedia.org/wiki/Range_query_(database)">range queries</a>.</p>
 	 */
 	public CompletionStage<TenantUsageStatisticsCollection> getTenantUsageStatisticsCollectionResource(final int currentPage, final String dateFrom, final String dateTo, final int pageSize, final boolean withTotalElements, final boolean withTotalPages) {
-		return adapt().path("tenant").path("statistics")
+		return adapt("getTenantUsageStatisticsCollectionResource").path("tenant").path("statistics")
 			.queryParam("currentPage", currentPage)
 			.queryParam("dateFrom", dateFrom)
 			.queryParam("dateTo", dateTo)
@@ -144,7 +144,7 @@ public class UsageStatisticsApi extends AdaptableApi {
 	 * <p>Unique identifier of a Cumulocity IoT tenant.</p>
 	 */
 	public CompletionStage<SummaryTenantUsageStatistics> getTenantUsageStatistics(final String dateFrom, final String dateTo, final String tenant) {
-		return adapt().path("tenant").path("statistics").path("summary")
+		return adapt("getTenantUsageStatistics").path("tenant").path("statistics").path("summary")
 			.queryParam("dateFrom", dateFrom)
 			.queryParam("dateTo", dateTo)
 			.queryParam("tenant", tenant)
@@ -175,7 +175,7 @@ public class UsageStatisticsApi extends AdaptableApi {
 	 * <p>End date or date and time of the statistics.</p>
 	 */
 	public CompletionStage<SummaryAllTenantsUsageStatistics[]> getTenantsUsageStatistics(final String dateFrom, final String dateTo) {
-		return adapt().path("tenant").path("statistics").path("allTenantsSummary")
+		return adapt("getTenantsUsageStatistics").path("tenant").path("statistics").path("allTenantsSummary")
 			.queryParam("dateFrom", dateFrom)
 			.queryParam("dateTo", dateTo)
 			.request()
@@ -211,7 +211,7 @@ public class UsageStatisticsApi extends AdaptableApi {
 	 * <p>When set to <code>true</code>, the returned result will contain in the statistics object the total number of pages. Only applicable on <a href="https://en.wikipedia.org/wiki/Range_query_(database)">range queries</a>.</p>
 	 */
 	public CompletionStage<TenantUsageStatisticsFileCollection> getMetadata(final int currentPage, final String dateFrom, final String dateTo, final int pageSize, final boolean withTotalPages) {
-		return adapt().path("tenant").path("statistics").path("files")
+		return adapt("getMetadata").path("tenant").path("statistics").path("files")
 			.queryParam("currentPage", currentPage)
 			.queryParam("dateFrom", dateFrom)
 			.queryParam("dateTo", dateTo)
@@ -250,13 +250,13 @@ public class UsageStatisticsApi extends AdaptableApi {
 	 * @param body
 	 */
 	public CompletionStage<StatisticsFile> generateStatisticsFile(final RangeStatisticsFile body) {
-		final JsonNode jsonNode = toJsonNode(body);
-		return adapt().path("tenant").path("statistics").path("files")
+		final StreamingOutput jsonBody = toJsonBody(body);
+		return adapt("generateStatisticsFile").path("tenant").path("statistics").path("files")
 			.request()
 			.header("Content-Type", "application/vnd.com.nsn.cumulocity.tenantstatisticsdate+json")
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.tenantstatisticsfile+json")
 			.rx()
-			.method("POST", Entity.json(jsonNode), StatisticsFile.class);
+			.method("POST", Entity.json(jsonBody), StatisticsFile.class);
 	}
 	
 	/**
@@ -280,7 +280,7 @@ public class UsageStatisticsApi extends AdaptableApi {
 	 * <p>Unique identifier of the statistics file.</p>
 	 */
 	public CompletionStage<Response> getStatisticsFile(final String id) {
-		return adapt().path("tenant").path("statistics").path("files").path(valueOf(id))
+		return adapt("getStatisticsFile").path("tenant").path("statistics").path("files").path(valueOf(id))
 			.request()
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/octet-stream")
 			.rx()
@@ -313,7 +313,7 @@ public class UsageStatisticsApi extends AdaptableApi {
 	 * <p>Date (format YYYY-MM-dd) specifying the month for which the statistics file will be downloaded (the day value is ignored).</p>
 	 */
 	public CompletionStage<Response> getLatestStatisticsFile(final String month) {
-		return adapt().path("tenant").path("statistics").path("files").path("latest").path(valueOf(month))
+		return adapt("getLatestStatisticsFile").path("tenant").path("statistics").path("files").path("latest").path(valueOf(month))
 			.request()
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/octet-stream")
 			.rx()
@@ -4,9 +4,9 @@
 package com.cumulocity.client.api;
 
 import java.util.concurrent.CompletionStage;
-import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.StreamingOutput;
 import jakarta.ws.rs.core.Response;
 import com.cumulocity.client.supplementary.AdaptableApi;
 import com.cumulocity.client.model.User;
@@ -69,7 +69,7 @@ public class UsersApi extends AdaptableApi {
 	 * <p>When set to <code>true</code>, the returned result will contain in the statistics object the total number of pages. Only applicable on <a href="https://en.wikipedia.org/wiki/Range_query_(database)">range queries</a>.</p>
 	 */
 	public CompletionStage<UserCollection> getUsers(final String tenantId, final int currentPage, final String[] groups, final boolean onlyDevices, final String owner, final int pageSize, final String username, final boolean withSubusersCount, final boolean withTotalElements, final boolean withTotalPages) {
-		return adapt().path("user").path(valueOf(tenantId)).path("users")
+		return adapt("getUsers").path("user").path(valueOf(tenantId)).path("users")
 			.queryParam("currentPage", currentPage)
 			.queryParam("groups", groups, false)
 			.queryParam("onlyDevices", onlyDevices)
@@ -111,24 +111,13 @@ public class UsersApi extends AdaptableApi {
 	 * <p>Unique identifier of a Cumulocity IoT tenant.</p>
 	 */
 	public CompletionStage<User> createUser(final User body, final String tenantId) {
-		final JsonNode jsonNode = toJsonNode(body);
-		removeFromNode(jsonNode, "owner");
-		removeFromNode(jsonNode, "passwordStrength");
-		removeFromNode(jsonNode, "roles");
-		removeFromNode(jsonNode, "groups");
-		removeFromNode(jsonNode, "self");
-		removeFromNode(jsonNode, "shouldResetPassword");
-		removeFromNode(jsonNode, "id");
-		removeFromNode(jsonNode, "lastPasswordChange");
-		removeFromNode(jsonNode, "twoFactorAuthenticationEnabled");
-		removeFromNode(jsonNode, "devicePermissions");
-		removeFromNode(jsonNode, "applications");
-		return adapt().path("user").path(valueOf(tenantId)).path("users")
+		final StreamingOutput jsonBody = toJsonBody(body, "owner", "passwordStrength", "roles", "groups", "self", "shouldResetPassword", "id", "lastPasswordChange", "twoFactorAuthenticationEnabled", "devicePermissions", "applications");
+		return adapt("createUser").path("user").path(valueOf(tenantId)).path("users")
 			.request()
 			.header("Content-Type", "application/vnd.com.nsn.cumulocity.user+json")
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.user+json")
 			.rx()
-			.method("POST", Entity.json(jsonNode), User.class);
+			.method("POST", Entity.json(jsonBody), User.class);
 	}
 	
 	/**
@@ -157,7 +146,7 @@ public class UsersApi extends AdaptableApi {
 	 * <p>Unique identifier of the a user.</p>
 	 */
 	public CompletionStage<User> getUser(final String tenantId, final String userId) {
-		return adapt().path("user").path(valueOf(tenantId)).path("users").path(valueOf(userId))
+		return adapt("getUser").path("user").path(valueOf(tenantId)).path("users").path(valueOf(userId))
 			.request()
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.user+json")
 			.rx()
@@ -196,25 +185,13 @@ public class UsersApi extends AdaptableApi {
 	 * <p>Unique identifier of the a user.</p>
 	 */
 	public CompletionStage<User> updateUser(final User body, final String tenantId, final String userId) {
-		final JsonNode jsonNode = toJsonNode(body);
-		removeFromNode(jsonNode, "owner");
-		removeFromNode(jsonNode, "passwordStrength");
-		removeFromNode(jsonNode, "roles");
-		removeFromNode(jsonNode, "groups");
-		removeFromNode(jsonNode, "self");
-		removeFromNode(jsonNode, "shouldResetPassword");
-		removeFromNode(jsonNode, "id");
-		removeFromNode(jsonNode, "lastPasswordChange");
-		removeFromNode(jsonNode, "userName");
-		removeFromNode(jsonNode, "twoFactorAuthenticationEnabled");
-		removeFromNode(jsonNode, "devicePermissions");
-		removeFromNode(jsonNode, "applications");
-		return adapt().path("user").path(valueOf(tenantId)).path("users").path(valueOf(userId))
+		final StreamingOutput jsonBody = toJsonBody(body, "owner", "passwordStrength", "roles", "groups", "self", "shouldResetPassword", "id", "lastPasswordChange", "userName", "twoFactorAuthenticationEnabled", "devicePermissions", "applications");
+		return adapt("updateUser").path("user").path(valueOf(tenantId)).path("users").path(valueOf(userId))
 			.request()
 			.header("Content-Type", "application/vnd.com.nsn.cumulocity.user+json")
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.user+json")
 			.rx()
-			.method("PUT", Entity.json(jsonNode), User.class);
+			.method("PUT", Entity.json(jsonBody), User.class);
 	}
 	
 	/**
@@ -242,7 +219,7 @@ public class UsersApi extends AdaptableApi {
 	 * <p>Unique identifier of the a user.</p>
 	 */
 	public CompletionStage<Response> deleteUser(final String tenantId, final String userId) {
-		return adapt().path("user").path(valueOf(tenantId)).path("users").path(valueOf(userId))
+		return adapt("deleteUser").path("user").path(valueOf(tenantId)).path("users").path(valueOf(userId))
 			.request()
 			.header("Accept", "application/json")
 			.rx()
@@ -281,13 +258,13 @@ public class UsersApi extends AdaptableApi {
 	 * <p>Unique identifier of the a user.</p>
 	 */
 	public CompletionStage<Response> updateUserPassword(final PasswordChange body, final String tenantId, final String userId) {
-		final JsonNode jsonNode = toJsonNode(body);
-		return adapt().path("user").path(valueOf(tenantId)).path("users").path(valueOf(userId)).path("password")
+		final StreamingOutput jsonBody = toJsonBody(body);
+		return adapt("updateUserPassword").path("user").path(valueOf(tenantId)).path("users").path(valueOf(userId)).path("password")
 			.request()
 			.header("Content-Type", "application/json")
 			.header("Accept", "application/json")
 			.rx()
-			.method("PUT", Entity.json(jsonNode));
+			.method("PUT", Entity.json(jsonBody));
 	}
 	
 	/**
@@ -315,7 +292,7 @@ public class UsersApi extends AdaptableApi {
 	 * <p>Unique identifier of the a user.</p>
 	 */
 	public CompletionStage<UserTfaData> getUserTfaSettings(final String tenantId, final String userId) {
-		return adapt().path("user").path(valueOf(tenantId)).path("users").path(valueOf(userId)).path("tfa")
+		return adapt("getUserTfaSettings").path("user").path(valueOf(tenantId)).path("users").path(valueOf(userId)).path("tfa")
 			.request()
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/json")
 			.rx()
@@ -347,7 +324,7 @@ public class UsersApi extends AdaptableApi {
 	 * <p>The username of the a user.</p>
 	 */
 	public CompletionStage<User> getUserByUsername(final String tenantId, final String username) {
-		return adapt().path("user").path(valueOf(tenantId)).path("userByName").path(valueOf(username))
+		return adapt("getUserByUsername").path("user").path(valueOf(tenantId)).path("userByName").path(valueOf(username))
 			.request()
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.user+json")
 			.rx()
@@ -385,7 +362,7 @@ public class UsersApi extends AdaptableApi {
 	 * <p>When set to <code>true</code>, the returned result will contain in the statistics object the total number of elements. Only applicable on <a href="https://en.wikipedia.org/wiki/Range_query_(database)">range queries</a>.</p>
 	 */
 	public CompletionStage<UserReferenceCollection> getUsersFromUserGroup(final String tenantId, final int groupId, final int currentPage, final int pageSize, final boolean withTotalElements) {
-		return adapt().path("user").path(valueOf(tenantId)).path("groups").path(valueOf(groupId)).path("users")
+		return adapt("getUsersFromUserGroup").path("user").path(valueOf(tenantId)).path("groups").path(valueOf(groupId)).path("users")
 			.queryParam("currentPage", currentPage)
 			.queryParam("pageSize", pageSize)
 			.queryParam("withTotalElements", withTotalElements)
@@ -425,13 +402,13 @@ public class UsersApi extends AdaptableApi {
 	 * <p>Unique identifier of the user group.</p>
 	 */
 	public CompletionStage<UserReference> assignUserToUserGroup(final SubscribedUser body, final String tenantId, final int groupId) {
-		final JsonNode jsonNode = toJsonNode(body);
-		return adapt().path("user").path(valueOf(tenantId)).path("groups").path(valueOf(groupId)).path("users")
+		final StreamingOutput jsonBody = toJsonBody(body);
+		return adapt("assignUserToUserGroup").path("user").path(valueOf(tenantId)).path("groups").path(valueOf(groupId)).path("users")
 			.request()
 			.header("Content-Type", "application/vnd.com.nsn.cumulocity.userreference+json")
 			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/vnd.com.nsn.cumulocity.userreference+json")
 			.rx()
-			.method("POST", Entity.json(jsonNode), UserReference.class);
+			.method("POST", Entity.json(jsonBody), UserReference.class);
 	}
 	
 	/**
@@ -461,7 +438,7 @@ public class UsersApi extends AdaptableApi {
 	 * <p>Unique identifier of the a user.</p>
 	 */
 	public CompletionStage<Response> removeUserFromUserGroup(final String tenantId, final int groupId, final String userId) {
-		return adapt().path("user").path(valueOf(tenantId)).path("groups").path(valueOf(groupId)).path("users").path(valueOf(userId))
+		return adapt("removeUserFromUserGroup").path("user").path(valueOf(tenantId)).path("groups").path(valueOf(groupId)).path("users").path(valueOf(userId))
 			.request()
 			.header("Accept", "application/json")
 			.rx()
@@ -487,7 +464,7 @@ public class UsersApi extends AdaptableApi {
 	 * <p>Prevents XRSF attack of the authenticated user. This parameter is specific to OAI-Secure authentication.</p>
 	 */
 	public CompletionStage<Response> logout(final String cookie, final String xXSRFTOKEN) {
-		return adapt().path("user").path("logout")
+		return adapt("logout").path("user").path("logout")
 			.request()
 			.header("Cookie", cookie)
 			.header("X-XSRF-TOKEN", xXSRFTOKEN)
@@ -8,7 +8,7 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.cumulocity.client.supplementary.JsonCodec;
 
 /**
  * <p>OAI-Secure access token.</p>
@@ -34,7 +34,7 @@ public class AccessToken {
 	@Override
 	public String toString() {
 		try {
-			return new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(this);
+			return JsonCodec.getDefault().prettyWriter().writeValueAsString(this);
 		} catch (final JsonProcessingException e) {
 		}
 		return super.toString();
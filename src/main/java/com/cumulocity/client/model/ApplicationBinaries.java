@@ -7,7 +7,7 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.cumulocity.client.supplementary.JsonCodec;
 
 @JsonIgnoreProperties(ignoreUnknown = true)
 @JsonInclude(Include.NON_NULL)
@@ -124,7 +124,7 @@ public class ApplicationBinaries {
 		@Override
 		public String toString() {
 			try {
-				return new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(this);
+				return JsonCodec.getDefault().prettyWriter().writeValueAsString(this);
 			} catch (final JsonProcessingException e) {
 			}
 			return super.toString();
@@ -145,7 +145,7 @@ public class ApplicationBinaries {
 	@Override
 	public String toString() {
 		try {
-			return new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(this);
+			return JsonCodec.getDefault().prettyWriter().writeValueAsString(this);
 		} catch (final JsonProcessingException e) {
 		}
 		return super.toString();
@@ -7,7 +7,7 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.cumulocity.client.supplementary.JsonCodec;
 
 /**
  * <p>Reference to the tenant owning this application. The default value is a reference to the current tenant.</p>
@@ -59,7 +59,7 @@ public class ApplicationOwner {
 		@Override
 		public String toString() {
 			try {
-				return new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(this);
+				return JsonCodec.getDefault().prettyWriter().writeValueAsString(this);
 			} catch (final JsonProcessingException e) {
 			}
 			return super.toString();
@@ -80,7 +80,7 @@ public class ApplicationOwner {
 	@Override
 	public String toString() {
 		try {
-			return new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(this);
+			return JsonCodec.getDefault().prettyWriter().writeValueAsString(this);
 		} catch (final JsonProcessingException e) {
 		}
 		return super.toString();
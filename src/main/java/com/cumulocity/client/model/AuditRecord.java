@@ -4,22 +4,22 @@
 package com.cumulocity.client.model;
 
 import java.util.Map;
-import java.util.HashMap;
 import java.io.IOException;
-import java.lang.reflect.Field;
 
 import com.fasterxml.jackson.annotation.JsonAnyGetter;			
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.cumulocity.client.supplementary.FragmentRegistry;
+import com.cumulocity.client.supplementary.LazyFragmentMap;
+import com.cumulocity.client.supplementary.JsonCodec;
 
 @JsonIgnoreProperties(ignoreUnknown = true)
 @JsonInclude(Include.NON_NULL)
@@ -213,6 +213,7 @@ public class AuditRecord {
 	}
 
 	@JsonAnyGetter
+	@JsonSerialize(using = LazyFragmentMap.FieldSerializer.class)
 	public Map<String, Object> getCustomProperties() {
 		return customProperties;
 	}
@@ -354,7 +355,7 @@ public class AuditRecord {
 		@Override
 		public String toString() {
 			try {
-				return new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(this);
+				return JsonCodec.getDefault().prettyWriter().writeValueAsString(this);
 			} catch (final JsonProcessingException e) {
 			}
 			return super.toString();
@@ -466,7 +467,7 @@ public class AuditRecord {
 		@Override
 		public String toString() {
 			try {
-				return new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(this);
+				return JsonCodec.getDefault().prettyWriter().writeValueAsString(this);
 			} catch (final JsonProcessingException e) {
 			}
 			return super.toString();
@@ -528,7 +529,7 @@ public class AuditRecord {
 		@Override
 		public String toString() {
 			try {
-				return new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(this);
+				return JsonCodec.getDefault().prettyWriter().writeValueAsString(this);
 			} catch (final JsonProcessingException e) {
 			}
 			return super.toString();
@@ -553,47 +554,79 @@ public class AuditRecord {
 		public AuditRecord deserialize(final JsonParser p, final DeserializationContext ctxt)
 				throws IOException, JsonProcessingException {
 			final AuditRecord auditRecord = new AuditRecord();
-			final Map<String, Object> additionalObjects = new HashMap<>();
+			final Map<String, Object> additionalObjects = Serialization.additionalPropertyClasses.newFragmentMap();
 			auditRecord.setCustomProperties(additionalObjects);
-			final JsonNode jsonNode = p.readValueAsTree();
-			jsonNode.fields().forEachRemaining(entry -> {
-				try {
-					final Field field = auditRecord.getClass().getDeclaredField(entry.getKey());
-					field.setAccessible(true);
-					final ObjectMapper objectMapper = new ObjectMapper();
-					final Object value = objectMapper.readValue(entry.getValue().traverse(), field.getType());
-					field.set(auditRecord, value);
-				} catch (final NoSuchFieldException nse) {
-					if (Serialization.additionalPropertyClasses.containsKey(entry.getKey())) {
-						final ObjectMapper objectMapper = new ObjectMapper();
-						try {
-							final Object value = objectMapper.readValue(entry.getValue().traverse(), Serialization.additionalPropertyClasses.get(entry.getKey()));
-							additionalObjects.put(entry.getKey(), value);
-						} catch (final Exception e) {
-							e.printStackTrace();
-						}
-					}
-				} catch (final IOException | IllegalArgumentException | IllegalAccessException e) {
-					e.printStackTrace();
+			for (String name = Deserializers.firstFieldName(p); name != null; name = p.nextFieldName()) {
+				p.nextToken();
+				switch (name) {
+					case "activity":
+						auditRecord.setActivity(Deserializers.readValue(p, ctxt, String.class));
+						break;
+					case "application":
+						auditRecord.setApplication(Deserializers.readValue(p, ctxt, String.class));
+						break;
+					case "c8y_Metadata":
+						auditRecord.setC8yMetadata(Deserializers.readValue(p, ctxt, C8yMetadata.class));
+						break;
+					case "changes":
+						auditRecord.setChanges(Deserializers.readValue(p, ctxt, Changes[].class));
+						break;
+					case "creationTime":
+						auditRecord.setCreationTime(Deserializers.readValue(p, ctxt, String.class));
+						break;
+					case "id":
+						auditRecord.setId(Deserializers.readValue(p, ctxt, String.class));
+						break;
+					case "self":
+						auditRecord.setSelf(Deserializers.readValue(p, ctxt, String.class));
+						break;
+					case "severity":
+						auditRecord.setSeverity(Deserializers.readValue(p, ctxt, Severity.class));
+						break;
+					case "source":
+						auditRecord.setSource(Deserializers.readValue(p, ctxt, Source.class));
+						break;
+					case "text":
+						auditRecord.setText(Deserializers.readValue(p, ctxt, String.class));
+						break;
+					case "time":
+						auditRecord.setTime(Deserializers.readValue(p, ctxt, String.class));
+						break;
+					case "type":
+						auditRecord.setType(Deserializers.readValue(p, ctxt, Type.class));
+						break;
+					case "user":
+						auditRecord.setUser(Deserializers.readValue(p, ctxt, String.class));
+						break;
+					default:
+						Serialization.additionalPropertyClasses.read(name, p, ctxt, additionalObjects);
 				}
-			});
+			}
 			return auditRecord;
 		}
 	}
 
 	public static class Serialization {
 
-		private static Map<String, Class<?>> additionalPropertyClasses = new HashMap<String, Class<?>>();
+		private static final FragmentRegistry additionalPropertyClasses = new FragmentRegistry();
 
 		public static void registerAdditionalProperty(final String typeName, final Class<?> type) {
-			additionalPropertyClasses.put(typeName, type);
+			additionalPropertyClasses.register(typeName, type);
+		}
+
+		/**
+		 * Enables or disables lazy decoding of custom fragments. If enabled, custom fragments are retained undecoded and
+		 * decoded on first access, fragments without registration are kept instead of being dropped.
+		 */
+		public static void setLazyDecoding(final boolean lazyDecoding) {
+			additionalPropertyClasses.setLazyDecoding(lazyDecoding);
 		}
 	}
 
 	@Override
 	public String toString() {
 		try {
-			return new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(this);
+			return JsonCodec.getDefault().prettyWriter().writeValueAsString(this);
 		} catch (final JsonProcessingException e) {
 		}
 		return super.toString();
@@ -8,7 +8,7 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.cumulocity.client.supplementary.JsonCodec;
 
 /**
  * <p>Parameters determining the authentication process.</p>
@@ -452,7 +452,7 @@ public class AuthConfig {
 		@Override
 		public String toString() {
 			try {
-				return new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(this);
+				return JsonCodec.getDefault().prettyWriter().writeValueAsString(this);
 			} catch (final JsonProcessingException e) {
 			}
 			return super.toString();
@@ -547,7 +547,7 @@ public class AuthConfig {
 				@Override
 				public String toString() {
 					try {
-						return new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(this);
+						return JsonCodec.getDefault().prettyWriter().writeValueAsString(this);
 					} catch (final JsonProcessingException e) {
 					}
 					return super.toString();
@@ -614,7 +614,7 @@ public class AuthConfig {
 				@Override
 				public String toString() {
 					try {
-						return new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(this);
+						return JsonCodec.getDefault().prettyWriter().writeValueAsString(this);
 					} catch (final JsonProcessingException e) {
 					}
 					return super.toString();
@@ -635,7 +635,7 @@ public class AuthConfig {
 			@Override
 			public String toString() {
 				try {
-					return new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(this);
+					return JsonCodec.getDefault().prettyWriter().writeValueAsString(this);
 				} catch (final JsonProcessingException e) {
 				}
 				return super.toString();
@@ -656,7 +656,7 @@ public class AuthConfig {
 		@Override
 		public String toString() {
 			try {
-				return new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(this);
+				return JsonCodec.getDefault().prettyWriter().writeValueAsString(this);
 			} catch (final JsonProcessingException e) {
 			}
 			return super.toString();
@@ -756,7 +756,7 @@ public class AuthConfig {
 			@Override
 			public String toString() {
 				try {
-					return new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(this);
+					return JsonCodec.getDefault().prettyWriter().writeValueAsString(this);
 				} catch (final JsonProcessingException e) {
 				}
 				return super.toString();
@@ -797,7 +797,7 @@ public class AuthConfig {
 			@Override
 			public String toString() {
 				try {
-					return new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(this);
+					return JsonCodec.getDefault().prettyWriter().writeValueAsString(this);
 				} catch (final JsonProcessingException e) {
 				}
 				return super.toString();
@@ -838,7 +838,7 @@ public class AuthConfig {
 			@Override
 			public String toString() {
 				try {
-					return new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(this);
+					return JsonCodec.getDefault().prettyWriter().writeValueAsString(this);
 				} catch (final JsonProcessingException e) {
 				}
 				return super.toString();
@@ -986,7 +986,7 @@ public class AuthConfig {
 				@Override
 				public String toString() {
 					try {
-						return new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(this);
+						return JsonCodec.getDefault().prettyWriter().writeValueAsString(this);
 					} catch (final JsonProcessingException e) {
 					}
 					return super.toString();
@@ -1007,7 +1007,7 @@ public class AuthConfig {
 			@Override
 			public String toString() {
 				try {
-					return new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(this);
+					return JsonCodec.getDefault().prettyWriter().writeValueAsString(this);
 				} catch (final JsonProcessingException e) {
 				}
 				return super.toString();
@@ -1028,7 +1028,7 @@ public class AuthConfig {
 		@Override
 		public String toString() {
 			try {
-				return new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(this);
+				return JsonCodec.getDefault().prettyWriter().writeValueAsString(this);
 			} catch (final JsonProcessingException e) {
 			}
 			return super.toString();
@@ -1096,7 +1096,7 @@ public class AuthConfig {
 		@Override
 		public String toString() {
 			try {
-				return new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(this);
+				return JsonCodec.getDefault().prettyWriter().writeValueAsString(this);
 			} catch (final JsonProcessingException e) {
 			}
 			return super.toString();
@@ -1118,7 +1118,7 @@ public class AuthConfig {
 	@Override
 	public String toString() {
 		try {
-			return new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(this);
+			return JsonCodec.getDefault().prettyWriter().writeValueAsString(this);
 		} catch (final JsonProcessingException e) {
 		}
 		return super.toString();
@@ -7,7 +7,7 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.cumulocity.client.supplementary.JsonCodec;
 
 /**
  * <p>To carry out interactive sessions with a device, use the <code>c8y_Command</code> fragment. If this fragment is in the list of supported operations for a device, a tab <code>Shell</code> will be shown. Using the <code>Shell</code> tab, the user can send commands in an arbitrary, device-specific syntax to the device. The command is sent to the device in a property <code>text</code>.</p>
@@ -45,7 +45,7 @@ public class C8yCommand {
 	@Override
 	public String toString() {
 		try {
-			return new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(this);
+			return JsonCodec.getDefault().prettyWriter().writeValueAsString(this);
 		} catch (final JsonProcessingException e) {
 		}
 		return super.toString();
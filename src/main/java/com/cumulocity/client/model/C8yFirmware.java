@@ -7,7 +7,7 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.cumulocity.client.supplementary.JsonCodec;
 
 /**
  * <p>Contains information on a device's firmware. In the inventory, <code>c8y_Firmware</code> represents the currently installed firmware on the device. As part of an operation, <code>c8y_Firmware</code> requests the device to install the indicated firmware. To enable firmware installation through the user interface, add <code>c8y_Firmware</code> to the list of supported operations.</p>
@@ -58,7 +58,7 @@ public class C8yFirmware {
 	@Override
 	public String toString() {
 		try {
-			return new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(this);
+			return JsonCodec.getDefault().prettyWriter().writeValueAsString(this);
 		} catch (final JsonProcessingException e) {
 		}
 		return super.toString();
@@ -4,21 +4,21 @@
 package com.cumulocity.client.model;
 
 import java.util.Map;
-import java.util.HashMap;
 import java.io.IOException;
-import java.lang.reflect.Field;
 
 import com.fasterxml.jackson.annotation.JsonAnyGetter;			
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.cumulocity.client.supplementary.FragmentRegistry;
+import com.cumulocity.client.supplementary.LazyFragmentMap;
+import com.cumulocity.client.supplementary.JsonCodec;
 
 @JsonIgnoreProperties(ignoreUnknown = true)
 @JsonInclude(Include.NON_NULL)
@@ -31,6 +31,7 @@ public class CategoryOptions {
 	private Map<String, Object> keyValuePairs;
 
 	@JsonAnyGetter
+	@JsonSerialize(using = LazyFragmentMap.FieldSerializer.class)
 	public Map<String, Object> getKeyValuePairs() {
 		return keyValuePairs;
 	}
@@ -45,47 +46,37 @@ public class CategoryOptions {
 		public CategoryOptions deserialize(final JsonParser p, final DeserializationContext ctxt)
 				throws IOException, JsonProcessingException {
 			final CategoryOptions categoryOptions = new CategoryOptions();
-			final Map<String, Object> additionalObjects = new HashMap<>();
+			final Map<String, Object> additionalObjects = Serialization.additionalPropertyClasses.newFragmentMap();
 			categoryOptions.setKeyValuePairs(additionalObjects);
-			final JsonNode jsonNode = p.readValueAsTree();
-			jsonNode.fields().forEachRemaining(entry -> {
-				try {
-					final Field field = categoryOptions.getClass().getDeclaredField(entry.getKey());
-					field.setAccessible(true);
-					final ObjectMapper objectMapper = new ObjectMapper();
-					final Object value = objectMapper.readValue(entry.getValue().traverse(), field.getType());
-					field.set(categoryOptions, value);
-				} catch (final NoSuchFieldException nse) {
-					if (Serialization.additionalPropertyClasses.containsKey(entry.getKey())) {
-						final ObjectMapper objectMapper = new ObjectMapper();
-						try {
-							final Object value = objectMapper.readValue(entry.getValue().traverse(), Serialization.additionalPropertyClasses.get(entry.getKey()));
-							additionalObjects.put(entry.getKey(), value);
-						} catch (final Exception e) {
-							e.printStackTrace();
-						}
-					}
-				} catch (final IOException | IllegalArgumentException | IllegalAccessException e) {
-					e.printStackTrace();
-				}
-			});
+			for (String name = Deserializers.firstFieldName(p); name != null; name = p.nextFieldName()) {
+				p.nextToken();
+				Serialization.additionalPropertyClasses.read(name, p, ctxt, additionalObjects);
+			}
 			return categoryOptions;
 		}
 	}
 
 	public static class Serialization {
 
-		private static Map<String, Class<?>> additionalPropertyClasses = new HashMap<String, Class<?>>();
+		private static final FragmentRegistry additionalPropertyClasses = new FragmentRegistry();
 
 		public static void registerAdditionalProperty(final String typeName, final Class<?> type) {
-			additionalPropertyClasses.put(typeName, type);
+			additionalPropertyClasses.register(typeName, type);
+		}
+
+		/**
+		 * Enables or disables lazy decoding of custom fragments. If enabled, custom fragments are retained undecoded and
+		 * decoded on first access, fragments without registration are kept instead of being dropped.
+		 */
+		public static void setLazyDecoding(final boolean lazyDecoding) {
+			additionalPropertyClasses.setLazyDecoding(lazyDecoding);
 		}
 	}
 
 	@Override
 	public String toString() {
 		try {
-			return new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(this);
+			return JsonCodec.getDefault().prettyWriter().writeValueAsString(this);
 		} catch (final JsonProcessingException e) {
 		}
 		return super.toString();
@@ -0,0 +1,65 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.model;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
+
+import com.cumulocity.client.supplementary.MalformedValues;
+
+/**
+ * <p>Shared parsing steps of the streaming deserializers of the extensible models.</p>
+ * <p>A property which cannot be decoded into its type is logged and dropped by {@link MalformedValues}, like before the
+ * models were decoded in a single pass.</p>
+ */
+final class Deserializers {
+
+	private Deserializers() {
+	}
+
+	/**
+	 * Returns the name of the first property of the object the parser is positioned at, or <code>null</code> if the
+	 * object is empty.
+	 */
+	static String firstFieldName(final JsonParser p) throws IOException {
+		return p.isExpectedStartObjectToken() ? p.nextFieldName() : p.currentName();
+	}
+
+	/**
+	 * Reads the value the parser is positioned at, using the deserializers cached by the calling context.
+	 *
+	 * @return the value or <code>null</code>, if the value cannot be decoded into <code>type</code>
+	 */
+	static <T> T readValue(final JsonParser p, final DeserializationContext ctxt, final Class<T> type) throws IOException {
+		if (p.currentToken() == JsonToken.VALUE_NULL) {
+			return null;
+		}
+		final JsonStreamContext enclosing = MalformedValues.enclosingContext(p);
+		try {
+			return ctxt.readValue(p, type);
+		} catch (final JsonMappingException | IllegalArgumentException e) {
+			MalformedValues.skip(p, enclosing, type, e);
+			return null;
+		}
+	}
+
+	static <T> T readValue(final JsonParser p, final DeserializationContext ctxt, final JavaType type) throws IOException {
+		if (p.currentToken() == JsonToken.VALUE_NULL) {
+			return null;
+		}
+		final JsonStreamContext enclosing = MalformedValues.enclosingContext(p);
+		try {
+			return ctxt.readValue(p, type);
+		} catch (final JsonMappingException | IllegalArgumentException e) {
+			MalformedValues.skip(p, enclosing, type, e);
+			return null;
+		}
+	}
+}
@@ -4,22 +4,22 @@
 package com.cumulocity.client.model;
 
 import java.util.Map;
-import java.util.HashMap;
 import java.io.IOException;
-import java.lang.reflect.Field;
 
 import com.fasterxml.jackson.annotation.JsonAnyGetter;			
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.cumulocity.client.supplementary.FragmentRegistry;
+import com.cumulocity.client.supplementary.LazyFragmentMap;
+import com.cumulocity.client.supplementary.JsonCodec;
 
 @JsonIgnoreProperties(ignoreUnknown = true)
 @JsonInclude(Include.NON_NULL)
@@ -244,6 +244,7 @@ public class ManagedObject {
 	}
 
 	@JsonAnyGetter
+	@JsonSerialize(using = LazyFragmentMap.FieldSerializer.class)
 	public Map<String, Object> getCustomFragments() {
 		return customFragments;
 	}
@@ -262,7 +263,7 @@ public class ManagedObject {
 		@Override
 		public String toString() {
 			try {
-				return new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(this);
+				return JsonCodec.getDefault().prettyWriter().writeValueAsString(this);
 			} catch (final JsonProcessingException e) {
 			}
 			return super.toString();
@@ -276,47 +277,88 @@ public class ManagedObject {
 		public ManagedObject deserialize(final JsonParser p, final DeserializationContext ctxt)
 				throws IOException, JsonProcessingException {
 			final ManagedObject managedObject = new ManagedObject();
-			final Map<String, Object> additionalObjects = new HashMap<>();
+			final Map<String, Object> additionalObjects = Serialization.additionalPropertyClasses.newFragmentMap();
 			managedObject.setCustomFragments(additionalObjects);
-			final JsonNode jsonNode = p.readValueAsTree();
-			jsonNode.fields().forEachRemaining(entry -> {
-				try {
-					final Field field = managedObject.getClass().getDeclaredField(entry.getKey());
-					field.setAccessible(true);
-					final ObjectMapper objectMapper = new ObjectMapper();
-					final Object value = objectMapper.readValue(entry.getValue().traverse(), field.getType());
-					field.set(managedObject, value);
-				} catch (final NoSuchFieldException nse) {
-					if (Serialization.additionalPropertyClasses.containsKey(entry.getKey())) {
-						final ObjectMapper objectMapper = new ObjectMapper();
-						try {
-							final Object value = objectMapper.readValue(entry.getValue().traverse(), Serialization.additionalPropertyClasses.get(entry.getKey()));
-							additionalObjects.put(entry.getKey(), value);
-						} catch (final Exception e) {
-							e.printStackTrace();
-						}
-					}
-				} catch (final IOException | IllegalArgumentException | IllegalAccessException e) {
-					e.printStackTrace();
+			for (String name = Deserializers.firstFieldName(p); name != null; name = p.nextFieldName()) {
+				p.nextToken();
+				switch (name) {
+					case "creationTime":
+						managedObject.setCreationTime(Deserializers.readValue(p, ctxt, String.class));
+						break;
+					case "id":
+						managedObject.setId(Deserializers.readValue(p, ctxt, String.class));
+						break;
+					case "lastUpdated":
+						managedObject.setLastUpdated(Deserializers.readValue(p, ctxt, String.class));
+						break;
+					case "name":
+						managedObject.setName(Deserializers.readValue(p, ctxt, String.class));
+						break;
+					case "owner":
+						managedObject.setOwner(Deserializers.readValue(p, ctxt, String.class));
+						break;
+					case "self":
+						managedObject.setSelf(Deserializers.readValue(p, ctxt, String.class));
+						break;
+					case "type":
+						managedObject.setType(Deserializers.readValue(p, ctxt, String.class));
+						break;
+					case "childAdditions":
+						managedObject.setChildAdditions(Deserializers.readValue(p, ctxt, ObjectChildAdditions.class));
+						break;
+					case "childAssets":
+						managedObject.setChildAssets(Deserializers.readValue(p, ctxt, ObjectChildAssets.class));
+						break;
+					case "childDevices":
+						managedObject.setChildDevices(Deserializers.readValue(p, ctxt, ObjectChildDevices.class));
+						break;
+					case "additionParents":
+						managedObject.setAdditionParents(Deserializers.readValue(p, ctxt, ObjectAdditionParents.class));
+						break;
+					case "assetParents":
+						managedObject.setAssetParents(Deserializers.readValue(p, ctxt, ObjectAssetParents.class));
+						break;
+					case "deviceParents":
+						managedObject.setDeviceParents(Deserializers.readValue(p, ctxt, ObjectDeviceParents.class));
+						break;
+					case "c8y_IsDevice":
+						managedObject.setC8yIsDevice(Deserializers.readValue(p, ctxt, C8yIsDevice.class));
+						break;
+					case "c8y_DeviceTypes":
+						managedObject.setC8yDeviceTypes(Deserializers.readValue(p, ctxt, String[].class));
+						break;
+					case "c8y_SupportedOperations":
+						managedObject.setC8ySupportedOperations(Deserializers.readValue(p, ctxt, String[].class));
+						break;
+					default:
+						Serialization.additionalPropertyClasses.read(name, p, ctxt, additionalObjects);
 				}
-			});
+			}
 			return managedObject;
 		}
 	}
 
 	public static class Serialization {
 
-		private static Map<String, Class<?>> additionalPropertyClasses = new HashMap<String, Class<?>>();
+		private static final FragmentRegistry additionalPropertyClasses = new FragmentRegistry();
 
 		public static void registerAdditionalProperty(final String typeName, final Class<?> type) {
-			additionalPropertyClasses.put(typeName, type);
+			additionalPropertyClasses.register(typeName, type);
+		}
+
+		/**
+		 * Enables or disables lazy decoding of custom fragments. If enabled, custom fragments are retained undecoded and
+		 * decoded on first access, fragments without registration are kept instead of being dropped.
+		 */
+		public static void setLazyDecoding(final boolean lazyDecoding) {
+			additionalPropertyClasses.setLazyDecoding(lazyDecoding);
 		}
 	}
 
 	@Override
 	public String toString() {
 		try {
-			return new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(this);
+			return JsonCodec.getDefault().prettyWriter().writeValueAsString(this);
 		} catch (final JsonProcessingException e) {
 		}
 		return super.toString();
@@ -5,25 +5,136 @@ package com.cumulocity.client.supplementary;
 
 import jakarta.ws.rs.client.Invocation;
 import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.StreamingOutput;
 
+import java.net.URI;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 public class AdaptableApi {
 
 	private final WebTarget rootTarget;
 
+	private final JsonCodec codec;
+
+	private final List<GetInterceptor> interceptors;
+
+	private final ConcurrencyLimiter limiter;
+
+	private final ClientMetrics metrics;
+
+	private final ClientEvents events;
+
+	private final String name;
+
 	protected AdaptableApi(final WebTarget rootTarget) {
 		this.rootTarget = rootTarget;
+		this.codec = JsonCodec.of(rootTarget.getConfiguration());
+		this.interceptors = interceptorsOf(rootTarget);
+		this.limiter = instanceOf(rootTarget, ConcurrencyLimiter.class);
+		this.metrics = instanceOf(rootTarget, ClientMetrics.class);
+		this.events = ClientEvents.isAvailable() ? instanceOf(rootTarget, ClientEvents.class) : null;
+		Class<?> type = getClass();
+		while (type.isAnonymousClass()) {
+			type = type.getSuperclass();
+		}
+		this.name = type.getSimpleName();
+	}
+
+	/**
+	 * Looks up the {@link GetInterceptor interceptors} registered with the client of <code>target</code>, in the order
+	 * of registration.
+	 */
+	private static List<GetInterceptor> interceptorsOf(final WebTarget target) {
+		final List<GetInterceptor> interceptors = new ArrayList<>();
+		if (target.getConfiguration() != null) {
+			for (final Object instance : target.getConfiguration().getInstances()) {
+				if (instance instanceof GetInterceptor) {
+					interceptors.add((GetInterceptor) instance);
+				}
+			}
+		}
+		return interceptors.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(interceptors);
+	}
+
+	/**
+	 * Looks up the first instance of <code>type</code> registered with the client of <code>target</code>, e.g. its
+	 * {@link ConcurrencyLimiter}.
+	 *
+	 * @return the instance or <code>null</code>, if none is registered
+	 */
+	private static <T> T instanceOf(final WebTarget target, final Class<T> type) {
+		if (target.getConfiguration() != null) {
+			for (final Object instance : target.getConfiguration().getInstances()) {
+				if (type.isInstance(instance)) {
+					return type.cast(instance);
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the codec registered with the client of the root target or the default codec.
+	 */
+	protected JsonCodec codec() {
+		return codec;
 	}
 
 	protected AdaptableApi.Builder adapt() {
-		return new Builder(rootTarget);
+		return new Builder(rootTarget, name);
+	}
+
+	/**
+	 * Starts a request of an operation of the API, reported to the {@link ClientMetrics} of the client as
+	 * <code>ApiClass.operation</code>.
+	 *
+	 * @param operation the name of the API method
+	 * @return
+	 */
+	protected AdaptableApi.Builder adapt(final String operation) {
+		return new Builder(rootTarget, name + "." + operation);
+	}
+
+	/**
+	 * Requests a page of a collection by its <code>next</code> or <code>prev</code> link. The path and query of the
+	 * link are resolved against the root target, so the page is requested with the same client as all other requests.
+	 *
+	 * @param <T>
+	 * @param link
+	 * @param type the collection type
+	 * @return the page
+	 */
+	protected <T> CompletionStage<T> getPage(final String link, final Class<T> type) {
+		final URI uri = URI.create(link);
+		final String rootPath = rootTarget.getUri().getRawPath();
+		String path = uri.getRawPath();
+		if (rootPath != null && path.startsWith(rootPath)) {
+			path = path.substring(rootPath.length());
+		}
+		final Builder builder = adapt("getPage").path(path);
+		if (uri.getRawQuery() != null) {
+			for (final String parameter : uri.getRawQuery().split("&")) {
+				final int separator = parameter.indexOf('=');
+				if (separator < 0) {
+					builder.queryParam(parameter, "");
+				} else {
+					builder.queryParam(parameter.substring(0, separator), parameter.substring(separator + 1));
+				}
+			}
+		}
+		return builder.request()
+			.header("Accept", "application/vnd.com.nsn.cumulocity.error+json, application/json")
+			.rx()
+			.method("GET", type);
 	}
 
 	protected String valueOf(final Object s) {
@@ -31,7 +142,24 @@ public class AdaptableApi {
 	}
 
 	protected <RequestBody> JsonNode toJsonNode(final RequestBody body) {
-		return new ObjectMapper().valueToTree(body);
+		return codec.getObjectMapper().valueToTree(body);
+	}
+
+	/**
+	 * Creates a request body which is serialized straight to the entity stream when the request is sent. Read-only
+	 * properties of the endpoint are excluded while writing, nested properties are addressed by their dot separated
+	 * path, e.g. <code>source.self</code>.
+	 *
+	 * @param <RequestBody>
+	 * @param body
+	 * @param readOnlyProperties
+	 * @return the streamed body or <code>null</code>, if <code>body</code> is <code>null</code>
+	 */
+	protected <RequestBody> StreamingOutput toJsonBody(final RequestBody body, final String... readOnlyProperties) {
+		if (body == null) {
+			return null;
+		}
+		return output -> codec.writeValue(output, body, readOnlyProperties);
 	}
 
 	protected void removeFromNode(final JsonNode node, final String... pathItems) {
@@ -55,8 +183,15 @@ public class AdaptableApi {
 
 		private WebTarget target;
 
+		private final String operation;
+
 		public Builder(final WebTarget target) {
+			this(target, null);
+		}
+
+		Builder(final WebTarget target, final String operation) {
 			this.target = target;
+			this.operation = operation;
 		}
 
 		public Builder path(final String s) {
@@ -112,8 +247,21 @@ public class AdaptableApi {
 			return this;
 		}
 
+		/**
+		 * Creates the invocation builder of the request. <code>GET</code> requests are passed through the
+		 * {@link GetInterceptor interceptors} registered with the client, if any, and all requests are started by its
+		 * {@link ConcurrencyLimiter}, reported to its {@link ClientMetrics} and recorded by its {@link ClientEvents}, if
+		 * any.
+		 *
+		 * @return
+		 */
 		public Invocation.Builder request() {
-			return target.request();
+			if (interceptors.isEmpty() && limiter == null && metrics == null && events == null) {
+				return target.request();
+			}
+			final Invocation.Builder request = target.request();
+			final RequestSender sender = new RequestSender(request, operation != null ? operation : name, limiter, metrics, events);
+			return new InterceptingInvocationBuilder(request, target.getUri(), interceptors, sender);
 		}
 
 		protected <T> String joinToString(final T[] many) {
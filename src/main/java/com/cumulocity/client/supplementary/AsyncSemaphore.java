@@ -0,0 +1,146 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.supplementary;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+/**
+ * <p>Non-blocking semaphore bounding the number of asynchronous requests in flight. Requests submitted while all
+ * permits are taken are queued and started as soon as a running request completes. No thread is blocked while
+ * waiting for a permit.</p>
+ * <p>Queued requests are started by a single draining thread at a time: a request completing while another thread
+ * drains the queue only returns its permit, and a request completing synchronously is not started from within the
+ * frame of its predecessor. The stack depth therefore does not grow with the length of the queue.</p>
+ */
+class AsyncSemaphore {
+
+	private final IntSupplier permits;
+
+	private final int maxQueued;
+
+	private final Deque<Runnable> waiting = new ArrayDeque<>();
+
+	private int inFlight;
+
+	private boolean draining;
+
+	AsyncSemaphore(final int permits) {
+		this(constant(permits), Integer.MAX_VALUE);
+	}
+
+	/**
+	 * @param permits supplies the number of permits, which may change over time and is read without holding a lock
+	 * @param maxQueued the maximum number of requests waiting for a permit
+	 */
+	AsyncSemaphore(final IntSupplier permits, final int maxQueued) {
+		this.permits = permits;
+		this.maxQueued = maxQueued;
+	}
+
+	private static IntSupplier constant(final int permits) {
+		if (permits < 1) {
+			throw new IllegalArgumentException("permits must be positive: " + permits);
+		}
+		return () -> permits;
+	}
+
+	/**
+	 * Starts <code>request</code> once a permit is available. The permit is released when the returned stage of the
+	 * request completes.
+	 *
+	 * @param <T>
+	 * @param request
+	 * @return a stage completing with the result of the request
+	 */
+	<T> CompletionStage<T> submit(final Supplier<? extends CompletionStage<T>> request) {
+		final CompletableFuture<T> result = new CompletableFuture<>();
+		acquire(() -> {
+			final CompletionStage<T> stage;
+			try {
+				stage = request.get();
+			} catch (final RuntimeException e) {
+				release();
+				result.completeExceptionally(e);
+				return;
+			}
+			stage.whenComplete((value, error) -> {
+				release();
+				if (error != null) {
+					result.completeExceptionally(error);
+				} else {
+					result.complete(value);
+				}
+			});
+		});
+		return result;
+	}
+
+	/**
+	 * Runs <code>start</code> on the calling thread if a permit is available, or queues it otherwise. The permit must
+	 * be returned by calling {@link #release()}.
+	 *
+	 * @param start
+	 * @return <code>false</code>, if the queue is full
+	 */
+	boolean acquire(final Runnable start) {
+		synchronized (this) {
+			if (!waiting.isEmpty() || inFlight >= permits.getAsInt()) {
+				if (waiting.size() >= maxQueued) {
+					return false;
+				}
+				waiting.add(start);
+				return true;
+			}
+			inFlight++;
+		}
+		start.run();
+		return true;
+	}
+
+	/**
+	 * Returns a permit and starts the queued requests the permits allow, unless another thread is starting them
+	 * already.
+	 */
+	void release() {
+		synchronized (this) {
+			inFlight--;
+			if (draining) {
+				return;
+			}
+			draining = true;
+		}
+		while (true) {
+			final Runnable next;
+			synchronized (this) {
+				if (waiting.isEmpty() || inFlight >= permits.getAsInt()) {
+					draining = false;
+					return;
+				}
+				inFlight++;
+				next = waiting.poll();
+			}
+			try {
+				next.run();
+			} catch (final RuntimeException e) {
+				synchronized (this) {
+					draining = false;
+				}
+				throw e;
+			}
+		}
+	}
+
+	synchronized int inFlight() {
+		return inFlight;
+	}
+
+	synchronized int queued() {
+		return waiting.size();
+	}
+}
@@ -0,0 +1,301 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.supplementary;
+
+import jakarta.ws.rs.NotFoundException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import com.cumulocity.client.api.BinariesApi;
+import com.cumulocity.client.api.ManagedObjectsApi;
+import com.cumulocity.client.model.Binary;
+import com.cumulocity.client.model.ManagedObject;
+
+/**
+ * <p>Loads single resources by key in batches. Keys passed to {@link #load(Object)} are collected until
+ * <code>maxBatchSize</code> keys are pending or the first pending key has waited for <code>lingerMillis</code>, and
+ * then requested by a single request. The resources of the response are matched to the callers by their key. Keys
+ * without a resource in the response fail with a <code>NotFoundException</code>.</p>
+ * <p>Each loaded key is cached for the lifetime of the loader, so a key is requested at most once, even if it is
+ * loaded by many callers. A loader is meant to serve a single unit of work, e.g. the processing of a single incoming
+ * request, and to be closed afterwards. Keys whose batch failed are removed from the cache and requested again by the
+ * next load.</p>
+ * <pre>
+ * try (BatchLoader&lt;String, ManagedObject&gt; loader = BatchLoader.managedObjects(managedObjectsApi, 100, 5)) {
+ * 	loader.load(id).thenAccept(managedObject -&gt; ...);
+ * }
+ * </pre>
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the resources
+ */
+public class BatchLoader<K, V> implements AutoCloseable {
+
+	/**
+	 * The maximum page size of the platform, limiting the number of IDs of a single request.
+	 */
+	private static final int MAX_PAGE_SIZE = 2000;
+
+	/**
+	 * The scheduler of loaders created without one. It only triggers the dispatch of lingering batches, so a single
+	 * daemon thread is shared by all of them.
+	 */
+	private static final class SharedScheduler {
+
+		private static final ScheduledExecutorService INSTANCE;
+
+		static {
+			final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+				final Thread thread = new Thread(runnable, "batch-loader");
+				thread.setDaemon(true);
+				return thread;
+			});
+			executor.setRemoveOnCancelPolicy(true);
+			INSTANCE = executor;
+		}
+	}
+
+	private final Function<? super List<K>, ? extends CompletionStage<? extends Collection<? extends V>>> fetch;
+
+	private final Function<? super V, ? extends K> key;
+
+	private final int maxBatchSize;
+
+	private final long lingerMillis;
+
+	private final ScheduledExecutorService scheduler;
+
+	private final Map<K, CompletableFuture<V>> cache = new HashMap<>();
+
+	private Map<K, CompletableFuture<V>> pending = new LinkedHashMap<>();
+
+	private ScheduledFuture<?> linger;
+
+	private long loads;
+
+	private long batches;
+
+	private boolean closed;
+
+	/**
+	 * Creates a loader dispatching lingering batches on a daemon thread shared by all loaders.
+	 *
+	 * @param fetch requests the resources of a list of keys
+	 * @param key returns the key of a resource
+	 * @param maxBatchSize the maximum number of keys per request
+	 * @param lingerMillis the maximum time a key waits for its batch to fill up
+	 */
+	public BatchLoader(final Function<? super List<K>, ? extends CompletionStage<? extends Collection<? extends V>>> fetch, final Function<? super V, ? extends K> key,
+			final int maxBatchSize, final long lingerMillis) {
+		this(fetch, key, maxBatchSize, lingerMillis, SharedScheduler.INSTANCE);
+	}
+
+	/**
+	 * @param fetch requests the resources of a list of keys
+	 * @param key returns the key of a resource
+	 * @param maxBatchSize the maximum number of keys per request
+	 * @param lingerMillis the maximum time a key waits for its batch to fill up
+	 * @param scheduler dispatches lingering batches, it is not shut down when the loader is closed
+	 */
+	public BatchLoader(final Function<? super List<K>, ? extends CompletionStage<? extends Collection<? extends V>>> fetch, final Function<? super V, ? extends K> key,
+			final int maxBatchSize, final long lingerMillis, final ScheduledExecutorService scheduler) {
+		if (maxBatchSize < 1) {
+			throw new IllegalArgumentException("maxBatchSize must be positive: " + maxBatchSize);
+		}
+		this.fetch = fetch;
+		this.key = key;
+		this.maxBatchSize = maxBatchSize;
+		this.lingerMillis = lingerMillis;
+		this.scheduler = scheduler;
+	}
+
+	/**
+	 * Creates a loader for managed objects by ID, see {@link ManagedObjectsApi#getManagedObjects}. The IDs of a batch
+	 * are sent as query parameter, so <code>maxBatchSize</code> should be kept small enough for the length of the URL.
+	 *
+	 * @param managedObjectsApi
+	 * @param maxBatchSize the maximum number of IDs per request, at most 2000
+	 * @param lingerMillis the maximum time an ID waits for its batch to fill up
+	 * @return the loader
+	 */
+	public static BatchLoader<String, ManagedObject> managedObjects(final ManagedObjectsApi managedObjectsApi, final int maxBatchSize, final long lingerMillis) {
+		checkPageSize(maxBatchSize);
+		return new BatchLoader<>(ids -> managedObjectsApi.getManagedObjects(null, null, null, 1, null, ids.toArray(new String[0]), false, null, ids.size(),
+				null, null, false, null, null, false, false, false, false, false, false)
+			.thenApply(collection -> collection.getManagedObjects() != null ? Arrays.asList(collection.getManagedObjects()) : null),
+			ManagedObject::getId, maxBatchSize, lingerMillis);
+	}
+
+	/**
+	 * Creates a loader for the metadata of binaries by ID, see {@link BinariesApi#getBinaries}.
+	 *
+	 * @param binariesApi
+	 * @param maxBatchSize the maximum number of IDs per request, at most 2000
+	 * @param lingerMillis the maximum time an ID waits for its batch to fill up
+	 * @return the loader
+	 */
+	public static BatchLoader<String, Binary> binaries(final BinariesApi binariesApi, final int maxBatchSize, final long lingerMillis) {
+		checkPageSize(maxBatchSize);
+		return new BatchLoader<>(ids -> binariesApi.getBinaries(null, null, null, 1, ids.toArray(new String[0]), null, ids.size(), null, null, false)
+			.thenApply(collection -> collection.getManagedObjects() != null ? Arrays.asList(collection.getManagedObjects()) : null),
+			Binary::getId, maxBatchSize, lingerMillis);
+	}
+
+	private static void checkPageSize(final int maxBatchSize) {
+		if (maxBatchSize > MAX_PAGE_SIZE) {
+			throw new IllegalArgumentException("maxBatchSize must not exceed " + MAX_PAGE_SIZE + ": " + maxBatchSize);
+		}
+	}
+
+	/**
+	 * Loads the resource of <code>key</code>, either from the cache or with the next batch.
+	 *
+	 * @param key
+	 * @return a stage completing with the resource, or failing with a <code>NotFoundException</code> if the response
+	 * of the batch does not contain it
+	 */
+	public CompletionStage<V> load(final K key) {
+		final CompletableFuture<V> result;
+		Map<K, CompletableFuture<V>> batch = null;
+		synchronized (this) {
+			if (closed) {
+				throw new IllegalStateException("loader is closed");
+			}
+			loads++;
+			final CompletableFuture<V> cached = cache.get(key);
+			if (cached != null) {
+				return cached.thenApply(value -> value);
+			}
+			result = new CompletableFuture<>();
+			cache.put(key, result);
+			pending.put(key, result);
+			if (pending.size() >= maxBatchSize || lingerMillis <= 0) {
+				batch = takePending();
+			} else if (linger == null) {
+				linger = scheduler.schedule(this::dispatch, lingerMillis, TimeUnit.MILLISECONDS);
+			}
+		}
+		if (batch != null) {
+			send(batch);
+		}
+		return result.thenApply(value -> value);
+	}
+
+	/**
+	 * Sends the pending keys without waiting for the batch to fill up.
+	 */
+	public void dispatch() {
+		final Map<K, CompletableFuture<V>> batch;
+		synchronized (this) {
+			batch = takePending();
+		}
+		if (batch != null) {
+			send(batch);
+		}
+	}
+
+	/**
+	 * Removes <code>key</code> from the cache, so the next load requests it again.
+	 *
+	 * @param key
+	 */
+	public synchronized void clear(final K key) {
+		cache.remove(key);
+	}
+
+	public synchronized void clearAll() {
+		cache.clear();
+	}
+
+	/**
+	 * Returns the number of loads, including the ones served from the cache.
+	 */
+	public synchronized long getLoads() {
+		return loads;
+	}
+
+	/**
+	 * Returns the number of requests sent.
+	 */
+	public synchronized long getBatches() {
+		return batches;
+	}
+
+	/**
+	 * Sends the pending keys. Keys loaded afterwards are rejected.
+	 */
+	@Override
+	public void close() {
+		synchronized (this) {
+			closed = true;
+		}
+		dispatch();
+	}
+
+	/**
+	 * Removes all pending keys. Must be called holding the lock.
+	 *
+	 * @return the pending keys or <code>null</code>, if none is pending
+	 */
+	private Map<K, CompletableFuture<V>> takePending() {
+		if (linger != null) {
+			linger.cancel(false);
+			linger = null;
+		}
+		if (pending.isEmpty()) {
+			return null;
+		}
+		final Map<K, CompletableFuture<V>> batch = pending;
+		pending = new LinkedHashMap<>();
+		batches++;
+		return batch;
+	}
+
+	private void send(final Map<K, CompletableFuture<V>> batch) {
+		CompletionStage<? extends Collection<? extends V>> response;
+		try {
+			response = fetch.apply(new ArrayList<>(batch.keySet()));
+		} catch (final RuntimeException e) {
+			final CompletableFuture<Collection<? extends V>> failed = new CompletableFuture<>();
+			failed.completeExceptionally(e);
+			response = failed;
+		}
+		response.whenComplete((values, e) -> {
+			if (e != null) {
+				synchronized (this) {
+					batch.forEach(cache::remove);
+				}
+				batch.values().forEach(result -> result.completeExceptionally(e));
+				return;
+			}
+			final Map<K, V> found = new HashMap<>();
+			if (values != null) {
+				for (final V value : values) {
+					found.put(key.apply(value), value);
+				}
+			}
+			batch.forEach((k, result) -> {
+				final V value = found.get(k);
+				if (value != null) {
+					result.complete(value);
+				} else {
+					result.completeExceptionally(new NotFoundException("No resource found for key " + k));
+				}
+			});
+		});
+	}
+}
@@ -0,0 +1,389 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.supplementary;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import com.cumulocity.client.api.AlarmsApi;
+import com.cumulocity.client.api.EventsApi;
+import com.cumulocity.client.model.Alarm;
+import com.cumulocity.client.model.Event;
+
+/**
+ * <p>Creates a large number of resources, keeping a fixed number of requests in flight. Items are pulled from the
+ * passed iterator only when a request slot becomes available, so the source is consumed at the pace of the platform.
+ * Optionally, items with the same key, e.g. the same source, are created in the order of the iterator: an item is only
+ * sent once the previous item with its key has completed.</p>
+ * <p>A failed request does not stop the bulk creation. All failures are collected in the {@link Result}.</p>
+ * <pre>
+ * BulkCreator.events(eventsApi, 16, true).submit(events.iterator()).thenAccept(result -&gt; ...);
+ * </pre>
+ *
+ * @param <T> the type of the created items
+ * @param <R> the type of the responses
+ */
+public class BulkCreator<T, R> {
+
+	private final Function<? super T, ? extends CompletionStage<R>> create;
+
+	private final int maxInFlight;
+
+	private final Function<? super T, ?> key;
+
+	private final BiConsumer<? super T, ? super R> listener;
+
+	private BulkCreator(final Function<? super T, ? extends CompletionStage<R>> create, final int maxInFlight, final Function<? super T, ?> key, final BiConsumer<? super T, ? super R> listener) {
+		if (maxInFlight < 1) {
+			throw new IllegalArgumentException("maxInFlight must be positive: " + maxInFlight);
+		}
+		this.create = create;
+		this.maxInFlight = maxInFlight;
+		this.key = key;
+		this.listener = listener;
+	}
+
+	/**
+	 * @param <T>
+	 * @param <R>
+	 * @param create sends the request creating a single item
+	 * @param maxInFlight the number of requests in flight
+	 * @return the creator, not preserving any order
+	 */
+	public static <T, R> BulkCreator<T, R> of(final Function<? super T, ? extends CompletionStage<R>> create, final int maxInFlight) {
+		return new BulkCreator<>(create, maxInFlight, null, null);
+	}
+
+	/**
+	 * Creates a creator for events, see {@link EventsApi#createEvent(Event, String)}.
+	 *
+	 * @param eventsApi
+	 * @param maxInFlight the number of requests in flight
+	 * @param preserveSourceOrder whether the events of a source are created in order
+	 * @return the creator
+	 */
+	public static BulkCreator<Event, Event> events(final EventsApi eventsApi, final int maxInFlight, final boolean preserveSourceOrder) {
+		final BulkCreator<Event, Event> creator = of(event -> eventsApi.createEvent(event, null), maxInFlight);
+		return preserveSourceOrder ? creator.orderedBy(event -> event.getSource() != null ? event.getSource().getId() : null) : creator;
+	}
+
+	/**
+	 * Creates a creator for alarms, see {@link AlarmsApi#createAlarm(Alarm, String)}.
+	 *
+	 * @param alarmsApi
+	 * @param maxInFlight the number of requests in flight
+	 * @param preserveSourceOrder whether the alarms of a source are created in order
+	 * @return the creator
+	 */
+	public static BulkCreator<Alarm, Alarm> alarms(final AlarmsApi alarmsApi, final int maxInFlight, final boolean preserveSourceOrder) {
+		final BulkCreator<Alarm, Alarm> creator = of(alarm -> alarmsApi.createAlarm(alarm, null), maxInFlight);
+		return preserveSourceOrder ? creator.orderedBy(alarm -> alarm.getSource() != null ? alarm.getSource().getId() : null) : creator;
+	}
+
+	/**
+	 * Returns a creator sending items with the same key in order. Items with a <code>null</code> key are not ordered.
+	 *
+	 * @param key
+	 * @return the creator
+	 */
+	public BulkCreator<T, R> orderedBy(final Function<? super T, ?> key) {
+		return new BulkCreator<>(create, maxInFlight, key, listener);
+	}
+
+	/**
+	 * Returns a creator passing each item and its response to <code>listener</code> once it has been created. The
+	 * listener is invoked on the thread completing the request. An exception thrown by the listener is reported as
+	 * failure of the item.
+	 *
+	 * @param listener
+	 * @return the creator
+	 */
+	public BulkCreator<T, R> onCreated(final BiConsumer<? super T, ? super R> listener) {
+		return new BulkCreator<>(create, maxInFlight, key, listener);
+	}
+
+	/**
+	 * Creates all items of <code>items</code>. The iterator is advanced by the threads completing requests, so it must
+	 * not block for long.
+	 *
+	 * @param items
+	 * @return a stage completing once all items have been sent, failing only if the iterator fails
+	 */
+	public CompletionStage<Result<T>> submit(final Iterator<? extends T> items) {
+		final Run run = new Run(items);
+		run.pump();
+		return run.result;
+	}
+
+	/**
+	 * Creates all items of <code>items</code>, see {@link #submit(Iterator)}.
+	 *
+	 * @param items
+	 * @return a stage completing once all items have been sent
+	 */
+	public CompletionStage<Result<T>> submit(final Stream<? extends T> items) {
+		return submit(items.iterator());
+	}
+
+	/**
+	 * Outcome of a bulk creation.
+	 *
+	 * @param <T>
+	 */
+	public static class Result<T> {
+
+		private final long succeeded;
+
+		private final List<Failure<T>> failures;
+
+		Result(final long succeeded, final List<Failure<T>> failures) {
+			this.succeeded = succeeded;
+			this.failures = failures;
+		}
+
+		public long getSucceeded() {
+			return succeeded;
+		}
+
+		/**
+		 * Returns the failed items, in order of their position in the iterator.
+		 */
+		public List<Failure<T>> getFailures() {
+			return failures;
+		}
+	}
+
+	/**
+	 * Item which could not be created.
+	 *
+	 * @param <T>
+	 */
+	public static class Failure<T> {
+
+		private final long index;
+
+		private final T item;
+
+		private final Throwable error;
+
+		Failure(final long index, final T item, final Throwable error) {
+			this.index = index;
+			this.item = item;
+			this.error = error;
+		}
+
+		/**
+		 * Returns the position of the item in the iterator, starting at 0.
+		 */
+		public long getIndex() {
+			return index;
+		}
+
+		public T getItem() {
+			return item;
+		}
+
+		public Throwable getError() {
+			return error;
+		}
+	}
+
+	private class Item {
+
+		private final long index;
+
+		private final T value;
+
+		private final Object key;
+
+		Item(final long index, final T value, final Object key) {
+			this.index = index;
+			this.value = value;
+			this.key = key;
+		}
+	}
+
+	/**
+	 * State of a single bulk creation. Requests are started by a single pumping thread at a time, so requests
+	 * completing synchronously do not recurse.
+	 */
+	private class Run {
+
+		private final Iterator<? extends T> items;
+
+		private final CompletableFuture<Result<T>> result = new CompletableFuture<>();
+
+		private final Deque<Item> ready = new ArrayDeque<>();
+
+		private final Map<Object, Deque<Item>> activeKeys = new HashMap<>();
+
+		private final List<Failure<T>> failures = new ArrayList<>();
+
+		private long index;
+
+		private long succeeded;
+
+		private int inFlight;
+
+		private int waiting;
+
+		private boolean exhausted;
+
+		private Throwable iteratorError;
+
+		private boolean pumping;
+
+		private boolean missed;
+
+		private boolean completed;
+
+		Run(final Iterator<? extends T> items) {
+			this.items = items;
+		}
+
+		void pump() {
+			synchronized (this) {
+				if (pumping) {
+					missed = true;
+					return;
+				}
+				pumping = true;
+			}
+			while (true) {
+				final Item item;
+				synchronized (this) {
+					item = takeNext();
+					if (item == null) {
+						if (missed) {
+							missed = false;
+							continue;
+						}
+						pumping = false;
+						if (completed || !exhausted || inFlight > 0 || waiting > 0 || !ready.isEmpty()) {
+							return;
+						}
+						completed = true;
+					} else {
+						inFlight++;
+					}
+				}
+				if (item == null) {
+					complete();
+					return;
+				}
+				start(item);
+			}
+		}
+
+		/**
+		 * Returns the next item to send, if a request slot is available. Must be called holding the lock.
+		 */
+		private Item takeNext() {
+			if (inFlight >= maxInFlight) {
+				return null;
+			}
+			if (!ready.isEmpty()) {
+				return ready.poll();
+			}
+			while (!exhausted && waiting < maxInFlight) {
+				final Item item;
+				try {
+					if (!items.hasNext()) {
+						exhausted = true;
+						return null;
+					}
+					final T value = items.next();
+					item = new Item(index++, value, key != null ? key.apply(value) : null);
+				} catch (final RuntimeException e) {
+					exhausted = true;
+					iteratorError = e;
+					return null;
+				}
+				if (item.key == null) {
+					return item;
+				}
+				final Deque<Item> queue = activeKeys.get(item.key);
+				if (queue == null) {
+					activeKeys.put(item.key, new ArrayDeque<>());
+					return item;
+				}
+				queue.add(item);
+				waiting++;
+			}
+			return null;
+		}
+
+		private void start(final Item item) {
+			CompletionStage<R> response;
+			try {
+				response = create.apply(item.value);
+			} catch (final RuntimeException e) {
+				final CompletableFuture<R> failed = new CompletableFuture<>();
+				failed.completeExceptionally(e);
+				response = failed;
+			}
+			response.whenComplete((created, e) -> completed(item, created, e));
+		}
+
+		private void completed(final Item item, final R created, final Throwable e) {
+			Throwable failure = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+			if (failure == null && listener != null) {
+				try {
+					listener.accept(item.value, created);
+				} catch (final RuntimeException listenerError) {
+					// recorded as failure of the item, the run has to release its slot and key regardless
+					failure = listenerError;
+				}
+			}
+			synchronized (this) {
+				inFlight--;
+				if (failure != null) {
+					failures.add(new Failure<>(item.index, item.value, failure));
+				} else {
+					succeeded++;
+				}
+				if (item.key != null) {
+					final Deque<Item> queue = activeKeys.get(item.key);
+					final Item next = queue.poll();
+					if (next == null) {
+						activeKeys.remove(item.key);
+					} else {
+						waiting--;
+						ready.add(next);
+					}
+				}
+			}
+			pump();
+		}
+
+		private void complete() {
+			final Throwable error;
+			final List<Failure<T>> sorted;
+			final long created;
+			synchronized (this) {
+				error = iteratorError;
+				sorted = new ArrayList<>(failures);
+				created = succeeded;
+			}
+			if (error != null) {
+				result.completeExceptionally(error);
+				return;
+			}
+			sorted.sort((first, second) -> Long.compare(first.index, second.index));
+			result.complete(new Result<>(created, Collections.unmodifiableList(sorted)));
+		}
+	}
+}
@@ -0,0 +1,82 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.supplementary;
+
+import jakarta.ws.rs.client.Invocation;
+import jakarta.ws.rs.core.Feature;
+import jakarta.ws.rs.core.FeatureContext;
+
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+/**
+ * <p>Emits Java Flight Recorder events for the requests of the API classes created from a <code>WebTarget</code> of
+ * the client:</p>
+ * <ul>
+ * <li><code>com.cumulocity.client.Request</code> for each request, from starting it until the response has been
+ * decoded, with operation, tenant host, path, status and body sizes</li>
+ * <li><code>com.cumulocity.client.Network</code> from sending a request until its response headers have been
+ * received</li>
+ * <li><code>com.cumulocity.client.Encode</code> for writing a request body</li>
+ * <li><code>com.cumulocity.client.Decode</code> for reading and decoding a response body, including the deserializers
+ * of custom fragments, with the number of items decoded</li>
+ * </ul>
+ * <pre>
+ * clientConfig.register(new ClientEvents());
+ * </pre>
+ * <p>The events are recorded like all other events, e.g. with <code>-XX:StartFlightRecording</code>, and shown in JDK
+ * Mission Control. On runtimes without Flight Recorder, e.g. Java 8 before update 262, registering this feature has no
+ * effect. While no recording is running, each request only checks whether the events are enabled.</p>
+ */
+public class ClientEvents implements Feature {
+
+	private static final Recorder RECORDER = loadRecorder();
+
+	/**
+	 * Returns whether the runtime supports Flight Recorder.
+	 */
+	public static boolean isAvailable() {
+		return RECORDER != null;
+	}
+
+	private static Recorder loadRecorder() {
+		try {
+			Class.forName("jdk.jfr.Event");
+			final Recorder recorder = Class.forName("com.cumulocity.client.supplementary.JfrEvents").asSubclass(Recorder.class).getDeclaredConstructor().newInstance();
+			return recorder.isAvailable() ? recorder : null;
+		} catch (final ReflectiveOperationException | LinkageError e) {
+			return null;
+		}
+	}
+
+	@Override
+	public boolean configure(final FeatureContext context) {
+		if (RECORDER != null) {
+			context.register(RECORDER);
+		}
+		return RECORDER != null;
+	}
+
+	<T> CompletionStage<T> send(final Invocation.Builder invocation, final String operation, final Supplier<? extends CompletionStage<T>> request) {
+		return RECORDER != null ? RECORDER.send(invocation, operation, request) : request.get();
+	}
+
+	<T> T call(final Invocation.Builder invocation, final String operation, final Supplier<T> request) {
+		return RECORDER != null ? RECORDER.call(invocation, operation, request) : request.get();
+	}
+
+	/**
+	 * <p>Records the events of requests, implemented by <code>JfrEvents</code>, which refers to <code>jdk.jfr</code>
+	 * and is therefore compiled separately from <code>src/jfr/java</code>. It also registers the filters and
+	 * interceptors recording the events of the single phases.</p>
+	 */
+	abstract static class Recorder {
+
+		abstract boolean isAvailable();
+
+		abstract <T> CompletionStage<T> send(Invocation.Builder invocation, String operation, Supplier<? extends CompletionStage<T>> request);
+
+		abstract <T> T call(Invocation.Builder invocation, String operation, Supplier<T> request);
+	}
+}
@@ -0,0 +1,51 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.supplementary;
+
+import jakarta.ws.rs.core.Feature;
+import jakarta.ws.rs.core.FeatureContext;
+
+/**
+ * <p>Receives the requests sent by the API classes created from a <code>WebTarget</code> of a client, e.g. to bridge
+ * them to a monitoring system. Requests are keyed by their logical operation, the simple name of the API class and
+ * the name of its method, e.g. <code>MeasurementsApi.createMeasurement</code>. Implementations are registered with the
+ * client configuration:</p>
+ * <pre>
+ * final MetricsRecorder metrics = new MetricsRecorder();
+ * clientConfig.register(metrics);
+ * </pre>
+ * <p>Only the first implementation registered receives requests. Without one, requests are not observed at all.
+ * Requests answered by a {@link GetInterceptor} without being sent are not reported. Both methods are invoked on the
+ * threads sending and completing requests and must not block.</p>
+ */
+public interface ClientMetrics extends Feature {
+
+	/**
+	 * Invoked when a request is sent, after it has been started by the {@link ConcurrencyLimiter}, if any.
+	 *
+	 * @param operation
+	 */
+	void requestStarted(String operation);
+
+	/**
+	 * Invoked when a request has completed. For responses decoded to a type, the latency includes reading and decoding
+	 * the response body.
+	 *
+	 * @param operation
+	 * @param status the status code of the response or <code>0</code>, if no response was received
+	 * @param latencyNanos the time from sending the request until its completion
+	 * @param requestBytes the size of the request body
+	 * @param responseBytes the size of the response body, as far as it has been read
+	 */
+	void requestCompleted(String operation, int status, long latencyNanos, long requestBytes, long responseBytes);
+
+	/**
+	 * Registers the filters measuring the size of requests and responses.
+	 */
+	@Override
+	default boolean configure(final FeatureContext context) {
+		context.register(new MetricsFilter());
+		return true;
+	}
+}
@@ -0,0 +1,230 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.supplementary;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.cumulocity.client.model.MeasurementFragmentSeries;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
+/**
+ * <p>Columnar representation of a measurement series response. The timestamps of all values are held in a single
+ * <code>long[]</code> of epoch milliseconds. The values of each series are held in a <code>double[]</code> of
+ * <code>min</code>/<code>max</code> pairs, i.e. the pair of timestamp <code>i</code> is stored at index
+ * <code>2 * i</code> and <code>2 * i + 1</code>. Series without a value for a timestamp hold <code>NaN</code>.</p>
+ * <p>The response is decoded in a single streaming pass without boxing any value.</p>
+ */
+@JsonDeserialize(using = ColumnarMeasurementSeries.Deserializer.class)
+public class ColumnarMeasurementSeries {
+
+	private final long[] timestamps;
+
+	private final double[][] values;
+
+	private final MeasurementFragmentSeries[] series;
+
+	private final boolean truncated;
+
+	public ColumnarMeasurementSeries(final long[] timestamps, final double[][] values, final MeasurementFragmentSeries[] series, final boolean truncated) {
+		this.timestamps = timestamps;
+		this.values = values;
+		this.series = series;
+		this.truncated = truncated;
+	}
+
+	/**
+	 * Returns the number of timestamps.
+	 */
+	public int size() {
+		return timestamps.length;
+	}
+
+	/**
+	 * Returns the timestamps in epoch milliseconds, in the order returned by the platform.
+	 */
+	public long[] getTimestamps() {
+		return timestamps;
+	}
+
+	/**
+	 * Returns the <code>min</code>/<code>max</code> pairs of all series, in the order of {@link #getSeries()}.
+	 */
+	public double[][] getValues() {
+		return values;
+	}
+
+	public double[] getValues(final int seriesIndex) {
+		return values[seriesIndex];
+	}
+
+	public double getMin(final int seriesIndex, final int index) {
+		return values[seriesIndex][2 * index];
+	}
+
+	public double getMax(final int seriesIndex, final int index) {
+		return values[seriesIndex][2 * index + 1];
+	}
+
+	public MeasurementFragmentSeries[] getSeries() {
+		return series;
+	}
+
+	public boolean getTruncated() {
+		return truncated;
+	}
+
+	/**
+	 * Concatenates series of consecutive time ranges into a single series. The parts must be passed in ascending
+	 * order of time, timestamps not greater than the last timestamp of the previous parts are dropped. Series are
+	 * matched by type and name, so parts may contain different sets of series.
+	 *
+	 * @param parts
+	 * @return the concatenated series, truncated if any of the parts is truncated
+	 */
+	public static ColumnarMeasurementSeries concat(final List<ColumnarMeasurementSeries> parts) {
+		final Map<String, Integer> seriesIndex = new LinkedHashMap<>();
+		final List<MeasurementFragmentSeries> series = new ArrayList<>();
+		int capacity = 0;
+		for (final ColumnarMeasurementSeries part : parts) {
+			capacity += part.size();
+			for (final MeasurementFragmentSeries s : part.getSeries()) {
+				if (seriesIndex.putIfAbsent(seriesKey(s), series.size()) == null) {
+					series.add(s);
+				}
+			}
+		}
+		final long[] timestamps = new long[capacity];
+		final double[][] values = new double[series.size()][];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = new double[2 * capacity];
+			Arrays.fill(values[i], Double.NaN);
+		}
+		int size = 0;
+		boolean truncated = false;
+		for (final ColumnarMeasurementSeries part : parts) {
+			truncated |= part.getTruncated();
+			int first = 0;
+			while (size > 0 && first < part.size() && part.getTimestamps()[first] <= timestamps[size - 1]) {
+				first++;
+			}
+			final int count = part.size() - first;
+			System.arraycopy(part.getTimestamps(), first, timestamps, size, count);
+			for (int i = 0; i < part.getSeries().length && i < part.getValues().length; i++) {
+				System.arraycopy(part.getValues(i), 2 * first, values[seriesIndex.get(seriesKey(part.getSeries()[i]))], 2 * size, 2 * count);
+			}
+			size += count;
+		}
+		for (int i = 0; i < values.length; i++) {
+			values[i] = Arrays.copyOf(values[i], 2 * size);
+		}
+		return new ColumnarMeasurementSeries(Arrays.copyOf(timestamps, size), values, series.toArray(new MeasurementFragmentSeries[0]), truncated);
+	}
+
+	private static String seriesKey(final MeasurementFragmentSeries series) {
+		return series.getType() + "." + series.getName();
+	}
+
+	public static class Deserializer extends JsonDeserializer<ColumnarMeasurementSeries> {
+
+		@Override
+		public ColumnarMeasurementSeries deserialize(final JsonParser p, final DeserializationContext ctxt)
+				throws IOException, JsonProcessingException {
+			long[] timestamps = new long[64];
+			final List<double[]> columns = new ArrayList<>();
+			int size = 0;
+			MeasurementFragmentSeries[] series = new MeasurementFragmentSeries[0];
+			boolean truncated = false;
+			for (String name = p.isExpectedStartObjectToken() ? p.nextFieldName() : p.currentName(); name != null; name = p.nextFieldName()) {
+				final JsonToken token = p.nextToken();
+				if ("values".equals(name) && token == JsonToken.START_OBJECT) {
+					for (String time = p.nextFieldName(); time != null; time = p.nextFieldName()) {
+						if (size == timestamps.length) {
+							timestamps = Arrays.copyOf(timestamps, size * 2);
+						}
+						timestamps[size] = OffsetDateTime.parse(time).toInstant().toEpochMilli();
+						readPairs(p, columns, size, timestamps.length);
+						size++;
+					}
+				} else if ("series".equals(name) && token == JsonToken.START_ARRAY) {
+					series = ctxt.readValue(p, MeasurementFragmentSeries[].class);
+				} else if ("truncated".equals(name)) {
+					truncated = p.getValueAsBoolean();
+				} else {
+					p.skipChildren();
+				}
+			}
+			final double[][] values = new double[Math.max(series.length, columns.size())][];
+			for (int i = 0; i < values.length; i++) {
+				values[i] = i < columns.size() ? resize(columns.get(i), 2 * size) : resize(new double[0], 2 * size);
+			}
+			return new ColumnarMeasurementSeries(Arrays.copyOf(timestamps, size), values, series, truncated);
+		}
+
+		/**
+		 * Reads the array of <code>min</code>/<code>max</code> pairs of a single timestamp into row <code>row</code> of
+		 * the columns. Columns are grown to hold <code>capacity</code> rows.
+		 */
+		private static void readPairs(final JsonParser p, final List<double[]> columns, final int row, final int capacity) throws IOException {
+			if (p.nextToken() != JsonToken.START_ARRAY) {
+				p.skipChildren();
+				return;
+			}
+			int column = 0;
+			for (JsonToken token = p.nextToken(); token != JsonToken.END_ARRAY; token = p.nextToken(), column++) {
+				if (column == columns.size()) {
+					columns.add(new double[0]);
+				}
+				double[] values = columns.get(column);
+				if (values.length < 2 * capacity) {
+					values = resize(values, 2 * capacity);
+					columns.set(column, values);
+				}
+				if (token != JsonToken.START_OBJECT) {
+					p.skipChildren();
+					continue;
+				}
+				for (String name = p.nextFieldName(); name != null; name = p.nextFieldName()) {
+					p.nextToken();
+					if ("min".equals(name)) {
+						values[2 * row] = readDouble(p);
+					} else if ("max".equals(name)) {
+						values[2 * row + 1] = readDouble(p);
+					} else {
+						p.skipChildren();
+					}
+				}
+			}
+		}
+
+		private static double readDouble(final JsonParser p) throws IOException {
+			if (p.currentToken() == JsonToken.VALUE_NULL) {
+				return Double.NaN;
+			}
+			return p.getValueAsDouble(Double.NaN);
+		}
+
+		/**
+		 * Copies <code>column</code> into an array of <code>length</code>, filling the added elements with
+		 * <code>NaN</code>.
+		 */
+		private static double[] resize(final double[] column, final int length) {
+			final double[] resized = Arrays.copyOf(column, length);
+			if (column.length < length) {
+				Arrays.fill(resized, column.length, length, Double.NaN);
+			}
+			return resized;
+		}
+	}
+}
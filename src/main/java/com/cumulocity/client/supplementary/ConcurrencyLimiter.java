@@ -0,0 +1,300 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.supplementary;
+
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.Feature;
+import jakarta.ws.rs.core.FeatureContext;
+import jakarta.ws.rs.core.Response;
+
+import java.net.SocketTimeoutException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * <p>Adapts the number of requests in flight to what the tenant sustains. All requests of the API classes created
+ * from a <code>WebTarget</code> of the client are started by the limiter, requests exceeding the current limit are
+ * queued and started as soon as a request completes. No thread is blocked while a request sent by the
+ * <code>rx()</code> invoker waits in the queue.</p>
+ * <pre>
+ * final ConcurrencyLimiter limiter = new ConcurrencyLimiter(20, 1, 500, 10_000);
+ * clientConfig.register(limiter);
+ * </pre>
+ * <p>The limit is adapted by additive increase and multiplicative decrease: each successful response increases the
+ * limit by one while at least half of it is in use. A response with status <code>429 Too Many Requests</code> or
+ * <code>503 Service Unavailable</code>, a read timeout or a response taking more than twice the minimum latency
+ * observed for its operation decreases the limit by 10%, at most once for all requests in flight at that time. The
+ * minimum latency is tracked per operation of the API classes, e.g. <code>MeasurementsApi.getMeasurements</code>, so
+ * large pages do not count as overload next to small requests by ID. It is measured again every 30 seconds, so it
+ * follows lasting changes of the round trip time.</p>
+ * <p>Requests submitted while the queue is full fail with a <code>RejectedExecutionException</code>. Requests are
+ * queued by an {@link AsyncSemaphore} whose number of permits follows the limit.</p>
+ */
+public class ConcurrencyLimiter implements Feature {
+
+	static final double BACKOFF_RATIO = 0.9;
+
+	static final double LATENCY_TOLERANCE = 2.0;
+
+	static final long PROBE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+	private enum Outcome {
+		SUCCEEDED, DROPPED, IGNORED
+	}
+
+	private final int minLimit;
+
+	private final int maxLimit;
+
+	private final int maxQueued;
+
+	private final LongSupplier clock;
+
+	private final AsyncSemaphore semaphore;
+
+	private volatile double limit;
+
+	private final Map<String, Baseline> baselines = new HashMap<>();
+
+	private long decreasedAt;
+
+	private long requests;
+
+	private long dropped;
+
+	private long rejected;
+
+	/**
+	 * @param initialLimit the number of requests in flight to start with
+	 * @param minLimit the lower bound of the limit
+	 * @param maxLimit the upper bound of the limit
+	 * @param maxQueued the maximum number of requests waiting for the limit
+	 */
+	public ConcurrencyLimiter(final int initialLimit, final int minLimit, final int maxLimit, final int maxQueued) {
+		this(initialLimit, minLimit, maxLimit, maxQueued, System::nanoTime);
+	}
+
+	ConcurrencyLimiter(final int initialLimit, final int minLimit, final int maxLimit, final int maxQueued, final LongSupplier clock) {
+		if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+			throw new IllegalArgumentException("limits must satisfy 1 <= minLimit <= initialLimit <= maxLimit: " + minLimit + ", " + initialLimit + ", " + maxLimit);
+		}
+		if (maxQueued < 0) {
+			throw new IllegalArgumentException("maxQueued must not be negative: " + maxQueued);
+		}
+		this.minLimit = minLimit;
+		this.maxLimit = maxLimit;
+		this.maxQueued = maxQueued;
+		this.clock = clock;
+		this.limit = initialLimit;
+		this.semaphore = new AsyncSemaphore(() -> (int) limit, maxQueued);
+		this.decreasedAt = clock.getAsLong();
+	}
+
+	@Override
+	public boolean configure(final FeatureContext context) {
+		return true;
+	}
+
+	/**
+	 * Starts <code>request</code> once the limit permits. The request counts as in flight until the returned stage of
+	 * the request completes.
+	 *
+	 * @param <T>
+	 * @param operation the operation whose latency the response is compared with
+	 * @param request
+	 * @return a stage completing with the result of the request
+	 */
+	<T> CompletionStage<T> submit(final String operation, final Supplier<? extends CompletionStage<T>> request) {
+		final CompletableFuture<T> result = new CompletableFuture<>();
+		final Runnable start = () -> {
+			final long startedAt = clock.getAsLong();
+			final CompletionStage<T> stage;
+			try {
+				stage = request.get();
+			} catch (final RuntimeException e) {
+				release(operation, startedAt, outcomeOf(null, e));
+				result.completeExceptionally(e);
+				return;
+			}
+			stage.whenComplete((value, error) -> {
+				release(operation, startedAt, outcomeOf(value, error));
+				if (error != null) {
+					result.completeExceptionally(error);
+				} else {
+					result.complete(value);
+				}
+			});
+		};
+		if (!acquire(start)) {
+			result.completeExceptionally(rejected());
+		}
+		return result;
+	}
+
+	/**
+	 * Sends a synchronous <code>request</code> on the calling thread once the limit permits, blocking the calling
+	 * thread while waiting.
+	 *
+	 * @param <T>
+	 * @param operation the operation whose latency the response is compared with
+	 * @param request
+	 * @return the result of the request
+	 */
+	<T> T call(final String operation, final Supplier<T> request) {
+		final CompletableFuture<Void> permit = new CompletableFuture<>();
+		if (!acquire(() -> permit.complete(null))) {
+			throw rejected();
+		}
+		permit.join();
+		final long startedAt = clock.getAsLong();
+		final T value;
+		try {
+			value = request.get();
+		} catch (final RuntimeException e) {
+			release(operation, startedAt, outcomeOf(null, e));
+			throw e;
+		}
+		release(operation, startedAt, outcomeOf(value, null));
+		return value;
+	}
+
+	private boolean acquire(final Runnable start) {
+		if (semaphore.acquire(() -> {
+			synchronized (this) {
+				requests++;
+			}
+			start.run();
+		})) {
+			return true;
+		}
+		synchronized (this) {
+			rejected++;
+		}
+		return false;
+	}
+
+	private RejectedExecutionException rejected() {
+		return new RejectedExecutionException("Too many requests waiting for the concurrency limit: " + maxQueued);
+	}
+
+	private static Outcome outcomeOf(final Object value, final Throwable error) {
+		Throwable cause = error;
+		while (cause instanceof CompletionException && cause.getCause() != null) {
+			cause = cause.getCause();
+		}
+		final int status;
+		if (cause instanceof WebApplicationException) {
+			status = ((WebApplicationException) cause).getResponse().getStatus();
+		} else if (cause instanceof ProcessingException) {
+			return cause.getCause() instanceof SocketTimeoutException ? Outcome.DROPPED : Outcome.IGNORED;
+		} else if (cause != null) {
+			return Outcome.IGNORED;
+		} else if (value instanceof Response) {
+			status = ((Response) value).getStatus();
+		} else {
+			return Outcome.SUCCEEDED;
+		}
+		return status == 429 || status == 503 ? Outcome.DROPPED : Outcome.SUCCEEDED;
+	}
+
+	/**
+	 * Adapts the limit to the outcome of a request and returns its permit. The permit is returned last, so that the
+	 * queued requests are started with the adapted limit.
+	 */
+	private void release(final String operation, final long startedAt, final Outcome outcome) {
+		final long now = clock.getAsLong();
+		synchronized (this) {
+			if (outcome == Outcome.DROPPED) {
+				dropped++;
+				backOff(startedAt, now);
+			} else if (outcome == Outcome.SUCCEEDED) {
+				adapt(operation, startedAt, now);
+			}
+		}
+		semaphore.release();
+	}
+
+	private void adapt(final String operation, final long startedAt, final long now) {
+		final long latency = now - startedAt;
+		final Baseline baseline = baselines.computeIfAbsent(String.valueOf(operation), key -> new Baseline());
+		if (latency < baseline.minLatency || now - baseline.since > PROBE_INTERVAL_NANOS) {
+			baseline.minLatency = latency;
+			baseline.since = now;
+		}
+		if (latency > baseline.minLatency * LATENCY_TOLERANCE) {
+			backOff(startedAt, now);
+		} else if (semaphore.inFlight() * 2 >= limit) {
+			limit = Math.min(maxLimit, limit + 1);
+		}
+	}
+
+	/**
+	 * Decreases the limit, unless it was decreased since <code>startedAt</code>, so the requests in flight when the
+	 * tenant became overloaded decrease it only once.
+	 */
+	private void backOff(final long startedAt, final long now) {
+		if (startedAt - decreasedAt < 0) {
+			return;
+		}
+		limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+		decreasedAt = now;
+	}
+
+	/**
+	 * Returns the current limit of requests in flight.
+	 */
+	public int getLimit() {
+		return (int) limit;
+	}
+
+	public int getInFlight() {
+		return semaphore.inFlight();
+	}
+
+	/**
+	 * Returns the number of requests waiting for the limit.
+	 */
+	public int getQueued() {
+		return semaphore.queued();
+	}
+
+	/**
+	 * Returns the number of requests started.
+	 */
+	public synchronized long getRequests() {
+		return requests;
+	}
+
+	/**
+	 * Returns the number of requests answered with status <code>429</code> or <code>503</code> or timed out.
+	 */
+	public synchronized long getDropped() {
+		return dropped;
+	}
+
+	/**
+	 * Returns the number of requests rejected because the queue was full.
+	 */
+	public synchronized long getRejected() {
+		return rejected;
+	}
+
+	/**
+	 * Minimum latency of one operation and the time it was measured.
+	 */
+	private static class Baseline {
+
+		private long minLatency = Long.MAX_VALUE;
+
+		private long since;
+	}
+}
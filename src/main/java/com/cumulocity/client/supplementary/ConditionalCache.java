@@ -0,0 +1,288 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.supplementary;
+
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.ClientErrorException;
+import jakarta.ws.rs.ForbiddenException;
+import jakarta.ws.rs.InternalServerErrorException;
+import jakarta.ws.rs.NotAcceptableException;
+import jakarta.ws.rs.NotAllowedException;
+import jakarta.ws.rs.NotAuthorizedException;
+import jakarta.ws.rs.NotFoundException;
+import jakarta.ws.rs.NotSupportedException;
+import jakarta.ws.rs.RedirectionException;
+import jakarta.ws.rs.ServerErrorException;
+import jakarta.ws.rs.ServiceUnavailableException;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.client.ClientRequestContext;
+import jakarta.ws.rs.client.ClientResponseContext;
+import jakarta.ws.rs.client.ClientResponseFilter;
+import jakarta.ws.rs.core.Feature;
+import jakarta.ws.rs.core.FeatureContext;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * <p>HTTP cache for <code>GET</code> requests using conditional requests. Responses carrying an <code>ETag</code> or
+ * <code>Last-Modified</code> header are stored together with the decoded resource. Requests for a stored resource are
+ * sent with <code>If-None-Match</code> or <code>If-Modified-Since</code>, and if the platform answers with
+ * <code>304 Not Modified</code>, the stored resource is returned without transferring or decoding it again. A response
+ * without either header removes the stored resource, as it can no longer be revalidated.</p>
+ * <pre>
+ * final ConditionalCache cache = new ConditionalCache(16 * 1024 * 1024);
+ * clientConfig.register(cache);
+ * </pre>
+ * <p>The cache is bounded by the size of the stored response bodies. The least recently used responses are evicted
+ * once the budget is exceeded. All callers are completed with the same decoded instance, which must therefore not be
+ * modified. Register a {@link SingleFlight} before the cache to coalesce identical revalidations.</p>
+ */
+public class ConditionalCache implements Feature, GetInterceptor {
+
+	private static final String BODY_SIZE = ConditionalCache.class.getName() + ".bodySize";
+
+	private final long maxBytes;
+
+	private final LinkedHashMap<RequestKey, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+	private long bytes;
+
+	private long hits;
+
+	private long misses;
+
+	private long evictions;
+
+	/**
+	 * @param maxBytes the maximum size of all stored response bodies
+	 */
+	public ConditionalCache(final long maxBytes) {
+		if (maxBytes < 1) {
+			throw new IllegalArgumentException("maxBytes must be positive: " + maxBytes);
+		}
+		this.maxBytes = maxBytes;
+	}
+
+	@Override
+	public boolean configure(final FeatureContext context) {
+		context.register(new BodySizeFilter());
+		return true;
+	}
+
+	@Override
+	public <T> CompletionStage<T> intercept(final GetRequest request, final Class<T> type) {
+		if (Response.class.isAssignableFrom(type)) {
+			return request.proceed(type);
+		}
+		final RequestKey key = new RequestKey(request, type);
+		final Entry cached;
+		synchronized (this) {
+			cached = entries.get(key);
+		}
+		final BodySize bodySize = new BodySize();
+		GetRequest conditional = request.property(BODY_SIZE, bodySize);
+		if (cached != null && cached.etag != null) {
+			conditional = conditional.header(HttpHeaders.IF_NONE_MATCH, cached.etag);
+		} else if (cached != null) {
+			conditional = conditional.header(HttpHeaders.IF_MODIFIED_SINCE, cached.lastModified);
+		}
+		return conditional.proceed(Response.class).thenApply(response -> {
+			if (response.getStatusInfo().getFamily() != Response.Status.Family.SUCCESSFUL
+					&& (cached == null || response.getStatus() != Response.Status.NOT_MODIFIED.getStatusCode())) {
+				response.bufferEntity();
+				throw toException(response);
+			}
+			try {
+				if (cached != null && response.getStatus() == Response.Status.NOT_MODIFIED.getStatusCode()) {
+					synchronized (this) {
+						hits++;
+					}
+					return type.cast(cached.value);
+				}
+				synchronized (this) {
+					misses++;
+				}
+				final String etag = response.getHeaderString(HttpHeaders.ETAG);
+				final String lastModified = response.getHeaderString(HttpHeaders.LAST_MODIFIED);
+				if (etag == null && lastModified == null) {
+					remove(key);
+					return response.readEntity(type);
+				}
+				final T value = response.readEntity(type);
+				final long length = response.getLength() >= 0 ? response.getLength() : bodySize.bytes;
+				store(key, new Entry(value, etag, lastModified, length));
+				return value;
+			} finally {
+				response.close();
+			}
+		});
+	}
+
+	/**
+	 * Removes all stored responses.
+	 */
+	public synchronized void clear() {
+		entries.clear();
+		bytes = 0;
+	}
+
+	/**
+	 * Returns the number of requests answered with <code>304 Not Modified</code> and served from the cache.
+	 */
+	public synchronized long getHits() {
+		return hits;
+	}
+
+	/**
+	 * Returns the number of requests answered with a response body.
+	 */
+	public synchronized long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * Returns the number of responses evicted to stay within the budget.
+	 */
+	public synchronized long getEvictions() {
+		return evictions;
+	}
+
+	/**
+	 * Returns the size of all stored response bodies.
+	 */
+	public synchronized long getBytes() {
+		return bytes;
+	}
+
+	private synchronized void store(final RequestKey key, final Entry entry) {
+		remove(key);
+		if (entry.length > maxBytes) {
+			return;
+		}
+		entries.put(key, entry);
+		bytes += entry.length;
+		final Iterator<Entry> eldest = entries.values().iterator();
+		while (bytes > maxBytes && eldest.hasNext()) {
+			bytes -= eldest.next().length;
+			eldest.remove();
+			evictions++;
+		}
+	}
+
+	/**
+	 * Removes the stored response of <code>key</code>, which was replaced by a response that cannot be stored.
+	 */
+	private synchronized void remove(final RequestKey key) {
+		final Entry previous = entries.remove(key);
+		if (previous != null) {
+			bytes -= previous.length;
+		}
+	}
+
+	/**
+	 * Creates the exception the <code>rx()</code> invoker fails with for a response which was not successful.
+	 */
+	private static WebApplicationException toException(final Response response) {
+		switch (response.getStatus()) {
+			case 400:
+				return new BadRequestException(response);
+			case 401:
+				return new NotAuthorizedException(response);
+			case 403:
+				return new ForbiddenException(response);
+			case 404:
+				return new NotFoundException(response);
+			case 405:
+				return new NotAllowedException(response);
+			case 406:
+				return new NotAcceptableException(response);
+			case 415:
+				return new NotSupportedException(response);
+			case 500:
+				return new InternalServerErrorException(response);
+			case 503:
+				return new ServiceUnavailableException(response);
+			default:
+				break;
+		}
+		switch (response.getStatusInfo().getFamily()) {
+			case REDIRECTION:
+				return new RedirectionException(response);
+			case CLIENT_ERROR:
+				return new ClientErrorException(response);
+			case SERVER_ERROR:
+				return new ServerErrorException(response);
+			default:
+				return new WebApplicationException(response);
+		}
+	}
+
+	private static class Entry {
+
+		private final Object value;
+
+		private final String etag;
+
+		private final String lastModified;
+
+		private final long length;
+
+		Entry(final Object value, final String etag, final String lastModified, final long length) {
+			this.value = value;
+			this.etag = etag;
+			this.lastModified = lastModified;
+			this.length = length;
+		}
+	}
+
+	/**
+	 * The number of bytes read from a response body without <code>Content-Length</code>.
+	 */
+	private static class BodySize {
+
+		private long bytes;
+	}
+
+	/**
+	 * Counts the bytes of response bodies without <code>Content-Length</code> while they are decoded, for requests
+	 * carrying a {@link BodySize} as property.
+	 */
+	private static class BodySizeFilter implements ClientResponseFilter {
+
+		@Override
+		public void filter(final ClientRequestContext request, final ClientResponseContext response) {
+			final Object property = request.getProperty(BODY_SIZE);
+			if (!(property instanceof BodySize) || !response.hasEntity() || response.getLength() >= 0) {
+				return;
+			}
+			final BodySize bodySize = (BodySize) property;
+			response.setEntityStream(new FilterInputStream(response.getEntityStream()) {
+
+				@Override
+				public int read() throws IOException {
+					final int b = in.read();
+					if (b >= 0) {
+						bodySize.bytes++;
+					}
+					return b;
+				}
+
+				@Override
+				public int read(final byte[] b, final int off, final int len) throws IOException {
+					final int n = in.read(b, off, len);
+					if (n > 0) {
+						bodySize.bytes += n;
+					}
+					return n;
+				}
+			});
+		}
+	}
+}
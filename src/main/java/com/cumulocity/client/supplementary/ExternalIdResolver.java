@@ -0,0 +1,286 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.supplementary;
+
+import jakarta.ws.rs.WebApplicationException;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+
+import com.cumulocity.client.api.ExternalIDsApi;
+import com.cumulocity.client.api.ManagedObjectsApi;
+import com.cumulocity.client.model.ExternalId;
+import com.cumulocity.client.model.ExternalIds;
+import com.cumulocity.client.model.ManagedObject;
+
+/**
+ * <p>Resolves external IDs to the IDs of their managed objects, see {@link ExternalIDsApi#getExternalId}. Resolved
+ * IDs are cached, the least recently used ones are evicted once <code>maxSize</code> external IDs are cached.
+ * Concurrent resolutions of an external ID not cached share the same request.</p>
+ * <p>Unknown external IDs, i.e. external IDs answered with <code>404 Not Found</code>, are cached as well for
+ * <code>negativeTtlMillis</code>. Resolutions within this time fail with the same <code>NotFoundException</code>
+ * without sending a request.</p>
+ * <pre>
+ * final ExternalIdResolver resolver = new ExternalIdResolver(externalIDsApi, 100_000, 60_000);
+ * resolver.warmUp(managedObjectsApi, groupId, 2000, 8);
+ * resolver.resolve("c8y_Serial", serial).thenAccept(id -&gt; ...);
+ * </pre>
+ */
+public class ExternalIdResolver {
+
+	private final ExternalIDsApi externalIDsApi;
+
+	private final int maxSize;
+
+	private final long negativeTtlNanos;
+
+	private final LongSupplier clock;
+
+	private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+	private long hits;
+
+	private long negativeHits;
+
+	private long misses;
+
+	private long evictions;
+
+	/**
+	 * @param externalIDsApi
+	 * @param maxSize the maximum number of cached external IDs
+	 * @param negativeTtlMillis the time unknown external IDs are cached
+	 */
+	public ExternalIdResolver(final ExternalIDsApi externalIDsApi, final int maxSize, final long negativeTtlMillis) {
+		this(externalIDsApi, maxSize, negativeTtlMillis, System::nanoTime);
+	}
+
+	ExternalIdResolver(final ExternalIDsApi externalIDsApi, final int maxSize, final long negativeTtlMillis, final LongSupplier clock) {
+		if (maxSize < 1) {
+			throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+		}
+		this.externalIDsApi = externalIDsApi;
+		this.maxSize = maxSize;
+		this.negativeTtlNanos = TimeUnit.MILLISECONDS.toNanos(negativeTtlMillis);
+		this.clock = clock;
+	}
+
+	/**
+	 * Resolves the external ID <code>externalId</code> of type <code>type</code>.
+	 *
+	 * @param type
+	 * @param externalId
+	 * @return a stage completing with the ID of the managed object, or failing with a <code>NotFoundException</code> if
+	 * the external ID is unknown
+	 */
+	public CompletionStage<String> resolve(final String type, final String externalId) {
+		final String key = key(type, externalId);
+		final Entry entry;
+		synchronized (this) {
+			final Entry cached = entries.get(key);
+			if (cached != null && !cached.negative) {
+				hits++;
+				return cached.id.thenApply(id -> id);
+			}
+			if (cached != null && clock.getAsLong() - cached.resolvedAt < negativeTtlNanos) {
+				negativeHits++;
+				return cached.id.thenApply(id -> id);
+			}
+			misses++;
+			entry = new Entry(new CompletableFuture<>());
+			put(key, entry);
+		}
+		CompletionStage<ExternalId> response;
+		try {
+			response = externalIDsApi.getExternalId(type, externalId);
+		} catch (final RuntimeException e) {
+			final CompletableFuture<ExternalId> failed = new CompletableFuture<>();
+			failed.completeExceptionally(e);
+			response = failed;
+		}
+		response.whenComplete((resolved, e) -> resolved(key, entry, resolved, e));
+		return entry.id.thenApply(id -> id);
+	}
+
+	/**
+	 * Caches the external IDs of all managed objects in the group <code>groupId</code>, including subgroups. The
+	 * managed objects are requested page by page on the calling thread, see
+	 * {@link KeysetPaging#managedObjects(ManagedObjectsApi, String, int)}, and their external IDs with up to
+	 * <code>maxInFlight</code> requests in flight. The next managed object is only taken from the current page once a
+	 * request has completed, so a large group is not queued up in memory.
+	 *
+	 * @param managedObjectsApi
+	 * @param groupId
+	 * @param pageSize
+	 * @param maxInFlight
+	 * @return the number of cached external IDs
+	 */
+	public int warmUp(final ManagedObjectsApi managedObjectsApi, final String groupId, final int pageSize, final int maxInFlight) {
+		if (maxInFlight < 1) {
+			throw new IllegalArgumentException("maxInFlight must be positive: " + maxInFlight);
+		}
+		final Semaphore inFlight = new Semaphore(maxInFlight);
+		final AtomicInteger cached = new AtomicInteger();
+		final AtomicReference<Throwable> failure = new AtomicReference<>();
+		try (Stream<ManagedObject> managedObjects = KeysetPaging.managedObjects(managedObjectsApi, "bygroupid(" + groupId + ")", pageSize).stream()) {
+			managedObjects.forEach(managedObject -> {
+				inFlight.acquireUninterruptibly();
+				CompletionStage<ExternalIds> response;
+				try {
+					response = externalIDsApi.getExternalIds(managedObject.getId());
+				} catch (final RuntimeException e) {
+					final CompletableFuture<ExternalIds> failed = new CompletableFuture<>();
+					failed.completeExceptionally(e);
+					response = failed;
+				}
+				response.whenComplete((externalIds, e) -> {
+					try {
+						if (e != null) {
+							failure.compareAndSet(null, e);
+						} else {
+							cached.addAndGet(put(managedObject.getId(), externalIds));
+						}
+					} finally {
+						inFlight.release();
+					}
+				});
+			});
+		}
+		inFlight.acquireUninterruptibly(maxInFlight);
+		final Throwable e = failure.get();
+		if (e != null) {
+			throw e instanceof CompletionException ? (CompletionException) e : new CompletionException(e);
+		}
+		return cached.get();
+	}
+
+	/**
+	 * Removes the external ID <code>externalId</code> of type <code>type</code>, e.g. after it has been deleted or
+	 * created.
+	 *
+	 * @param type
+	 * @param externalId
+	 */
+	public synchronized void invalidate(final String type, final String externalId) {
+		entries.remove(key(type, externalId));
+	}
+
+	public synchronized void invalidateAll() {
+		entries.clear();
+	}
+
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	/**
+	 * Returns the number of resolutions served from the cache, including resolutions of external IDs being resolved.
+	 */
+	public synchronized long getHits() {
+		return hits;
+	}
+
+	/**
+	 * Returns the number of resolutions of unknown external IDs served from the cache.
+	 */
+	public synchronized long getNegativeHits() {
+		return negativeHits;
+	}
+
+	/**
+	 * Returns the number of resolutions which sent a request.
+	 */
+	public synchronized long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * Returns the number of external IDs evicted to stay within the maximum size.
+	 */
+	public synchronized long getEvictions() {
+		return evictions;
+	}
+
+	private synchronized int put(final String id, final ExternalIds externalIds) {
+		if (externalIds == null || externalIds.getExternalIds() == null) {
+			return 0;
+		}
+		int count = 0;
+		for (final ExternalId externalId : externalIds.getExternalIds()) {
+			if (externalId.getType() != null && externalId.getExternalId() != null) {
+				final Entry entry = new Entry(CompletableFuture.completedFuture(id));
+				entry.resolved = true;
+				put(key(externalId.getType(), externalId.getExternalId()), entry);
+				count++;
+			}
+		}
+		return count;
+	}
+
+	private void resolved(final String key, final Entry entry, final ExternalId resolved, final Throwable e) {
+		final Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+		final boolean notFound = cause instanceof WebApplicationException && ((WebApplicationException) cause).getResponse().getStatus() == 404;
+		synchronized (this) {
+			if (entries.get(key) == entry) {
+				if (notFound) {
+					entry.negative = true;
+					entry.resolvedAt = clock.getAsLong();
+				} else if (e != null) {
+					entries.remove(key);
+				} else {
+					entry.resolved = true;
+				}
+			}
+		}
+		if (e != null) {
+			entry.id.completeExceptionally(cause);
+		} else {
+			entry.id.complete(resolved.getManagedObject() != null ? resolved.getManagedObject().getId() : null);
+		}
+	}
+
+	/**
+	 * Adds <code>entry</code> and evicts the least recently used resolved entries exceeding the maximum size. Must be
+	 * called holding the lock.
+	 */
+	private void put(final String key, final Entry entry) {
+		entries.put(key, entry);
+		final Iterator<Entry> eldest = entries.values().iterator();
+		while (entries.size() > maxSize && eldest.hasNext()) {
+			final Entry evicted = eldest.next();
+			if (evicted.resolved || evicted.negative) {
+				eldest.remove();
+				evictions++;
+			}
+		}
+	}
+
+	private static String key(final String type, final String externalId) {
+		return type.length() + ":" + type + externalId;
+	}
+
+	private static class Entry {
+
+		private final CompletableFuture<String> id;
+
+		private boolean resolved;
+
+		private boolean negative;
+
+		private long resolvedAt;
+
+		Entry(final CompletableFuture<String> id) {
+			this.id = id;
+		}
+	}
+}
@@ -0,0 +1,144 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.supplementary;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+
+/**
+ * <p>Registry of the custom fragments of an extensible model, mapping the name of a fragment to the class it is decoded
+ * into.</p>
+ * <p>Reads are lock-free and served from an immutable snapshot, registrations copy the snapshot and publish the copy.
+ * Each fragment caches the deserializer resolved for it, so decoding a fragment takes a single lookup by name.</p>
+ * <p>With {@link #setLazyDecoding(boolean) lazy decoding} enabled, fragments are not decoded while reading the
+ * enclosing object. Instead, all fragments, including the ones without registration, are retained as
+ * {@link RawFragment} in a {@link LazyFragmentMap} and decoded on first access.</p>
+ */
+public class FragmentRegistry {
+
+	private volatile Map<String, Fragment> fragments = Collections.emptyMap();
+
+	private volatile boolean lazyDecoding;
+
+	/**
+	 * Registers <code>type</code> as class of the fragment <code>name</code>, replacing any previous registration.
+	 *
+	 * @param name
+	 * @param type
+	 */
+	public synchronized void register(final String name, final Class<?> type) {
+		final Map<String, Fragment> copy = new HashMap<>(fragments);
+		copy.put(name, new Fragment(type));
+		fragments = Collections.unmodifiableMap(copy);
+	}
+
+	/**
+	 * @param name
+	 * @return the registered fragment or <code>null</code>, if no class is registered for <code>name</code>
+	 */
+	public Fragment get(final String name) {
+		return fragments.get(name);
+	}
+
+	public boolean isLazyDecoding() {
+		return lazyDecoding;
+	}
+
+	public void setLazyDecoding(final boolean lazyDecoding) {
+		this.lazyDecoding = lazyDecoding;
+	}
+
+	/**
+	 * Creates the map holding the custom fragments of an object about to be decoded.
+	 */
+	public Map<String, Object> newFragmentMap() {
+		return lazyDecoding ? new LazyFragmentMap() : new HashMap<>();
+	}
+
+	/**
+	 * Reads the custom fragment <code>name</code> the parser is positioned at into <code>fragments</code>. Fragments
+	 * without registration are skipped, unless <code>fragments</code> is a {@link LazyFragmentMap}. A fragment which
+	 * cannot be decoded into its registered class is dropped by {@link MalformedValues}, leaving the parser at the end
+	 * of the fragment.
+	 *
+	 * @param name
+	 * @param p
+	 * @param ctxt
+	 * @param fragments the map created by {@link #newFragmentMap()}
+	 * @throws IOException
+	 */
+	public void read(final String name, final JsonParser p, final DeserializationContext ctxt, final Map<String, Object> fragments) throws IOException {
+		final Fragment fragment = get(name);
+		if (fragments instanceof LazyFragmentMap) {
+			fragments.put(name, new RawFragment(p, ctxt, fragment != null ? fragment.type : Object.class));
+		} else if (fragment != null) {
+			final JsonStreamContext enclosing = MalformedValues.enclosingContext(p);
+			try {
+				fragments.put(name, fragment.read(p, ctxt));
+			} catch (final JsonMappingException | IllegalArgumentException e) {
+				MalformedValues.skip(p, enclosing, fragment.type, e);
+			}
+		} else {
+			p.skipChildren();
+		}
+	}
+
+	public static class Fragment {
+
+		private final Class<?> type;
+
+		private volatile ResolvedDeserializer resolved;
+
+		Fragment(final Class<?> type) {
+			this.type = type;
+		}
+
+		public Class<?> getType() {
+			return type;
+		}
+
+		/**
+		 * Reads the value the parser is positioned at. The deserializer is resolved once per deserialization config,
+		 * i.e. once per <code>ObjectMapper</code> or <code>ObjectReader</code> decoding the fragment.
+		 *
+		 * @param p
+		 * @param ctxt
+		 * @return the decoded fragment
+		 * @throws IOException
+		 */
+		public Object read(final JsonParser p, final DeserializationContext ctxt) throws IOException {
+			ResolvedDeserializer current = resolved;
+			if (current == null || current.config != ctxt.getConfig()) {
+				current = new ResolvedDeserializer(ctxt.getConfig(), ctxt.findRootValueDeserializer(ctxt.constructType(type)));
+				resolved = current;
+			}
+			if (p.currentToken() == JsonToken.VALUE_NULL) {
+				return current.deserializer.getNullValue(ctxt);
+			}
+			return current.deserializer.deserialize(p, ctxt);
+		}
+	}
+
+	private static class ResolvedDeserializer {
+
+		private final DeserializationConfig config;
+
+		private final JsonDeserializer<Object> deserializer;
+
+		ResolvedDeserializer(final DeserializationConfig config, final JsonDeserializer<Object> deserializer) {
+			this.config = config;
+			this.deserializer = deserializer;
+		}
+	}
+}
@@ -0,0 +1,27 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.supplementary;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * <p>Intercepts the <code>GET</code> requests of all API classes created from a <code>WebTarget</code> of a client.
+ * Interceptors are registered with the client configuration and invoked in the order of registration:</p>
+ * <pre>
+ * final ClientConfig clientConfig = new ClientConfig();
+ * clientConfig.register(new SingleFlight());
+ * </pre>
+ * <p>An interceptor either answers the request itself or passes it on by {@link GetRequest#proceed(Class)}. Only
+ * requests sent by the <code>rx()</code> invoker are intercepted.</p>
+ */
+public interface GetInterceptor {
+
+	/**
+	 * @param <T>
+	 * @param request the request to send
+	 * @param type the response type
+	 * @return a stage completing with the decoded response
+	 */
+	<T> CompletionStage<T> intercept(GetRequest request, Class<T> type);
+}
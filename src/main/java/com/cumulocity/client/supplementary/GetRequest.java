@@ -0,0 +1,94 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.supplementary;
+
+import jakarta.ws.rs.client.Invocation;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * <p>A <code>GET</code> request passed to a chain of {@link GetInterceptor interceptors}. The request is identified
+ * by its URI and its headers. Header names are held in lower case and sorted by name.</p>
+ */
+public final class GetRequest {
+
+	private final URI uri;
+
+	private final Map<String, List<Object>> headers;
+
+	private final Invocation.Builder invocation;
+
+	private final List<GetInterceptor> interceptors;
+
+	private final int index;
+
+	private final RequestSender sender;
+
+	GetRequest(final URI uri, final Map<String, List<Object>> headers, final Invocation.Builder invocation, final List<GetInterceptor> interceptors, final int index, final RequestSender sender) {
+		this.uri = uri;
+		this.headers = headers;
+		this.invocation = invocation;
+		this.interceptors = interceptors;
+		this.index = index;
+		this.sender = sender;
+	}
+
+	public URI getUri() {
+		return uri;
+	}
+
+	/**
+	 * Returns the unmodifiable headers of the request, keyed by the lower case header name.
+	 */
+	public Map<String, List<Object>> getHeaders() {
+		return headers;
+	}
+
+	/**
+	 * Adds a header to the request, e.g. to send a conditional request.
+	 *
+	 * @param name
+	 * @param value
+	 * @return the request including the header
+	 */
+	public GetRequest header(final String name, final Object value) {
+		invocation.header(name, value);
+		final Map<String, List<Object>> copy = new TreeMap<>(headers);
+		copy.put(name.toLowerCase(Locale.ROOT), Collections.singletonList(value));
+		return new GetRequest(uri, Collections.unmodifiableMap(copy), invocation, interceptors, index, sender);
+	}
+
+	/**
+	 * Sets a property of the request, e.g. to pass state to a filter or interceptor of the client.
+	 *
+	 * @param name
+	 * @param value
+	 * @return the request
+	 */
+	public GetRequest property(final String name, final Object value) {
+		invocation.property(name, value);
+		return this;
+	}
+
+	/**
+	 * Passes the request to the next interceptor or, if this is the last one, sends it. Requests sent are started by
+	 * the {@link ConcurrencyLimiter} and reported to the {@link ClientMetrics} of the client, if any.
+	 *
+	 * @param <T>
+	 * @param type the response type
+	 * @return a stage completing with the decoded response
+	 */
+	public <T> CompletionStage<T> proceed(final Class<T> type) {
+		if (index < interceptors.size()) {
+			return interceptors.get(index).intercept(new GetRequest(uri, headers, invocation, interceptors, index + 1, sender), type);
+		}
+		return sender.send(() -> invocation.rx().method("GET", type));
+	}
+}
@@ -0,0 +1,379 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.supplementary;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLEngineResult;
+import javax.net.ssl.SSLEngineResult.HandshakeStatus;
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLPeerUnverifiedException;
+
+/**
+ * <p>Non-blocking HTTP/1.1 connection, optionally secured by TLS. A connection sends one request at a time and is
+ * confined to the thread of its {@link NioLoop}.</p>
+ */
+class HttpConnection {
+
+	private static final ByteBuffer EMPTY = ByteBuffer.allocate(0);
+
+	private final NioLoop.HostPool pool;
+
+	private final SocketChannel channel;
+
+	private final SelectionKey key;
+
+	private final SSLEngine engine;
+
+	private final String host;
+
+	private final NioLoop loop;
+
+	private ByteBuffer netIn;
+
+	private ByteBuffer netOut;
+
+	private ByteBuffer appIn;
+
+	private ByteBuffer appOut;
+
+	private NioLoop.Exchange exchange;
+
+	private HttpResponseParser parser;
+
+	private boolean connected;
+
+	private boolean verified;
+
+	private boolean reused;
+
+	private boolean pumping;
+
+	private boolean closed;
+
+	private long deadline;
+
+	long idleSince;
+
+	HttpConnection(final NioLoop loop, final NioLoop.HostPool pool, final NioLoop.Exchange exchange) throws IOException {
+		this.loop = loop;
+		this.pool = pool;
+		this.host = exchange.host;
+		if (exchange.secure) {
+			engine = loop.sslContext().createSSLEngine(exchange.host, exchange.port);
+			engine.setUseClientMode(true);
+			if (loop.hostnameVerifier() == null) {
+				final SSLParameters parameters = engine.getSSLParameters();
+				parameters.setEndpointIdentificationAlgorithm("HTTPS");
+				engine.setSSLParameters(parameters);
+			}
+			netIn = ByteBuffer.allocate(engine.getSession().getPacketBufferSize());
+			netOut = ByteBuffer.allocate(engine.getSession().getPacketBufferSize());
+			netOut.flip();
+			appIn = ByteBuffer.allocate(engine.getSession().getApplicationBufferSize());
+		} else {
+			engine = null;
+			appIn = ByteBuffer.allocate(16 * 1024);
+		}
+		channel = SocketChannel.open();
+		try {
+			channel.configureBlocking(false);
+			channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+			key = channel.register(loop.selector(), 0, this);
+		} catch (final IOException e) {
+			channel.close();
+			throw e;
+		}
+		assign(exchange);
+	}
+
+	/**
+	 * Connects to the resolved address of the pool.
+	 */
+	void connect() {
+		deadline = exchange.connectTimeoutNanos > 0 ? System.nanoTime() + exchange.connectTimeoutNanos : 0;
+		try {
+			if (channel.connect(pool.address())) {
+				connected();
+			} else {
+				key.interestOps(SelectionKey.OP_CONNECT);
+			}
+		} catch (final IOException | RuntimeException e) {
+			fail(e);
+		}
+	}
+
+	/**
+	 * Sends the request of <code>exchange</code>. The connection must be idle.
+	 */
+	void send(final NioLoop.Exchange exchange) {
+		assign(exchange);
+		touch();
+		if (!pumping) {
+			pump();
+		}
+	}
+
+	void handle(final SelectionKey key) {
+		if (!key.isValid()) {
+			return;
+		}
+		if (key.isConnectable()) {
+			try {
+				channel.finishConnect();
+			} catch (final IOException e) {
+				fail(e);
+				return;
+			}
+			connected();
+		} else {
+			pump();
+		}
+	}
+
+	/**
+	 * Fails the exchange in flight, if its deadline has passed, or closes the connection, if it has been idle for
+	 * longer than <code>idleTimeoutNanos</code>.
+	 */
+	void sweep(final long now, final long idleTimeoutNanos) {
+		if (exchange != null && deadline != 0 && now - deadline > 0) {
+			final NioLoop.Exchange timedOut = exchange;
+			timedOut.retried = true;
+			fail(new SocketTimeoutException((connected ? "Read" : "Connect") + " timed out: " + timedOut.poolKey));
+		} else if (exchange == null && now - idleSince > idleTimeoutNanos) {
+			close();
+		}
+	}
+
+	/**
+	 * Closes the connection without completing <code>cancelled</code>, if it is in flight.
+	 */
+	void abort(final NioLoop.Exchange cancelled) {
+		if (exchange == cancelled) {
+			exchange = null;
+			close();
+		}
+	}
+
+	/**
+	 * Closes the connection, failing the exchange in flight with <code>error</code>. An idempotent request on a reused
+	 * connection which has not received any response yet is sent again, as the connection has likely been closed by
+	 * the server while idle.
+	 */
+	void fail(final Throwable error) {
+		final NioLoop.Exchange failed = exchange;
+		final boolean retry = failed != null && reused && failed.idempotent && !failed.retried && (parser == null || !parser.isStarted());
+		if (!connected) {
+			pool.forgetAddress();
+		}
+		exchange = null;
+		close();
+		if (failed == null) {
+			return;
+		}
+		if (retry) {
+			failed.retried = true;
+			pool.submit(failed);
+		} else {
+			failed.fail(error);
+		}
+	}
+
+	private void assign(final NioLoop.Exchange exchange) {
+		this.exchange = exchange;
+		exchange.connection = this;
+		parser = new HttpResponseParser(exchange.head);
+		appOut = ByteBuffer.wrap(exchange.bytes);
+	}
+
+	private void touch() {
+		deadline = exchange != null && exchange.readTimeoutNanos > 0 ? System.nanoTime() + exchange.readTimeoutNanos : 0;
+	}
+
+	private void connected() {
+		connected = true;
+		touch();
+		if (engine != null) {
+			try {
+				engine.beginHandshake();
+			} catch (final IOException e) {
+				fail(e);
+				return;
+			}
+		}
+		pump();
+	}
+
+	private void pump() {
+		if (closed || !connected) {
+			return;
+		}
+		pumping = true;
+		try {
+			if (engine == null) {
+				pumpPlain();
+			} else {
+				pumpTls();
+			}
+		} catch (final IOException | RuntimeException e) {
+			fail(e);
+		} finally {
+			pumping = false;
+		}
+		if (!closed) {
+			final boolean pendingWrite = engine == null ? appOut != null && appOut.hasRemaining() : netOut.hasRemaining();
+			key.interestOps(SelectionKey.OP_READ | (pendingWrite ? SelectionKey.OP_WRITE : 0));
+		}
+	}
+
+	private void pumpPlain() throws IOException {
+		while (!closed) {
+			if (appOut != null && appOut.hasRemaining()) {
+				channel.write(appOut);
+			}
+			appIn.clear();
+			final int read = channel.read(appIn);
+			if (read == 0) {
+				return;
+			}
+			if (read < 0) {
+				endOfStream();
+				return;
+			}
+			appIn.flip();
+			received(appIn);
+		}
+	}
+
+	private void pumpTls() throws IOException {
+		boolean endOfStream = false;
+		while (!closed) {
+			if (netOut.hasRemaining()) {
+				channel.write(netOut);
+				if (netOut.hasRemaining()) {
+					return;
+				}
+			}
+			final HandshakeStatus status = engine.getHandshakeStatus();
+			if (status == HandshakeStatus.NEED_TASK) {
+				for (Runnable task = engine.getDelegatedTask(); task != null; task = engine.getDelegatedTask()) {
+					task.run();
+				}
+				continue;
+			}
+			final boolean handshaking = status != HandshakeStatus.NOT_HANDSHAKING && status != HandshakeStatus.FINISHED;
+			if (!handshaking && !verified) {
+				verify();
+			}
+			if (status == HandshakeStatus.NEED_WRAP || (!handshaking && appOut != null && appOut.hasRemaining())) {
+				netOut.clear();
+				final SSLEngineResult result = engine.wrap(appOut != null && !handshaking ? appOut : EMPTY, netOut);
+				netOut.flip();
+				if (result.getStatus() == SSLEngineResult.Status.CLOSED) {
+					endOfStream();
+					return;
+				}
+				continue;
+			}
+			netIn.flip();
+			final SSLEngineResult result = engine.unwrap(netIn, appIn);
+			netIn.compact();
+			if (appIn.position() > 0) {
+				appIn.flip();
+				received(appIn);
+				appIn.clear();
+			}
+			if (result.getStatus() == SSLEngineResult.Status.BUFFER_OVERFLOW) {
+				appIn = ByteBuffer.allocate(Math.max(appIn.capacity() * 2, engine.getSession().getApplicationBufferSize()));
+				continue;
+			}
+			if (result.getStatus() == SSLEngineResult.Status.CLOSED) {
+				endOfStream();
+				return;
+			}
+			if (result.getStatus() == SSLEngineResult.Status.OK && (result.bytesConsumed() > 0 || result.bytesProduced() > 0)) {
+				continue;
+			}
+			if (result.getStatus() == SSLEngineResult.Status.BUFFER_UNDERFLOW && !netIn.hasRemaining()) {
+				final ByteBuffer larger = ByteBuffer.allocate(netIn.capacity() * 2);
+				netIn.flip();
+				larger.put(netIn);
+				netIn = larger;
+			}
+			if (endOfStream) {
+				endOfStream();
+				return;
+			}
+			final int read = channel.read(netIn);
+			if (read == 0) {
+				return;
+			}
+			endOfStream = read < 0;
+		}
+	}
+
+	/**
+	 * Checks the server certificate with the hostname verifier of the client, if any, once the handshake is complete.
+	 */
+	private void verify() throws IOException {
+		verified = true;
+		if (loop.hostnameVerifier() != null && !loop.hostnameVerifier().verify(host, engine.getSession())) {
+			throw new SSLPeerUnverifiedException("Hostname " + host + " not verified");
+		}
+	}
+
+	private void received(final ByteBuffer data) throws IOException {
+		if (exchange == null) {
+			close();
+			return;
+		}
+		touch();
+		if (parser.parse(data)) {
+			completed(parser.isKeepAlive() && !data.hasRemaining());
+		}
+	}
+
+	private void endOfStream() {
+		if (exchange != null && parser.endOfStream()) {
+			completed(false);
+		}
+		fail(new IOException("Connection closed by server"));
+	}
+
+	private void completed(final boolean keepAlive) {
+		final NioLoop.Exchange completed = exchange;
+		final HttpResponseParser response = parser;
+		exchange = null;
+		parser = null;
+		appOut = null;
+		deadline = 0;
+		completed.succeed(response);
+		if (keepAlive) {
+			reused = true;
+			pool.release(this);
+		} else {
+			close();
+		}
+	}
+
+	private void close() {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		key.cancel();
+		try {
+			channel.close();
+		} catch (final IOException e) {
+			// the connection is discarded anyway
+		}
+		pool.closed(this);
+	}
+}
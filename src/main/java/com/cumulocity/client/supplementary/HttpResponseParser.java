@@ -0,0 +1,268 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.supplementary;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * <p>Incremental parser of a single HTTP/1.1 response. Bytes are passed as they are received, the body is accumulated
+ * in memory. Bodies are delimited by <code>Content-Length</code>, chunked transfer encoding or the end of the stream.
+ * Interim <code>1xx</code> responses are skipped.</p>
+ */
+class HttpResponseParser {
+
+	private static final int MAX_LINE_LENGTH = 64 * 1024;
+
+	private enum State {
+		STATUS_LINE, HEADERS, BODY, CHUNK_SIZE, CHUNK_DATA, CHUNK_END, TRAILERS, UNTIL_CLOSE, DONE
+	}
+
+	private final boolean bodyless;
+
+	private final ByteArrayOutputStream line = new ByteArrayOutputStream(128);
+
+	private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+	private List<String[]> headers = new ArrayList<>();
+
+	private State state = State.STATUS_LINE;
+
+	private boolean started;
+
+	private int status;
+
+	private String reason;
+
+	private boolean keepAlive;
+
+	private boolean chunked;
+
+	private long contentLength = -1;
+
+	private long remaining;
+
+	/**
+	 * @param bodyless whether the response has no body regardless of its headers, i.e. the response to a
+	 * <code>HEAD</code> request
+	 */
+	HttpResponseParser(final boolean bodyless) {
+		this.bodyless = bodyless;
+	}
+
+	/**
+	 * Consumes the remaining bytes of <code>buffer</code>, or the bytes up to the end of the response.
+	 *
+	 * @param buffer
+	 * @return whether the response is complete
+	 * @throws IOException if the response is malformed
+	 */
+	boolean parse(final ByteBuffer buffer) throws IOException {
+		if (buffer.hasRemaining()) {
+			started = true;
+		}
+		while (buffer.hasRemaining() && state != State.DONE) {
+			switch (state) {
+				case BODY:
+				case CHUNK_DATA: {
+					final int count = (int) Math.min(remaining, buffer.remaining());
+					copy(buffer, count);
+					remaining -= count;
+					if (remaining == 0) {
+						state = state == State.BODY ? State.DONE : State.CHUNK_END;
+					}
+					break;
+				}
+				case UNTIL_CLOSE:
+					copy(buffer, buffer.remaining());
+					break;
+				default: {
+					final String text = readLine(buffer);
+					if (text != null) {
+						onLine(text);
+					}
+				}
+			}
+		}
+		return state == State.DONE;
+	}
+
+	/**
+	 * Signals the end of the stream.
+	 *
+	 * @return whether the response is complete
+	 */
+	boolean endOfStream() {
+		if (state == State.UNTIL_CLOSE) {
+			state = State.DONE;
+		}
+		return state == State.DONE;
+	}
+
+	/**
+	 * Returns whether any byte of the response has been received.
+	 */
+	boolean isStarted() {
+		return started;
+	}
+
+	/**
+	 * Returns whether the connection may be reused for another request once the response is complete.
+	 */
+	boolean isKeepAlive() {
+		return keepAlive;
+	}
+
+	int getStatus() {
+		return status;
+	}
+
+	String getReason() {
+		return reason;
+	}
+
+	/**
+	 * Returns the headers as name/value pairs, in the order received.
+	 */
+	List<String[]> getHeaders() {
+		return headers;
+	}
+
+	byte[] getBody() {
+		return body.toByteArray();
+	}
+
+	private void copy(final ByteBuffer buffer, final int count) {
+		if (buffer.hasArray()) {
+			body.write(buffer.array(), buffer.arrayOffset() + buffer.position(), count);
+			buffer.position(buffer.position() + count);
+		} else {
+			for (int i = 0; i < count; i++) {
+				body.write(buffer.get());
+			}
+		}
+	}
+
+	/**
+	 * Reads up to the next line feed.
+	 *
+	 * @return the line without line terminator, or <code>null</code> if the buffer ends before the line
+	 */
+	private String readLine(final ByteBuffer buffer) throws IOException {
+		while (buffer.hasRemaining()) {
+			final byte b = buffer.get();
+			if (b == '\n') {
+				final byte[] bytes = line.toByteArray();
+				line.reset();
+				final int length = bytes.length > 0 && bytes[bytes.length - 1] == '\r' ? bytes.length - 1 : bytes.length;
+				return new String(bytes, 0, length, StandardCharsets.ISO_8859_1);
+			}
+			if (line.size() >= MAX_LINE_LENGTH) {
+				throw new IOException("Response line exceeds " + MAX_LINE_LENGTH + " bytes");
+			}
+			line.write(b);
+		}
+		return null;
+	}
+
+	private void onLine(final String text) throws IOException {
+		switch (state) {
+			case STATUS_LINE:
+				if (!text.isEmpty()) {
+					onStatusLine(text);
+				}
+				break;
+			case HEADERS:
+				if (text.isEmpty()) {
+					onHeadersComplete();
+				} else {
+					final int colon = text.indexOf(':');
+					if (colon <= 0) {
+						throw new IOException("Malformed header: " + text);
+					}
+					onHeader(text.substring(0, colon).trim(), text.substring(colon + 1).trim());
+				}
+				break;
+			case CHUNK_SIZE: {
+				final int extension = text.indexOf(';');
+				try {
+					remaining = Long.parseLong((extension < 0 ? text : text.substring(0, extension)).trim(), 16);
+				} catch (final NumberFormatException e) {
+					throw new IOException("Malformed chunk size: " + text);
+				}
+				state = remaining == 0 ? State.TRAILERS : State.CHUNK_DATA;
+				break;
+			}
+			case CHUNK_END:
+				if (!text.isEmpty()) {
+					throw new IOException("Malformed chunk");
+				}
+				state = State.CHUNK_SIZE;
+				break;
+			case TRAILERS:
+				if (text.isEmpty()) {
+					state = State.DONE;
+				}
+				break;
+			default:
+				break;
+		}
+	}
+
+	private void onStatusLine(final String text) throws IOException {
+		final String[] parts = text.split(" ", 3);
+		if (parts.length < 2 || !parts[0].startsWith("HTTP/")) {
+			throw new IOException("Malformed status line: " + text);
+		}
+		try {
+			status = Integer.parseInt(parts[1]);
+		} catch (final NumberFormatException e) {
+			throw new IOException("Malformed status line: " + text);
+		}
+		reason = parts.length > 2 ? parts[2] : "";
+		keepAlive = !"HTTP/1.0".equals(parts[0]);
+		state = State.HEADERS;
+	}
+
+	private void onHeader(final String name, final String value) {
+		headers.add(new String[] {name, value});
+		final String lowerCaseName = name.toLowerCase(Locale.ROOT);
+		if ("content-length".equals(lowerCaseName)) {
+			contentLength = Long.parseLong(value);
+		} else if ("transfer-encoding".equals(lowerCaseName)) {
+			chunked = value.toLowerCase(Locale.ROOT).contains("chunked");
+		} else if ("connection".equals(lowerCaseName)) {
+			final String token = value.toLowerCase(Locale.ROOT);
+			if (token.contains("close")) {
+				keepAlive = false;
+			} else if (token.contains("keep-alive")) {
+				keepAlive = true;
+			}
+		}
+	}
+
+	private void onHeadersComplete() {
+		if (status >= 100 && status < 200) {
+			headers = new ArrayList<>();
+			chunked = false;
+			contentLength = -1;
+			state = State.STATUS_LINE;
+		} else if (bodyless || status == 204 || status == 304) {
+			state = State.DONE;
+		} else if (chunked) {
+			state = State.CHUNK_SIZE;
+		} else if (contentLength >= 0) {
+			remaining = contentLength;
+			state = contentLength == 0 ? State.DONE : State.BODY;
+		} else {
+			keepAlive = false;
+			state = State.UNTIL_CLOSE;
+		}
+	}
+}
@@ -0,0 +1,462 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.supplementary;
+
+import jakarta.ws.rs.client.AsyncInvoker;
+import jakarta.ws.rs.client.CompletionStageRxInvoker;
+import jakarta.ws.rs.client.Entity;
+import jakarta.ws.rs.client.Invocation;
+import jakarta.ws.rs.client.RxInvoker;
+import jakarta.ws.rs.core.CacheControl;
+import jakarta.ws.rs.core.Cookie;
+import jakarta.ws.rs.core.GenericType;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.core.Response;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+/**
+ * <p>Invocation builder recording the headers of a request, so that <code>GET</code> requests sent by the
+ * <code>rx()</code> invoker can be passed through the {@link GetInterceptor interceptors} of the client. All other
+ * requests are sent unchanged. Requests with properties are never intercepted, as properties may change the request
+ * in ways not reflected by its URI and headers.</p>
+ * <p>All requests sent by the synchronous methods or the <code>rx()</code> invoker are passed to the
+ * {@link RequestSender} of the request, which starts them by the {@link ConcurrencyLimiter}, reports them to the
+ * {@link ClientMetrics} and records them by the {@link ClientEvents} of the client, if any. Requests answered by an
+ * interceptor without being sent are neither limited nor reported.</p>
+ */
+class InterceptingInvocationBuilder implements Invocation.Builder {
+
+	private final Invocation.Builder delegate;
+
+	private final URI uri;
+
+	private final List<GetInterceptor> interceptors;
+
+	private final RequestSender sender;
+
+	private final Map<String, List<Object>> headers = new TreeMap<>();
+
+	private boolean intercepted = true;
+
+	InterceptingInvocationBuilder(final Invocation.Builder delegate, final URI uri, final List<GetInterceptor> interceptors, final RequestSender sender) {
+		this.delegate = delegate;
+		this.uri = uri;
+		this.interceptors = interceptors;
+		this.sender = sender;
+	}
+
+	private <T> T call(final Supplier<T> request) {
+		return sender.call(request);
+	}
+
+	private <T> CompletionStage<T> send(final Supplier<? extends CompletionStage<T>> request) {
+		return sender.send(request);
+	}
+
+	private Invocation.Builder record(final String name, final Object... values) {
+		headers.computeIfAbsent(name.toLowerCase(Locale.ROOT), n -> new ArrayList<>()).addAll(Arrays.asList(values));
+		return this;
+	}
+
+	private <T> CompletionStage<T> intercept(final Class<T> type) {
+		if (!intercepted || interceptors.isEmpty()) {
+			return send(() -> delegate.rx().get(type));
+		}
+		final Map<String, List<Object>> snapshot = new TreeMap<>();
+		headers.forEach((name, values) -> snapshot.put(name, Collections.unmodifiableList(new ArrayList<>(values))));
+		return new GetRequest(uri, Collections.unmodifiableMap(snapshot), delegate, interceptors, 0, sender).proceed(type);
+	}
+
+	@Override
+	public Response get() {
+		return call(() -> delegate.get());
+	}
+
+	@Override
+	public <T> T get(final Class<T> responseType) {
+		return call(() -> delegate.get(responseType));
+	}
+
+	@Override
+	public <T> T get(final GenericType<T> responseType) {
+		return call(() -> delegate.get(responseType));
+	}
+
+	@Override
+	public Response put(final Entity<?> entity) {
+		return call(() -> delegate.put(entity));
+	}
+
+	@Override
+	public <T> T put(final Entity<?> entity, final Class<T> responseType) {
+		return call(() -> delegate.put(entity, responseType));
+	}
+
+	@Override
+	public <T> T put(final Entity<?> entity, final GenericType<T> responseType) {
+		return call(() -> delegate.put(entity, responseType));
+	}
+
+	@Override
+	public Response post(final Entity<?> entity) {
+		return call(() -> delegate.post(entity));
+	}
+
+	@Override
+	public <T> T post(final Entity<?> entity, final Class<T> responseType) {
+		return call(() -> delegate.post(entity, responseType));
+	}
+
+	@Override
+	public <T> T post(final Entity<?> entity, final GenericType<T> responseType) {
+		return call(() -> delegate.post(entity, responseType));
+	}
+
+	@Override
+	public Response delete() {
+		return call(() -> delegate.delete());
+	}
+
+	@Override
+	public <T> T delete(final Class<T> responseType) {
+		return call(() -> delegate.delete(responseType));
+	}
+
+	@Override
+	public <T> T delete(final GenericType<T> responseType) {
+		return call(() -> delegate.delete(responseType));
+	}
+
+	@Override
+	public Response head() {
+		return call(() -> delegate.head());
+	}
+
+	@Override
+	public Response options() {
+		return call(() -> delegate.options());
+	}
+
+	@Override
+	public <T> T options(final Class<T> responseType) {
+		return call(() -> delegate.options(responseType));
+	}
+
+	@Override
+	public <T> T options(final GenericType<T> responseType) {
+		return call(() -> delegate.options(responseType));
+	}
+
+	@Override
+	public Response trace() {
+		return call(() -> delegate.trace());
+	}
+
+	@Override
+	public <T> T trace(final Class<T> responseType) {
+		return call(() -> delegate.trace(responseType));
+	}
+
+	@Override
+	public <T> T trace(final GenericType<T> responseType) {
+		return call(() -> delegate.trace(responseType));
+	}
+
+	@Override
+	public Response method(final String name) {
+		return call(() -> delegate.method(name));
+	}
+
+	@Override
+	public <T> T method(final String name, final Class<T> responseType) {
+		return call(() -> delegate.method(name, responseType));
+	}
+
+	@Override
+	public <T> T method(final String name, final GenericType<T> responseType) {
+		return call(() -> delegate.method(name, responseType));
+	}
+
+	@Override
+	public Response method(final String name, final Entity<?> entity) {
+		return call(() -> delegate.method(name, entity));
+	}
+
+	@Override
+	public <T> T method(final String name, final Entity<?> entity, final Class<T> responseType) {
+		return call(() -> delegate.method(name, entity, responseType));
+	}
+
+	@Override
+	public <T> T method(final String name, final Entity<?> entity, final GenericType<T> responseType) {
+		return call(() -> delegate.method(name, entity, responseType));
+	}
+
+	@Override
+	public Invocation build(final String method) {
+		return delegate.build(method);
+	}
+
+	@Override
+	public Invocation build(final String method, final Entity<?> entity) {
+		return delegate.build(method, entity);
+	}
+
+	@Override
+	public Invocation buildGet() {
+		return delegate.buildGet();
+	}
+
+	@Override
+	public Invocation buildDelete() {
+		return delegate.buildDelete();
+	}
+
+	@Override
+	public Invocation buildPost(final Entity<?> entity) {
+		return delegate.buildPost(entity);
+	}
+
+	@Override
+	public Invocation buildPut(final Entity<?> entity) {
+		return delegate.buildPut(entity);
+	}
+
+	@Override
+	public AsyncInvoker async() {
+		return delegate.async();
+	}
+
+	@Override
+	public Invocation.Builder accept(final String... mediaTypes) {
+		delegate.accept(mediaTypes);
+		return record("Accept", (Object[]) mediaTypes);
+	}
+
+	@Override
+	public Invocation.Builder accept(final MediaType... mediaTypes) {
+		delegate.accept(mediaTypes);
+		return record("Accept", (Object[]) mediaTypes);
+	}
+
+	@Override
+	public Invocation.Builder acceptLanguage(final Locale... locales) {
+		delegate.acceptLanguage(locales);
+		return record("Accept-Language", (Object[]) locales);
+	}
+
+	@Override
+	public Invocation.Builder acceptLanguage(final String... locales) {
+		delegate.acceptLanguage(locales);
+		return record("Accept-Language", (Object[]) locales);
+	}
+
+	@Override
+	public Invocation.Builder acceptEncoding(final String... encodings) {
+		delegate.acceptEncoding(encodings);
+		return record("Accept-Encoding", (Object[]) encodings);
+	}
+
+	@Override
+	public Invocation.Builder cookie(final Cookie cookie) {
+		delegate.cookie(cookie);
+		return record("Cookie", cookie);
+	}
+
+	@Override
+	public Invocation.Builder cookie(final String name, final String value) {
+		delegate.cookie(name, value);
+		return record("Cookie", new Cookie(name, value));
+	}
+
+	@Override
+	public Invocation.Builder cacheControl(final CacheControl cacheControl) {
+		delegate.cacheControl(cacheControl);
+		return record("Cache-Control", cacheControl);
+	}
+
+	@Override
+	public Invocation.Builder header(final String name, final Object value) {
+		delegate.header(name, value);
+		if (value == null) {
+			headers.remove(name.toLowerCase(Locale.ROOT));
+			return this;
+		}
+		return record(name, value);
+	}
+
+	@Override
+	public Invocation.Builder headers(final MultivaluedMap<String, Object> headers) {
+		delegate.headers(headers);
+		this.headers.clear();
+		if (headers != null) {
+			headers.forEach((name, values) -> record(name, values.toArray()));
+		}
+		return this;
+	}
+
+	@Override
+	public Invocation.Builder property(final String name, final Object value) {
+		delegate.property(name, value);
+		intercepted = false;
+		return this;
+	}
+
+	@Override
+	public CompletionStageRxInvoker rx() {
+		return new Rx();
+	}
+
+	@Override
+	@SuppressWarnings("rawtypes")
+	public <T extends RxInvoker> T rx(final Class<T> clazz) {
+		return delegate.rx(clazz);
+	}
+
+	/**
+	 * Passes <code>GET</code> requests with a response class to the interceptors and all other requests to the
+	 * <code>rx()</code> invoker of the delegate.
+	 */
+	private class Rx implements CompletionStageRxInvoker {
+
+		@Override
+		public CompletionStage<Response> get() {
+			return send(() -> delegate.rx().get());
+		}
+
+		@Override
+		public <T> CompletionStage<T> get(final Class<T> responseType) {
+			return intercept(responseType);
+		}
+
+		@Override
+		public <T> CompletionStage<T> get(final GenericType<T> responseType) {
+			return send(() -> delegate.rx().get(responseType));
+		}
+
+		@Override
+		public CompletionStage<Response> put(final Entity<?> entity) {
+			return send(() -> delegate.rx().put(entity));
+		}
+
+		@Override
+		public <T> CompletionStage<T> put(final Entity<?> entity, final Class<T> responseType) {
+			return send(() -> delegate.rx().put(entity, responseType));
+		}
+
+		@Override
+		public <T> CompletionStage<T> put(final Entity<?> entity, final GenericType<T> responseType) {
+			return send(() -> delegate.rx().put(entity, responseType));
+		}
+
+		@Override
+		public CompletionStage<Response> post(final Entity<?> entity) {
+			return send(() -> delegate.rx().post(entity));
+		}
+
+		@Override
+		public <T> CompletionStage<T> post(final Entity<?> entity, final Class<T> responseType) {
+			return send(() -> delegate.rx().post(entity, responseType));
+		}
+
+		@Override
+		public <T> CompletionStage<T> post(final Entity<?> entity, final GenericType<T> responseType) {
+			return send(() -> delegate.rx().post(entity, responseType));
+		}
+
+		@Override
+		public CompletionStage<Response> delete() {
+			return send(() -> delegate.rx().delete());
+		}
+
+		@Override
+		public <T> CompletionStage<T> delete(final Class<T> responseType) {
+			return send(() -> delegate.rx().delete(responseType));
+		}
+
+		@Override
+		public <T> CompletionStage<T> delete(final GenericType<T> responseType) {
+			return send(() -> delegate.rx().delete(responseType));
+		}
+
+		@Override
+		public CompletionStage<Response> head() {
+			return send(() -> delegate.rx().head());
+		}
+
+		@Override
+		public CompletionStage<Response> options() {
+			return send(() -> delegate.rx().options());
+		}
+
+		@Override
+		public <T> CompletionStage<T> options(final Class<T> responseType) {
+			return send(() -> delegate.rx().options(responseType));
+		}
+
+		@Override
+		public <T> CompletionStage<T> options(final GenericType<T> responseType) {
+			return send(() -> delegate.rx().options(responseType));
+		}
+
+		@Override
+		public CompletionStage<Response> trace() {
+			return send(() -> delegate.rx().trace());
+		}
+
+		@Override
+		public <T> CompletionStage<T> trace(final Class<T> responseType) {
+			return send(() -> delegate.rx().trace(responseType));
+		}
+
+		@Override
+		public <T> CompletionStage<T> trace(final GenericType<T> responseType) {
+			return send(() -> delegate.rx().trace(responseType));
+		}
+
+		@Override
+		public CompletionStage<Response> method(final String name) {
+			return send(() -> delegate.rx().method(name));
+		}
+
+		@Override
+		public <T> CompletionStage<T> method(final String name, final Class<T> responseType) {
+			if ("GET".equalsIgnoreCase(name)) {
+				return intercept(responseType);
+			}
+			return send(() -> delegate.rx().method(name, responseType));
+		}
+
+		@Override
+		public <T> CompletionStage<T> method(final String name, final GenericType<T> responseType) {
+			return send(() -> delegate.rx().method(name, responseType));
+		}
+
+		@Override
+		public CompletionStage<Response> method(final String name, final Entity<?> entity) {
+			return send(() -> delegate.rx().method(name, entity));
+		}
+
+		@Override
+		public <T> CompletionStage<T> method(final String name, final Entity<?> entity, final Class<T> responseType) {
+			return send(() -> delegate.rx().method(name, entity, responseType));
+		}
+
+		@Override
+		public <T> CompletionStage<T> method(final String name, final Entity<?> entity, final GenericType<T> responseType) {
+			return send(() -> delegate.rx().method(name, entity, responseType));
+		}
+	}
+}
@@ -0,0 +1,322 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.supplementary;
+
+import jakarta.ws.rs.WebApplicationException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+
+import com.cumulocity.client.api.ManagedObjectsApi;
+import com.cumulocity.client.api.SubscriptionsApi;
+import com.cumulocity.client.api.TokensApi;
+import com.cumulocity.client.model.ManagedObject;
+import com.cumulocity.client.model.NotificationSubscription;
+import com.cumulocity.client.model.NotificationTokenClaims;
+
+/**
+ * <p>Local cache of managed objects by ID. Managed objects are loaded on first access by
+ * {@link ManagedObjectsApi#getManagedObject}, concurrent accesses to a managed object being loaded share the same
+ * request. The cache is bounded by the total weight of its managed objects, the least recently used managed objects
+ * are evicted once the bound is exceeded.</p>
+ * <p>Cached managed objects are kept up to date by the notifications of a Notification 2.0 subscription on the
+ * <code>managedobjects</code> API, see {@link #subscribe(SubscriptionsApi, TokensApi, String, String, int)}. The
+ * library does not include a WebSocket client, so the messages received by the consumer of the subscription are
+ * passed to {@link #onNotification(String)}. Updates replace a cached managed object, deletions remove it. As
+ * notifications may lag or be lost while the consumer is disconnected, managed objects older than
+ * <code>maxStalenessMillis</code> are loaded again on the next access.</p>
+ * <pre>
+ * final InventoryCache cache = new InventoryCache(managedObjectsApi, 10_000, managedObject -&gt; 1, 60_000);
+ * final String token = InventoryCache.subscribe(subscriptionsApi, tokensApi, "inventoryCache", "service1", 1440).toCompletableFuture().join();
+ * // connect to wss://.../notification2/consumer/?token=... and pass each message to cache.onNotification(message)
+ * cache.get(id).thenAccept(managedObject -&gt; ...);
+ * </pre>
+ * <p>All callers are completed with the same cached instance, which must therefore not be modified.</p>
+ */
+public class InventoryCache {
+
+	private final ManagedObjectsApi managedObjectsApi;
+
+	private final long maxWeight;
+
+	private final ToLongFunction<? super ManagedObject> weigher;
+
+	private final long maxStalenessNanos;
+
+	private final LongSupplier clock;
+
+	private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+	private long weight;
+
+	private long hits;
+
+	private long misses;
+
+	private long evictions;
+
+	private long notifications;
+
+	/**
+	 * @param managedObjectsApi
+	 * @param maxWeight the maximum total weight of all cached managed objects
+	 * @param weigher returns the weight of a managed object, e.g. <code>1</code> to bound the number of managed objects
+	 * @param maxStalenessMillis the maximum age of a cached managed object
+	 */
+	public InventoryCache(final ManagedObjectsApi managedObjectsApi, final long maxWeight, final ToLongFunction<? super ManagedObject> weigher, final long maxStalenessMillis) {
+		this(managedObjectsApi, maxWeight, weigher, maxStalenessMillis, System::nanoTime);
+	}
+
+	InventoryCache(final ManagedObjectsApi managedObjectsApi, final long maxWeight, final ToLongFunction<? super ManagedObject> weigher, final long maxStalenessMillis,
+			final LongSupplier clock) {
+		if (maxWeight < 1) {
+			throw new IllegalArgumentException("maxWeight must be positive: " + maxWeight);
+		}
+		this.managedObjectsApi = managedObjectsApi;
+		this.maxWeight = maxWeight;
+		this.weigher = weigher;
+		this.maxStalenessNanos = TimeUnit.MILLISECONDS.toNanos(maxStalenessMillis);
+		this.clock = clock;
+	}
+
+	/**
+	 * Creates a subscription for the changes of all managed objects of the tenant, and a token for a consumer of it.
+	 * An existing subscription with the same name is reused.
+	 *
+	 * @param subscriptionsApi
+	 * @param tokensApi
+	 * @param subscription the name of the subscription
+	 * @param subscriber the name of the consumer
+	 * @param expiresInMinutes the lifetime of the token
+	 * @return a stage completing with the token to connect the consumer with
+	 */
+	public static CompletionStage<String> subscribe(final SubscriptionsApi subscriptionsApi, final TokensApi tokensApi, final String subscription, final String subscriber,
+			final int expiresInMinutes) {
+		final NotificationSubscription.SubscriptionFilter filter = new NotificationSubscription.SubscriptionFilter();
+		filter.setApis(new String[] {"managedobjects"});
+		final NotificationSubscription body = new NotificationSubscription();
+		body.setContext(NotificationSubscription.Context.TENANT);
+		body.setSubscription(subscription);
+		body.setSubscriptionFilter(filter);
+		final NotificationTokenClaims claims = new NotificationTokenClaims();
+		claims.setSubscription(subscription);
+		claims.setSubscriber(subscriber);
+		claims.setExpiresInMinutes(expiresInMinutes);
+		return subscriptionsApi.createSubscription(body, null)
+			.handle((created, e) -> {
+				final Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+				if (cause instanceof WebApplicationException && ((WebApplicationException) cause).getResponse().getStatus() == 409) {
+					return null;
+				}
+				if (cause != null) {
+					throw cause instanceof RuntimeException ? (RuntimeException) cause : new CompletionException(cause);
+				}
+				return created;
+			})
+			.thenCompose(created -> tokensApi.createToken(claims, null))
+			.thenApply(token -> token.getToken());
+	}
+
+	/**
+	 * Returns the managed object <code>id</code>, loading it if it is not cached or older than the maximum staleness.
+	 *
+	 * @param id
+	 * @return a stage completing with the managed object
+	 */
+	public CompletionStage<ManagedObject> get(final String id) {
+		final Entry entry;
+		synchronized (this) {
+			final Entry cached = entries.get(id);
+			if (cached != null && (!cached.loaded || clock.getAsLong() - cached.loadedAt <= maxStalenessNanos)) {
+				hits++;
+				return cached.value.thenApply(managedObject -> managedObject);
+			}
+			if (cached != null) {
+				remove(id);
+			}
+			misses++;
+			entry = new Entry(new CompletableFuture<>());
+			entries.put(id, entry);
+		}
+		CompletionStage<ManagedObject> response;
+		try {
+			response = managedObjectsApi.getManagedObject(id, false, false, false, false);
+		} catch (final RuntimeException e) {
+			final CompletableFuture<ManagedObject> failed = new CompletableFuture<>();
+			failed.completeExceptionally(e);
+			response = failed;
+		}
+		response.whenComplete((managedObject, e) -> loaded(id, entry, managedObject, e));
+		return entry.value.thenApply(managedObject -> managedObject);
+	}
+
+	/**
+	 * Applies a message of a Notification 2.0 consumer. The header lines of a message hold its ID, its source, e.g.
+	 * <code>/t123/managedobjects/456</code>, and its action, followed by an empty line and the managed object. Updated
+	 * managed objects replace the cached ones, deleted managed objects are removed. Managed objects not cached are
+	 * ignored.
+	 *
+	 * @param message
+	 * @return the ID of the message, to acknowledge it to the consumer
+	 */
+	public String onNotification(final String message) {
+		final int separator = message.indexOf("\n\n");
+		final String[] header = (separator < 0 ? message : message.substring(0, separator)).split("\n");
+		final String body = separator < 0 ? "" : message.substring(separator + 2).trim();
+		if (header.length < 3) {
+			throw new IllegalArgumentException("Not a notification: " + message);
+		}
+		final String source = header[1].trim();
+		final String id = source.substring(source.lastIndexOf('/') + 1);
+		final String action = header[2].trim();
+		synchronized (this) {
+			notifications++;
+		}
+		if ("DELETE".equals(action) || body.isEmpty()) {
+			invalidate(id);
+		} else {
+			try {
+				final ManagedObject managedObject = managedObjectsApi.codec().readerFor(ManagedObject.class).readValue(body);
+				refresh(managedObject.getId() != null ? managedObject.getId() : id, managedObject);
+			} catch (final IOException e) {
+				invalidate(id);
+				throw new UncheckedIOException(e);
+			}
+		}
+		return header[0].trim();
+	}
+
+	/**
+	 * Removes the managed object <code>id</code>, so the next access loads it again.
+	 *
+	 * @param id
+	 */
+	public synchronized void invalidate(final String id) {
+		remove(id);
+	}
+
+	public synchronized void invalidateAll() {
+		entries.clear();
+		weight = 0;
+	}
+
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	public synchronized long getWeight() {
+		return weight;
+	}
+
+	/**
+	 * Returns the number of accesses served from the cache, including accesses to managed objects being loaded.
+	 */
+	public synchronized long getHits() {
+		return hits;
+	}
+
+	/**
+	 * Returns the number of accesses which loaded a managed object.
+	 */
+	public synchronized long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * Returns the number of managed objects evicted to stay within the maximum weight.
+	 */
+	public synchronized long getEvictions() {
+		return evictions;
+	}
+
+	/**
+	 * Returns the number of notifications applied.
+	 */
+	public synchronized long getNotifications() {
+		return notifications;
+	}
+
+	/**
+	 * Replaces the managed object <code>id</code>, if cached.
+	 */
+	private synchronized void refresh(final String id, final ManagedObject managedObject) {
+		if (!entries.containsKey(id)) {
+			return;
+		}
+		remove(id);
+		final Entry entry = new Entry(CompletableFuture.completedFuture(managedObject));
+		entries.put(id, entry);
+		store(entry, managedObject);
+	}
+
+	private void loaded(final String id, final Entry entry, final ManagedObject managedObject, final Throwable e) {
+		synchronized (this) {
+			if (entries.get(id) == entry) {
+				if (e != null) {
+					entries.remove(id);
+				} else {
+					store(entry, managedObject);
+				}
+			}
+		}
+		if (e != null) {
+			entry.value.completeExceptionally(e);
+		} else {
+			entry.value.complete(managedObject);
+		}
+	}
+
+	/**
+	 * Marks <code>entry</code> as loaded and evicts the least recently used entries exceeding the maximum weight. Must
+	 * be called holding the lock.
+	 */
+	private void store(final Entry entry, final ManagedObject managedObject) {
+		entry.loaded = true;
+		entry.loadedAt = clock.getAsLong();
+		entry.weight = weigher.applyAsLong(managedObject);
+		weight += entry.weight;
+		final Iterator<Entry> eldest = entries.values().iterator();
+		while (weight > maxWeight && eldest.hasNext()) {
+			final Entry evicted = eldest.next();
+			if (evicted.loaded) {
+				weight -= evicted.weight;
+				eldest.remove();
+				evictions++;
+			}
+		}
+	}
+
+	/**
+	 * Must be called holding the lock.
+	 */
+	private void remove(final String id) {
+		final Entry removed = entries.remove(id);
+		if (removed != null && removed.loaded) {
+			weight -= removed.weight;
+		}
+	}
+
+	private static class Entry {
+
+		private final CompletableFuture<ManagedObject> value;
+
+		private boolean loaded;
+
+		private long loadedAt;
+
+		private long weight;
+
+		Entry(final CompletableFuture<ManagedObject> value) {
+			this.value = value;
+		}
+	}
+}
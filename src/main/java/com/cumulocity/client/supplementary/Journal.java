@@ -0,0 +1,371 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.supplementary;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+/**
+ * <p>Append-only journal of records, stored in memory-mapped segment files of fixed size. A new segment is started
+ * once a record does not fit into the current one. The position of the first unacknowledged record is kept in a
+ * separate, memory-mapped acknowledgement file, segments are deleted once all their records are acknowledged.</p>
+ * <p>Each record consists of its length, a CRC32 checksum, the time it was appended, its kind and its payload. The
+ * length is written last, so a record torn by a crash is detected by its checksum and discarded on recovery together
+ * with all bytes following it.</p>
+ * <p>A segment which cannot be deleted, e.g. because the platform refuses to delete a file still mapped, is logged and
+ * deleted again later. It is not part of the journal anymore once its records are acknowledged.</p>
+ */
+class Journal implements Closeable {
+
+	static final int HEADER_BYTES = 4 + 4 + 8 + 1;
+
+	private static final Logger LOGGER = Logger.getLogger(Journal.class.getName());
+
+	private static final String SEGMENT_SUFFIX = ".segment";
+
+	private final Path directory;
+
+	private final int segmentBytes;
+
+	private final int maxSegments;
+
+	private final TreeMap<Long, Segment> segments = new TreeMap<>();
+
+	/**
+	 * Segments removed from the journal whose files could not be deleted yet.
+	 */
+	private final List<Path> undeleted = new ArrayList<>();
+
+	private final FileChannel ackChannel;
+
+	private final MappedByteBuffer ack;
+
+	private long readSegment;
+
+	private int readOffset;
+
+	private long writeSegment;
+
+	private int writeOffset;
+
+	private long backlogRecords;
+
+	private long dropped;
+
+	/**
+	 * Opens the journal in <code>directory</code>, recovering all unacknowledged records.
+	 *
+	 * @param directory
+	 * @param segmentBytes the size of each segment file
+	 * @param maxSegments the maximum number of segments, the oldest segment is dropped once exceeded
+	 * @throws IOException
+	 */
+	Journal(final Path directory, final int segmentBytes, final int maxSegments) throws IOException {
+		if (segmentBytes <= HEADER_BYTES || maxSegments < 2) {
+			throw new IllegalArgumentException("segments must hold a record and at least two segments are required");
+		}
+		this.directory = Files.createDirectories(directory);
+		this.segmentBytes = segmentBytes;
+		this.maxSegments = maxSegments;
+		this.ackChannel = FileChannel.open(directory.resolve("journal.ack"), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		this.ack = ackChannel.map(FileChannel.MapMode.READ_WRITE, 0, 16);
+		recover();
+	}
+
+	private void recover() throws IOException {
+		final long ackSegment = ack.getLong(0);
+		final int ackOffset = (int) ack.getLong(8);
+		try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + SEGMENT_SUFFIX)) {
+			for (final Path file : files) {
+				final String name = file.getFileName().toString();
+				final long sequence = Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+				if (sequence < ackSegment) {
+					deleteFile(file);
+				} else {
+					segments.put(sequence, new Segment(sequence, file, segmentBytes));
+				}
+			}
+		}
+		if (segments.isEmpty()) {
+			segments.put(ackSegment, openSegment(ackSegment));
+		}
+		readSegment = segments.firstKey();
+		readOffset = readSegment == ackSegment ? ackOffset : 0;
+		for (final Segment segment : segments.values()) {
+			int offset = segment.sequence == readSegment ? readOffset : 0;
+			for (int size = validRecord(segment, offset); size > 0; size = validRecord(segment, offset)) {
+				offset += size;
+				backlogRecords++;
+			}
+			writeSegment = segment.sequence;
+			writeOffset = offset;
+		}
+		final Segment last = segments.get(writeSegment);
+		for (int i = writeOffset; i < segmentBytes; i++) {
+			last.buffer.put(i, (byte) 0);
+		}
+		persistAck();
+	}
+
+	/**
+	 * Appends a record.
+	 *
+	 * @param kind
+	 * @param time the time the record was created
+	 * @param payload
+	 * @throws IOException if a new segment cannot be created
+	 */
+	synchronized void append(final byte kind, final long time, final byte[] payload) throws IOException {
+		final int size = HEADER_BYTES + payload.length;
+		if (size > segmentBytes) {
+			throw new IllegalArgumentException("record of " + size + " bytes exceeds segment size of " + segmentBytes + " bytes");
+		}
+		if (writeOffset + size > segmentBytes) {
+			if (segments.size() >= maxSegments) {
+				dropOldestSegment();
+			}
+			writeSegment++;
+			writeOffset = 0;
+			segments.put(writeSegment, openSegment(writeSegment));
+		}
+		final MappedByteBuffer buffer = segments.get(writeSegment).buffer;
+		buffer.putLong(writeOffset + 8, time);
+		buffer.put(writeOffset + 16, kind);
+		((ByteBuffer) buffer.duplicate().position(writeOffset + HEADER_BYTES)).put(payload);
+		buffer.putInt(writeOffset + 4, checksum(buffer, writeOffset, size));
+		buffer.putInt(writeOffset, size);
+		writeOffset += size;
+		backlogRecords++;
+	}
+
+	/**
+	 * Returns a copy of the first unacknowledged record.
+	 *
+	 * @return the record or <code>null</code>, if all records are acknowledged
+	 */
+	synchronized Record peek() throws IOException {
+		while (readSegment != writeSegment || readOffset < writeOffset) {
+			final Segment segment = segments.get(readSegment);
+			if (validRecord(segment, readOffset) > 0) {
+				final MappedByteBuffer buffer = segment.buffer;
+				final byte[] payload = new byte[buffer.getInt(readOffset) - HEADER_BYTES];
+				((ByteBuffer) buffer.duplicate().position(readOffset + HEADER_BYTES)).get(payload);
+				return new Record(readSegment, readOffset, buffer.get(readOffset + 16), buffer.getLong(readOffset + 8), payload);
+			}
+			if (readSegment == writeSegment) {
+				// only reachable if the segment was modified externally
+				readOffset = writeOffset;
+			} else {
+				final Segment consumed = segments.remove(readSegment);
+				readSegment = segments.firstKey();
+				readOffset = 0;
+				persistAck();
+				deleteSegment(consumed);
+				continue;
+			}
+			persistAck();
+		}
+		retryDeletes();
+		return null;
+	}
+
+	/**
+	 * Acknowledges <code>record</code>, if it is still the first unacknowledged record.
+	 *
+	 * @param record
+	 */
+	synchronized void acknowledge(final Record record) {
+		if (record.segment == readSegment && record.offset == readOffset) {
+			readOffset += HEADER_BYTES + record.payload.length;
+			backlogRecords--;
+			persistAck();
+		}
+	}
+
+	synchronized long backlogRecords() {
+		return backlogRecords;
+	}
+
+	/**
+	 * Returns the number of bytes between the first unacknowledged record and the end of the journal, including the
+	 * unused tails of full segments.
+	 */
+	synchronized long backlogBytes() {
+		if (readSegment == writeSegment) {
+			return writeOffset - readOffset;
+		}
+		return (long) segmentBytes * (writeSegment - readSegment) - readOffset + writeOffset;
+	}
+
+	/**
+	 * Returns the number of records dropped because the maximum number of segments was exceeded.
+	 */
+	synchronized long dropped() {
+		return dropped;
+	}
+
+	/**
+	 * Writes all appended records to the storage device.
+	 */
+	synchronized void force() {
+		for (final Segment segment : segments.values()) {
+			segment.buffer.force();
+		}
+		ack.force();
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		force();
+		for (final Segment segment : segments.values()) {
+			segment.channel.close();
+		}
+		ackChannel.close();
+	}
+
+	private void dropOldestSegment() {
+		final Segment oldest = segments.pollFirstEntry().getValue();
+		int offset = oldest.sequence == readSegment ? readOffset : 0;
+		for (int size = validRecord(oldest, offset); size > 0; size = validRecord(oldest, offset)) {
+			offset += size;
+			backlogRecords--;
+			dropped++;
+		}
+		readSegment = segments.firstKey();
+		readOffset = 0;
+		persistAck();
+		deleteSegment(oldest);
+	}
+
+	/**
+	 * Returns the size of the record at <code>offset</code>, or 0 if there is no complete and intact record.
+	 */
+	private int validRecord(final Segment segment, final int offset) {
+		if (offset + HEADER_BYTES > segmentBytes) {
+			return 0;
+		}
+		final MappedByteBuffer buffer = segment.buffer;
+		final int size = buffer.getInt(offset);
+		if (size < HEADER_BYTES || offset + size > segmentBytes) {
+			return 0;
+		}
+		return checksum(buffer, offset, size) == buffer.getInt(offset + 4) ? size : 0;
+	}
+
+	/**
+	 * Computes the checksum of the time, kind and payload of the record at <code>offset</code>.
+	 */
+	private static int checksum(final MappedByteBuffer buffer, final int offset, final int size) {
+		final CRC32 crc = new CRC32();
+		crc.update((ByteBuffer) buffer.duplicate().limit(offset + size).position(offset + 8));
+		return (int) crc.getValue();
+	}
+
+	private Segment openSegment(final long sequence) throws IOException {
+		return new Segment(sequence, directory.resolve(String.format("%020d%s", sequence, SEGMENT_SUFFIX)), segmentBytes);
+	}
+
+	/**
+	 * Deletes a segment removed from the journal. A segment which cannot be deleted is logged and deleted again by
+	 * {@link #retryDeletes()}.
+	 */
+	private void deleteSegment(final Segment segment) {
+		try {
+			segment.channel.close();
+		} catch (final IOException e) {
+			LOGGER.log(Level.WARNING, "failed to close segment " + segment.file, e);
+		}
+		deleteFile(segment.file);
+	}
+
+	private void deleteFile(final Path file) {
+		try {
+			Files.deleteIfExists(file);
+		} catch (final IOException e) {
+			LOGGER.log(Level.WARNING, "failed to delete segment " + file + ", retrying later", e);
+			undeleted.add(file);
+		}
+	}
+
+	private void retryDeletes() {
+		for (final Iterator<Path> files = undeleted.iterator(); files.hasNext();) {
+			try {
+				Files.deleteIfExists(files.next());
+				files.remove();
+			} catch (final IOException e) {
+				// retried once the journal is drained again
+			}
+		}
+	}
+
+	private void persistAck() {
+		ack.putLong(0, readSegment);
+		ack.putLong(8, readOffset);
+	}
+
+	static class Record {
+
+		private final long segment;
+
+		private final int offset;
+
+		private final byte kind;
+
+		private final long time;
+
+		private final byte[] payload;
+
+		Record(final long segment, final int offset, final byte kind, final long time, final byte[] payload) {
+			this.segment = segment;
+			this.offset = offset;
+			this.kind = kind;
+			this.time = time;
+			this.payload = payload;
+		}
+
+		byte getKind() {
+			return kind;
+		}
+
+		long getTime() {
+			return time;
+		}
+
+		byte[] getPayload() {
+			return payload;
+		}
+	}
+
+	private static class Segment {
+
+		private final long sequence;
+
+		private final Path file;
+
+		private final FileChannel channel;
+
+		private final MappedByteBuffer buffer;
+
+		Segment(final long sequence, final Path file, final int segmentBytes) throws IOException {
+			this.sequence = sequence;
+			this.file = file;
+			this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+			this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+		}
+	}
+}
@@ -0,0 +1,155 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.supplementary;
+
+import jakarta.ws.rs.core.Configuration;
+import jakarta.ws.rs.ext.ContextResolver;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.filter.FilteringGeneratorDelegate;
+import com.fasterxml.jackson.core.filter.TokenFilter;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * <p>Central registry of JSON codecs. A codec wraps a single, fully configured <code>ObjectMapper</code> and caches
+ * an <code>ObjectReader</code> and <code>ObjectWriter</code> per type, so serializers and deserializers are resolved
+ * once and reused across all requests.</p>
+ * <p>A codec is configured once per client by registering it with the client configuration. Each API class created
+ * from a <code>WebTarget</code> of that client picks it up automatically, and Jersey uses the same mapper to read and
+ * write entities:</p>
+ * <pre>
+ * final ClientConfig clientConfig = new ClientConfig();
+ * clientConfig.register(new JsonCodec(objectMapper));
+ * </pre>
+ * <p>If no codec is registered, the {@link #getDefault() default codec} is used. Like the default Jersey provider, it
+ * registers all Jackson modules found on the class path. The generated model codecs, if the library was built with
+ * them, are {@link #registerGeneratedModule(ObjectMapper) registered explicitly}, so they are used even where the
+ * module services are not visible. The wrapped mapper must not be reconfigured after it has been passed to a
+ * codec.</p>
+ */
+public class JsonCodec implements ContextResolver<ObjectMapper> {
+
+	private static final String GENERATED_MODULE = "com.cumulocity.client.model.GeneratedModelModule";
+
+	private static volatile JsonCodec defaultCodec = new JsonCodec(registerGeneratedModule(new ObjectMapper().findAndRegisterModules()));
+
+	private final ObjectMapper objectMapper;
+
+	private final ObjectWriter prettyWriter;
+
+	private final ConcurrentMap<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+
+	private final ConcurrentMap<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+	private final ConcurrentMap<List<String>, TokenFilter> exclusionFilters = new ConcurrentHashMap<>();
+
+	public JsonCodec(final ObjectMapper objectMapper) {
+		this.objectMapper = objectMapper;
+		this.prettyWriter = objectMapper.writerWithDefaultPrettyPrinter();
+	}
+
+	/**
+	 * Returns the codec used whenever no client specific codec is registered, e.g. by <code>toString()</code> of the
+	 * model classes.
+	 */
+	public static JsonCodec getDefault() {
+		return defaultCodec;
+	}
+
+	public static void setDefault(final JsonCodec codec) {
+		defaultCodec = codec;
+	}
+
+	/**
+	 * Registers the generated model codecs with <code>objectMapper</code>, if the library was built with them. Unlike
+	 * <code>ObjectMapper#findAndRegisterModules()</code>, this does not depend on the class loader used to look up
+	 * module services.
+	 *
+	 * @param objectMapper
+	 * @return <code>objectMapper</code>
+	 */
+	public static ObjectMapper registerGeneratedModule(final ObjectMapper objectMapper) {
+		final Class<?> module;
+		try {
+			module = Class.forName(GENERATED_MODULE, true, JsonCodec.class.getClassLoader());
+		} catch (final ClassNotFoundException e) {
+			return objectMapper;
+		}
+		try {
+			return objectMapper.registerModule((Module) module.getConstructor().newInstance());
+		} catch (final ReflectiveOperationException e) {
+			throw new IllegalStateException("cannot create " + GENERATED_MODULE, e);
+		}
+	}
+
+	/**
+	 * Looks up the codec registered with the passed client <code>configuration</code>.
+	 *
+	 * @param configuration
+	 * @return the registered codec or the default codec, if none is registered
+	 */
+	public static JsonCodec of(final Configuration configuration) {
+		if (configuration != null) {
+			for (final Object instance : configuration.getInstances()) {
+				if (instance instanceof JsonCodec) {
+					return (JsonCodec) instance;
+				}
+			}
+		}
+		return defaultCodec;
+	}
+
+	public ObjectMapper getObjectMapper() {
+		return objectMapper;
+	}
+
+	public ObjectReader readerFor(final Class<?> type) {
+		return readers.computeIfAbsent(type, objectMapper::readerFor);
+	}
+
+	public ObjectWriter writerFor(final Class<?> type) {
+		return writers.computeIfAbsent(type, objectMapper::writerFor);
+	}
+
+	/**
+	 * Serializes <code>value</code> in a single pass to <code>output</code>, leaving out all properties listed in
+	 * <code>excludedProperties</code>. Nested properties are addressed by their dot separated path, e.g.
+	 * <code>source.self</code>. The output stream is not closed.
+	 *
+	 * @param output
+	 * @param value
+	 * @param excludedProperties
+	 * @throws IOException
+	 */
+	public void writeValue(final OutputStream output, final Object value, final String... excludedProperties) throws IOException {
+		final ObjectWriter writer = writerFor(value.getClass());
+		try (JsonGenerator generator = writer.getFactory().createGenerator(output).disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+			if (excludedProperties.length == 0) {
+				writer.writeValue(generator, value);
+			} else {
+				final TokenFilter filter = exclusionFilters.computeIfAbsent(Arrays.asList(excludedProperties), paths -> new PropertyExclusionFilter(excludedProperties));
+				writer.writeValue(new FilteringGeneratorDelegate(generator, filter, TokenFilter.Inclusion.INCLUDE_NON_NULL, true), value);
+			}
+		}
+	}
+
+	public ObjectWriter prettyWriter() {
+		return prettyWriter;
+	}
+
+	@Override
+	public ObjectMapper getContext(final Class<?> type) {
+		return objectMapper;
+	}
+}
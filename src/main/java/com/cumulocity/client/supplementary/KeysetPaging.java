@@ -0,0 +1,243 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.supplementary;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+import com.cumulocity.client.api.AlarmsApi;
+import com.cumulocity.client.api.EventsApi;
+import com.cumulocity.client.api.ManagedObjectsApi;
+import com.cumulocity.client.model.Alarm;
+import com.cumulocity.client.model.AlarmCollection;
+import com.cumulocity.client.model.Event;
+import com.cumulocity.client.model.EventCollection;
+import com.cumulocity.client.model.ManagedObject;
+import com.cumulocity.client.model.ManagedObjectCollection;
+
+/**
+ * <p>Page streams anchored on the last element of the previous page instead of a page offset. Each page is requested
+ * with a filter starting right after the last element seen, in a stable order, so the platform does not have to skip
+ * the elements of all previous pages and every page costs the same regardless of its depth.</p>
+ * <ul>
+ * 	<li>Managed objects are ordered by ID and filtered by <code>id gt</code> the last ID.</li>
+ * 	<li>Events are ordered by time, oldest first, and anchored by <code>dateFrom</code>.</li>
+ * 	<li>Alarms are returned newest first by the platform and anchored by <code>dateTo</code>.</li>
+ * </ul>
+ * <p>As times are not unique, elements with the time of the anchor which have already been emitted are skipped. If a
+ * whole page shares a single time, the following page is requested from the same anchor with an offset.</p>
+ */
+public final class KeysetPaging {
+
+	private static final String EPOCH = MeasurementSeriesFetcher.toDate(0);
+
+	private KeysetPaging() {
+	}
+
+	/**
+	 * Creates a stream over all managed objects matching <code>filter</code>, ordered by ID.
+	 *
+	 * @param managedObjectsApi
+	 * @param filter a filter in query language, e.g. <code>type eq 'c8y_Device'</code>, or <code>null</code>
+	 * @param pageSize
+	 * @return the stream
+	 */
+	public static PageStream<ManagedObject> managedObjects(final ManagedObjectsApi managedObjectsApi, final String filter, final int pageSize) {
+		return PageStream.of(ManagedObjectCollection::getManagedObjects, () -> new IdCursor<>(
+			lastId -> managedObjectsApi.getManagedObjects(null, null, null, 1, null, null, false, null, pageSize, null, query(filter, lastId), false, null, null, false, false, false, false, false, false),
+			ManagedObjectCollection::getManagedObjects, ManagedObject::getId, pageSize));
+	}
+
+	/**
+	 * Creates a stream over all events of <code>source</code> between <code>dateFrom</code> and <code>dateTo</code>,
+	 * oldest first.
+	 *
+	 * @param eventsApi
+	 * @param source
+	 * @param type
+	 * @param dateFrom the start of the range, or <code>null</code> to start at the epoch, as the platform would
+	 * otherwise return the most recent events first
+	 * @param dateTo
+	 * @param pageSize
+	 * @return the stream
+	 */
+	public static PageStream<Event> events(final EventsApi eventsApi, final String source, final String type, final String dateFrom, final String dateTo, final int pageSize) {
+		final String from = dateFrom != null ? dateFrom : EPOCH;
+		return PageStream.of(EventCollection::getEvents, () -> new TimeCursor<>(
+			(anchor, currentPage) -> eventsApi.getEvents(null, null, currentPage, anchor != null ? anchor : from, dateTo, null, null, null, null, pageSize, true, source, type, false, false, false, false),
+			EventCollection::getEvents, EventCollection::setEvents, Event[]::new, Event::getTime, Event::getId, pageSize));
+	}
+
+	/**
+	 * Creates a stream over all alarms of <code>source</code> between <code>dateFrom</code> and <code>dateTo</code>,
+	 * newest first.
+	 *
+	 * @param alarmsApi
+	 * @param source
+	 * @param resolved whether to return resolved or unresolved alarms
+	 * @param dateFrom
+	 * @param dateTo
+	 * @param pageSize
+	 * @return the stream
+	 */
+	public static PageStream<Alarm> alarms(final AlarmsApi alarmsApi, final String source, final boolean resolved, final String dateFrom, final String dateTo, final int pageSize) {
+		return PageStream.of(AlarmCollection::getAlarms, () -> new TimeCursor<>(
+			// dateTo is exclusive, so the anchor is moved by a millisecond to include the elements of its time
+			(anchor, currentPage) -> alarmsApi.getAlarms(null, null, currentPage, dateFrom,
+				anchor != null ? MeasurementSeriesFetcher.toDate(MeasurementSeriesFetcher.toEpochMillis(anchor) + 1) : dateTo,
+				null, null, pageSize, resolved, null, source, null, null, false, false, false, false),
+			AlarmCollection::getAlarms, AlarmCollection::setAlarms, Alarm[]::new, Alarm::getTime, Alarm::getId, pageSize));
+	}
+
+	static String query(final String filter, final String lastId) {
+		final StringBuilder query = new StringBuilder();
+		if (filter != null || lastId != null) {
+			query.append("$filter=(");
+			if (filter != null) {
+				query.append('(').append(filter).append(')');
+			}
+			if (filter != null && lastId != null) {
+				query.append(" and ");
+			}
+			if (lastId != null) {
+				query.append("id gt ").append(lastId);
+			}
+			query.append(") ");
+		}
+		return query.append("$orderby=id asc").toString();
+	}
+
+	/**
+	 * Requests the page following the ID of the last element of the previous page.
+	 */
+	private static class IdCursor<C, T> implements Function<C, CompletionStage<C>> {
+
+		private final Function<String, CompletionStage<C>> request;
+
+		private final Function<C, T[]> elements;
+
+		private final Function<T, String> id;
+
+		private final int pageSize;
+
+		private boolean exhausted;
+
+		IdCursor(final Function<String, CompletionStage<C>> request, final Function<C, T[]> elements, final Function<T, String> id, final int pageSize) {
+			this.request = request;
+			this.elements = elements;
+			this.id = id;
+			this.pageSize = pageSize;
+		}
+
+		@Override
+		public CompletionStage<C> apply(final C previous) {
+			if (previous == null) {
+				return fetch(null);
+			}
+			final T[] items = elements.apply(previous);
+			return exhausted ? null : fetch(id.apply(items[items.length - 1]));
+		}
+
+		private CompletionStage<C> fetch(final String lastId) {
+			return request.apply(lastId).thenApply(page -> {
+				final T[] items = elements.apply(page);
+				exhausted = items == null || items.length < pageSize;
+				return page;
+			});
+		}
+	}
+
+	/**
+	 * Requests the page following the time of the last element of the previous page, skipping elements which were
+	 * already emitted.
+	 */
+	private static class TimeCursor<C, T> implements Function<C, CompletionStage<C>> {
+
+		private final BiFunction<String, Integer, CompletionStage<C>> request;
+
+		private final Function<C, T[]> elements;
+
+		private final BiConsumer<C, T[]> setElements;
+
+		private final IntFunction<T[]> newArray;
+
+		private final Function<T, String> time;
+
+		private final Function<T, String> id;
+
+		private final int pageSize;
+
+		private final Set<String> seen = new HashSet<>();
+
+		private String anchor;
+
+		private int currentPage = 1;
+
+		private boolean exhausted;
+
+		TimeCursor(final BiFunction<String, Integer, CompletionStage<C>> request, final Function<C, T[]> elements, final BiConsumer<C, T[]> setElements,
+				final IntFunction<T[]> newArray, final Function<T, String> time, final Function<T, String> id, final int pageSize) {
+			this.request = request;
+			this.elements = elements;
+			this.setElements = setElements;
+			this.newArray = newArray;
+			this.time = time;
+			this.id = id;
+			this.pageSize = pageSize;
+		}
+
+		@Override
+		public CompletionStage<C> apply(final C previous) {
+			if (previous == null) {
+				return fetch();
+			}
+			if (exhausted) {
+				return null;
+			}
+			final T[] items = elements.apply(previous);
+			final String last = time.apply(items[items.length - 1]);
+			if (anchor != null && sameTime(anchor, last)) {
+				currentPage++;
+			} else {
+				anchor = last;
+				currentPage = 1;
+				seen.clear();
+			}
+			for (final T item : items) {
+				if (sameTime(anchor, time.apply(item))) {
+					seen.add(id.apply(item));
+				}
+			}
+			return fetch();
+		}
+
+		private CompletionStage<C> fetch() {
+			return request.apply(anchor, currentPage).thenCompose(page -> {
+				final T[] items = elements.apply(page);
+				exhausted = items == null || items.length < pageSize;
+				if (items == null || seen.isEmpty()) {
+					return CompletableFuture.completedFuture(page);
+				}
+				final T[] unseen = Arrays.stream(items).filter(item -> !seen.contains(id.apply(item))).toArray(newArray);
+				setElements.accept(page, unseen);
+				if (unseen.length == 0 && !exhausted) {
+					currentPage++;
+					return fetch();
+				}
+				return CompletableFuture.completedFuture(page);
+			});
+		}
+
+		private static boolean sameTime(final String first, final String second) {
+			return first != null && second != null && MeasurementSeriesFetcher.toEpochMillis(first) == MeasurementSeriesFetcher.toEpochMillis(second);
+		}
+	}
+}
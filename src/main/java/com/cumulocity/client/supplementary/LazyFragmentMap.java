@@ -0,0 +1,199 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.supplementary;
+
+import java.io.IOException;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+/**
+ * <p>Custom fragments of an object decoded with lazy decoding enabled. Each fragment is stored as {@link RawFragment}
+ * and decoded when its value is accessed for the first time, either by {@link #get(Object)} or through the entries
+ * and values of the map. Afterwards the decoded value replaces the raw fragment. Fragments are decoded under the lock
+ * of the map, so a model instance may be shared between threads.</p>
+ * <p>Fragments which were never accessed are serialized unchanged by {@link #writeFields}, which is used for the
+ * custom fragments of the models. Replacing or removing a fragment does not decode it either: {@link #put} and
+ * {@link #remove} return a fragment which was not decoded yet as {@link RawFragment}, which may be decoded by the
+ * caller if its value is needed.</p>
+ */
+public class LazyFragmentMap extends AbstractMap<String, Object> {
+
+	private final Map<String, Object> fragments = new LinkedHashMap<>();
+
+	private final Set<Entry<String, Object>> entrySet = new EntrySet();
+
+	@Override
+	public synchronized Object get(final Object key) {
+		final Object value = fragments.get(key);
+		if (value instanceof RawFragment) {
+			final Object decoded = ((RawFragment) value).decode();
+			fragments.put((String) key, decoded);
+			return decoded;
+		}
+		return value;
+	}
+
+	@Override
+	public synchronized boolean containsKey(final Object key) {
+		return fragments.containsKey(key);
+	}
+
+	/**
+	 * Returns the previous value, as {@link RawFragment} if it was not decoded yet.
+	 */
+	@Override
+	public synchronized Object put(final String key, final Object value) {
+		return fragments.put(key, value);
+	}
+
+	/**
+	 * Returns the removed value, as {@link RawFragment} if it was not decoded yet.
+	 */
+	@Override
+	public synchronized Object remove(final Object key) {
+		return fragments.remove(key);
+	}
+
+	@Override
+	public synchronized int size() {
+		return fragments.size();
+	}
+
+	/**
+	 * Returns the fragments. The value of an entry is decoded like by {@link #get(Object)}.
+	 */
+	@Override
+	public Set<Entry<String, Object>> entrySet() {
+		return entrySet;
+	}
+
+	/**
+	 * Writes <code>fragments</code> as fields of the object being written. Fragments of a <code>LazyFragmentMap</code>
+	 * which were not decoded yet are written as they were read.
+	 *
+	 * @param fragments
+	 * @param gen
+	 * @param provider
+	 * @throws IOException
+	 */
+	public static void writeFields(final Map<String, ?> fragments, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+		final Iterable<? extends Entry<String, ?>> entries;
+		if (fragments instanceof LazyFragmentMap) {
+			final LazyFragmentMap lazy = (LazyFragmentMap) fragments;
+			synchronized (lazy) {
+				entries = new ArrayList<>(lazy.fragments.entrySet());
+			}
+		} else {
+			entries = fragments.entrySet();
+		}
+		for (final Entry<String, ?> entry : entries) {
+			provider.defaultSerializeField(entry.getKey(), entry.getValue(), gen);
+		}
+	}
+
+	/**
+	 * Serializes the map returned by a <code>@JsonAnyGetter</code> with {@link LazyFragmentMap#writeFields}.
+	 */
+	public static class FieldSerializer extends JsonSerializer<Map<String, ?>> {
+
+		@Override
+		public void serialize(final Map<String, ?> value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+			writeFields(value, gen, provider);
+		}
+	}
+
+	private final class EntrySet extends AbstractSet<Entry<String, Object>> {
+
+		@Override
+		public Iterator<Entry<String, Object>> iterator() {
+			final List<String> keys;
+			synchronized (LazyFragmentMap.this) {
+				keys = new ArrayList<>(fragments.keySet());
+			}
+			final Iterator<String> iterator = keys.iterator();
+			return new Iterator<Entry<String, Object>>() {
+
+				private String current;
+
+				@Override
+				public boolean hasNext() {
+					return iterator.hasNext();
+				}
+
+				@Override
+				public Entry<String, Object> next() {
+					current = iterator.next();
+					return new FragmentEntry(current);
+				}
+
+				@Override
+				public void remove() {
+					iterator.remove();
+					synchronized (LazyFragmentMap.this) {
+						fragments.remove(current);
+					}
+				}
+			};
+		}
+
+		@Override
+		public int size() {
+			return LazyFragmentMap.this.size();
+		}
+	}
+
+	private final class FragmentEntry implements Entry<String, Object> {
+
+		private final String key;
+
+		FragmentEntry(final String key) {
+			this.key = key;
+		}
+
+		@Override
+		public String getKey() {
+			return key;
+		}
+
+		@Override
+		public Object getValue() {
+			return get(key);
+		}
+
+		@Override
+		public Object setValue(final Object value) {
+			return put(key, value);
+		}
+
+		@Override
+		public boolean equals(final Object o) {
+			if (!(o instanceof Entry)) {
+				return false;
+			}
+			final Entry<?, ?> other = (Entry<?, ?>) o;
+			return key.equals(other.getKey()) && Objects.equals(getValue(), other.getValue());
+		}
+
+		@Override
+		public int hashCode() {
+			return key.hashCode() ^ Objects.hashCode(getValue());
+		}
+
+		@Override
+		public String toString() {
+			return key + "=" + getValue();
+		}
+	}
+}
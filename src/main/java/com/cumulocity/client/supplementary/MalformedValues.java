@@ -0,0 +1,64 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.supplementary;
+
+import java.io.IOException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+
+/**
+ * <p>Recovery from values which cannot be decoded into their type, shared by the deserializers of the models and
+ * {@link FragmentRegistry}. Such a value is logged and dropped, and the parser is advanced to the end of the value, so
+ * that the remaining properties and the following objects of a collection are read as usual. Malformed JSON still
+ * fails the whole read.</p>
+ * <pre>
+ * final JsonStreamContext enclosing = MalformedValues.enclosingContext(p);
+ * try {
+ * 	return ctxt.readValue(p, type);
+ * } catch (final JsonMappingException | IllegalArgumentException e) {
+ * 	MalformedValues.skip(p, enclosing, type, e);
+ * 	return null;
+ * }
+ * </pre>
+ */
+public final class MalformedValues {
+
+	private static final Logger LOGGER = Logger.getLogger(MalformedValues.class.getName());
+
+	private MalformedValues() {
+	}
+
+	/**
+	 * Returns the context of the object holding the value the parser is positioned at, to be passed to
+	 * {@link #skip(JsonParser, JsonStreamContext, Object, Exception)} if decoding the value fails.
+	 *
+	 * @param p
+	 * @return the enclosing context
+	 */
+	public static JsonStreamContext enclosingContext(final JsonParser p) {
+		return p.currentToken().isStructStart() ? p.getParsingContext().getParent() : p.getParsingContext();
+	}
+
+	/**
+	 * Logs a value whose decoding failed part way and advances the parser to its last token.
+	 *
+	 * @param p
+	 * @param enclosing the context returned by {@link #enclosingContext(JsonParser)} before decoding the value
+	 * @param type the class or type the value was decoded into
+	 * @param e the failure
+	 * @throws IOException if the input ends before the value, i.e. the JSON is malformed
+	 */
+	public static void skip(final JsonParser p, final JsonStreamContext enclosing, final Object type, final Exception e) throws IOException {
+		LOGGER.log(Level.WARNING, "dropping property " + enclosing.getCurrentName() + " which cannot be decoded into "
+			+ (type instanceof Class ? ((Class<?>) type).getName() : type), e);
+		while (p.getParsingContext() != enclosing) {
+			if (p.nextToken() == null) {
+				throw e instanceof IOException ? (IOException) e : new IOException(e);
+			}
+		}
+	}
+}
@@ -0,0 +1,330 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.supplementary;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import com.cumulocity.client.api.MeasurementsApi;
+import com.cumulocity.client.model.Measurement;
+import com.cumulocity.client.model.MeasurementCollection;
+
+/**
+ * <p>Writes single measurements in batches. Measurements are accumulated into a measurement collection, which is sent
+ * once it holds <code>maxBatchSize</code> measurements, its body reaches <code>maxBatchBytes</code> or its first
+ * measurement has waited for <code>lingerMillis</code>. At most <code>maxBatchesInFlight</code> batches are sent at a
+ * time, further batches wait in a queue.</p>
+ * <p>Each measurement is serialized once, when it is written. If <code>maxQueuedMeasurements</code> measurements are
+ * waiting to be acknowledged, {@link #write(Measurement)} blocks until a batch has been acknowledged.</p>
+ * <pre>
+ * try (MeasurementBatchWriter writer = new MeasurementBatchWriter(measurementsApi, 500, 256 * 1024, 100, 4, 10_000, null)) {
+ * 	writer.write(measurement).thenAccept(created -&gt; ...);
+ * }
+ * </pre>
+ */
+public class MeasurementBatchWriter implements AutoCloseable {
+
+	/**
+	 * The scheduler of writers created without one. It only triggers the sending of lingering batches, so a single
+	 * daemon thread is shared by all of them.
+	 */
+	private static final class SharedScheduler {
+
+		private static final ScheduledExecutorService INSTANCE;
+
+		static {
+			final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+				final Thread thread = new Thread(runnable, "measurement-batch-writer");
+				thread.setDaemon(true);
+				return thread;
+			});
+			executor.setRemoveOnCancelPolicy(true);
+			INSTANCE = executor;
+		}
+	}
+
+	private final MeasurementsApi measurementsApi;
+
+	private final int maxBatchSize;
+
+	private final long maxBatchBytes;
+
+	private final long lingerMillis;
+
+	private final int maxBatchesInFlight;
+
+	private final String processingMode;
+
+	private final Semaphore queueSlots;
+
+	private final ScheduledExecutorService scheduler;
+
+	private final Deque<Batch> ready = new ArrayDeque<>();
+
+	private final Set<Batch> outstanding = new HashSet<>();
+
+	private Batch current;
+
+	private int inFlight;
+
+	private boolean closed;
+
+	/**
+	 * Creates a writer sending lingering batches on a daemon thread shared by all writers.
+	 *
+	 * @param measurementsApi
+	 * @param maxBatchSize the maximum number of measurements per batch
+	 * @param maxBatchBytes the maximum size of the body of a batch, exceeded only by single measurements larger than this
+	 * @param lingerMillis the maximum time a measurement waits for its batch to fill up
+	 * @param maxBatchesInFlight the maximum number of batches sent at a time
+	 * @param maxQueuedMeasurements the maximum number of measurements written but not yet acknowledged
+	 * @param processingMode the <code>X-Cumulocity-Processing-Mode</code> of all batches, may be <code>null</code>
+	 */
+	public MeasurementBatchWriter(final MeasurementsApi measurementsApi, final int maxBatchSize, final long maxBatchBytes, final long lingerMillis,
+			final int maxBatchesInFlight, final int maxQueuedMeasurements, final String processingMode) {
+		this(measurementsApi, maxBatchSize, maxBatchBytes, lingerMillis, maxBatchesInFlight, maxQueuedMeasurements, processingMode, SharedScheduler.INSTANCE);
+	}
+
+	/**
+	 * @param measurementsApi
+	 * @param maxBatchSize the maximum number of measurements per batch
+	 * @param maxBatchBytes the maximum size of the body of a batch, exceeded only by single measurements larger than this
+	 * @param lingerMillis the maximum time a measurement waits for its batch to fill up
+	 * @param maxBatchesInFlight the maximum number of batches sent at a time
+	 * @param maxQueuedMeasurements the maximum number of measurements written but not yet acknowledged
+	 * @param processingMode the <code>X-Cumulocity-Processing-Mode</code> of all batches, may be <code>null</code>
+	 * @param scheduler sends lingering batches, it is not shut down when the writer is closed
+	 */
+	public MeasurementBatchWriter(final MeasurementsApi measurementsApi, final int maxBatchSize, final long maxBatchBytes, final long lingerMillis,
+			final int maxBatchesInFlight, final int maxQueuedMeasurements, final String processingMode, final ScheduledExecutorService scheduler) {
+		if (maxBatchSize < 1 || maxBatchesInFlight < 1 || maxQueuedMeasurements < 1) {
+			throw new IllegalArgumentException("batch size, batches in flight and queued measurements must be positive");
+		}
+		this.measurementsApi = measurementsApi;
+		this.maxBatchSize = maxBatchSize;
+		this.maxBatchBytes = maxBatchBytes;
+		this.lingerMillis = lingerMillis;
+		this.maxBatchesInFlight = maxBatchesInFlight;
+		this.processingMode = processingMode;
+		this.queueSlots = new Semaphore(maxQueuedMeasurements);
+		this.scheduler = scheduler;
+	}
+
+	/**
+	 * Adds <code>measurement</code> to the current batch, blocking while the maximum number of measurements is queued.
+	 *
+	 * @param measurement
+	 * @return a stage completing with the created measurement once its batch has been acknowledged
+	 * @throws InterruptedException if interrupted while waiting for a queue slot
+	 */
+	public CompletionStage<Measurement> write(final Measurement measurement) throws InterruptedException {
+		final byte[] json = encode(measurement);
+		queueSlots.acquire();
+		final Pending pending = new Pending(measurement, json);
+		synchronized (this) {
+			if (closed) {
+				queueSlots.release();
+				throw new IllegalStateException("writer is closed");
+			}
+			if (current != null && current.bytes + json.length + 1 > maxBatchBytes) {
+				seal();
+			}
+			if (current == null) {
+				final Batch batch = new Batch();
+				current = batch;
+				outstanding.add(batch);
+				if (lingerMillis > 0) {
+					batch.linger = scheduler.schedule(() -> lingerExpired(batch), lingerMillis, TimeUnit.MILLISECONDS);
+				}
+			}
+			current.add(pending);
+			if (current.pending.size() >= maxBatchSize || current.bytes >= maxBatchBytes || lingerMillis <= 0) {
+				seal();
+			}
+		}
+		dispatch();
+		return pending.result;
+	}
+
+	/**
+	 * Sends the current batch without waiting for it to fill up.
+	 *
+	 * @return a stage completing once all measurements written so far are acknowledged
+	 */
+	public CompletionStage<Void> flush() {
+		final CompletableFuture<?>[] batches;
+		synchronized (this) {
+			seal();
+			batches = outstanding.stream().map(batch -> batch.done).toArray(CompletableFuture[]::new);
+		}
+		dispatch();
+		return CompletableFuture.allOf(batches);
+	}
+
+	/**
+	 * Returns the number of measurements written but not yet acknowledged.
+	 */
+	public int queued() {
+		synchronized (this) {
+			int queued = 0;
+			for (final Batch batch : outstanding) {
+				queued += batch.pending.size();
+			}
+			return queued;
+		}
+	}
+
+	/**
+	 * Sends the current batch and waits until all batches are acknowledged. Measurements written afterwards are
+	 * rejected.
+	 */
+	@Override
+	public void close() {
+		synchronized (this) {
+			closed = true;
+		}
+		flush().toCompletableFuture().handle((result, e) -> null).join();
+	}
+
+	/**
+	 * Sends a batch, see {@link MeasurementsApi#createMeasurement(List, String)}.
+	 *
+	 * @param measurements the serialized measurements
+	 * @return the created measurements
+	 */
+	CompletionStage<MeasurementCollection> post(final List<byte[]> measurements) {
+		return measurementsApi.createMeasurement(measurements, processingMode);
+	}
+
+	private byte[] encode(final Measurement measurement) {
+		final ByteArrayOutputStream output = new ByteArrayOutputStream(256);
+		try {
+			measurementsApi.codec().writeValue(output, measurement, "self", "id", "source.self");
+		} catch (final IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return output.toByteArray();
+	}
+
+	private void lingerExpired(final Batch batch) {
+		synchronized (this) {
+			if (current != batch) {
+				return;
+			}
+			seal();
+		}
+		dispatch();
+	}
+
+	/**
+	 * Moves the current batch to the queue of batches ready to be sent. Must be called holding the lock.
+	 */
+	private void seal() {
+		if (current != null) {
+			if (current.linger != null) {
+				current.linger.cancel(false);
+			}
+			ready.add(current);
+			current = null;
+		}
+	}
+
+	private void dispatch() {
+		final List<Batch> batches = new ArrayList<>();
+		synchronized (this) {
+			while (inFlight < maxBatchesInFlight && !ready.isEmpty()) {
+				batches.add(ready.poll());
+				inFlight++;
+			}
+		}
+		for (final Batch batch : batches) {
+			send(batch);
+		}
+	}
+
+	private void send(final Batch batch) {
+		CompletionStage<MeasurementCollection> response;
+		try {
+			response = post(batch.measurements());
+		} catch (final RuntimeException e) {
+			final CompletableFuture<MeasurementCollection> failed = new CompletableFuture<>();
+			failed.completeExceptionally(e);
+			response = failed;
+		}
+		response.whenComplete((created, e) -> {
+			synchronized (this) {
+				inFlight--;
+				outstanding.remove(batch);
+			}
+			queueSlots.release(batch.pending.size());
+			final Measurement[] measurements = created != null ? created.getMeasurements() : null;
+			for (int i = 0; i < batch.pending.size(); i++) {
+				final Pending pending = batch.pending.get(i);
+				if (e != null) {
+					pending.result.completeExceptionally(e);
+				} else {
+					pending.result.complete(measurements != null && i < measurements.length ? measurements[i] : pending.measurement);
+				}
+			}
+			if (e != null) {
+				batch.done.completeExceptionally(e);
+			} else {
+				batch.done.complete(null);
+			}
+			dispatch();
+		});
+	}
+
+	private static class Pending {
+
+		private final Measurement measurement;
+
+		private final byte[] json;
+
+		private final CompletableFuture<Measurement> result = new CompletableFuture<>();
+
+		Pending(final Measurement measurement, final byte[] json) {
+			this.measurement = measurement;
+			this.json = json;
+		}
+	}
+
+	private static class Batch {
+
+		private final List<Pending> pending = new ArrayList<>();
+
+		private final CompletableFuture<Void> done = new CompletableFuture<>();
+
+		private long bytes = MeasurementEncoder.PREFIX.length + MeasurementEncoder.SUFFIX.length;
+
+		private ScheduledFuture<?> linger;
+
+		void add(final Pending measurement) {
+			bytes += pending.isEmpty() ? measurement.json.length : measurement.json.length + 1;
+			pending.add(measurement);
+		}
+
+		List<byte[]> measurements() {
+			final List<byte[]> measurements = new ArrayList<>(pending.size());
+			for (final Pending measurement : pending) {
+				measurements.add(measurement.json);
+			}
+			return measurements;
+		}
+	}
+}
@@ -0,0 +1,284 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.supplementary;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <p>Encodes measurements into the body of a measurement collection, without creating model objects. Each measurement
+ * is appended from a {@link MeasurementTemplate} and its time and values, which are written straight into a reusable
+ * buffer. Timestamps and integral values are written without any allocation, fractional values are written in their
+ * shortest representation as by <code>Double.toString(double)</code>.</p>
+ * <p>The encoded body is sent with
+ * {@link com.cumulocity.client.api.MeasurementsApi#createMeasurement(MeasurementEncoder, String)}. An encoder is not
+ * thread-safe, it is reused for the next batch after {@link #reset()}.</p>
+ */
+public class MeasurementEncoder {
+
+	/**
+	 * The framing of a measurement collection, shared by all writers of measurement collections.
+	 */
+	static final byte[] PREFIX = "{\"measurements\":[".getBytes(StandardCharsets.UTF_8);
+
+	static final byte[] SUFFIX = "]}".getBytes(StandardCharsets.UTF_8);
+
+	/**
+	 * Integral values up to this magnitude are exactly representable as <code>double</code>.
+	 */
+	private static final double MAX_INTEGRAL = 9007199254740992d;
+
+	/**
+	 * The range of times with a four digit year, <code>0000-01-01T00:00:00.000Z</code> to
+	 * <code>9999-12-31T23:59:59.999Z</code>.
+	 */
+	private static final long MIN_EPOCH_MILLIS = -62167219200000L;
+
+	private static final long MAX_EPOCH_MILLIS = 253402300799999L;
+
+	private byte[] buffer;
+
+	private int position;
+
+	private int size;
+
+	public MeasurementEncoder() {
+		this(16 * 1024);
+	}
+
+	/**
+	 * @param initialCapacity the initial size of the buffer in bytes
+	 */
+	public MeasurementEncoder(final int initialCapacity) {
+		this.buffer = new byte[Math.max(64, initialCapacity)];
+	}
+
+	public MeasurementEncoder append(final MeasurementTemplate template, final long epochMillis, final double value) {
+		checkSeriesCount(template, 1);
+		checkTime(epochMillis);
+		checkFinite(value);
+		begin(template, epochMillis);
+		writeValue(template, 0, value);
+		return end(template);
+	}
+
+	public MeasurementEncoder append(final MeasurementTemplate template, final long epochMillis, final double first, final double second) {
+		checkSeriesCount(template, 2);
+		checkTime(epochMillis);
+		checkFinite(first);
+		checkFinite(second);
+		begin(template, epochMillis);
+		for (int i = 0; i < 2; i++) {
+			writeValue(template, i, template.valueIndex[i] == 0 ? first : second);
+		}
+		return end(template);
+	}
+
+	/**
+	 * Appends a measurement of <code>template</code>.
+	 *
+	 * @param template
+	 * @param epochMillis the time of the measurement
+	 * @param values the values, in the order in which the series were added to the template
+	 * @return this encoder
+	 */
+	public MeasurementEncoder append(final MeasurementTemplate template, final long epochMillis, final double[] values) {
+		checkSeriesCount(template, values.length);
+		checkTime(epochMillis);
+		for (final double value : values) {
+			checkFinite(value);
+		}
+		begin(template, epochMillis);
+		for (int i = 0; i < values.length; i++) {
+			writeValue(template, i, values[template.valueIndex[i]]);
+		}
+		return end(template);
+	}
+
+	/**
+	 * Returns the number of measurements appended since the last reset.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the size of the encoded measurement collection in bytes.
+	 */
+	public int byteSize() {
+		return PREFIX.length + position + SUFFIX.length;
+	}
+
+	/**
+	 * Removes all measurements, keeping the buffer.
+	 */
+	public void reset() {
+		position = 0;
+		size = 0;
+	}
+
+	/**
+	 * Writes the encoded measurement collection to <code>output</code>.
+	 *
+	 * @param output
+	 * @throws IOException
+	 */
+	public void writeTo(final OutputStream output) throws IOException {
+		output.write(PREFIX);
+		output.write(buffer, 0, position);
+		output.write(SUFFIX);
+	}
+
+	/**
+	 * Writes a measurement collection of <code>measurements</code>, each of them already serialized as JSON object, to
+	 * <code>output</code>.
+	 *
+	 * @param output
+	 * @param measurements
+	 * @throws IOException
+	 */
+	public static void writeCollection(final OutputStream output, final List<byte[]> measurements) throws IOException {
+		output.write(PREFIX);
+		for (int i = 0; i < measurements.size(); i++) {
+			if (i > 0) {
+				output.write(',');
+			}
+			output.write(measurements.get(i));
+		}
+		output.write(SUFFIX);
+	}
+
+	/**
+	 * Returns a copy of the encoded measurement collection.
+	 */
+	public byte[] toByteArray() {
+		final byte[] body = new byte[byteSize()];
+		System.arraycopy(PREFIX, 0, body, 0, PREFIX.length);
+		System.arraycopy(buffer, 0, body, PREFIX.length, position);
+		System.arraycopy(SUFFIX, 0, body, PREFIX.length + position, SUFFIX.length);
+		return body;
+	}
+
+	private static void checkSeriesCount(final MeasurementTemplate template, final int values) {
+		if (template.valueIndex.length != values) {
+			throw new IllegalArgumentException("template has " + template.valueIndex.length + " series, but " + values + " values were passed");
+		}
+	}
+
+	/**
+	 * Rejects times which cannot be written, before anything of the measurement has been written.
+	 */
+	private static void checkTime(final long epochMillis) {
+		if (epochMillis < MIN_EPOCH_MILLIS || epochMillis > MAX_EPOCH_MILLIS) {
+			throw new IllegalArgumentException("time out of range: " + epochMillis);
+		}
+	}
+
+	private static void checkFinite(final double value) {
+		if (Double.isNaN(value) || Double.isInfinite(value)) {
+			throw new IllegalArgumentException("not a finite value: " + value);
+		}
+	}
+
+	private void begin(final MeasurementTemplate template, final long epochMillis) {
+		if (size > 0) {
+			ensureCapacity(1);
+			buffer[position++] = ',';
+		}
+		writeBytes(template.segments[0]);
+		writeTime(epochMillis);
+	}
+
+	private MeasurementEncoder end(final MeasurementTemplate template) {
+		writeBytes(template.segments[template.segments.length - 1]);
+		size++;
+		return this;
+	}
+
+	private void writeValue(final MeasurementTemplate template, final int slot, final double value) {
+		writeBytes(template.segments[slot + 1]);
+		if (value == Math.rint(value) && Math.abs(value) <= MAX_INTEGRAL) {
+			writeLong((long) value);
+		} else {
+			final String text = Double.toString(value);
+			ensureCapacity(text.length());
+			for (int i = 0; i < text.length(); i++) {
+				buffer[position++] = (byte) text.charAt(i);
+			}
+		}
+	}
+
+	/**
+	 * Writes <code>epochMillis</code> as ISO 8601 date and time in UTC, e.g. <code>2023-01-31T12:00:00.000Z</code>.
+	 */
+	private void writeTime(final long epochMillis) {
+		final long epochDay = Math.floorDiv(epochMillis, 86_400_000L);
+		final int millisOfDay = (int) Math.floorMod(epochMillis, 86_400_000L);
+		// civil from days, see http://howardhinnant.github.io/date_algorithms.html
+		final long z = epochDay + 719_468;
+		final long era = Math.floorDiv(z, 146_097);
+		final long dayOfEra = z - era * 146_097;
+		final long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+		final long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+		final long mp = (5 * dayOfYear + 2) / 153;
+		final int day = (int) (dayOfYear - (153 * mp + 2) / 5 + 1);
+		final int month = (int) (mp < 10 ? mp + 3 : mp - 9);
+		final long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+		ensureCapacity(24);
+		writeDigits((int) year, 4);
+		buffer[position++] = '-';
+		writeDigits(month, 2);
+		buffer[position++] = '-';
+		writeDigits(day, 2);
+		buffer[position++] = 'T';
+		writeDigits(millisOfDay / 3_600_000, 2);
+		buffer[position++] = ':';
+		writeDigits(millisOfDay / 60_000 % 60, 2);
+		buffer[position++] = ':';
+		writeDigits(millisOfDay / 1000 % 60, 2);
+		buffer[position++] = '.';
+		writeDigits(millisOfDay % 1000, 3);
+		buffer[position++] = 'Z';
+	}
+
+	private void writeDigits(int value, final int digits) {
+		for (int i = digits - 1; i >= 0; i--) {
+			buffer[position + i] = (byte) ('0' + value % 10);
+			value /= 10;
+		}
+		position += digits;
+	}
+
+	private void writeLong(long value) {
+		ensureCapacity(20);
+		if (value < 0) {
+			buffer[position++] = '-';
+			value = -value;
+		}
+		int digits = 1;
+		for (long remaining = value / 10; remaining > 0; remaining /= 10) {
+			digits++;
+		}
+		for (int i = position + digits - 1; i >= position; i--) {
+			buffer[i] = (byte) ('0' + value % 10);
+			value /= 10;
+		}
+		position += digits;
+	}
+
+	private void writeBytes(final byte[] bytes) {
+		ensureCapacity(bytes.length);
+		System.arraycopy(bytes, 0, buffer, position, bytes.length);
+		position += bytes.length;
+	}
+
+	private void ensureCapacity(final int length) {
+		if (position + length > buffer.length) {
+			buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + length));
+		}
+	}
+}
@@ -0,0 +1,91 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.supplementary;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import com.cumulocity.client.api.MeasurementsApi;
+
+/**
+ * <p>Retrieves measurement series of arbitrary length. The platform truncates a series response once it exceeds its
+ * limit of values and flags it as <code>truncated</code>. In this case the fetcher bisects the requested time range
+ * and retrieves both halves, recursively, until no response is truncated or the range cannot be split any further.
+ * Requests are issued concurrently, bounded by the configured number of requests in flight, and the results are merged
+ * into a single series in ascending order of time.</p>
+ */
+public class MeasurementSeriesFetcher {
+
+	private final MeasurementsApi measurementsApi;
+
+	private final AsyncSemaphore requests;
+
+	private final long minimumRangeMillis;
+
+	/**
+	 * @param measurementsApi
+	 * @param maxConcurrentRequests the maximum number of requests in flight
+	 * @param minimumRangeMillis ranges of this length or shorter are not split any further
+	 */
+	public MeasurementSeriesFetcher(final MeasurementsApi measurementsApi, final int maxConcurrentRequests, final long minimumRangeMillis) {
+		this.measurementsApi = measurementsApi;
+		this.requests = new AsyncSemaphore(maxConcurrentRequests);
+		this.minimumRangeMillis = Math.max(1, minimumRangeMillis);
+	}
+
+	/**
+	 * Retrieves the series of <code>source</code> between <code>dateFrom</code> and <code>dateTo</code>, see
+	 * {@link MeasurementsApi#getMeasurementSeries(String, String, String, boolean, String[], String)}.
+	 *
+	 * @param aggregationType
+	 * @param dateFrom start date or date and time, required
+	 * @param dateTo end date or date and time, required
+	 * @param series
+	 * @param source
+	 * @return the merged series, only truncated if a range of the minimum length was still truncated
+	 */
+	public CompletionStage<ColumnarMeasurementSeries> getMeasurementSeries(final String aggregationType, final String dateFrom, final String dateTo, final String[] series, final String source) {
+		final long from = toEpochMillis(Objects.requireNonNull(dateFrom, "dateFrom"));
+		final long to = toEpochMillis(Objects.requireNonNull(dateTo, "dateTo"));
+		return fetch(aggregationType, from, to, series, source).thenApply(ColumnarMeasurementSeries::concat);
+	}
+
+	private CompletionStage<List<ColumnarMeasurementSeries>> fetch(final String aggregationType, final long from, final long to, final String[] series, final String source) {
+		return requests.submit(() -> measurementsApi.getColumnarMeasurementSeries(aggregationType, toDate(from), toDate(to), false, series, source))
+			.thenCompose(result -> {
+				if (!result.getTruncated() || to - from <= minimumRangeMillis) {
+					return CompletableFuture.completedFuture(Collections.singletonList(result));
+				}
+				final long middle = from + (to - from) / 2;
+				return fetch(aggregationType, from, middle, series, source)
+					.thenCombine(fetch(aggregationType, middle, to, series, source), (first, second) -> {
+						final List<ColumnarMeasurementSeries> parts = new ArrayList<>(first.size() + second.size());
+						parts.addAll(first);
+						parts.addAll(second);
+						return parts;
+					});
+			});
+	}
+
+	static long toEpochMillis(final String date) {
+		try {
+			return OffsetDateTime.parse(date).toInstant().toEpochMilli();
+		} catch (final DateTimeParseException e) {
+			return LocalDate.parse(date).atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+		}
+	}
+
+	static String toDate(final long epochMillis) {
+		return Instant.ofEpochMilli(epochMillis).toString();
+	}
+}
@@ -0,0 +1,153 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.supplementary;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+
+/**
+ * <p>Static part of measurements which share their source, type and series and differ only in time and values. The
+ * static part is serialized once, when the template is created. A {@link MeasurementEncoder} splices the time and
+ * values of each measurement in between.</p>
+ * <pre>
+ * final MeasurementTemplate template = new MeasurementTemplate("4711", "c8y_Steam")
+ * 	.withSeries("c8y_Steam", "Temperature", "C")
+ * 	.withSeries("c8y_Steam", "Pressure", "bar");
+ * encoder.append(template, System.currentTimeMillis(), 21.5, 1.013);
+ * </pre>
+ * <p>Series of the same fragment are grouped into a single fragment object. Values are always passed in the order in
+ * which the series were added.</p>
+ */
+public class MeasurementTemplate {
+
+	private final String source;
+
+	private final String type;
+
+	private final List<String[]> series;
+
+	/**
+	 * The serialized static parts, <code>segments[0]</code> precedes the time, <code>segments[i + 1]</code> precedes
+	 * the <code>i</code>-th value in fragment order and the last segment closes the measurement.
+	 */
+	final byte[][] segments;
+
+	/**
+	 * Maps the <code>i</code>-th value in fragment order to the index of the value passed by the caller.
+	 */
+	final int[] valueIndex;
+
+	/**
+	 * @param source the ID of the source managed object
+	 * @param type the type of the measurements, omitted if <code>null</code>
+	 */
+	public MeasurementTemplate(final String source, final String type) {
+		this(source, type, new ArrayList<>());
+	}
+
+	private MeasurementTemplate(final String source, final String type, final List<String[]> series) {
+		this.source = source;
+		this.type = type;
+		this.series = series;
+		final Map<String, List<Integer>> fragments = new LinkedHashMap<>();
+		for (int i = 0; i < series.size(); i++) {
+			fragments.computeIfAbsent(series.get(i)[0], fragment -> new ArrayList<>()).add(i);
+		}
+		this.segments = new byte[series.size() + 2][];
+		this.valueIndex = new int[series.size()];
+		final ByteArrayOutputStream segment = new ByteArrayOutputStream();
+		write(segment, "{\"source\":{\"id\":\"");
+		write(segment, quote(source));
+		write(segment, "\"}");
+		if (type != null) {
+			write(segment, ",\"type\":\"");
+			write(segment, quote(type));
+			write(segment, "\"");
+		}
+		write(segment, ",\"time\":\"");
+		segments[0] = flush(segment);
+		write(segment, "\"");
+		int slot = 0;
+		for (final Map.Entry<String, List<Integer>> fragment : fragments.entrySet()) {
+			write(segment, ",\"");
+			write(segment, quote(fragment.getKey()));
+			write(segment, "\":{");
+			for (final int index : fragment.getValue()) {
+				final String[] s = series.get(index);
+				if (index != fragment.getValue().get(0)) {
+					write(segment, ",");
+				}
+				write(segment, "\"");
+				write(segment, quote(s[1]));
+				write(segment, "\":{");
+				if (s[2] != null) {
+					write(segment, "\"unit\":\"");
+					write(segment, quote(s[2]));
+					write(segment, "\",");
+				}
+				write(segment, "\"value\":");
+				segments[slot + 1] = flush(segment);
+				valueIndex[slot++] = index;
+				write(segment, "}");
+			}
+			write(segment, "}");
+		}
+		write(segment, "}");
+		segments[slot + 1] = flush(segment);
+	}
+
+	/**
+	 * Returns a template with an additional series.
+	 *
+	 * @param fragment the name of the fragment, e.g. <code>c8y_Steam</code>
+	 * @param series the name of the series, e.g. <code>Temperature</code>
+	 * @param unit the unit of the series, may be <code>null</code>
+	 * @return the template
+	 */
+	public MeasurementTemplate withSeries(final String fragment, final String series, final String unit) {
+		final List<String[]> copy = new ArrayList<>(this.series);
+		copy.add(new String[] { fragment, series, unit });
+		return new MeasurementTemplate(source, type, copy);
+	}
+
+	public String getSource() {
+		return source;
+	}
+
+	public String getType() {
+		return type;
+	}
+
+	/**
+	 * Returns the number of values of each measurement.
+	 */
+	public int getSeriesCount() {
+		return series.size();
+	}
+
+	private static byte[] flush(final ByteArrayOutputStream output) {
+		final byte[] bytes = output.toByteArray();
+		output.reset();
+		return bytes;
+	}
+
+	private static byte[] quote(final String value) {
+		return JsonStringEncoder.getInstance().quoteAsUTF8(value != null ? value : "");
+	}
+
+	private static void write(final ByteArrayOutputStream output, final String ascii) {
+		for (int i = 0; i < ascii.length(); i++) {
+			output.write(ascii.charAt(i));
+		}
+	}
+
+	private static void write(final ByteArrayOutputStream output, final byte[] bytes) {
+		output.write(bytes, 0, bytes.length);
+	}
+}
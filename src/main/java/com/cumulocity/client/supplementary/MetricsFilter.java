@@ -0,0 +1,117 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.supplementary;
+
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.client.ClientRequestContext;
+import jakarta.ws.rs.client.ClientResponseContext;
+import jakarta.ws.rs.client.ClientResponseFilter;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.WriterInterceptor;
+import jakarta.ws.rs.ext.WriterInterceptorContext;
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.CompletionException;
+
+/**
+ * <p>Measures the status and the body sizes of requests carrying a {@link Record} as property.</p>
+ */
+class MetricsFilter implements ClientResponseFilter, WriterInterceptor {
+
+	static final String RECORD = MetricsFilter.class.getName() + ".record";
+
+	@Override
+	public void aroundWriteTo(final WriterInterceptorContext context) throws IOException {
+		final Record record = (Record) context.getProperty(RECORD);
+		if (record != null) {
+			context.setOutputStream(new FilterOutputStream(context.getOutputStream()) {
+
+				@Override
+				public void write(final int b) throws IOException {
+					out.write(b);
+					record.requestBytes++;
+				}
+
+				@Override
+				public void write(final byte[] b, final int off, final int len) throws IOException {
+					out.write(b, off, len);
+					record.requestBytes += len;
+				}
+			});
+		}
+		context.proceed();
+	}
+
+	@Override
+	public void filter(final ClientRequestContext request, final ClientResponseContext response) {
+		final Record record = (Record) request.getProperty(RECORD);
+		if (record == null) {
+			return;
+		}
+		record.status = response.getStatus();
+		record.responseLength = response.getLength();
+		if (response.hasEntity()) {
+			response.setEntityStream(new FilterInputStream(response.getEntityStream()) {
+
+				@Override
+				public int read() throws IOException {
+					final int b = in.read();
+					if (b >= 0) {
+						record.responseBytes++;
+					}
+					return b;
+				}
+
+				@Override
+				public int read(final byte[] b, final int off, final int len) throws IOException {
+					final int n = in.read(b, off, len);
+					if (n > 0) {
+						record.responseBytes += n;
+					}
+					return n;
+				}
+			});
+		}
+	}
+
+	/**
+	 * <p>The measurements of a single request. Each field is written by one thread at a time, the completion of the
+	 * request publishes them.</p>
+	 */
+	static final class Record {
+
+		private final long startedAt = System.nanoTime();
+
+		volatile int status;
+
+		volatile long requestBytes;
+
+		volatile long responseLength = -1;
+
+		volatile long responseBytes;
+
+		/**
+		 * Reports the request to <code>metrics</code>, taking the status from the result if no response has passed the
+		 * filter.
+		 */
+		void complete(final ClientMetrics metrics, final String operation, final Object value, final Throwable error) {
+			final long latency = System.nanoTime() - startedAt;
+			Throwable cause = error;
+			while (cause instanceof CompletionException && cause.getCause() != null) {
+				cause = cause.getCause();
+			}
+			int status = this.status;
+			if (cause instanceof WebApplicationException) {
+				status = ((WebApplicationException) cause).getResponse().getStatus();
+			} else if (value instanceof Response && status == 0) {
+				status = ((Response) value).getStatus();
+			}
+			metrics.requestCompleted(operation, status, latency, requestBytes, Math.max(responseBytes, responseLength));
+		}
+	}
+}
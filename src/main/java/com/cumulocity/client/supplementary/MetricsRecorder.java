@@ -0,0 +1,127 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.supplementary;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>Records the requests of a client per operation: the number of requests in flight, latency histograms, the
+ * number of responses per status code and the bytes sent and received.</p>
+ * <pre>
+ * final MetricsRecorder metrics = new MetricsRecorder();
+ * clientConfig.register(metrics);
+ * ...
+ * final LatencyHistogram latency = metrics.getOperation("MeasurementsApi.createMeasurement").getLatency();
+ * latency.getPercentile(99);
+ * </pre>
+ */
+public class MetricsRecorder implements ClientMetrics {
+
+	private final ConcurrentMap<String, Operation> operations = new ConcurrentHashMap<>();
+
+	@Override
+	public void requestStarted(final String operation) {
+		operations.computeIfAbsent(operation, Operation::new).inFlight.increment();
+	}
+
+	@Override
+	public void requestCompleted(final String operation, final int status, final long latencyNanos, final long requestBytes, final long responseBytes) {
+		final Operation metrics = operations.computeIfAbsent(operation, Operation::new);
+		metrics.inFlight.decrement();
+		metrics.latency.record(latencyNanos);
+		metrics.requestBytes.add(requestBytes);
+		metrics.responseBytes.add(responseBytes);
+		metrics.statuses.incrementAndGet(status >= 0 && status < 600 ? status : 0);
+	}
+
+	/**
+	 * Returns the metrics of <code>operation</code>, e.g. <code>MeasurementsApi.createMeasurement</code>.
+	 *
+	 * @param operation
+	 * @return the metrics or <code>null</code>, if no request of the operation has been sent
+	 */
+	public Operation getOperation(final String operation) {
+		return operations.get(operation);
+	}
+
+	/**
+	 * Returns the metrics of all operations sent so far, sorted by operation.
+	 */
+	public Map<String, Operation> getOperations() {
+		return Collections.unmodifiableMap(new TreeMap<>(operations));
+	}
+
+	/**
+	 * <p>The metrics of a single operation.</p>
+	 */
+	public static final class Operation {
+
+		private final String name;
+
+		private final LongAdder inFlight = new LongAdder();
+
+		private final LatencyHistogram latency = new LatencyHistogram();
+
+		private final LongAdder requestBytes = new LongAdder();
+
+		private final LongAdder responseBytes = new LongAdder();
+
+		private final AtomicLongArray statuses = new AtomicLongArray(600);
+
+		Operation(final String name) {
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public long getInFlight() {
+			return inFlight.sum();
+		}
+
+		/**
+		 * Returns the number of completed requests.
+		 */
+		public long getRequests() {
+			return latency.getCount();
+		}
+
+		/**
+		 * Returns the latencies of the completed requests.
+		 */
+		public LatencyHistogram getLatency() {
+			return latency;
+		}
+
+		public long getRequestBytes() {
+			return requestBytes.sum();
+		}
+
+		public long getResponseBytes() {
+			return responseBytes.sum();
+		}
+
+		/**
+		 * Returns the number of completed requests by status code, sorted by status code. Requests which received no
+		 * response are counted with status <code>0</code>.
+		 */
+		public Map<Integer, Long> getStatuses() {
+			final Map<Integer, Long> counts = new TreeMap<>();
+			for (int status = 0; status < statuses.length(); status++) {
+				final long count = statuses.get(status);
+				if (count > 0) {
+					counts.put(status, count);
+				}
+			}
+			return counts;
+		}
+	}
+}
@@ -0,0 +1,224 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.supplementary;
+
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.core.Configuration;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import org.glassfish.jersey.client.ClientProperties;
+import org.glassfish.jersey.client.ClientRequest;
+import org.glassfish.jersey.client.ClientResponse;
+import org.glassfish.jersey.client.spi.AsyncConnectorCallback;
+import org.glassfish.jersey.client.spi.Connector;
+import org.glassfish.jersey.client.spi.ConnectorProvider;
+
+/**
+ * <p>Non-blocking HTTP/1.1 transport for the Jersey client used by all API classes. Requests are sent and received by
+ * a few selector threads, so a large number of requests can be in flight without holding a thread per request. The
+ * <code>rx()</code> invocations of the API classes complete once the response has been received.</p>
+ * <pre>
+ * final ClientConfig clientConfig = new ClientConfig();
+ * clientConfig.connectorProvider(new NioConnectorProvider(32, 60_000));
+ * </pre>
+ * <p>Connections are pooled per host and kept alive between requests. If all <code>maxConnectionsPerHost</code>
+ * connections to a host are busy, requests wait for a connection to become available. Idle connections are closed
+ * after <code>idleTimeoutMillis</code>. Request and response bodies are held in memory. The
+ * {@link ClientProperties#CONNECT_TIMEOUT connect} and {@link ClientProperties#READ_TIMEOUT read} timeouts of the
+ * client are applied, proxies are not supported.</p>
+ * <p>Host names are resolved on the executor of the transport, never on the thread sending the request, and the
+ * address is cached per host for a minute.</p>
+ * <p>Only HTTP/1.1 is spoken, no protocol is offered via ALPN. HTTP/2 would need a framing implementation, which the
+ * client does not include.</p>
+ */
+public class NioConnectorProvider implements ConnectorProvider {
+
+	private final int maxConnectionsPerHost;
+
+	private final long idleTimeoutMillis;
+
+	private final int ioThreads;
+
+	private final Executor executor;
+
+	/**
+	 * Creates a transport with a single selector thread, completing responses on the common fork join pool.
+	 *
+	 * @param maxConnectionsPerHost
+	 * @param idleTimeoutMillis
+	 */
+	public NioConnectorProvider(final int maxConnectionsPerHost, final long idleTimeoutMillis) {
+		this(maxConnectionsPerHost, idleTimeoutMillis, 1, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * @param maxConnectionsPerHost the maximum number of connections to a single host
+	 * @param idleTimeoutMillis the time after which an idle connection is closed
+	 * @param ioThreads the number of selector threads, hosts are distributed among them
+	 * @param executor completes the responses, i.e. runs the response processing of the client
+	 */
+	public NioConnectorProvider(final int maxConnectionsPerHost, final long idleTimeoutMillis, final int ioThreads, final Executor executor) {
+		if (maxConnectionsPerHost < 1 || ioThreads < 1) {
+			throw new IllegalArgumentException("connections per host and I/O threads must be positive");
+		}
+		this.maxConnectionsPerHost = maxConnectionsPerHost;
+		this.idleTimeoutMillis = idleTimeoutMillis;
+		this.ioThreads = ioThreads;
+		this.executor = executor;
+	}
+
+	@Override
+	public Connector getConnector(final Client client, final Configuration runtimeConfig) {
+		final NioLoop[] loops = new NioLoop[ioThreads];
+		try {
+			for (int i = 0; i < loops.length; i++) {
+				loops[i] = new NioLoop("nio-transport-" + i, maxConnectionsPerHost, idleTimeoutMillis, client.getSslContext(), client.getHostnameVerifier());
+			}
+		} catch (final IOException e) {
+			for (final NioLoop loop : loops) {
+				if (loop != null) {
+					loop.close();
+				}
+			}
+			throw new ProcessingException(e);
+		}
+		return new NioConnector(loops, executor);
+	}
+
+	/**
+	 * Connector sending each request on the selector thread of its host.
+	 */
+	static class NioConnector implements Connector {
+
+		private final NioLoop[] loops;
+
+		private final Executor executor;
+
+		NioConnector(final NioLoop[] loops, final Executor executor) {
+			this.loops = loops;
+			this.executor = executor;
+		}
+
+		@Override
+		public ClientResponse apply(final ClientRequest request) {
+			final Future<ClientResponse> response = submit(request, new AsyncConnectorCallback() {
+
+				@Override
+				public void response(final ClientResponse response) {
+				}
+
+				@Override
+				public void failure(final Throwable failure) {
+				}
+			});
+			try {
+				return response.get();
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+				response.cancel(true);
+				throw new ProcessingException(e);
+			} catch (final ExecutionException e) {
+				throw e.getCause() instanceof ProcessingException ? (ProcessingException) e.getCause() : new ProcessingException(e.getCause());
+			}
+		}
+
+		@Override
+		public Future<?> apply(final ClientRequest request, final AsyncConnectorCallback callback) {
+			return submit(request, callback);
+		}
+
+		@Override
+		public String getName() {
+			return "NIO HTTP/1.1";
+		}
+
+		@Override
+		public void close() {
+			for (final NioLoop loop : loops) {
+				loop.close();
+			}
+		}
+
+		/**
+		 * Returns the number of open connections, for tests.
+		 */
+		int getConnections() {
+			int connections = 0;
+			for (final NioLoop loop : loops) {
+				connections += loop.getConnections();
+			}
+			return connections;
+		}
+
+		private Future<ClientResponse> submit(final ClientRequest request, final AsyncConnectorCallback callback) {
+			final URI uri = request.getUri();
+			final boolean secure = "https".equalsIgnoreCase(uri.getScheme());
+			if (!secure && !"http".equalsIgnoreCase(uri.getScheme())) {
+				throw new ProcessingException("Unsupported scheme: " + uri.getScheme());
+			}
+			final int port = uri.getPort() >= 0 ? uri.getPort() : secure ? 443 : 80;
+			final byte[] bytes;
+			try {
+				bytes = encode(request, uri, port, secure);
+			} catch (final IOException e) {
+				throw new ProcessingException(e);
+			}
+			final NioLoop.Exchange exchange = new NioLoop.Exchange(request, bytes, uri.getHost(), port, secure,
+				request.resolveProperty(ClientProperties.CONNECT_TIMEOUT, 0), request.resolveProperty(ClientProperties.READ_TIMEOUT, 0), callback, executor);
+			loops[Math.floorMod(exchange.poolKey.hashCode(), loops.length)].submit(exchange);
+			return exchange.future;
+		}
+
+		/**
+		 * Writes the entity of <code>request</code> and encodes the request line, the headers and the entity.
+		 */
+		private static byte[] encode(final ClientRequest request, final URI uri, final int port, final boolean secure) throws IOException {
+			final ByteArrayOutputStream entity = new ByteArrayOutputStream();
+			if (request.hasEntity()) {
+				request.setStreamProvider(contentLength -> entity);
+				request.writeEntity();
+			}
+			final StringBuilder head = new StringBuilder(256);
+			head.append(request.getMethod()).append(' ').append(uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath());
+			if (uri.getRawQuery() != null) {
+				head.append('?').append(uri.getRawQuery());
+			}
+			head.append(" HTTP/1.1\r\nHost: ").append(uri.getHost());
+			if (port != (secure ? 443 : 80)) {
+				head.append(':').append(port);
+			}
+			head.append("\r\n");
+			for (final Map.Entry<String, List<String>> header : request.getStringHeaders().entrySet()) {
+				final String name = header.getKey().toLowerCase(Locale.ROOT);
+				if (name.equals("host") || name.equals("content-length") || name.equals("transfer-encoding") || name.equals("connection")) {
+					continue;
+				}
+				for (final String value : header.getValue()) {
+					head.append(header.getKey()).append(": ").append(value).append("\r\n");
+				}
+			}
+			if (request.hasEntity() || "POST".equalsIgnoreCase(request.getMethod()) || "PUT".equalsIgnoreCase(request.getMethod())) {
+				head.append("Content-Length: ").append(entity.size()).append("\r\n");
+			}
+			head.append("\r\n");
+			final byte[] headBytes = head.toString().getBytes(StandardCharsets.ISO_8859_1);
+			final byte[] bytes = new byte[headBytes.length + entity.size()];
+			System.arraycopy(headBytes, 0, bytes, 0, headBytes.length);
+			System.arraycopy(entity.toByteArray(), 0, bytes, headBytes.length, entity.size());
+			return bytes;
+		}
+	}
+}
@@ -0,0 +1,454 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.supplementary;
+
+import jakarta.ws.rs.ProcessingException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
+
+import org.glassfish.jersey.client.ClientRequest;
+import org.glassfish.jersey.client.ClientResponse;
+import org.glassfish.jersey.client.spi.AsyncConnectorCallback;
+import org.glassfish.jersey.message.internal.Statuses;
+
+/**
+ * <p>Selector thread of the {@link NioConnectorProvider NIO transport}. All connections and connection pools of a
+ * loop are confined to its thread, other threads pass tasks to it. Responses are completed on the executor of the
+ * transport, so decoding them never blocks the selector.</p>
+ * <p>A task or connection failing unexpectedly fails its own exchange only, the loop keeps serving all other
+ * exchanges.</p>
+ */
+class NioLoop implements Runnable {
+
+	private static final Logger LOGGER = Logger.getLogger(NioLoop.class.getName());
+
+	private static final long SWEEP_MILLIS = 100;
+
+	private static final long ADDRESS_TTL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+	private final Selector selector;
+
+	private final Thread thread;
+
+	private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+
+	private final Map<String, HostPool> pools = new HashMap<>();
+
+	private final int maxConnectionsPerHost;
+
+	private final long idleTimeoutNanos;
+
+	private final SSLContext sslContext;
+
+	private final HostnameVerifier hostnameVerifier;
+
+	private volatile boolean closed;
+
+	NioLoop(final String name, final int maxConnectionsPerHost, final long idleTimeoutMillis, final SSLContext sslContext, final HostnameVerifier hostnameVerifier)
+			throws IOException {
+		this.selector = Selector.open();
+		this.maxConnectionsPerHost = maxConnectionsPerHost;
+		this.idleTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(idleTimeoutMillis);
+		this.sslContext = sslContext;
+		this.hostnameVerifier = hostnameVerifier;
+		this.thread = new Thread(this, name);
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	/**
+	 * Sends <code>exchange</code> on a pooled connection to its host.
+	 */
+	void submit(final Exchange exchange) {
+		execute(() -> {
+			try {
+				pools.computeIfAbsent(exchange.poolKey, key -> new HostPool()).submit(exchange);
+			} catch (final RuntimeException e) {
+				exchange.fail(e);
+			}
+		});
+		exchange.future.whenComplete((response, e) -> {
+			if (exchange.future.isCancelled()) {
+				execute(() -> cancel(exchange));
+			}
+		});
+	}
+
+	/**
+	 * Returns the number of open connections to all hosts.
+	 */
+	int getConnections() {
+		final CompletableFuture<Integer> connections = new CompletableFuture<>();
+		execute(() -> connections.complete(pools.values().stream().mapToInt(pool -> pool.connections.size()).sum()));
+		return connections.join();
+	}
+
+	void close() {
+		closed = true;
+		selector.wakeup();
+		if (Thread.currentThread() != thread) {
+			try {
+				thread.join(TimeUnit.SECONDS.toMillis(5));
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	Selector selector() {
+		return selector;
+	}
+
+	SSLContext sslContext() {
+		return sslContext;
+	}
+
+	HostnameVerifier hostnameVerifier() {
+		return hostnameVerifier;
+	}
+
+	private void execute(final Runnable task) {
+		if (closed) {
+			throw new ProcessingException("Transport is closed");
+		}
+		tasks.add(task);
+		selector.wakeup();
+	}
+
+	@Override
+	public void run() {
+		long lastSweep = System.nanoTime();
+		while (!closed) {
+			try {
+				selector.select(SWEEP_MILLIS);
+			} catch (final IOException e) {
+				break;
+			}
+			runTasks();
+			for (final SelectionKey key : selector.selectedKeys()) {
+				final HttpConnection connection = (HttpConnection) key.attachment();
+				try {
+					connection.handle(key);
+				} catch (final RuntimeException e) {
+					abandon(connection, e);
+				}
+			}
+			selector.selectedKeys().clear();
+			final long now = System.nanoTime();
+			if (now - lastSweep >= TimeUnit.MILLISECONDS.toNanos(SWEEP_MILLIS)) {
+				lastSweep = now;
+				for (final HostPool pool : new ArrayList<>(pools.values())) {
+					pool.sweep(now);
+				}
+			}
+		}
+		final ProcessingException error = new ProcessingException("Transport is closed");
+		for (final HostPool pool : pools.values()) {
+			pool.closeAll(error);
+		}
+		runTasks();
+		for (final HostPool pool : pools.values()) {
+			pool.closeAll(error);
+		}
+		try {
+			selector.close();
+		} catch (final IOException e) {
+			// nothing left to release
+		}
+	}
+
+	private void runTasks() {
+		for (Runnable task = tasks.poll(); task != null; task = tasks.poll()) {
+			try {
+				task.run();
+			} catch (final RuntimeException e) {
+				LOGGER.log(Level.WARNING, "task of " + thread.getName() + " failed", e);
+			}
+		}
+	}
+
+	/**
+	 * Closes <code>connection</code> after an unexpected failure, failing its exchange with <code>error</code>.
+	 */
+	private void abandon(final HttpConnection connection, final RuntimeException error) {
+		try {
+			connection.fail(error);
+		} catch (final RuntimeException e) {
+			e.addSuppressed(error);
+			LOGGER.log(Level.WARNING, "connection of " + thread.getName() + " failed", e);
+		}
+	}
+
+	private void cancel(final Exchange exchange) {
+		final HostPool pool = pools.get(exchange.poolKey);
+		if (pool != null && !pool.waiting.remove(exchange) && exchange.connection != null) {
+			exchange.connection.abort(exchange);
+		}
+	}
+
+	/**
+	 * Connections to a single host. Connections are reused most recently used first, so surplus connections become
+	 * idle and are closed after the idle timeout.
+	 */
+	class HostPool {
+
+		private final Set<HttpConnection> connections = new LinkedHashSet<>();
+
+		private final Deque<HttpConnection> idle = new ArrayDeque<>();
+
+		private final Deque<Exchange> waiting = new ArrayDeque<>();
+
+		private InetSocketAddress address;
+
+		private long resolvedAt;
+
+		private boolean resolving;
+
+		void submit(final Exchange exchange) {
+			if (closed) {
+				exchange.fail(new ProcessingException("Transport is closed"));
+				return;
+			}
+			final HttpConnection connection = idle.pollLast();
+			if (connection != null) {
+				connection.send(exchange);
+			} else if (connections.size() < maxConnectionsPerHost) {
+				open(exchange);
+			} else {
+				waiting.add(exchange);
+			}
+		}
+
+		/**
+		 * Passes the next waiting exchange to <code>connection</code>, or keeps it idle.
+		 */
+		void release(final HttpConnection connection) {
+			final Exchange next = waiting.poll();
+			if (next != null) {
+				connection.send(next);
+			} else {
+				connection.idleSince = System.nanoTime();
+				idle.add(connection);
+			}
+		}
+
+		void closed(final HttpConnection connection) {
+			connections.remove(connection);
+			idle.remove(connection);
+			if (!closed && !waiting.isEmpty() && connections.size() < maxConnectionsPerHost) {
+				open(waiting.poll());
+			}
+		}
+
+		InetSocketAddress address() {
+			return address;
+		}
+
+		/**
+		 * Resolves the host again before opening the next connection, e.g. after a connection attempt failed.
+		 */
+		void forgetAddress() {
+			address = null;
+		}
+
+		private void open(final Exchange exchange) {
+			if (address == null || System.nanoTime() - resolvedAt > ADDRESS_TTL_NANOS) {
+				waiting.add(exchange);
+				resolve(exchange);
+				return;
+			}
+			final HttpConnection connection;
+			try {
+				connection = new HttpConnection(NioLoop.this, this, exchange);
+			} catch (final IOException | RuntimeException e) {
+				exchange.fail(e);
+				return;
+			}
+			connections.add(connection);
+			connection.connect();
+		}
+
+		/**
+		 * Resolves the host of <code>exchange</code> on the executor of the transport and opens connections for the
+		 * waiting exchanges once it is resolved.
+		 */
+		private void resolve(final Exchange exchange) {
+			if (resolving) {
+				return;
+			}
+			resolving = true;
+			try {
+				exchange.executor.execute(() -> {
+					final Runnable resolved = resolution(exchange);
+					try {
+						execute(resolved);
+					} catch (final ProcessingException e) {
+						// the loop is closed and fails the waiting exchanges itself
+					}
+				});
+			} catch (final RejectedExecutionException e) {
+				resolution(exchange).run();
+			}
+		}
+
+		/**
+		 * Resolves the host of <code>exchange</code>, returning the task passing the result to the pool.
+		 */
+		private Runnable resolution(final Exchange exchange) {
+			try {
+				final InetSocketAddress resolved = new InetSocketAddress(exchange.host, exchange.port);
+				if (resolved.isUnresolved()) {
+					return () -> resolved(null, new ProcessingException("Unknown host: " + exchange.host));
+				}
+				return () -> resolved(resolved, null);
+			} catch (final RuntimeException e) {
+				return () -> resolved(null, e);
+			}
+		}
+
+		private void resolved(final InetSocketAddress resolved, final RuntimeException error) {
+			resolving = false;
+			if (error != null && address == null) {
+				for (Exchange exchange = waiting.poll(); exchange != null; exchange = waiting.poll()) {
+					exchange.fail(error);
+				}
+				return;
+			}
+			// an expired address which cannot be resolved again is used for another period
+			address = resolved != null ? resolved : address;
+			resolvedAt = System.nanoTime();
+			while (!closed && !waiting.isEmpty() && connections.size() < maxConnectionsPerHost) {
+				open(waiting.poll());
+			}
+		}
+
+		private void sweep(final long now) {
+			for (final HttpConnection connection : new ArrayList<>(connections)) {
+				try {
+					connection.sweep(now, idleTimeoutNanos);
+				} catch (final RuntimeException e) {
+					abandon(connection, e);
+				}
+			}
+		}
+
+		private void closeAll(final Throwable error) {
+			for (Exchange exchange = waiting.poll(); exchange != null; exchange = waiting.poll()) {
+				exchange.fail(error);
+			}
+			for (final HttpConnection connection : new ArrayList<>(connections)) {
+				connection.fail(error);
+			}
+		}
+	}
+
+	/**
+	 * A single request and its response.
+	 */
+	static class Exchange {
+
+		final ClientRequest request;
+
+		final byte[] bytes;
+
+		final boolean head;
+
+		final boolean idempotent;
+
+		final String poolKey;
+
+		final String host;
+
+		final int port;
+
+		final boolean secure;
+
+		final long connectTimeoutNanos;
+
+		final long readTimeoutNanos;
+
+		final CompletableFuture<ClientResponse> future = new CompletableFuture<>();
+
+		private final AsyncConnectorCallback callback;
+
+		final Executor executor;
+
+		boolean retried;
+
+		HttpConnection connection;
+
+		Exchange(final ClientRequest request, final byte[] bytes, final String host, final int port, final boolean secure,
+				final long connectTimeoutMillis, final long readTimeoutMillis, final AsyncConnectorCallback callback, final Executor executor) {
+			this.request = request;
+			this.bytes = bytes;
+			this.head = "HEAD".equalsIgnoreCase(request.getMethod());
+			this.idempotent = head || "GET".equalsIgnoreCase(request.getMethod()) || "PUT".equalsIgnoreCase(request.getMethod())
+				|| "DELETE".equalsIgnoreCase(request.getMethod()) || "OPTIONS".equalsIgnoreCase(request.getMethod());
+			this.poolKey = (secure ? "https://" : "http://") + host + ":" + port;
+			this.host = host;
+			this.port = port;
+			this.secure = secure;
+			this.connectTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(connectTimeoutMillis);
+			this.readTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(readTimeoutMillis);
+			this.callback = callback;
+			this.executor = executor;
+		}
+
+		void succeed(final HttpResponseParser parser) {
+			final ClientResponse response = new ClientResponse(Statuses.from(parser.getStatus(), parser.getReason()), request);
+			for (final String[] header : parser.getHeaders()) {
+				response.header(header[0], header[1]);
+			}
+			response.setEntityStream(new ByteArrayInputStream(parser.getBody()));
+			complete(() -> {
+				if (future.complete(response)) {
+					callback.response(response);
+				}
+			});
+		}
+
+		void fail(final Throwable error) {
+			final ProcessingException failure = error instanceof ProcessingException ? (ProcessingException) error : new ProcessingException(error);
+			complete(() -> {
+				if (future.completeExceptionally(failure)) {
+					callback.failure(failure);
+				}
+			});
+		}
+
+		/**
+		 * Completes the exchange on the executor, or on the calling thread if the executor rejects it, e.g. after
+		 * it has been shut down. Otherwise the exchange would never complete.
+		 */
+		private void complete(final Runnable completion) {
+			try {
+				executor.execute(completion);
+			} catch (final RejectedExecutionException e) {
+				completion.run();
+			}
+		}
+	}
+}
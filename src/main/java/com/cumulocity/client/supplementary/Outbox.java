@@ -0,0 +1,417 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.supplementary;
+
+import jakarta.ws.rs.WebApplicationException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.cumulocity.client.api.AlarmsApi;
+import com.cumulocity.client.api.EventsApi;
+import com.cumulocity.client.api.MeasurementsApi;
+import com.cumulocity.client.model.Alarm;
+import com.cumulocity.client.model.Event;
+import com.cumulocity.client.model.Measurement;
+
+/**
+ * <p>Store-and-forward outbox for measurements, events and alarms. Created resources are appended to a
+ * memory-mapped {@link Journal} on local disk and sent in order by a background thread, using the regular API classes.
+ * If the platform cannot be reached, the sender retries the oldest record with exponential backoff while new records
+ * keep being appended. Records survive a restart of the process: an outbox opened on the same directory resumes with
+ * the first record which has not been acknowledged by the platform.</p>
+ * <p>Records rejected by the platform with a client error, other than <code>408</code> and <code>429</code>, are
+ * dropped, as are records older than the retention time and the records of the oldest segment once the maximum number
+ * of segments is exceeded. Use {@link #getStatistics()} to monitor the backlog and the drain rate.</p>
+ * <pre>
+ * try (Outbox outbox = new Outbox(Paths.get("outbox"), 16 * 1024 * 1024, 64, TimeUnit.DAYS.toMillis(7), 1000,
+ * 		measurementsApi, eventsApi, alarmsApi)) {
+ * 	outbox.createMeasurement(measurement);
+ * }
+ * </pre>
+ */
+public class Outbox implements AutoCloseable {
+
+	private static final Logger LOGGER = Logger.getLogger(Outbox.class.getName());
+
+	private static final byte MEASUREMENT = 1;
+
+	private static final byte EVENT = 2;
+
+	private static final byte ALARM = 3;
+
+	private static final long REQUEST_TIMEOUT_MILLIS = 60_000;
+
+	private final Journal journal;
+
+	private final long retentionMillis;
+
+	private final long retryDelayMillis;
+
+	private final MeasurementsApi measurementsApi;
+
+	private final EventsApi eventsApi;
+
+	private final AlarmsApi alarmsApi;
+
+	private final Thread sender;
+
+	private volatile boolean closed;
+
+	private long sent;
+
+	private long expired;
+
+	private long rejected;
+
+	private long failedAttempts;
+
+	private long journalFailures;
+
+	private Exception journalFailure;
+
+	private long windowStart = System.nanoTime();
+
+	private long windowSent;
+
+	private double drainRate;
+
+	/**
+	 * Opens the outbox in <code>directory</code> and starts sending the recovered records. APIs which are not used may
+	 * be <code>null</code>.
+	 *
+	 * @param directory the directory holding the journal, created if it does not exist
+	 * @param segmentBytes the size of each segment file, which limits the size of a single record
+	 * @param maxSegments the maximum number of segment files
+	 * @param retentionMillis records older than this are dropped instead of sent
+	 * @param retryDelayMillis the delay before the first retry, doubled on each failed attempt up to a minute
+	 * @param measurementsApi
+	 * @param eventsApi
+	 * @param alarmsApi
+	 * @throws IOException if the journal cannot be opened
+	 */
+	public Outbox(final Path directory, final int segmentBytes, final int maxSegments, final long retentionMillis, final long retryDelayMillis,
+			final MeasurementsApi measurementsApi, final EventsApi eventsApi, final AlarmsApi alarmsApi) throws IOException {
+		this.journal = new Journal(directory, segmentBytes, maxSegments);
+		this.retentionMillis = retentionMillis;
+		this.retryDelayMillis = Math.max(1, retryDelayMillis);
+		this.measurementsApi = measurementsApi;
+		this.eventsApi = eventsApi;
+		this.alarmsApi = alarmsApi;
+		this.sender = new Thread(this::drain, "outbox-sender");
+		this.sender.setDaemon(true);
+		this.sender.start();
+	}
+
+	public void createMeasurement(final Measurement measurement) throws IOException {
+		append(MEASUREMENT, measurementsApi, measurement);
+	}
+
+	public void createEvent(final Event event) throws IOException {
+		append(EVENT, eventsApi, event);
+	}
+
+	public void createAlarm(final Alarm alarm) throws IOException {
+		append(ALARM, alarmsApi, alarm);
+	}
+
+	/**
+	 * Writes all records appended so far to the storage device. Without calling this method, records survive a crash
+	 * of the process, but not necessarily of the operating system.
+	 */
+	public void sync() {
+		journal.force();
+	}
+
+	public Statistics getStatistics() {
+		synchronized (this) {
+			return new Statistics(journal.backlogRecords(), journal.backlogBytes(), sent, journal.dropped() + expired, rejected, failedAttempts, journalFailures, drainRate);
+		}
+	}
+
+	/**
+	 * Returns the last failure of the journal while sending, e.g. a segment which could not be read. The sender
+	 * keeps retrying after such failures.
+	 *
+	 * @return the failure or <code>null</code>, if the journal has not failed
+	 */
+	public synchronized Exception getJournalFailure() {
+		return journalFailure;
+	}
+
+	/**
+	 * Stops the sender and closes the journal. Records not yet sent are sent once the outbox is opened again.
+	 */
+	@Override
+	public void close() throws IOException {
+		closed = true;
+		synchronized (journal) {
+			journal.notifyAll();
+		}
+		sender.interrupt();
+		try {
+			sender.join(REQUEST_TIMEOUT_MILLIS);
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		journal.close();
+	}
+
+	private void append(final byte kind, final AdaptableApi api, final Object body) throws IOException {
+		if (api == null) {
+			throw new IllegalStateException("no API configured for " + body.getClass().getSimpleName());
+		}
+		if (closed) {
+			throw new IllegalStateException("outbox is closed");
+		}
+		final ByteArrayOutputStream output = new ByteArrayOutputStream(256);
+		api.codec().writeValue(output, body, "self", "id", "source.self");
+		synchronized (journal) {
+			journal.append(kind, System.currentTimeMillis(), output.toByteArray());
+			journal.notifyAll();
+		}
+	}
+
+	/**
+	 * Sends the records in order until the outbox is closed.
+	 */
+	private void drain() {
+		int attempts = 0;
+		while (!closed) {
+			try {
+				attempts = sendNext(attempts);
+			} catch (final InterruptedException e) {
+				if (closed) {
+					return;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Sends the first unacknowledged record, backing off if either the platform or the journal fails.
+	 *
+	 * @return the number of failed attempts since the last record was sent
+	 */
+	private int sendNext(final int attempts) throws InterruptedException {
+		try {
+			final Journal.Record record;
+			synchronized (journal) {
+				record = journal.peek();
+				if (record == null) {
+					journal.wait(1000);
+					updateDrainRate(0);
+					return attempts;
+				}
+			}
+			if (retentionMillis > 0 && System.currentTimeMillis() - record.getTime() > retentionMillis) {
+				synchronized (this) {
+					expired++;
+				}
+				journal.acknowledge(record);
+				return attempts;
+			}
+			final Object body;
+			try {
+				body = decode(record);
+			} catch (final IOException e) {
+				// the record cannot be decoded, e.g. after a change of the model or of the configured APIs
+				LOGGER.log(Level.SEVERE, "dropping record of kind " + record.getKind() + " which cannot be sent", e);
+				synchronized (this) {
+					rejected++;
+				}
+				journal.acknowledge(record);
+				return attempts;
+			}
+			try {
+				send(record.getKind(), body).toCompletableFuture().get(REQUEST_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+			} catch (final ExecutionException e) {
+				if (!isRejected(e.getCause())) {
+					return backOff(attempts);
+				}
+				synchronized (this) {
+					rejected++;
+				}
+				journal.acknowledge(record);
+				return attempts;
+			} catch (final TimeoutException | RuntimeException e) {
+				return backOff(attempts);
+			}
+			updateDrainRate(1);
+			journal.acknowledge(record);
+			return 0;
+		} catch (final IOException | RuntimeException e) {
+			synchronized (this) {
+				journalFailures++;
+				journalFailure = e;
+			}
+			return backOff(attempts);
+		}
+	}
+
+	/**
+	 * Decodes a record, failing if its kind is unknown or if no API is configured for it, e.g. for a record recovered
+	 * from an outbox which was opened with other APIs.
+	 */
+	private Object decode(final Journal.Record record) throws IOException {
+		switch (record.getKind()) {
+			case MEASUREMENT:
+				return api(measurementsApi, "measurements").codec().readerFor(Measurement.class).readValue(record.getPayload());
+			case EVENT:
+				return api(eventsApi, "events").codec().readerFor(Event.class).readValue(record.getPayload());
+			case ALARM:
+				return api(alarmsApi, "alarms").codec().readerFor(Alarm.class).readValue(record.getPayload());
+			default:
+				throw new IOException("unknown record kind " + record.getKind());
+		}
+	}
+
+	private static <A extends AdaptableApi> A api(final A api, final String resources) throws IOException {
+		if (api == null) {
+			throw new IOException("no API configured for " + resources);
+		}
+		return api;
+	}
+
+	private CompletionStage<?> send(final byte kind, final Object body) {
+		switch (kind) {
+			case MEASUREMENT:
+				return measurementsApi.createMeasurement((Measurement) body, null);
+			case EVENT:
+				return eventsApi.createEvent((Event) body, null);
+			default:
+				return alarmsApi.createAlarm((Alarm) body, null);
+		}
+	}
+
+	private static boolean isRejected(final Throwable error) {
+		if (error instanceof WebApplicationException) {
+			final int status = ((WebApplicationException) error).getResponse().getStatus();
+			return status >= 400 && status < 500 && status != 408 && status != 429;
+		}
+		return false;
+	}
+
+	private int backOff(final int attempts) throws InterruptedException {
+		synchronized (this) {
+			failedAttempts++;
+		}
+		Thread.sleep(Math.min(TimeUnit.MINUTES.toMillis(1), retryDelayMillis << Math.min(attempts, 20)));
+		return attempts + 1;
+	}
+
+	private synchronized void updateDrainRate(final int count) {
+		sent += count;
+		windowSent += count;
+		final long now = System.nanoTime();
+		final long elapsed = now - windowStart;
+		if (elapsed >= TimeUnit.SECONDS.toNanos(1)) {
+			drainRate = windowSent * 1e9 / elapsed;
+			windowStart = now;
+			windowSent = 0;
+		}
+	}
+
+	/**
+	 * Snapshot of the state of an outbox.
+	 */
+	public static class Statistics {
+
+		private final long backlogRecords;
+
+		private final long backlogBytes;
+
+		private final long sent;
+
+		private final long dropped;
+
+		private final long rejected;
+
+		private final long failedAttempts;
+
+		private final long journalFailures;
+
+		private final double drainRate;
+
+		Statistics(final long backlogRecords, final long backlogBytes, final long sent, final long dropped, final long rejected, final long failedAttempts, final long journalFailures, final double drainRate) {
+			this.backlogRecords = backlogRecords;
+			this.backlogBytes = backlogBytes;
+			this.sent = sent;
+			this.dropped = dropped;
+			this.rejected = rejected;
+			this.failedAttempts = failedAttempts;
+			this.journalFailures = journalFailures;
+			this.drainRate = drainRate;
+		}
+
+		/**
+		 * Returns the number of records not yet sent.
+		 */
+		public long getBacklogRecords() {
+			return backlogRecords;
+		}
+
+		/**
+		 * Returns the size of the journal not yet sent, including the unused tails of full segments.
+		 */
+		public long getBacklogBytes() {
+			return backlogBytes;
+		}
+
+		/**
+		 * Returns the number of records sent since the outbox was opened.
+		 */
+		public long getSent() {
+			return sent;
+		}
+
+		/**
+		 * Returns the number of records dropped because of their age or because the journal was full.
+		 */
+		public long getDropped() {
+			return dropped;
+		}
+
+		/**
+		 * Returns the number of records rejected by the platform.
+		 */
+		public long getRejected() {
+			return rejected;
+		}
+
+		/**
+		 * Returns the number of failed attempts to send a record, e.g. while the platform was not reachable.
+		 */
+		public long getFailedAttempts() {
+			return failedAttempts;
+		}
+
+		/**
+		 * Returns the number of failures of the journal while sending, see {@link Outbox#getJournalFailure()}.
+		 */
+		public long getJournalFailures() {
+			return journalFailures;
+		}
+
+		/**
+		 * Returns the number of records sent per second, measured over the last second of activity.
+		 */
+		public double getDrainRate() {
+			return drainRate;
+		}
+
+		@Override
+		public String toString() {
+			return "backlog " + backlogRecords + " records (" + backlogBytes + " bytes), sent " + sent + ", dropped " + dropped
+				+ ", rejected " + rejected + ", failed attempts " + failedAttempts + ", journal failures " + journalFailures + ", " + Math.round(drainRate) + " records/s";
+		}
+	}
+}
@@ -0,0 +1,473 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.supplementary;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * <p>Stream of all elements of a collection endpoint, following the <code>next</code> link of each page. While the
+ * consumer processes the elements of one page, up to <code>prefetch</code> pages are requested ahead. Elements are
+ * only emitted on demand of the subscriber, and cancelling the subscription cancels the request in flight.
+ * <code>null</code> elements of a page are skipped.</p>
+ * <p>A stream can be consumed by a {@link Subscriber}, as {@link #iterator() iterator} or as {@link #stream() Java
+ * stream}. Each of them starts a new traversal from the first page:</p>
+ * <pre>
+ * final PageStream&lt;Measurement&gt; measurements = PageStream.of(measurementsApi,
+ * 	() -&gt; measurementsApi.getMeasurements(1, dateFrom, dateTo, 2000, false, source, null, null, null, false, false),
+ * 	MeasurementCollection::getMeasurements, MeasurementCollection::getNext);
+ * try (Stream&lt;Measurement&gt; stream = measurements.stream()) {
+ * 	stream.forEach(...);
+ * }
+ * </pre>
+ * <p>The {@link Subscriber} and {@link Subscription} interfaces follow the contract of
+ * <code>java.util.concurrent.Flow</code>, which is not available on Java 8.</p>
+ *
+ * @param <T> the element type of the collection
+ */
+public class PageStream<T> implements Iterable<T> {
+
+	/**
+	 * Number of pages requested ahead, if not specified otherwise.
+	 */
+	public static final int DEFAULT_PREFETCH = 2;
+
+	private final Source<?, T> source;
+
+	private final int prefetch;
+
+	private PageStream(final Source<?, T> source, final int prefetch) {
+		if (prefetch < 1) {
+			throw new IllegalArgumentException("prefetch must be positive: " + prefetch);
+		}
+		this.source = source;
+		this.prefetch = prefetch;
+	}
+
+	/**
+	 * Creates a stream over the pages of a collection endpoint, requesting {@link #DEFAULT_PREFETCH} pages ahead.
+	 *
+	 * @param <C> the collection type
+	 * @param <T> the element type
+	 * @param api the API the first page is requested from, subsequent pages are requested with its client
+	 * @param firstPage requests the first page, invoked once per traversal
+	 * @param elements extracts the elements of a page
+	 * @param next extracts the link to the next page
+	 * @return the stream
+	 */
+	@SuppressWarnings("unchecked")
+	public static <C, T> PageStream<T> of(final AdaptableApi api, final Supplier<? extends CompletionStage<C>> firstPage, final Function<C, T[]> elements, final Function<C, String> next) {
+		return of(elements, () -> page -> {
+			if (page == null) {
+				return firstPage.get();
+			}
+			final String link = next.apply(page);
+			return link != null ? api.getPage(link, (Class<C>) page.getClass()) : null;
+		});
+	}
+
+	/**
+	 * Creates a stream over pages which are not linked by <code>next</code> links, e.g. pages requested by a
+	 * {@link KeysetPaging keyset}, requesting {@link #DEFAULT_PREFETCH} pages ahead.
+	 *
+	 * @param <C> the collection type
+	 * @param <T> the element type
+	 * @param elements extracts the elements of a page
+	 * @param pager creates the pager of a single traversal. The pager requests the page following the passed page, or
+	 * the first page if <code>null</code> is passed, and returns <code>null</code> if there is no further page.
+	 * @return the stream
+	 */
+	public static <C, T> PageStream<T> of(final Function<C, T[]> elements, final Supplier<? extends Function<C, ? extends CompletionStage<C>>> pager) {
+		return new PageStream<>(new Source<>(elements, pager), DEFAULT_PREFETCH);
+	}
+
+	/**
+	 * Returns a stream over the same pages requesting <code>prefetch</code> pages ahead.
+	 *
+	 * @param prefetch
+	 * @return the stream
+	 */
+	public PageStream<T> prefetch(final int prefetch) {
+		return new PageStream<>(source, prefetch);
+	}
+
+	/**
+	 * Starts a new traversal, signalling the elements to <code>subscriber</code>.
+	 *
+	 * @param subscriber
+	 */
+	public void subscribe(final Subscriber<? super T> subscriber) {
+		final PageSubscription<?, T> subscription = new PageSubscription<>(source, prefetch, subscriber);
+		subscriber.onSubscribe(subscription);
+		subscription.drain();
+	}
+
+	/**
+	 * Starts a new traversal, returning an iterator blocking until the next element is available. Failed requests
+	 * are thrown as <code>CompletionException</code> from <code>hasNext()</code>.
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		final BlockingIterator<T> iterator = new BlockingIterator<>();
+		subscribe(iterator);
+		return iterator;
+	}
+
+	/**
+	 * Starts a new traversal, returning a sequential stream of the elements. Closing the stream cancels the
+	 * traversal.
+	 */
+	public Stream<T> stream() {
+		final BlockingIterator<T> iterator = new BlockingIterator<>();
+		subscribe(iterator);
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+			.onClose(iterator::cancel);
+	}
+
+	/**
+	 * Receiver of the elements of a stream, see <code>java.util.concurrent.Flow.Subscriber</code>.
+	 *
+	 * @param <T>
+	 */
+	public interface Subscriber<T> {
+
+		void onSubscribe(Subscription subscription);
+
+		void onNext(T item);
+
+		void onError(Throwable throwable);
+
+		void onComplete();
+	}
+
+	/**
+	 * Link between a stream and a subscriber, see <code>java.util.concurrent.Flow.Subscription</code>.
+	 */
+	public interface Subscription {
+
+		/**
+		 * Adds <code>n</code> elements to the demand of the subscriber.
+		 *
+		 * @param n
+		 */
+		void request(long n);
+
+		/**
+		 * Stops emitting elements and cancels the request in flight.
+		 */
+		void cancel();
+	}
+
+	private static class Source<C, T> {
+
+		private final Function<C, T[]> elements;
+
+		private final Supplier<? extends Function<C, ? extends CompletionStage<C>>> pager;
+
+		Source(final Function<C, T[]> elements, final Supplier<? extends Function<C, ? extends CompletionStage<C>>> pager) {
+			this.elements = elements;
+			this.pager = pager;
+		}
+	}
+
+	/**
+	 * Emits the elements of one traversal. All state is guarded by the subscription itself, subscribers are signalled
+	 * without holding the lock by a single draining thread at a time.
+	 */
+	private static class PageSubscription<C, T> implements Subscription {
+
+		private final Source<C, T> source;
+
+		private final int prefetch;
+
+		private final Subscriber<? super T> subscriber;
+
+		private final Function<C, ? extends CompletionStage<C>> pager;
+
+		private final Deque<T[]> pages = new ArrayDeque<>();
+
+		private int index;
+
+		private long requested;
+
+		private C previousPage;
+
+		private CompletableFuture<C> inFlight;
+
+		private boolean lastPage;
+
+		private Throwable error;
+
+		private boolean done;
+
+		private boolean emitting;
+
+		private boolean missed;
+
+		PageSubscription(final Source<C, T> source, final int prefetch, final Subscriber<? super T> subscriber) {
+			this.source = source;
+			this.prefetch = prefetch;
+			this.subscriber = subscriber;
+			this.pager = source.pager.get();
+		}
+
+		@Override
+		public void request(final long n) {
+			synchronized (this) {
+				if (done) {
+					return;
+				}
+				if (n <= 0) {
+					error = new IllegalArgumentException("non-positive request: " + n);
+					pages.clear();
+				} else {
+					requested = requested + n < 0 ? Long.MAX_VALUE : requested + n;
+				}
+			}
+			drain();
+		}
+
+		@Override
+		public void cancel() {
+			final CompletableFuture<C> request;
+			synchronized (this) {
+				done = true;
+				pages.clear();
+				request = inFlight;
+				inFlight = null;
+			}
+			if (request != null) {
+				request.cancel(true);
+			}
+		}
+
+		void drain() {
+			synchronized (this) {
+				if (emitting) {
+					missed = true;
+					return;
+				}
+				emitting = true;
+			}
+			while (true) {
+				if (!emit()) {
+					return;
+				}
+				fetch();
+				synchronized (this) {
+					if (!missed) {
+						emitting = false;
+						return;
+					}
+					missed = false;
+				}
+			}
+		}
+
+		/**
+		 * Emits elements while there is demand and signals completion or failure once all pages are consumed.
+		 *
+		 * @return <code>false</code>, if the subscription is done
+		 */
+		private boolean emit() {
+			while (true) {
+				final T item;
+				final Throwable failure;
+				final boolean terminated;
+				synchronized (this) {
+					if (done) {
+						emitting = false;
+						return false;
+					}
+					final T[] page = pages.peek();
+					if (page == null && (error != null || lastPage)) {
+						done = true;
+						emitting = false;
+						terminated = true;
+						failure = error;
+						item = null;
+					} else if (page == null || requested == 0) {
+						return true;
+					} else {
+						item = page[index++];
+						if (index == page.length) {
+							pages.poll();
+							index = 0;
+						}
+						if (item == null) {
+							// null elements are not allowed by Reactive Streams, skip them without consuming demand
+							continue;
+						}
+						requested--;
+						terminated = false;
+						failure = null;
+					}
+				}
+				if (terminated) {
+					if (failure != null) {
+						subscriber.onError(failure);
+					} else {
+						subscriber.onComplete();
+					}
+					return false;
+				} else {
+					subscriber.onNext(item);
+				}
+			}
+		}
+
+		/**
+		 * Requests the next page unless a request is in flight or <code>prefetch</code> pages are buffered.
+		 */
+		private void fetch() {
+			final C page;
+			final CompletableFuture<C> request = new CompletableFuture<>();
+			synchronized (this) {
+				if (done || inFlight != null || lastPage || error != null || pages.size() >= prefetch) {
+					return;
+				}
+				inFlight = request;
+				page = previousPage;
+			}
+			try {
+				final CompletionStage<C> next = pager.apply(page);
+				if (next == null) {
+					received(request, null, null);
+					return;
+				}
+				next.whenComplete((value, e) -> {
+					if (e != null) {
+						request.completeExceptionally(e);
+					} else {
+						request.complete(value);
+					}
+				});
+				request.whenComplete((value, e) -> {
+					if (request.isCancelled()) {
+						next.toCompletableFuture().cancel(true);
+					}
+					received(request, value, e);
+				});
+			} catch (final RuntimeException e) {
+				received(request, null, e);
+			}
+		}
+
+		/**
+		 * Buffers the elements of a received page. A <code>null</code> page or a page without elements ends the
+		 * traversal.
+		 */
+		private void received(final CompletableFuture<C> request, final C page, final Throwable e) {
+			synchronized (this) {
+				if (inFlight != request) {
+					return;
+				}
+				inFlight = null;
+				if (e != null) {
+					error = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+				} else {
+					final T[] items = page != null ? source.elements.apply(page) : null;
+					if (items != null && items.length > 0) {
+						pages.add(items);
+						previousPage = page;
+					} else {
+						lastPage = true;
+					}
+				}
+			}
+			drain();
+		}
+	}
+
+	/**
+	 * Subscriber buffering the signals of a stream for a consuming thread, requesting one element at a time.
+	 */
+	private static class BlockingIterator<T> implements Subscriber<T>, Iterator<T> {
+
+		private static final Object COMPLETE = new Object();
+
+		private final BlockingQueue<Object> signals = new LinkedBlockingQueue<>();
+
+		private volatile Subscription subscription;
+
+		private Object signal;
+
+		@Override
+		public void onSubscribe(final Subscription subscription) {
+			this.subscription = subscription;
+			subscription.request(1);
+		}
+
+		@Override
+		public void onNext(final T item) {
+			signals.add(item);
+		}
+
+		@Override
+		public void onError(final Throwable throwable) {
+			signals.add(new Failure(throwable));
+		}
+
+		@Override
+		public void onComplete() {
+			signals.add(COMPLETE);
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (signal == null) {
+				try {
+					signal = signals.take();
+				} catch (final InterruptedException e) {
+					Thread.currentThread().interrupt();
+					cancel();
+					throw new CancellationException("interrupted while waiting for the next page");
+				}
+			}
+			if (signal instanceof Failure) {
+				throw new CompletionException(((Failure) signal).cause);
+			}
+			return signal != COMPLETE;
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public T next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			final T item = (T) signal;
+			signal = null;
+			subscription.request(1);
+			return item;
+		}
+
+		void cancel() {
+			subscription.cancel();
+		}
+	}
+
+	private static class Failure {
+
+		private final Throwable cause;
+
+		Failure(final Throwable cause) {
+			this.cause = cause;
+		}
+	}
+}
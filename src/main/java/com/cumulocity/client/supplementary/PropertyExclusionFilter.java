@@ -0,0 +1,41 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.supplementary;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.filter.TokenFilter;
+
+/**
+ * <p>Token filter dropping a fixed set of properties while a value is written. Properties are addressed by their dot
+ * separated path, e.g. <code>source.self</code>. All other properties are passed through unchanged.</p>
+ */
+class PropertyExclusionFilter extends TokenFilter {
+
+	private final Map<String, PropertyExclusionFilter> children = new HashMap<>();
+
+	PropertyExclusionFilter(final String... paths) {
+		for (final String path : paths) {
+			PropertyExclusionFilter current = this;
+			for (final String name : path.split("\\.")) {
+				current = current.children.computeIfAbsent(name, n -> new PropertyExclusionFilter());
+			}
+		}
+	}
+
+	@Override
+	public TokenFilter includeProperty(final String name) {
+		final PropertyExclusionFilter child = children.get(name);
+		if (child == null) {
+			return TokenFilter.INCLUDE_ALL;
+		}
+		return child.children.isEmpty() ? null : child;
+	}
+
+	@Override
+	protected boolean _includeScalar() {
+		return true;
+	}
+}
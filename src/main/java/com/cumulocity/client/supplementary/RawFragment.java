@@ -0,0 +1,69 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.supplementary;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+/**
+ * <p>A custom fragment kept in its undecoded form. The tokens of the fragment are retained as read, so the fragment is
+ * written back unchanged if it is serialized without being decoded.</p>
+ */
+public class RawFragment implements JsonSerializable {
+
+	private final TokenBuffer tokens;
+
+	private final Class<?> type;
+
+	private final ObjectCodec codec;
+
+	RawFragment(final JsonParser p, final DeserializationContext ctxt, final Class<?> type) throws IOException {
+		this.tokens = new TokenBuffer(p, ctxt);
+		this.tokens.copyCurrentStructure(p);
+		this.type = type;
+		this.codec = p.getCodec() != null ? p.getCodec() : JsonCodec.getDefault().getObjectMapper();
+	}
+
+	/**
+	 * Returns the class the fragment is decoded into, i.e. the registered class of the fragment or <code>Object</code>
+	 * for fragments without registration.
+	 */
+	public Class<?> getType() {
+		return type;
+	}
+
+	/**
+	 * Decodes the fragment into its {@link #getType() type}, using the codec which read the enclosing object.
+	 */
+	public Object decode() {
+		return decode(type);
+	}
+
+	public <T> T decode(final Class<T> valueType) {
+		try (JsonParser parser = tokens.asParser(codec)) {
+			return codec.readValue(parser, valueType);
+		} catch (final IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@Override
+	public void serialize(final JsonGenerator gen, final SerializerProvider serializers) throws IOException {
+		tokens.serialize(gen);
+	}
+
+	@Override
+	public void serializeWithType(final JsonGenerator gen, final SerializerProvider serializers, final TypeSerializer typeSer) throws IOException {
+		serialize(gen, serializers);
+	}
+}
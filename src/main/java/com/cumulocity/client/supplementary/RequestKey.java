@@ -0,0 +1,47 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.supplementary;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * <p>Identifies a <code>GET</code> request by its URI, its headers and the response type.</p>
+ */
+class RequestKey {
+
+	private final URI uri;
+
+	private final Map<String, List<Object>> headers;
+
+	private final Class<?> type;
+
+	private final int hash;
+
+	RequestKey(final GetRequest request, final Class<?> type) {
+		this.uri = request.getUri();
+		this.headers = request.getHeaders();
+		this.type = type;
+		this.hash = Objects.hash(uri, headers, type);
+	}
+
+	@Override
+	public boolean equals(final Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof RequestKey)) {
+			return false;
+		}
+		final RequestKey other = (RequestKey) o;
+		return hash == other.hash && type == other.type && uri.equals(other.uri) && headers.equals(other.headers);
+	}
+
+	@Override
+	public int hashCode() {
+		return hash;
+	}
+}
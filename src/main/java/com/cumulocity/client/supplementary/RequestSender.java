@@ -0,0 +1,78 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.supplementary;
+
+import jakarta.ws.rs.client.Invocation;
+
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+/**
+ * <p>Sends the requests of an invocation builder, started by the {@link ConcurrencyLimiter}, reported to the
+ * {@link ClientMetrics} and recorded by the {@link ClientEvents} of the client, if any.</p>
+ */
+final class RequestSender {
+
+	private final Invocation.Builder invocation;
+
+	private final String operation;
+
+	private final ConcurrencyLimiter limiter;
+
+	private final ClientMetrics metrics;
+
+	private final ClientEvents events;
+
+	RequestSender(final Invocation.Builder invocation, final String operation, final ConcurrencyLimiter limiter, final ClientMetrics metrics, final ClientEvents events) {
+		this.invocation = invocation;
+		this.operation = operation;
+		this.limiter = limiter;
+		this.metrics = metrics;
+		this.events = events;
+	}
+
+	<T> CompletionStage<T> send(final Supplier<? extends CompletionStage<T>> request) {
+		final Supplier<? extends CompletionStage<T>> observed = metrics != null ? () -> observe(request) : request;
+		final Supplier<? extends CompletionStage<T>> limited = limiter != null ? () -> limiter.submit(operation, observed) : observed;
+		return events != null ? events.send(invocation, operation, limited) : limited.get();
+	}
+
+	<T> T call(final Supplier<T> request) {
+		final Supplier<T> observed = metrics != null ? () -> observeCall(request) : request;
+		final Supplier<T> limited = limiter != null ? () -> limiter.call(operation, observed) : observed;
+		return events != null ? events.call(invocation, operation, limited) : limited.get();
+	}
+
+	private MetricsFilter.Record start() {
+		final MetricsFilter.Record record = new MetricsFilter.Record();
+		invocation.property(MetricsFilter.RECORD, record);
+		metrics.requestStarted(operation);
+		return record;
+	}
+
+	private <T> CompletionStage<T> observe(final Supplier<? extends CompletionStage<T>> request) {
+		final MetricsFilter.Record record = start();
+		final CompletionStage<T> stage;
+		try {
+			stage = request.get();
+		} catch (final RuntimeException e) {
+			record.complete(metrics, operation, null, e);
+			throw e;
+		}
+		return stage.whenComplete((value, error) -> record.complete(metrics, operation, value, error));
+	}
+
+	private <T> T observeCall(final Supplier<T> request) {
+		final MetricsFilter.Record record = start();
+		final T value;
+		try {
+			value = request.get();
+		} catch (final RuntimeException e) {
+			record.complete(metrics, operation, null, e);
+			throw e;
+		}
+		record.complete(metrics, operation, value, null);
+		return value;
+	}
+}
@@ -0,0 +1,93 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.supplementary;
+
+import jakarta.ws.rs.core.Feature;
+import jakarta.ws.rs.core.FeatureContext;
+import jakarta.ws.rs.core.Response;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>Coalesces identical <code>GET</code> requests in flight. A request is identical to a request in flight if it has
+ * the same URI, including path and query, the same headers and the same response type. Instead of sending it, the
+ * caller is completed with the response of the request in flight. Requests started after the response has been
+ * received are sent again, so no response is ever served from a cache.</p>
+ * <pre>
+ * final SingleFlight singleFlight = new SingleFlight();
+ * clientConfig.register(singleFlight);
+ * </pre>
+ * <p>All callers of a coalesced request are completed with the same decoded instance, which must therefore not be
+ * modified. Each caller receives its own stage, so cancelling it does not affect the other callers. The request
+ * itself is not cancelled. Requests for a raw <code>Response</code> are never coalesced, as its entity can only be read
+ * once.</p>
+ */
+public class SingleFlight implements Feature, GetInterceptor {
+
+	private final ConcurrentMap<RequestKey, CompletableFuture<?>> inFlight = new ConcurrentHashMap<>();
+
+	private final LongAdder requests = new LongAdder();
+
+	private final LongAdder coalesced = new LongAdder();
+
+	@Override
+	public boolean configure(final FeatureContext context) {
+		return true;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> CompletionStage<T> intercept(final GetRequest request, final Class<T> type) {
+		if (Response.class.isAssignableFrom(type)) {
+			return request.proceed(type);
+		}
+		requests.increment();
+		final RequestKey key = new RequestKey(request, type);
+		final CompletableFuture<T> response = new CompletableFuture<>();
+		final CompletableFuture<?> existing = inFlight.putIfAbsent(key, response);
+		if (existing != null) {
+			coalesced.increment();
+			return ((CompletableFuture<T>) existing).thenApply(value -> value);
+		}
+		try {
+			request.proceed(type).whenComplete((value, error) -> {
+				inFlight.remove(key, response);
+				if (error != null) {
+					response.completeExceptionally(error);
+				} else {
+					response.complete(value);
+				}
+			});
+		} catch (final RuntimeException e) {
+			inFlight.remove(key, response);
+			response.completeExceptionally(e);
+		}
+		return response.thenApply(value -> value);
+	}
+
+	/**
+	 * Returns the number of intercepted requests, including the coalesced ones.
+	 */
+	public long getRequests() {
+		return requests.sum();
+	}
+
+	/**
+	 * Returns the number of requests which were not sent, as an identical request was in flight.
+	 */
+	public long getCoalesced() {
+		return coalesced.sum();
+	}
+
+	/**
+	 * Returns the number of distinct requests currently in flight.
+	 */
+	public int getInFlight() {
+		return inFlight.size();
+	}
+}
@@ -0,0 +1,510 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.supplementary;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.cumulocity.client.api.AlarmsApi;
+import com.cumulocity.client.api.EventsApi;
+import com.cumulocity.client.api.MeasurementsApi;
+import com.cumulocity.client.model.Alarm;
+import com.cumulocity.client.model.AlarmCollection;
+import com.cumulocity.client.model.Event;
+import com.cumulocity.client.model.EventCollection;
+import com.cumulocity.client.model.Measurement;
+import com.cumulocity.client.model.MeasurementCollection;
+
+/**
+ * <p>Exports all elements of a collection resource within a time window. The window is split into slices of equal
+ * length, which are paged through concurrently, each with its own {@link PageStream}. By default, the slices are
+ * emitted one after another in order of time, while the following slices keep fetching up to {@link #buffer(int)
+ * buffer} pages ahead. If order does not matter, elements are emitted as soon as any slice delivers them.</p>
+ * <p>Slices are half-open, i.e. each slice ends at the <code>dateFrom</code> of the following slice. A listener can be
+ * registered to receive the throughput of each slice once it has been paged through, which helps tuning the number of
+ * slices.</p>
+ * <pre>
+ * try (Stream&lt;Measurement&gt; measurements = TimeSlicedExporter.measurements(measurementsApi, source, null, 2000)
+ * 		.slices(12).export("2022-01-01T00:00:00Z", "2023-01-01T00:00:00Z")) {
+ * 	measurements.forEach(...);
+ * }
+ * </pre>
+ *
+ * @param <T> the element type of the collection
+ */
+public class TimeSlicedExporter<T> {
+
+	/**
+	 * Number of pages a slice of an ordered export fetches ahead, if not specified otherwise.
+	 */
+	public static final int DEFAULT_BUFFER = 8;
+
+	private final Source<?, T> source;
+
+	private final int slices;
+
+	private final boolean ordered;
+
+	private final boolean descending;
+
+	private final int prefetch;
+
+	private final int buffer;
+
+	private final Consumer<SliceStatistics> listener;
+
+	private TimeSlicedExporter(final Source<?, T> source, final int slices, final boolean ordered, final boolean descending, final int prefetch, final int buffer, final Consumer<SliceStatistics> listener) {
+		if (slices < 1) {
+			throw new IllegalArgumentException("slices must be positive: " + slices);
+		}
+		if (prefetch < 1) {
+			throw new IllegalArgumentException("prefetch must be positive: " + prefetch);
+		}
+		if (buffer < 1) {
+			throw new IllegalArgumentException("buffer must be positive: " + buffer);
+		}
+		this.source = source;
+		this.slices = slices;
+		this.ordered = ordered;
+		this.descending = descending;
+		this.prefetch = prefetch;
+		this.buffer = buffer;
+		this.listener = listener;
+	}
+
+	/**
+	 * Creates an exporter for a collection resource returning its pages in ascending order of time.
+	 *
+	 * @param <C> the collection type
+	 * @param <T> the element type
+	 * @param api the API pages are requested from
+	 * @param firstPage requests the first page of the slice between the passed <code>dateFrom</code> and <code>dateTo</code>
+	 * @param elements extracts the elements of a page
+	 * @param next extracts the link to the next page
+	 * @return the exporter, using a single slice
+	 */
+	public static <C, T> TimeSlicedExporter<T> of(final AdaptableApi api, final BiFunction<String, String, ? extends CompletionStage<C>> firstPage, final Function<C, T[]> elements, final Function<C, String> next) {
+		return new TimeSlicedExporter<>(new Source<>(api, firstPage, elements, next), 1, true, false, PageStream.DEFAULT_PREFETCH, DEFAULT_BUFFER, null);
+	}
+
+	/**
+	 * Creates an exporter for the measurements of <code>source</code>, in ascending order of time.
+	 *
+	 * @param measurementsApi
+	 * @param source
+	 * @param type
+	 * @param pageSize
+	 * @return the exporter, using a single slice
+	 */
+	public static TimeSlicedExporter<Measurement> measurements(final MeasurementsApi measurementsApi, final String source, final String type, final int pageSize) {
+		return of(measurementsApi,
+			(dateFrom, dateTo) -> measurementsApi.getMeasurements(1, dateFrom, dateTo, pageSize, false, source, type, null, null, false, false),
+			MeasurementCollection::getMeasurements, MeasurementCollection::getNext);
+	}
+
+	/**
+	 * Creates an exporter for the events of <code>source</code>, in ascending order of time.
+	 *
+	 * @param eventsApi
+	 * @param source
+	 * @param type
+	 * @param pageSize
+	 * @return the exporter, using a single slice
+	 */
+	public static TimeSlicedExporter<Event> events(final EventsApi eventsApi, final String source, final String type, final int pageSize) {
+		return of(eventsApi,
+			(dateFrom, dateTo) -> eventsApi.getEvents(null, null, 1, dateFrom, dateTo, null, null, null, null, pageSize, true, source, type, false, false, false, false),
+			EventCollection::getEvents, EventCollection::getNext);
+	}
+
+	/**
+	 * Creates an exporter for the alarms of <code>source</code>. The platform returns alarms newest first, so the
+	 * exporter emits them in descending order of time.
+	 *
+	 * @param alarmsApi
+	 * @param source
+	 * @param resolved whether to export resolved or unresolved alarms
+	 * @param pageSize
+	 * @return the exporter, using a single slice
+	 */
+	public static TimeSlicedExporter<Alarm> alarms(final AlarmsApi alarmsApi, final String source, final boolean resolved, final int pageSize) {
+		return of(alarmsApi,
+			(dateFrom, dateTo) -> alarmsApi.getAlarms(null, null, 1, dateFrom, dateTo, null, null, pageSize, resolved, null, source, null, null, false, false, false, false),
+			AlarmCollection::getAlarms, AlarmCollection::getNext).descending(true);
+	}
+
+	/**
+	 * Returns an exporter splitting the time window into <code>slices</code> slices.
+	 *
+	 * @param slices
+	 * @return the exporter
+	 */
+	public TimeSlicedExporter<T> slices(final int slices) {
+		return new TimeSlicedExporter<>(source, slices, ordered, descending, prefetch, buffer, listener);
+	}
+
+	/**
+	 * Returns an exporter emitting elements in order of time, if <code>ordered</code> is <code>true</code>, or as soon
+	 * as they are received.
+	 *
+	 * @param ordered
+	 * @return the exporter
+	 */
+	public TimeSlicedExporter<T> ordered(final boolean ordered) {
+		return new TimeSlicedExporter<>(source, slices, ordered, descending, prefetch, buffer, listener);
+	}
+
+	/**
+	 * Returns an exporter for a collection resource returning its pages in descending order of time, if
+	 * <code>descending</code> is <code>true</code>.
+	 *
+	 * @param descending
+	 * @return the exporter
+	 */
+	public TimeSlicedExporter<T> descending(final boolean descending) {
+		return new TimeSlicedExporter<>(source, slices, ordered, descending, prefetch, buffer, listener);
+	}
+
+	/**
+	 * Returns an exporter requesting <code>prefetch</code> pages ahead per slice.
+	 *
+	 * @param prefetch
+	 * @return the exporter
+	 */
+	public TimeSlicedExporter<T> prefetch(final int prefetch) {
+		return new TimeSlicedExporter<>(source, slices, ordered, descending, prefetch, buffer, listener);
+	}
+
+	/**
+	 * Returns an exporter letting each slice of an ordered export fetch up to <code>buffer</code> pages ahead, while
+	 * the preceding slices are consumed. As slices are emitted one after another, all slices but the current one
+	 * hold their pages until it is their turn: an ordered export keeps up to <code>slices * max(buffer, prefetch)</code>
+	 * pages in memory, e.g. 12 slices of 2,000 measurements with the default buffer hold up to 192,000 measurements.
+	 * Unordered exports are not affected.
+	 *
+	 * @param buffer
+	 * @return the exporter
+	 */
+	public TimeSlicedExporter<T> buffer(final int buffer) {
+		return new TimeSlicedExporter<>(source, slices, ordered, descending, prefetch, buffer, listener);
+	}
+
+	/**
+	 * Returns an exporter passing the statistics of each slice to <code>listener</code>, once all its pages have been
+	 * received. The listener is invoked on the thread completing the last request of the slice.
+	 *
+	 * @param listener
+	 * @return the exporter
+	 */
+	public TimeSlicedExporter<T> onSliceComplete(final Consumer<SliceStatistics> listener) {
+		return new TimeSlicedExporter<>(source, slices, ordered, descending, prefetch, buffer, listener);
+	}
+
+	/**
+	 * Starts the export of all elements between <code>dateFrom</code> and <code>dateTo</code>. All slices are
+	 * requested immediately, closing the returned stream cancels the requests in flight.
+	 *
+	 * @param dateFrom start date or date and time, required
+	 * @param dateTo end date or date and time, required
+	 * @return the elements
+	 */
+	public Stream<T> export(final String dateFrom, final String dateTo) {
+		final long from = MeasurementSeriesFetcher.toEpochMillis(Objects.requireNonNull(dateFrom, "dateFrom"));
+		final long to = MeasurementSeriesFetcher.toEpochMillis(Objects.requireNonNull(dateTo, "dateTo"));
+		if (to <= from) {
+			throw new IllegalArgumentException("dateTo must be after dateFrom: " + dateFrom + ", " + dateTo);
+		}
+		final int count = (int) Math.min(slices, to - from);
+		final List<PageStream<T>> streams = new ArrayList<>(count);
+		String sliceFrom = dateFrom;
+		for (int i = 0; i < count; i++) {
+			final String sliceTo = i == count - 1 ? dateTo : MeasurementSeriesFetcher.toDate(from + (to - from) * (i + 1) / count);
+			streams.add(source.slice(i, sliceFrom, sliceTo, listener).prefetch(ordered ? Math.max(prefetch, buffer) : prefetch));
+			sliceFrom = sliceTo;
+		}
+		if (descending) {
+			Collections.reverse(streams);
+		}
+		if (ordered) {
+			final List<Stream<T>> slices = new ArrayList<>(count);
+			for (final PageStream<T> stream : streams) {
+				slices.add(stream.stream());
+			}
+			return toStream(new ConcatenatingIterator<>(slices), Spliterator.ORDERED).onClose(() -> slices.forEach(Stream::close));
+		}
+		final UnorderedIterator<T> iterator = new UnorderedIterator<>(streams);
+		return toStream(iterator, 0).onClose(iterator::cancel);
+	}
+
+	private static <T> Stream<T> toStream(final Iterator<T> iterator, final int characteristics) {
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, characteristics | Spliterator.NONNULL), false);
+	}
+
+	/**
+	 * Throughput of a single slice.
+	 */
+	public static class SliceStatistics {
+
+		private final int index;
+
+		private final String dateFrom;
+
+		private final String dateTo;
+
+		private final int pages;
+
+		private final long elements;
+
+		private final long elapsedNanos;
+
+		SliceStatistics(final int index, final String dateFrom, final String dateTo, final int pages, final long elements, final long elapsedNanos) {
+			this.index = index;
+			this.dateFrom = dateFrom;
+			this.dateTo = dateTo;
+			this.pages = pages;
+			this.elements = elements;
+			this.elapsedNanos = elapsedNanos;
+		}
+
+		/**
+		 * Returns the position of the slice within the time window, starting at 0 for the oldest slice.
+		 */
+		public int getIndex() {
+			return index;
+		}
+
+		public String getDateFrom() {
+			return dateFrom;
+		}
+
+		public String getDateTo() {
+			return dateTo;
+		}
+
+		public int getPages() {
+			return pages;
+		}
+
+		public long getElements() {
+			return elements;
+		}
+
+		/**
+		 * Returns the time between requesting the first and receiving the last page.
+		 */
+		public long getElapsedNanos() {
+			return elapsedNanos;
+		}
+
+		public double getElementsPerSecond() {
+			return elapsedNanos > 0 ? elements * 1e9 / elapsedNanos : 0;
+		}
+
+		@Override
+		public String toString() {
+			return "slice " + index + " [" + dateFrom + ", " + dateTo + "): " + elements + " elements in " + pages + " pages, "
+				+ Math.round(getElementsPerSecond()) + " elements/s";
+		}
+	}
+
+	private static class Source<C, T> {
+
+		private final AdaptableApi api;
+
+		private final BiFunction<String, String, ? extends CompletionStage<C>> firstPage;
+
+		private final Function<C, T[]> elements;
+
+		private final Function<C, String> next;
+
+		Source(final AdaptableApi api, final BiFunction<String, String, ? extends CompletionStage<C>> firstPage, final Function<C, T[]> elements, final Function<C, String> next) {
+			this.api = api;
+			this.firstPage = firstPage;
+			this.elements = elements;
+			this.next = next;
+		}
+
+		/**
+		 * Creates the page stream of a single slice, counting its pages and elements. Pages are counted on the threads
+		 * completing the requests.
+		 */
+		PageStream<T> slice(final int index, final String dateFrom, final String dateTo, final Consumer<SliceStatistics> listener) {
+			final AtomicLong startedAt = new AtomicLong();
+			final AtomicLong pages = new AtomicLong();
+			final AtomicLong count = new AtomicLong();
+			return PageStream.of(api, () -> {
+				startedAt.set(System.nanoTime());
+				return firstPage.apply(dateFrom, dateTo);
+			}, page -> {
+				final T[] items = elements.apply(page);
+				final int length = items != null ? items.length : 0;
+				final long received = pages.incrementAndGet();
+				final long total = count.addAndGet(length);
+				if (listener != null && (length == 0 || next.apply(page) == null)) {
+					listener.accept(new SliceStatistics(index, dateFrom, dateTo, (int) received, total, System.nanoTime() - startedAt.get()));
+				}
+				return items;
+			}, next);
+		}
+	}
+
+	/**
+	 * Emits the elements of all slices one slice after another. Slices are disjoint and each slice is in order of
+	 * time, so no merging is needed. All slices are subscribed to up front, closing each slice once it is exhausted.
+	 */
+	private static class ConcatenatingIterator<T> implements Iterator<T> {
+
+		private final List<Stream<T>> slices;
+
+		private Iterator<T> iterator;
+
+		private int current = -1;
+
+		ConcatenatingIterator(final List<Stream<T>> slices) {
+			this.slices = slices;
+		}
+
+		@Override
+		public boolean hasNext() {
+			while (iterator == null || !iterator.hasNext()) {
+				if (iterator != null) {
+					slices.get(current).close();
+				}
+				if (current + 1 == slices.size()) {
+					iterator = null;
+					return false;
+				}
+				iterator = slices.get(++current).iterator();
+			}
+			return true;
+		}
+
+		@Override
+		public T next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			return iterator.next();
+		}
+	}
+
+	/**
+	 * Emits the elements of all slices in order of arrival. Each slice has at most one element buffered, which is
+	 * requested once the previous element of the slice has been consumed.
+	 */
+	private static class UnorderedIterator<T> implements Iterator<T> {
+
+		private final BlockingQueue<Signal<T>> signals = new LinkedBlockingQueue<>();
+
+		private final List<PageStream.Subscription> subscriptions = new ArrayList<>();
+
+		private int remaining;
+
+		private Signal<T> signal;
+
+		UnorderedIterator(final List<PageStream<T>> streams) {
+			remaining = streams.size();
+			for (int i = 0; i < streams.size(); i++) {
+				subscriptions.add(null);
+			}
+			for (int i = 0; i < streams.size(); i++) {
+				final int slice = i;
+				streams.get(i).subscribe(new PageStream.Subscriber<T>() {
+
+					@Override
+					public void onSubscribe(final PageStream.Subscription subscription) {
+						subscriptions.set(slice, subscription);
+						subscription.request(1);
+					}
+
+					@Override
+					public void onNext(final T item) {
+						signals.add(new Signal<>(slice, item, null));
+					}
+
+					@Override
+					public void onError(final Throwable throwable) {
+						signals.add(new Signal<>(slice, null, throwable));
+					}
+
+					@Override
+					public void onComplete() {
+						signals.add(new Signal<>(slice, null, null));
+					}
+				});
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			while (signal == null && remaining > 0) {
+				final Signal<T> taken;
+				try {
+					taken = signals.take();
+				} catch (final InterruptedException e) {
+					Thread.currentThread().interrupt();
+					cancel();
+					throw new CancellationException("interrupted while waiting for the next page");
+				}
+				if (taken.error != null) {
+					cancel();
+					throw new CompletionException(taken.error);
+				}
+				if (taken.item == null) {
+					remaining--;
+				} else {
+					signal = taken;
+				}
+			}
+			return signal != null;
+		}
+
+		@Override
+		public T next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			final Signal<T> current = signal;
+			signal = null;
+			subscriptions.get(current.slice).request(1);
+			return current.item;
+		}
+
+		void cancel() {
+			subscriptions.forEach(PageStream.Subscription::cancel);
+		}
+	}
+
+	private static class Signal<T> {
+
+		private final int slice;
+
+		private final T item;
+
+		private final Throwable error;
+
+		Signal(final int slice, final T item, final Throwable error) {
+			this.slice = slice;
+			this.item = item;
+			this.error = error;
+		}
+	}
+}
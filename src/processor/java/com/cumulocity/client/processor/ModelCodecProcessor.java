@@ -0,0 +1,416 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.processor;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * <p>Generates streaming Jackson serializers and deserializers for the classes in
+ * <code>com.cumulocity.client.model</code>.</p>
+ * <p>The generated code mirrors the properties Jackson would detect by reflection: getters and setters following the
+ * bean naming conventions, renamed by <code>@JsonProperty</code> on the backing field, <code>null</code> values omitted
+ * and custom fragments of a <code>@JsonAnyGetter</code> written inline by <code>LazyFragmentMap#writeFields</code>. Classes with a custom deserializer keep it and
+ * only get a generated serializer. All codecs are bundled in a <code>GeneratedModelModule</code>, which is registered
+ * as Jackson module service and therefore found by <code>ObjectMapper#findAndRegisterModules()</code> and the default
+ * Jersey provider. <code>JsonCodec#registerGeneratedModule</code> registers it by name.</p>
+ */
+@SupportedAnnotationTypes("*")
+public class ModelCodecProcessor extends AbstractProcessor {
+
+	static final String MODEL_PACKAGE = "com.cumulocity.client.model";
+
+	static final String MODULE_NAME = "GeneratedModelModule";
+
+	private static final String JSON_INCLUDE = "com.fasterxml.jackson.annotation.JsonInclude";
+
+	private static final String JSON_PROPERTY = "com.fasterxml.jackson.annotation.JsonProperty";
+
+	private static final String JSON_ANY_GETTER = "com.fasterxml.jackson.annotation.JsonAnyGetter";
+
+	private static final String JSON_DESERIALIZE = "com.fasterxml.jackson.databind.annotation.JsonDeserialize";
+
+	private boolean generated;
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+		if (generated || roundEnv.processingOver()) {
+			return false;
+		}
+		final List<TypeElement> models = new ArrayList<>();
+		for (final Element element : roundEnv.getRootElements()) {
+			if (element.getKind() == ElementKind.CLASS && MODEL_PACKAGE.equals(processingEnv.getElementUtils().getPackageOf(element).getQualifiedName().toString())) {
+				collectModels((TypeElement) element, models);
+			}
+		}
+		if (models.isEmpty()) {
+			return false;
+		}
+		generated = true;
+		try {
+			writeModule(models);
+			writeServiceFile();
+		} catch (final IOException e) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to generate model codecs: " + e.getMessage());
+		}
+		return false;
+	}
+
+	private void collectModels(final TypeElement type, final List<TypeElement> models) {
+		if (isModel(type)) {
+			models.add(type);
+		}
+		for (final Element enclosed : type.getEnclosedElements()) {
+			if (enclosed.getKind() == ElementKind.CLASS) {
+				collectModels((TypeElement) enclosed, models);
+			}
+		}
+	}
+
+	private boolean isModel(final TypeElement type) {
+		if (!type.getModifiers().contains(Modifier.PUBLIC) || type.getModifiers().contains(Modifier.ABSTRACT)) {
+			return false;
+		}
+		if (type.getNestingKind().isNested() && !type.getModifiers().contains(Modifier.STATIC)) {
+			return false;
+		}
+		if (findAnnotation(type, JSON_INCLUDE) == null) {
+			return false;
+		}
+		for (final Element enclosed : type.getEnclosedElements()) {
+			if (enclosed.getKind() == ElementKind.CONSTRUCTOR && enclosed.getModifiers().contains(Modifier.PUBLIC) && ((ExecutableElement) enclosed).getParameters().isEmpty()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void writeModule(final List<TypeElement> models) throws IOException {
+		final Writer writer = processingEnv.getFiler().createSourceFile(MODEL_PACKAGE + "." + MODULE_NAME).openWriter();
+		try (PrintWriter out = new PrintWriter(writer)) {
+			out.println("package " + MODEL_PACKAGE + ";");
+			out.println();
+			out.println("import java.io.IOException;");
+			out.println();
+			out.println("import com.fasterxml.jackson.core.JsonGenerator;");
+			out.println("import com.fasterxml.jackson.core.JsonParser;");
+			out.println("import com.fasterxml.jackson.core.type.TypeReference;");
+			out.println("import com.fasterxml.jackson.databind.DeserializationContext;");
+			out.println("import com.fasterxml.jackson.databind.JavaType;");
+			out.println("import com.fasterxml.jackson.databind.JsonDeserializer;");
+			out.println("import com.fasterxml.jackson.databind.JsonSerializer;");
+			out.println("import com.fasterxml.jackson.databind.SerializerProvider;");
+			out.println("import com.fasterxml.jackson.databind.module.SimpleModule;");
+			out.println("import com.fasterxml.jackson.databind.type.TypeFactory;");
+			out.println();
+			out.println("/**");
+			out.println(" * Streaming codecs for the model classes, generated by " + getClass().getName() + ".");
+			out.println(" */");
+			out.println("public class " + MODULE_NAME + " extends SimpleModule {");
+			out.println();
+			out.println("\tpublic " + MODULE_NAME + "() {");
+			out.println("\t\tsuper(\"" + MODULE_NAME + "\");");
+			for (final TypeElement model : models) {
+				final String name = model.getQualifiedName().toString();
+				out.println("\t\taddSerializer(" + name + ".class, new " + codecName(model) + "Serializer());");
+				if (findAnnotation(model, JSON_DESERIALIZE) == null) {
+					out.println("\t\taddDeserializer(" + name + ".class, new " + codecName(model) + "Deserializer());");
+				}
+			}
+			out.println("\t}");
+			for (final TypeElement model : models) {
+				final List<Property> properties = collectProperties(model);
+				writeSerializer(out, model, properties);
+				if (findAnnotation(model, JSON_DESERIALIZE) == null) {
+					writeDeserializer(out, model, properties);
+				}
+			}
+			out.println("}");
+		}
+	}
+
+	private void writeSerializer(final PrintWriter out, final TypeElement model, final List<Property> properties) {
+		final String name = model.getQualifiedName().toString();
+		out.println();
+		out.println("\tstatic final class " + codecName(model) + "Serializer extends JsonSerializer<" + name + "> {");
+		out.println();
+		out.println("\t\t@Override");
+		out.println("\t\tpublic void serialize(final " + name + " value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {");
+		out.println("\t\t\tgen.writeStartObject(value);");
+		ExecutableElement anyGetter = null;
+		for (final Property property : properties) {
+			if (property.anyGetter) {
+				anyGetter = property.getter;
+				continue;
+			}
+			if (property.getter == null) {
+				continue;
+			}
+			final String getter = "value." + property.getter.getSimpleName() + "()";
+			final TypeMirror type = property.getter.getReturnType();
+			final String field = quote(property.name);
+			if (type.getKind() == TypeKind.BOOLEAN) {
+				out.println("\t\t\tgen.writeBooleanField(" + field + ", " + getter + ");");
+			} else if (type.getKind().isPrimitive()) {
+				out.println("\t\t\tgen.writeNumberField(" + field + ", " + getter + ");");
+			} else if ("java.lang.String".equals(type.toString())) {
+				out.println("\t\t\tif (" + getter + " != null) {");
+				out.println("\t\t\t\tgen.writeStringField(" + field + ", " + getter + ");");
+				out.println("\t\t\t}");
+			} else {
+				out.println("\t\t\tif (" + getter + " != null) {");
+				out.println("\t\t\t\tprovider.defaultSerializeField(" + field + ", " + getter + ", gen);");
+				out.println("\t\t\t}");
+			}
+		}
+		if (anyGetter != null) {
+			out.println("\t\t\tif (value." + anyGetter.getSimpleName() + "() != null) {");
+			out.println("\t\t\t\tcom.cumulocity.client.supplementary.LazyFragmentMap.writeFields(value." + anyGetter.getSimpleName() + "(), gen, provider);");
+			out.println("\t\t\t}");
+		}
+		out.println("\t\t\tgen.writeEndObject();");
+		out.println("\t\t}");
+		out.println("\t}");
+	}
+
+	private void writeDeserializer(final PrintWriter out, final TypeElement model, final List<Property> properties) {
+		final String name = model.getQualifiedName().toString();
+		out.println();
+		out.println("\tstatic final class " + codecName(model) + "Deserializer extends JsonDeserializer<" + name + "> {");
+		int typeIndex = 0;
+		final Map<Property, String> genericTypes = new HashMap<>();
+		for (final Property property : properties) {
+			if (property.setter != null && property.setterType().getKind() == TypeKind.DECLARED && !((DeclaredType) property.setterType()).getTypeArguments().isEmpty()) {
+				final String constant = "TYPE_" + typeIndex++;
+				genericTypes.put(property, constant);
+				out.println();
+				out.println("\t\tprivate static final JavaType " + constant + " = TypeFactory.defaultInstance().constructType(new TypeReference<" + property.setterType() + ">() {});");
+			}
+		}
+		out.println();
+		out.println("\t\t@Override");
+		out.println("\t\tpublic " + name + " deserialize(final JsonParser p, final DeserializationContext ctxt) throws IOException {");
+		out.println("\t\t\tfinal " + name + " value = new " + name + "();");
+		out.println("\t\t\tfor (String name = Deserializers.firstFieldName(p); name != null; name = p.nextFieldName()) {");
+		out.println("\t\t\t\tp.nextToken();");
+		out.println("\t\t\t\tswitch (name) {");
+		for (final Property property : properties) {
+			if (property.setter == null) {
+				continue;
+			}
+			final TypeMirror type = property.setterType();
+			final String read;
+			switch (type.getKind()) {
+				case BOOLEAN:
+					read = "p.getValueAsBoolean()";
+					break;
+				case INT:
+					read = "p.getValueAsInt()";
+					break;
+				case LONG:
+					read = "p.getValueAsLong()";
+					break;
+				case DOUBLE:
+					read = "p.getValueAsDouble()";
+					break;
+				case FLOAT:
+					read = "(float) p.getValueAsDouble()";
+					break;
+				default:
+					if (genericTypes.containsKey(property)) {
+						read = "Deserializers.readValue(p, ctxt, " + genericTypes.get(property) + ")";
+					} else if (type.getKind().isPrimitive()) {
+						read = "ctxt.readValue(p, " + type + ".class)";
+					} else {
+						read = "Deserializers.readValue(p, ctxt, " + processingEnv.getTypeUtils().erasure(type) + ".class)";
+					}
+			}
+			out.println("\t\t\t\t\tcase " + quote(property.name) + ":");
+			out.println("\t\t\t\t\t\tvalue." + property.setter.getSimpleName() + "(" + read + ");");
+			out.println("\t\t\t\t\t\tbreak;");
+		}
+		out.println("\t\t\t\t\tdefault:");
+		out.println("\t\t\t\t\t\tp.skipChildren();");
+		out.println("\t\t\t\t}");
+		out.println("\t\t\t}");
+		out.println("\t\t\treturn value;");
+		out.println("\t\t}");
+		out.println("\t}");
+	}
+
+	private void writeServiceFile() throws IOException {
+		final FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", "META-INF/services/com.fasterxml.jackson.databind.Module");
+		try (PrintWriter out = new PrintWriter(file.openWriter())) {
+			out.println(MODEL_PACKAGE + "." + MODULE_NAME);
+		}
+	}
+
+	/**
+	 * Collects the properties in the order Jackson would write them: properties backed by a field in field order,
+	 * followed by properties only known from their accessors, followed by properties renamed with
+	 * <code>@JsonProperty</code>.
+	 */
+	private List<Property> collectProperties(final TypeElement model) {
+		final Map<String, Integer> fieldOrder = new HashMap<>();
+		final Map<String, String> explicitNames = new HashMap<>();
+		final Map<String, Property> properties = new LinkedHashMap<>();
+		int index = 0;
+		for (final Element enclosed : model.getEnclosedElements()) {
+			if (enclosed.getKind() == ElementKind.FIELD && !enclosed.getModifiers().contains(Modifier.STATIC)) {
+				final String fieldName = enclosed.getSimpleName().toString();
+				fieldOrder.put(fieldName, index++);
+				final String explicitName = annotationValue(findAnnotation(enclosed, JSON_PROPERTY));
+				if (explicitName != null && !explicitName.isEmpty()) {
+					explicitNames.put(fieldName, explicitName);
+				}
+			}
+		}
+		for (final Element enclosed : model.getEnclosedElements()) {
+			if (enclosed.getKind() != ElementKind.METHOD || !enclosed.getModifiers().contains(Modifier.PUBLIC) || enclosed.getModifiers().contains(Modifier.STATIC)) {
+				continue;
+			}
+			final ExecutableElement method = (ExecutableElement) enclosed;
+			final String methodName = method.getSimpleName().toString();
+			if (method.getParameters().isEmpty() && method.getReturnType().getKind() != TypeKind.VOID) {
+				final String implicitName;
+				if (methodName.startsWith("get") && methodName.length() > 3) {
+					implicitName = mangle(methodName.substring(3));
+				} else if (methodName.startsWith("is") && methodName.length() > 2 && method.getReturnType().getKind() == TypeKind.BOOLEAN) {
+					implicitName = mangle(methodName.substring(2));
+				} else {
+					continue;
+				}
+				final Property property = properties.computeIfAbsent(implicitName, n -> new Property(n, index(fieldOrder, n, properties)));
+				property.getter = method;
+				property.anyGetter = findAnnotation(method, JSON_ANY_GETTER) != null;
+			} else if (method.getParameters().size() == 1 && methodName.startsWith("set") && methodName.length() > 3) {
+				final String implicitName = mangle(methodName.substring(3));
+				final Property property = properties.computeIfAbsent(implicitName, n -> new Property(n, index(fieldOrder, n, properties)));
+				property.setter = method;
+			}
+		}
+		final List<Property> result = new ArrayList<>(properties.values());
+		for (final Property property : result) {
+			if (explicitNames.containsKey(property.implicitName)) {
+				property.name = explicitNames.get(property.implicitName);
+				property.order += 2 * (fieldOrder.size() + properties.size());
+			}
+		}
+		result.sort(Comparator.comparingInt(p -> p.order));
+		return result;
+	}
+
+	private static int index(final Map<String, Integer> fieldOrder, final String implicitName, final Map<String, Property> properties) {
+		final Integer index = fieldOrder.get(implicitName);
+		return index != null ? index : fieldOrder.size() + properties.size();
+	}
+
+	/**
+	 * Derives the property name from an accessor name like Jackson's default naming, e.g. <code>C8ySteam</code> becomes
+	 * <code>c8ySteam</code> and <code>PType</code> becomes <code>ptype</code>.
+	 */
+	static String mangle(final String baseName) {
+		final StringBuilder sb = new StringBuilder(baseName.length());
+		int i = 0;
+		for (; i < baseName.length(); i++) {
+			final char c = baseName.charAt(i);
+			final char lower = Character.toLowerCase(c);
+			if (c == lower) {
+				break;
+			}
+			sb.append(lower);
+		}
+		return sb.append(baseName, i, baseName.length()).toString();
+	}
+
+	private static String codecName(final TypeElement model) {
+		final StringBuilder sb = new StringBuilder(model.getSimpleName());
+		Element enclosing = model.getEnclosingElement();
+		while (enclosing instanceof TypeElement) {
+			sb.insert(0, enclosing.getSimpleName() + "_");
+			enclosing = enclosing.getEnclosingElement();
+		}
+		return sb.toString();
+	}
+
+	private static String quote(final String s) {
+		return "\"" + s.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+	}
+
+	private static AnnotationMirror findAnnotation(final Element element, final String annotationType) {
+		for (final AnnotationMirror mirror : element.getAnnotationMirrors()) {
+			if (annotationType.equals(mirror.getAnnotationType().toString())) {
+				return mirror;
+			}
+		}
+		return null;
+	}
+
+	private static String annotationValue(final AnnotationMirror mirror) {
+		if (mirror != null) {
+			for (final Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : mirror.getElementValues().entrySet()) {
+				if ("value".contentEquals(entry.getKey().getSimpleName())) {
+					return String.valueOf(entry.getValue().getValue());
+				}
+			}
+		}
+		return null;
+	}
+
+	private static final class Property {
+
+		private final String implicitName;
+
+		private String name;
+
+		private int order;
+
+		private ExecutableElement getter;
+
+		private ExecutableElement setter;
+
+		private boolean anyGetter;
+
+		Property(final String implicitName, final int order) {
+			this.implicitName = implicitName;
+			this.name = implicitName;
+			this.order = order;
+		}
+
+		TypeMirror setterType() {
+			return setter.getParameters().get(0).asType();
+		}
+	}
+}
@@ -0,0 +1,192 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.File;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * <p>Round-trips every model class with the reflection based codecs of Jackson and, if the library was built with the
+ * <code>generated-codecs</code> profile, with the codecs of the <code>GeneratedModelModule</code>.</p>
+ */
+public class GeneratedModelModuleTest {
+
+	private static final String MODULE = "com.cumulocity.client.model.GeneratedModelModule";
+
+	private final ObjectMapper reflection = new ObjectMapper();
+
+	@Test
+	public void testRoundTripsWithoutGeneratedModule() throws Exception {
+		final List<Class<?>> models = models();
+		assertFalse(models.isEmpty());
+		for (final Class<?> model : models) {
+			final String json = reflection.writeValueAsString(populate(model, 0, false));
+			assertEquals(json, reflection.writeValueAsString(reflection.readValue(json, model)), model.getName());
+		}
+	}
+
+	@Test
+	public void testRoundTripsWithGeneratedModule() throws Exception {
+		final Class<?> module = generatedModule();
+		assumeTrue(module != null, "Built without -Pgenerated-codecs");
+		final ObjectMapper generated = new ObjectMapper().registerModule((Module) module.getConstructor().newInstance());
+		for (final Class<?> model : models()) {
+			final Object value = populate(model, 0, true);
+			final String json = reflection.writeValueAsString(value);
+			assertEquals(json, generated.writeValueAsString(value), model.getName());
+			final String expected = reflection.writeValueAsString(reflection.readValue(json, model));
+			assertEquals(expected, reflection.writeValueAsString(generated.readValue(json, model)), model.getName());
+			assertEquals(expected, generated.writeValueAsString(generated.readValue(json, model)), model.getName());
+		}
+	}
+
+	private static Class<?> generatedModule() {
+		try {
+			return Class.forName(MODULE);
+		} catch (final ClassNotFoundException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Finds the classes the processor generates codecs for, i.e. the public, concrete classes annotated with
+	 * <code>@JsonInclude</code> having a public default constructor.
+	 */
+	private static List<Class<?>> models() throws URISyntaxException, ClassNotFoundException {
+		final File root = new File(Measurement.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+		final String packageName = Measurement.class.getPackage().getName();
+		final File[] files = new File(root, packageName.replace('.', '/')).listFiles();
+		final List<Class<?>> models = new ArrayList<>();
+		if (files == null) {
+			return models;
+		}
+		for (final File file : files) {
+			final String name = file.getName();
+			if (name.endsWith(".class") && !name.startsWith("GeneratedModelModule")) {
+				final Class<?> type = Class.forName(packageName + "." + name.substring(0, name.length() - 6));
+				if (isModel(type)) {
+					models.add(type);
+				}
+			}
+		}
+		models.sort((a, b) -> a.getName().compareTo(b.getName()));
+		return models;
+	}
+
+	private static boolean isModel(final Class<?> type) {
+		final int modifiers = type.getModifiers();
+		if (type.isEnum() || type.isInterface() || !Modifier.isPublic(modifiers) || Modifier.isAbstract(modifiers)) {
+			return false;
+		}
+		if (type.getEnclosingClass() != null && !Modifier.isStatic(modifiers)) {
+			return false;
+		}
+		if (!type.isAnnotationPresent(JsonInclude.class)) {
+			return false;
+		}
+		for (final Constructor<?> constructor : type.getConstructors()) {
+			if (constructor.getParameterCount() == 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Creates an instance of the model with all properties set to sample values, nested models are populated up to a
+	 * depth of two.
+	 */
+	private static Object populate(final Class<?> model, final int depth, final boolean fragments) throws Exception {
+		final Object value = model.getConstructor().newInstance();
+		for (final Method setter : model.getMethods()) {
+			if (!setter.getName().startsWith("set") || setter.getParameterCount() != 1 || Modifier.isStatic(setter.getModifiers())) {
+				continue;
+			}
+			if (!fragments && isAnySetter(model, setter)) {
+				continue;
+			}
+			final Object sample = sample(setter.getParameterTypes()[0], setter.getGenericParameterTypes()[0], setter.getName().substring(3), depth);
+			if (sample != null) {
+				setter.invoke(value, sample);
+			}
+		}
+		return value;
+	}
+
+	private static boolean isAnySetter(final Class<?> model, final Method setter) {
+		try {
+			return model.getMethod("get" + setter.getName().substring(3)).isAnnotationPresent(JsonAnyGetter.class);
+		} catch (final NoSuchMethodException e) {
+			return false;
+		}
+	}
+
+	private static Object sample(final Class<?> type, final Type genericType, final String name, final int depth) throws Exception {
+		if (type == String.class) {
+			return name;
+		} else if (type == int.class || type == Integer.class) {
+			return 7;
+		} else if (type == long.class || type == Long.class) {
+			return 7L;
+		} else if (type == double.class || type == Double.class) {
+			return 1.5;
+		} else if (type == float.class || type == Float.class) {
+			return 2.5f;
+		} else if (type == boolean.class || type == Boolean.class) {
+			return true;
+		} else if (type == Number.class) {
+			return 3;
+		} else if (type == Object.class) {
+			return name;
+		} else if (type.isEnum()) {
+			return type.getEnumConstants()[0];
+		} else if (type.isArray()) {
+			final Object element = sample(type.getComponentType(), type.getComponentType(), name, depth);
+			if (element == null) {
+				return null;
+			}
+			final Object array = Array.newInstance(type.getComponentType(), 1);
+			Array.set(array, 0, element);
+			return array;
+		} else if (Map.class.isAssignableFrom(type) && genericType instanceof ParameterizedType) {
+			final Type valueType = ((ParameterizedType) genericType).getActualTypeArguments()[1];
+			final Object element = valueType instanceof Class ? sample((Class<?>) valueType, valueType, name, depth) : null;
+			if (element == null) {
+				return null;
+			}
+			final Map<String, Object> map = new LinkedHashMap<>();
+			map.put("c8y_" + name, element);
+			return map;
+		} else if (List.class.isAssignableFrom(type) && genericType instanceof ParameterizedType) {
+			final Type elementType = ((ParameterizedType) genericType).getActualTypeArguments()[0];
+			final Object element = elementType instanceof Class ? sample((Class<?>) elementType, elementType, name, depth) : null;
+			return element != null ? Collections.singletonList(element) : null;
+		} else if (depth < 2 && isModel(type)) {
+			return populate(type, depth + 1, false);
+		}
+		return null;
+	}
+}
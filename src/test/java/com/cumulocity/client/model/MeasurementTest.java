@@ -0,0 +1,119 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+
+import com.cumulocity.client.supplementary.JsonCodec;
+import com.cumulocity.client.supplementary.RawFragment;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class MeasurementTest {
+
+	private static final String MEASUREMENTS = "{\"measurements\":[{\"id\":\"1\",\"source\":{\"id\":\"4711\"},\"type\":\"c8y_Test\","
+			+ "\"c8y_Steam\":{\"Temperature\":{\"unit\":\"C\",\"value\":100}},\"c8y_Registered\":{\"name\":\"a\"},"
+			+ "\"c8y_Unknown\":{\"nested\":[1,2,{\"a\":null}]},\"time\":\"2023-01-01T00:00:00Z\"},{\"id\":\"2\"}],\"self\":\"https://endpoint\"}";
+
+	private static final String MALFORMED = "{\"measurements\":[{\"id\":\"1\",\"c8y_Registered\":{\"name\":\"a\"}},"
+			+ "{\"id\":\"2\",\"c8y_Registered\":{\"name\":{\"nested\":[1,{\"a\":[]}]},\"more\":1},"
+			+ "\"c8y_Steam\":{\"Temperature\":{\"unit\":\"C\",\"value\":{\"nested\":[2]}}},\"type\":\"c8y_Test\"},"
+			+ "{\"id\":\"3\",\"c8y_Registered\":{\"name\":\"c\"}}],\"self\":\"https://endpoint\"}";
+
+	public static class Registered {
+
+		private String name;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(final String name) {
+			this.name = name;
+		}
+	}
+
+	@Test
+	public void testDeserializeCollection() throws IOException {
+		Measurement.Serialization.registerAdditionalProperty("c8y_Registered", Registered.class);
+		final MeasurementCollection collection = new ObjectMapper().readValue(MEASUREMENTS, MeasurementCollection.class);
+		assertEquals(2, collection.getMeasurements().length);
+		assertEquals("https://endpoint", collection.getSelf());
+		final Measurement measurement = collection.getMeasurements()[0];
+		assertEquals("1", measurement.getId());
+		assertEquals("4711", measurement.getSource().getId());
+		assertEquals("2023-01-01T00:00:00Z", measurement.getTime());
+		assertNotNull(measurement.getC8ySteam());
+		assertEquals("a", ((Registered) measurement.getCustomFragments().get("c8y_Registered")).getName());
+		assertFalse(measurement.getCustomFragments().containsKey("c8y_Unknown"));
+		assertEquals("2", collection.getMeasurements()[1].getId());
+		assertTrue(collection.getMeasurements()[1].getCustomFragments().isEmpty());
+	}
+
+	@Test
+	public void testDropsMalformedFragments() throws IOException {
+		Measurement.Serialization.registerAdditionalProperty("c8y_Registered", Registered.class);
+		final MeasurementCollection collection = new ObjectMapper().readValue(MALFORMED, MeasurementCollection.class);
+		assertEquals(3, collection.getMeasurements().length);
+		assertEquals("https://endpoint", collection.getSelf());
+		final Measurement malformed = collection.getMeasurements()[1];
+		assertEquals("2", malformed.getId());
+		assertFalse(malformed.getCustomFragments().containsKey("c8y_Registered"));
+		assertNull(malformed.getC8ySteam());
+		assertEquals("c8y_Test", malformed.getType());
+		assertEquals("a", ((Registered) collection.getMeasurements()[0].getCustomFragments().get("c8y_Registered")).getName());
+		assertEquals("3", collection.getMeasurements()[2].getId());
+		assertEquals("c", ((Registered) collection.getMeasurements()[2].getCustomFragments().get("c8y_Registered")).getName());
+	}
+
+	@Test
+	public void testLazyDecoding() throws IOException {
+		Measurement.Serialization.registerAdditionalProperty("c8y_Registered", Registered.class);
+		Measurement.Serialization.setLazyDecoding(true);
+		try {
+			final ObjectMapper objectMapper = new ObjectMapper();
+			final String json = "{\"id\":\"1\",\"c8y_Registered\":{\"name\":\"a\"},\"c8y_Unknown\":{\"nested\":[1,2.5,{\"a\":null}]}}";
+			final Measurement measurement = objectMapper.readValue(json, Measurement.class);
+			assertEquals(json, objectMapper.writeValueAsString(measurement));
+			assertEquals(json, JsonCodec.getDefault().getObjectMapper().writeValueAsString(measurement));
+			assertInstanceOf(Registered.class, measurement.getCustomFragments().entrySet().iterator().next().getValue());
+			assertEquals("a", ((Registered) measurement.getCustomFragments().get("c8y_Registered")).getName());
+			assertTrue(measurement.getCustomFragments().containsKey("c8y_Unknown"));
+			assertEquals(json, objectMapper.writeValueAsString(measurement));
+			for (final Object value : measurement.getCustomFragments().values()) {
+				assertFalse(value instanceof RawFragment);
+			}
+		} finally {
+			Measurement.Serialization.setLazyDecoding(false);
+		}
+	}
+
+	@Test
+	public void testReplacesFragmentsWithoutDecoding() throws IOException {
+		Measurement.Serialization.registerAdditionalProperty("c8y_Registered", Registered.class);
+		Measurement.Serialization.setLazyDecoding(true);
+		try {
+			final Measurement measurement = new ObjectMapper().readValue("{\"id\":\"1\",\"c8y_Registered\":{\"name\":\"a\"},\"c8y_Unknown\":[1]}", Measurement.class);
+			final Registered replacement = new Registered();
+			replacement.setName("b");
+			final Object previous = measurement.getCustomFragments().put("c8y_Registered", replacement);
+			assertInstanceOf(RawFragment.class, previous);
+			assertEquals("a", ((RawFragment) previous).decode(Registered.class).getName());
+			assertSame(replacement, measurement.getCustomFragments().get("c8y_Registered"));
+			assertInstanceOf(RawFragment.class, measurement.getCustomFragments().remove("c8y_Unknown"));
+			assertEquals(1, measurement.getCustomFragments().size());
+		} finally {
+			Measurement.Serialization.setLazyDecoding(false);
+		}
+	}
+}
@@ -0,0 +1,142 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.supplementary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import jakarta.ws.rs.NotFoundException;
+
+public class BatchLoaderTest {
+
+	private final List<List<String>> requested = new CopyOnWriteArrayList<>();
+
+	private volatile boolean failing;
+
+	/**
+	 * Answers each key except <code>missing</code> with the upper case key, like a multi-get by ID.
+	 */
+	private CompletionStage<List<String>> fetch(final List<String> keys) {
+		requested.add(new ArrayList<>(keys));
+		final CompletableFuture<List<String>> response = new CompletableFuture<>();
+		if (failing) {
+			response.completeExceptionally(new IllegalStateException("unreachable"));
+		} else {
+			response.complete(keys.stream().filter(key -> !"missing".equals(key)).map(String::toUpperCase).collect(Collectors.toList()));
+		}
+		return response;
+	}
+
+	private BatchLoader<String, String> loader(final int maxBatchSize, final long lingerMillis) {
+		return new BatchLoader<>(this::fetch, value -> value.toLowerCase(), maxBatchSize, lingerMillis);
+	}
+
+	@Test
+	public void testBatchesKeys() {
+		try (BatchLoader<String, String> loader = loader(3, 60_000)) {
+			final CompletableFuture<String> a = loader.load("a").toCompletableFuture();
+			final CompletableFuture<String> b = loader.load("b").toCompletableFuture();
+			final CompletableFuture<String> again = loader.load("a").toCompletableFuture();
+			assertTrue(requested.isEmpty());
+			final CompletableFuture<String> c = loader.load("c").toCompletableFuture();
+			final CompletableFuture<String> d = loader.load("d").toCompletableFuture();
+			loader.dispatch();
+			assertEquals("A", a.join());
+			assertEquals("B", b.join());
+			assertEquals("A", again.join());
+			assertEquals("C", c.join());
+			assertEquals("D", d.join());
+			assertEquals(Arrays.asList(Arrays.asList("a", "b", "c"), Arrays.asList("d")), requested);
+			assertEquals(5, loader.getLoads());
+			assertEquals(2, loader.getBatches());
+		}
+	}
+
+	@Test
+	public void testCachesLoadedKeys() {
+		try (BatchLoader<String, String> loader = loader(10, 0)) {
+			assertEquals("A", loader.load("a").toCompletableFuture().join());
+			assertEquals("A", loader.load("a").toCompletableFuture().join());
+			assertEquals(1, requested.size());
+			loader.clear("a");
+			assertEquals("A", loader.load("a").toCompletableFuture().join());
+			assertEquals(2, requested.size());
+		}
+	}
+
+	@Test
+	public void testDispatchesAfterLinger() {
+		try (BatchLoader<String, String> loader = loader(10, 10)) {
+			final CompletableFuture<String> a = loader.load("a").toCompletableFuture();
+			final CompletableFuture<String> b = loader.load("b").toCompletableFuture();
+			assertEquals("A", a.join());
+			assertEquals("B", b.join());
+			assertEquals(Arrays.asList(Arrays.asList("a", "b")), requested);
+		}
+	}
+
+	@Test
+	public void testDispatchesOnGivenScheduler() {
+		final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+		try {
+			try (BatchLoader<String, String> loader = new BatchLoader<>(this::fetch, value -> value.toLowerCase(), 10, 10, scheduler)) {
+				assertEquals("A", loader.load("a").toCompletableFuture().join());
+			}
+			assertFalse(scheduler.isShutdown());
+			try (BatchLoader<String, String> loader = new BatchLoader<>(this::fetch, value -> value.toLowerCase(), 10, 10, scheduler)) {
+				assertEquals("B", loader.load("b").toCompletableFuture().join());
+			}
+			assertEquals(Arrays.asList(Arrays.asList("a"), Arrays.asList("b")), requested);
+		} finally {
+			scheduler.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testReportsMissesAsNotFound() {
+		try (BatchLoader<String, String> loader = loader(10, 60_000)) {
+			final CompletableFuture<String> a = loader.load("a").toCompletableFuture();
+			final CompletableFuture<String> missing = loader.load("missing").toCompletableFuture();
+			loader.dispatch();
+			assertEquals("A", a.join());
+			final CompletionException e = assertThrows(CompletionException.class, missing::join);
+			assertTrue(e.getCause() instanceof NotFoundException);
+		}
+	}
+
+	@Test
+	public void testRetriesFailedBatches() {
+		try (BatchLoader<String, String> loader = loader(10, 0)) {
+			failing = true;
+			assertThrows(CompletionException.class, () -> loader.load("a").toCompletableFuture().join());
+			failing = false;
+			assertEquals("A", loader.load("a").toCompletableFuture().join());
+			assertEquals(2, requested.size());
+		}
+	}
+
+	@Test
+	public void testRejectsLoadsAfterClose() {
+		final BatchLoader<String, String> loader = loader(10, 60_000);
+		final CompletableFuture<String> a = loader.load("a").toCompletableFuture();
+		loader.close();
+		assertEquals("A", a.join());
+		assertThrows(IllegalStateException.class, () -> loader.load("b"));
+	}
+}
@@ -0,0 +1,118 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.supplementary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class BulkCreatorTest {
+
+	/**
+	 * Holds all requests until completed by the test.
+	 */
+	private static class Requests {
+
+		private final List<Integer> items = new ArrayList<>();
+
+		private final List<CompletableFuture<Integer>> responses = new ArrayList<>();
+
+		private int inFlight;
+
+		private int maxInFlight;
+
+		synchronized CompletionStage<Integer> create(final Integer item) {
+			items.add(item);
+			final CompletableFuture<Integer> response = new CompletableFuture<>();
+			responses.add(response);
+			maxInFlight = Math.max(maxInFlight, ++inFlight);
+			return response;
+		}
+
+		/**
+		 * Completes the oldest open request, failing items divisible by seven.
+		 */
+		boolean completeNext() {
+			final Integer item;
+			final CompletableFuture<Integer> response;
+			synchronized (this) {
+				final int open = responses.size() - inFlight;
+				if (inFlight == 0) {
+					return false;
+				}
+				item = items.get(open);
+				response = responses.get(open);
+				inFlight--;
+			}
+			if (item % 7 == 0) {
+				response.completeExceptionally(new IllegalStateException("rejected " + item));
+			} else {
+				response.complete(item);
+			}
+			return true;
+		}
+	}
+
+	@Test
+	public void testBoundsRequestsAndCollectsFailures() throws InterruptedException, ExecutionException {
+		final Requests requests = new Requests();
+		final CompletionStage<BulkCreator.Result<Integer>> stage = BulkCreator.of(requests::create, 4).submit(IntStream.range(1, 101).boxed());
+		assertEquals(4, requests.items.size());
+		while (requests.completeNext()) {
+		}
+		final BulkCreator.Result<Integer> result = stage.toCompletableFuture().get();
+		assertEquals(4, requests.maxInFlight);
+		assertEquals(86, result.getSucceeded());
+		assertEquals(14, result.getFailures().size());
+		assertEquals(7, result.getFailures().get(0).getItem());
+		assertEquals(6, result.getFailures().get(0).getIndex());
+	}
+
+	@Test
+	public void testPreservesOrderPerKey() throws InterruptedException, ExecutionException {
+		final Requests requests = new Requests();
+		final CompletionStage<BulkCreator.Result<Integer>> stage = BulkCreator.of(requests::create, 4).orderedBy(item -> item % 2)
+			.submit(IntStream.range(1, 21).boxed());
+		assertEquals(2, requests.items.size());
+		while (requests.completeNext()) {
+			assertTrue(requests.inFlight <= 2);
+		}
+		assertEquals(20, requests.items.size());
+		assertFalse(stage.toCompletableFuture().get().getFailures().isEmpty());
+		for (int i = 2; i < requests.items.size(); i++) {
+			assertEquals(i + 1, requests.items.get(i));
+		}
+	}
+
+	@Test
+	public void testCompletesSynchronousRequests() throws InterruptedException, ExecutionException {
+		final BulkCreator.Result<Integer> result = BulkCreator.<Integer, Integer> of(CompletableFuture::completedFuture, 8)
+			.submit(IntStream.range(0, 100_000).boxed()).toCompletableFuture().get();
+		assertEquals(100_000, result.getSucceeded());
+	}
+
+	@Test
+	public void testReportsListenerFailures() throws InterruptedException, ExecutionException {
+		final BulkCreator.Result<Integer> result = BulkCreator.<Integer, Integer> of(CompletableFuture::completedFuture, 2)
+			.orderedBy(item -> item % 3)
+			.onCreated((item, created) -> {
+				if (item % 10 == 0) {
+					throw new IllegalStateException("listener failed for " + item);
+				}
+			})
+			.submit(IntStream.range(1, 101).boxed()).toCompletableFuture().get();
+		assertEquals(90, result.getSucceeded());
+		assertEquals(10, result.getFailures().size());
+		assertEquals(10, result.getFailures().get(0).getItem());
+	}
+}
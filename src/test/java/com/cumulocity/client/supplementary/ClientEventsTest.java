@@ -0,0 +1,120 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.supplementary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.glassfish.jersey.client.ClientConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.cumulocity.client.api.ManagedObjectsApi;
+import com.cumulocity.client.model.ManagedObject;
+import com.sun.net.httpserver.HttpServer;
+
+import jakarta.ws.rs.client.ClientBuilder;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+public class ClientEventsTest {
+
+	private static final String COLLECTION = "{\"managedObjects\":[{\"id\":\"1\"},{\"id\":\"2\"},{\"id\":\"3\"}]}";
+
+	private HttpServer server;
+
+	@BeforeEach
+	public void start() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/inventory/managedObjects", exchange -> {
+			try (InputStream in = exchange.getRequestBody()) {
+				while (in.read() >= 0) {
+					// discard the request body
+				}
+			}
+			final byte[] response = (exchange.getRequestMethod().equals("POST") ? "{\"id\":\"4\"}" : COLLECTION).getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().add("Content-Type", "application/json");
+			exchange.sendResponseHeaders(exchange.getRequestMethod().equals("POST") ? 201 : 200, response.length);
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write(response);
+			}
+		});
+		server.start();
+	}
+
+	@AfterEach
+	public void stop() {
+		server.stop(0);
+	}
+
+	private static List<RecordedEvent> eventsOf(final List<RecordedEvent> events, final String name) {
+		return events.stream().filter(event -> event.getEventType().getName().equals(name)).collect(Collectors.toList());
+	}
+
+	@Test
+	public void testRecordsRequestPhases() throws IOException {
+		assertTrue(ClientEvents.isAvailable());
+		final ClientConfig clientConfig = new ClientConfig();
+		clientConfig.register(new ClientEvents());
+		final ManagedObjectsApi api = new ManagedObjectsApi(ClientBuilder.newClient(clientConfig).target("http://127.0.0.1:" + server.getAddress().getPort()));
+
+		final Path file = Files.createTempFile("client-events", ".jfr");
+		try (Recording recording = new Recording()) {
+			for (final String name : new String[] {"Request", "Network", "Encode", "Decode"}) {
+				recording.enable("com.cumulocity.client." + name).withoutThreshold();
+			}
+			recording.start();
+			assertEquals(3, api.getManagedObjects(null, null, null, 0, null, null, false, null, 5, null, null, false, null, null, false, false, false, false, false, false).toCompletableFuture().join().getManagedObjects().length);
+			final ManagedObject managedObject = new ManagedObject();
+			managedObject.setName("created");
+			api.createManagedObject(managedObject, null).toCompletableFuture().join();
+			recording.stop();
+			recording.dump(file);
+			final List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+
+			final List<RecordedEvent> requests = eventsOf(events, "com.cumulocity.client.Request");
+			assertEquals(2, requests.size());
+			final RecordedEvent get = requests.stream().filter(event -> "GET".equals(event.getString("method"))).findFirst().get();
+			assertEquals("ManagedObjectsApi.getManagedObjects", get.getString("operation"));
+			assertEquals("127.0.0.1", get.getString("tenant"));
+			assertEquals("/inventory/managedObjects", get.getString("path"));
+			assertEquals(200, get.getInt("status"));
+			assertEquals(COLLECTION.length(), get.getLong("responseBytes"));
+			assertNull(get.getString("failure"));
+			final RecordedEvent post = requests.stream().filter(event -> "POST".equals(event.getString("method"))).findFirst().get();
+			assertEquals(201, post.getInt("status"));
+			assertEquals("{\"name\":\"created\"}".length(), post.getLong("requestBytes"));
+
+			assertEquals(2, eventsOf(events, "com.cumulocity.client.Network").size());
+			final List<RecordedEvent> encodes = eventsOf(events, "com.cumulocity.client.Encode");
+			assertEquals(1, encodes.size());
+			assertEquals("ManagedObjectsApi.createManagedObject", encodes.get(0).getString("operation"));
+			final RecordedEvent decode = eventsOf(events, "com.cumulocity.client.Decode").stream().filter(event -> event.getString("operation").endsWith("getManagedObjects")).findFirst().get();
+			assertEquals(3, decode.getInt("items"));
+			assertEquals(COLLECTION.length(), decode.getLong("bytes"));
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+	@Test
+	public void testCountsItemsOfCollections() {
+		assertEquals(0, JfrEvents.itemsOf(null));
+		assertEquals(1, JfrEvents.itemsOf(new ManagedObject()));
+		assertEquals(2, JfrEvents.itemsOf(new int[2]));
+	}
+}
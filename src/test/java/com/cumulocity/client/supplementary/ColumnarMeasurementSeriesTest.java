@@ -0,0 +1,47 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.supplementary;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class ColumnarMeasurementSeriesTest {
+
+	@Test
+	public void testDeserialize() throws IOException {
+		final String json = "{\"values\":{"
+				+ "\"2023-01-01T00:00:00.000Z\":[{\"min\":1,\"max\":2},null],"
+				+ "\"2023-01-01T00:01:00.000+01:00\":[{\"min\":3.5,\"max\":4.5},{\"min\":-1,\"max\":1}]},"
+				+ "\"series\":[{\"unit\":\"C\",\"name\":\"T\",\"type\":\"c8y_Temperature\"},{\"unit\":\"%\",\"name\":\"H\",\"type\":\"c8y_Humidity\"}],"
+				+ "\"truncated\":true}";
+		final ColumnarMeasurementSeries series = new ObjectMapper().readValue(json, ColumnarMeasurementSeries.class);
+		assertEquals(2, series.size());
+		assertArrayEquals(new long[] { 1672531200000L, 1672531260000L - 3600000L }, series.getTimestamps());
+		assertArrayEquals(new double[] { 1, 2, 3.5, 4.5 }, series.getValues(0));
+		assertTrue(Double.isNaN(series.getMin(1, 0)));
+		assertEquals(1, series.getMax(1, 1));
+		assertEquals("c8y_Humidity", series.getSeries()[1].getType());
+		assertTrue(series.getTruncated());
+	}
+
+	@Test
+	public void testDeserializeGrowsColumns() throws IOException {
+		final StringBuilder json = new StringBuilder("{\"series\":[{\"name\":\"T\"}],\"values\":{");
+		for (int i = 0; i < 1000; i++) {
+			json.append(i > 0 ? "," : "").append("\"2023-01-01T00:00:").append(String.format("%02d", i % 60)).append(".").append(String.format("%03d", i)).append("Z\":[{\"min\":").append(i).append(",\"max\":").append(i).append("}]");
+		}
+		json.append("}}");
+		final ColumnarMeasurementSeries series = new ObjectMapper().readValue(json.toString(), ColumnarMeasurementSeries.class);
+		assertEquals(1000, series.size());
+		assertEquals(2000, series.getValues(0).length);
+		assertEquals(999, series.getMax(0, 999));
+	}
+}
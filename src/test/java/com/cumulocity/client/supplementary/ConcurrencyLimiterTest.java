@@ -0,0 +1,181 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.supplementary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.glassfish.jersey.client.ClientConfig;
+import org.junit.jupiter.api.Test;
+
+import com.cumulocity.client.api.ManagedObjectsApi;
+import com.cumulocity.client.model.ManagedObject;
+
+import jakarta.ws.rs.ClientErrorException;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.client.ClientRequestFilter;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+public class ConcurrencyLimiterTest {
+
+	private final AtomicLong clock = new AtomicLong();
+
+	private final List<CompletableFuture<Response>> pending = new ArrayList<>();
+
+	private CompletionStage<Response> submit(final ConcurrencyLimiter limiter) {
+		return submit(limiter, "ManagedObjectsApi.getManagedObject");
+	}
+
+	private CompletionStage<Response> submit(final ConcurrencyLimiter limiter, final String operation) {
+		return limiter.submit(operation, () -> {
+			final CompletableFuture<Response> response = new CompletableFuture<>();
+			pending.add(response);
+			return response;
+		});
+	}
+
+	private void complete(final int index, final int status, final long elapsedMillis) {
+		clock.addAndGet(elapsedMillis * 1_000_000);
+		pending.get(index).complete(Response.status(status).build());
+	}
+
+	@Test
+	public void testQueuesAndRejectsExcessRequests() {
+		final ConcurrencyLimiter limiter = new ConcurrencyLimiter(2, 1, 2, 1, clock::get);
+		final CompletionStage<Response> first = submit(limiter);
+		submit(limiter);
+		final CompletionStage<Response> queued = submit(limiter);
+		final CompletionStage<Response> rejected = submit(limiter);
+		assertEquals(2, pending.size());
+		assertEquals(2, limiter.getInFlight());
+		assertEquals(1, limiter.getQueued());
+		assertEquals(1, limiter.getRejected());
+		final CompletionException e = assertThrows(CompletionException.class, () -> rejected.toCompletableFuture().join());
+		assertTrue(e.getCause() instanceof RejectedExecutionException);
+
+		complete(0, 200, 1);
+		assertEquals(200, first.toCompletableFuture().join().getStatus());
+		assertEquals(3, pending.size());
+		assertEquals(0, limiter.getQueued());
+		assertFalse(queued.toCompletableFuture().isDone());
+		complete(2, 200, 1);
+		assertEquals(200, queued.toCompletableFuture().join().getStatus());
+		assertEquals(3, limiter.getRequests());
+	}
+
+	@Test
+	public void testIncreasesLimitWhileInUse() {
+		final ConcurrencyLimiter limiter = new ConcurrencyLimiter(4, 1, 100, 100, clock::get);
+		for (int i = 0; i < 4; i++) {
+			submit(limiter);
+		}
+		complete(0, 200, 10);
+		complete(1, 201, 0);
+		assertEquals(6, limiter.getLimit());
+		complete(2, 200, 0);
+		complete(3, 200, 0);
+		assertEquals(6, limiter.getLimit(), "the limit must not grow while less than half of it is in use");
+	}
+
+	@Test
+	public void testBacksOffOncePerOverload() {
+		final ConcurrencyLimiter limiter = new ConcurrencyLimiter(50, 10, 100, 100, clock::get);
+		for (int i = 0; i < 3; i++) {
+			submit(limiter);
+		}
+		complete(0, 429, 10);
+		complete(1, 503, 0);
+		assertEquals(45, limiter.getLimit());
+		assertEquals(2, limiter.getDropped());
+
+		submit(limiter);
+		complete(3, 429, 10);
+		assertEquals(40, limiter.getLimit());
+		complete(2, 200, 0);
+		assertEquals(40, limiter.getLimit());
+	}
+
+	@Test
+	public void testBacksOffOnSlowResponses() {
+		final ConcurrencyLimiter limiter = new ConcurrencyLimiter(2, 1, 10, 10, clock::get);
+		submit(limiter);
+		complete(0, 200, 10);
+		assertEquals(3, limiter.getLimit());
+		submit(limiter);
+		complete(1, 200, 30);
+		assertEquals(2, limiter.getLimit());
+		assertEquals(0, limiter.getDropped());
+	}
+
+	@Test
+	public void testComparesLatencyPerOperation() {
+		final ConcurrencyLimiter limiter = new ConcurrencyLimiter(4, 1, 100, 10, clock::get);
+		for (int i = 0; i < 20; i++) {
+			submit(limiter, "ManagedObjectsApi.getManagedObject");
+			complete(2 * i, 200, 10);
+			submit(limiter, "ManagedObjectsApi.getManagedObjects");
+			complete(2 * i + 1, 200, 400);
+		}
+		assertEquals(4, limiter.getLimit());
+		submit(limiter, "ManagedObjectsApi.getManagedObjects");
+		complete(40, 200, 1000);
+		assertEquals(3, limiter.getLimit());
+	}
+
+	@Test
+	public void testStartsQueuedRequestsIteratively() {
+		final ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, 1, 1, 100_000, clock::get);
+		submit(limiter);
+		final AtomicInteger completed = new AtomicInteger();
+		for (int i = 0; i < 100_000; i++) {
+			limiter.submit("ManagedObjectsApi.getManagedObject", () -> CompletableFuture.completedFuture(Response.ok().build())).thenRun(completed::incrementAndGet);
+		}
+		assertEquals(100_000, limiter.getQueued());
+		complete(0, 200, 10);
+		assertEquals(100_000, completed.get());
+		assertEquals(100_001, limiter.getRequests());
+		assertEquals(0, limiter.getInFlight());
+	}
+
+	@Test
+	public void testLimitsAllRequestsOfTheClient() {
+		final ConcurrencyLimiter limiter = new ConcurrencyLimiter(20, 1, 20, 100);
+		final AtomicInteger sent = new AtomicInteger();
+		final ClientConfig clientConfig = new ClientConfig();
+		clientConfig.register(limiter);
+		clientConfig.register(new SingleFlight());
+		clientConfig.register((ClientRequestFilter) request -> {
+			if (sent.incrementAndGet() == 1) {
+				request.abortWith(Response.status(429).build());
+			} else {
+				request.abortWith(Response.ok("{\"id\":\"1\"}", MediaType.APPLICATION_JSON_TYPE).build());
+			}
+		});
+		final ManagedObjectsApi api = new ManagedObjectsApi(ClientBuilder.newClient(clientConfig).target("http://127.0.0.1:1"));
+
+		final CompletionException e = assertThrows(CompletionException.class, () -> api.getManagedObject("1", false, false, false, false).toCompletableFuture().join());
+		assertTrue(e.getCause() instanceof ClientErrorException);
+		assertEquals(18, limiter.getLimit());
+		assertEquals(1, limiter.getDropped());
+
+		final ManagedObject managedObject = new ManagedObject();
+		managedObject.setName("device");
+		api.updateManagedObject(managedObject, "1", null).toCompletableFuture().join();
+		api.deleteManagedObject("1", null, false, false, false).toCompletableFuture().join();
+		assertEquals(3, limiter.getRequests());
+		assertEquals(0, limiter.getInFlight());
+	}
+}
@@ -0,0 +1,140 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.supplementary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.glassfish.jersey.client.ClientConfig;
+import org.junit.jupiter.api.Test;
+
+import com.cumulocity.client.api.ManagedObjectsApi;
+import com.cumulocity.client.model.ManagedObject;
+
+import jakarta.ws.rs.NotFoundException;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.client.ClientRequestFilter;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+public class ConditionalCacheTest {
+
+	/**
+	 * The version of each managed object, answered as <code>ETag</code>. Managed objects without version do not exist.
+	 */
+	private final Map<String, Integer> versions = new ConcurrentHashMap<>();
+
+	private final List<String> validators = new CopyOnWriteArrayList<>();
+
+	/**
+	 * Whether responses are sent without <code>ETag</code> or <code>Last-Modified</code>.
+	 */
+	private volatile boolean withoutValidator;
+
+	private ManagedObjectsApi api(final ConditionalCache cache, final boolean lastModified) {
+		final ClientConfig clientConfig = new ClientConfig();
+		clientConfig.register(cache);
+		clientConfig.register((ClientRequestFilter) request -> {
+			final String path = request.getUri().getPath();
+			final String id = path.substring(path.lastIndexOf('/') + 1);
+			final Integer version = versions.get(id);
+			if (version == null) {
+				request.abortWith(Response.status(404).entity("{\"error\":\"inventory/Not Found\"}").type(MediaType.APPLICATION_JSON_TYPE).build());
+				return;
+			}
+			final String validator = lastModified ? "Sun, 01 Jan 2023 00:00:0" + version + " GMT" : "\"" + version + "\"";
+			final String received = request.getHeaderString(lastModified ? HttpHeaders.IF_MODIFIED_SINCE : HttpHeaders.IF_NONE_MATCH);
+			validators.add(String.valueOf(received));
+			if (validator.equals(received)) {
+				request.abortWith(Response.notModified().build());
+				return;
+			}
+			request.abortWith(Response.ok("{\"id\":\"" + id + "\",\"name\":\"version " + version + "\"}", MediaType.APPLICATION_JSON_TYPE)
+				.header(lastModified ? HttpHeaders.LAST_MODIFIED : HttpHeaders.ETAG, withoutValidator ? null : validator)
+				.build());
+		});
+		return new ManagedObjectsApi(ClientBuilder.newClient(clientConfig).target("http://127.0.0.1:1"));
+	}
+
+	private static ManagedObject get(final ManagedObjectsApi api, final String id) {
+		return api.getManagedObject(id, false, false, false, false).toCompletableFuture().join();
+	}
+
+	@Test
+	public void testServesNotModifiedFromCache() {
+		final ConditionalCache cache = new ConditionalCache(1024 * 1024);
+		final ManagedObjectsApi api = api(cache, false);
+		versions.put("1", 1);
+		final ManagedObject first = get(api, "1");
+		assertEquals("version 1", first.getName());
+		assertSame(first, get(api, "1"));
+		assertEquals(1, cache.getHits());
+		assertEquals(1, cache.getMisses());
+		assertEquals("{\"id\":\"1\",\"name\":\"version 1\"}".length(), cache.getBytes());
+		versions.put("1", 2);
+		final ManagedObject changed = get(api, "1");
+		assertNotSame(first, changed);
+		assertEquals("version 2", changed.getName());
+		assertEquals(Arrays.asList("null", "\"1\"", "\"1\""), validators);
+	}
+
+	@Test
+	public void testRevalidatesByLastModified() {
+		final ConditionalCache cache = new ConditionalCache(1024 * 1024);
+		final ManagedObjectsApi api = api(cache, true);
+		versions.put("1", 1);
+		final ManagedObject first = get(api, "1");
+		assertSame(first, get(api, "1"));
+		assertEquals("Sun, 01 Jan 2023 00:00:01 GMT", validators.get(1));
+	}
+
+	@Test
+	public void testEvictsLeastRecentlyUsed() {
+		final ConditionalCache cache = new ConditionalCache(50);
+		final ManagedObjectsApi api = api(cache, false);
+		versions.put("1", 1);
+		versions.put("2", 1);
+		get(api, "1");
+		get(api, "2");
+		assertEquals(1, cache.getEvictions());
+		assertTrue(cache.getBytes() <= 50);
+		get(api, "1");
+		assertEquals(0, cache.getHits());
+	}
+
+	@Test
+	public void testRemovesResponsesReplacedWithoutValidator() {
+		final ConditionalCache cache = new ConditionalCache(1024 * 1024);
+		final ManagedObjectsApi api = api(cache, false);
+		versions.put("1", 1);
+		get(api, "1");
+		versions.put("1", 2);
+		withoutValidator = true;
+		assertEquals("version 2", get(api, "1").getName());
+		assertEquals(0, cache.getBytes());
+		versions.put("1", 3);
+		assertEquals("version 3", get(api, "1").getName());
+		assertEquals(Arrays.asList("null", "\"1\"", "null"), validators);
+	}
+
+	@Test
+	public void testFailsLikeUncachedRequests() {
+		final ManagedObjectsApi api = api(new ConditionalCache(1024), false);
+		final CompletionException e = assertThrows(CompletionException.class, () -> get(api, "missing"));
+		assertTrue(e.getCause() instanceof NotFoundException);
+		assertEquals(404, ((NotFoundException) e.getCause()).getResponse().getStatus());
+		assertTrue(((NotFoundException) e.getCause()).getResponse().readEntity(String.class).contains("Not Found"));
+	}
+}
@@ -0,0 +1,214 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.supplementary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.cumulocity.client.api.ExternalIDsApi;
+import com.cumulocity.client.api.ManagedObjectsApi;
+import com.cumulocity.client.model.ExternalId;
+import com.cumulocity.client.model.ExternalIds;
+import com.cumulocity.client.model.ManagedObject;
+import com.cumulocity.client.model.ManagedObjectCollection;
+
+import jakarta.ws.rs.NotFoundException;
+import jakarta.ws.rs.client.ClientBuilder;
+
+public class ExternalIdResolverTest {
+
+	/**
+	 * Knows the serial <code>serial-N</code> of each managed object <code>N</code> up to 25. Responses are completed
+	 * once <code>release</code> is called.
+	 */
+	private static class ExternalIDsStub extends ExternalIDsApi {
+
+		private final List<String> requests = new CopyOnWriteArrayList<>();
+
+		private final List<Runnable> pending = new CopyOnWriteArrayList<>();
+
+		ExternalIDsStub() {
+			super(ClientBuilder.newClient().target("https://endpoint"));
+		}
+
+		@Override
+		public CompletionStage<ExternalId> getExternalId(final String type, final String externalId) {
+			requests.add(externalId);
+			final CompletableFuture<ExternalId> response = new CompletableFuture<>();
+			pending.add(() -> {
+				final int id = Integer.parseInt(externalId.substring(externalId.indexOf('-') + 1));
+				if (id > 25) {
+					response.completeExceptionally(new NotFoundException());
+				} else {
+					response.complete(externalId(type, externalId, id));
+				}
+			});
+			return response;
+		}
+
+		@Override
+		public CompletionStage<ExternalIds> getExternalIds(final String id) {
+			requests.add(id);
+			final ExternalIds externalIds = new ExternalIds();
+			externalIds.setExternalIds(new ExternalId[] {externalId("c8y_Serial", "serial-" + id, Integer.parseInt(id))});
+			return CompletableFuture.completedFuture(externalIds);
+		}
+
+		void release() {
+			final List<Runnable> responses = new ArrayList<>(pending);
+			pending.clear();
+			responses.forEach(Runnable::run);
+		}
+
+		private static ExternalId externalId(final String type, final String externalId, final int id) {
+			final ExternalId.ManagedObject managedObject = new ExternalId.ManagedObject();
+			managedObject.setId(String.valueOf(id));
+			final ExternalId result = new ExternalId();
+			result.setType(type);
+			result.setExternalId(externalId);
+			result.setManagedObject(managedObject);
+			return result;
+		}
+	}
+
+	/**
+	 * Serves the managed objects 1 to 25 ordered by ID.
+	 */
+	private static class ManagedObjectsStub extends ManagedObjectsApi {
+
+		private final List<String> queries = new ArrayList<>();
+
+		ManagedObjectsStub() {
+			super(ClientBuilder.newClient().target("https://endpoint"));
+		}
+
+		@Override
+		public CompletionStage<ManagedObjectCollection> getManagedObjects(final String childAdditionId, final String childAssetId, final String childDeviceId, final int currentPage, final String fragmentType, final String[] ids, final boolean onlyRoots, final String owner, final int pageSize, final String q, final String query, final boolean skipChildrenNames, final String text, final String type, final boolean withChildren, final boolean withChildrenCount, final boolean withGroups, final boolean withParents, final boolean withTotalElements, final boolean withTotalPages) {
+			queries.add(query);
+			final int index = query.indexOf("id gt ");
+			final int lastId = index < 0 ? 0 : Integer.parseInt(query.substring(index + 6, query.indexOf(')', index)));
+			final ManagedObject[] page = IntStream.rangeClosed(lastId + 1, Math.min(lastId + pageSize, 25)).mapToObj(id -> {
+				final ManagedObject managedObject = new ManagedObject();
+				managedObject.setId(String.valueOf(id));
+				return managedObject;
+			}).toArray(ManagedObject[]::new);
+			final ManagedObjectCollection collection = new ManagedObjectCollection();
+			collection.setManagedObjects(page);
+			return CompletableFuture.completedFuture(collection);
+		}
+	}
+
+	private final ExternalIDsStub api = new ExternalIDsStub();
+
+	private final AtomicLong clock = new AtomicLong();
+
+	private String resolve(final ExternalIdResolver resolver, final String externalId) {
+		final CompletableFuture<String> result = resolver.resolve("c8y_Serial", externalId).toCompletableFuture();
+		api.release();
+		return result.join();
+	}
+
+	@Test
+	public void testResolvesOnce() {
+		final ExternalIdResolver resolver = new ExternalIdResolver(api, 10, 1000, clock::get);
+		final CompletableFuture<String> first = resolver.resolve("c8y_Serial", "serial-1").toCompletableFuture();
+		final CompletableFuture<String> second = resolver.resolve("c8y_Serial", "serial-1").toCompletableFuture();
+		api.release();
+		assertEquals("1", first.join());
+		assertEquals("1", second.join());
+		assertEquals("1", resolve(resolver, "serial-1"));
+		assertEquals(1, api.requests.size());
+		assertEquals(1, resolver.getMisses());
+		assertEquals(2, resolver.getHits());
+	}
+
+	@Test
+	public void testCachesUnknownExternalIdsForLimitedTime() {
+		final ExternalIdResolver resolver = new ExternalIdResolver(api, 10, 1000, clock::get);
+		assertTrue(assertThrows(CompletionException.class, () -> resolve(resolver, "serial-99")).getCause() instanceof NotFoundException);
+		assertTrue(assertThrows(CompletionException.class, () -> resolve(resolver, "serial-99")).getCause() instanceof NotFoundException);
+		assertEquals(1, api.requests.size());
+		assertEquals(1, resolver.getNegativeHits());
+		clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1000));
+		assertThrows(CompletionException.class, () -> resolve(resolver, "serial-99"));
+		assertEquals(2, api.requests.size());
+	}
+
+	@Test
+	public void testEvictsLeastRecentlyUsed() {
+		final ExternalIdResolver resolver = new ExternalIdResolver(api, 2, 1000, clock::get);
+		resolve(resolver, "serial-1");
+		resolve(resolver, "serial-2");
+		resolve(resolver, "serial-1");
+		resolve(resolver, "serial-3");
+		assertEquals(1, resolver.getEvictions());
+		resolve(resolver, "serial-1");
+		assertEquals(3, api.requests.size());
+		resolve(resolver, "serial-2");
+		assertEquals(4, api.requests.size());
+	}
+
+	@Test
+	public void testWarmsUpGroup() {
+		final ExternalIdResolver resolver = new ExternalIdResolver(api, 100, 1000, clock::get);
+		final ManagedObjectsStub managedObjectsApi = new ManagedObjectsStub();
+		assertEquals(25, resolver.warmUp(managedObjectsApi, "7", 10, 4));
+		assertTrue(managedObjectsApi.queries.get(0).contains("bygroupid(7)"));
+		assertEquals(25, api.requests.size());
+		assertEquals("17", resolve(resolver, "serial-17"));
+		assertEquals(25, api.requests.size());
+	}
+
+	@Test
+	public void testWarmUpLimitsRequestsInFlight() {
+		final ExecutorService executor = Executors.newFixedThreadPool(8);
+		final AtomicInteger inFlight = new AtomicInteger();
+		final AtomicInteger maxInFlight = new AtomicInteger();
+		final ExternalIDsStub slowApi = new ExternalIDsStub() {
+
+			@Override
+			public CompletionStage<ExternalIds> getExternalIds(final String id) {
+				maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+				final CompletionStage<ExternalIds> response = super.getExternalIds(id);
+				return CompletableFuture.supplyAsync(() -> {
+					sleep(2);
+					inFlight.decrementAndGet();
+					return response.toCompletableFuture().join();
+				}, executor);
+			}
+		};
+		try {
+			final ExternalIdResolver resolver = new ExternalIdResolver(slowApi, 100, 1000, clock::get);
+			assertEquals(25, resolver.warmUp(new ManagedObjectsStub(), "7", 10, 3));
+			assertEquals(25, slowApi.requests.size());
+			assertTrue(maxInFlight.get() <= 3, "in flight: " + maxInFlight.get());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static void sleep(final long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,32 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.supplementary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class FragmentRegistryTest {
+
+	@Test
+	public void testConcurrentRegistrations() throws InterruptedException {
+		final FragmentRegistry registry = new FragmentRegistry();
+		final ExecutorService executor = Executors.newFixedThreadPool(8);
+		for (int i = 0; i < 1000; i++) {
+			final String name = "c8y_Fragment" + i;
+			executor.execute(() -> registry.register(name, String.class));
+		}
+		executor.shutdown();
+		executor.awaitTermination(10, TimeUnit.SECONDS);
+		for (int i = 0; i < 1000; i++) {
+			assertEquals(String.class, registry.get("c8y_Fragment" + i).getType());
+		}
+		assertNull(registry.get("c8y_Unknown"));
+	}
+}
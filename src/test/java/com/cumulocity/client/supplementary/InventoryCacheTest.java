@@ -0,0 +1,132 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.supplementary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import com.cumulocity.client.api.ManagedObjectsApi;
+import com.cumulocity.client.model.ManagedObject;
+
+import jakarta.ws.rs.client.ClientBuilder;
+
+public class InventoryCacheTest {
+
+	/**
+	 * Answers each request with a new managed object, completed once <code>complete</code> is called.
+	 */
+	private static class ManagedObjectsStub extends ManagedObjectsApi {
+
+		private final Map<String, CompletableFuture<ManagedObject>> pending = new ConcurrentHashMap<>();
+
+		private final AtomicInteger loads = new AtomicInteger();
+
+		ManagedObjectsStub() {
+			super(ClientBuilder.newClient().target("http://127.0.0.1:1"));
+		}
+
+		@Override
+		public CompletionStage<ManagedObject> getManagedObject(final String id, final boolean skipChildrenNames, final boolean withChildren,
+				final boolean withChildrenCount, final boolean withParents) {
+			loads.incrementAndGet();
+			final CompletableFuture<ManagedObject> response = new CompletableFuture<>();
+			pending.put(id, response);
+			return response;
+		}
+
+		void complete(final String id, final String name) {
+			final ManagedObject managedObject = new ManagedObject();
+			managedObject.setId(id);
+			managedObject.setName(name);
+			pending.remove(id).complete(managedObject);
+		}
+	}
+
+	private final ManagedObjectsStub api = new ManagedObjectsStub();
+
+	private final AtomicLong clock = new AtomicLong();
+
+	private ManagedObject get(final InventoryCache cache, final String id) {
+		final CompletableFuture<ManagedObject> result = cache.get(id).toCompletableFuture();
+		if (api.pending.containsKey(id)) {
+			api.complete(id, "loaded " + api.loads.get());
+		}
+		return result.join();
+	}
+
+	@Test
+	public void testLoadsOnce() {
+		final InventoryCache cache = new InventoryCache(api, 10, managedObject -> 1, 60_000, clock::get);
+		final CompletableFuture<ManagedObject> first = cache.get("1").toCompletableFuture();
+		final CompletableFuture<ManagedObject> second = cache.get("1").toCompletableFuture();
+		api.complete("1", "device");
+		assertSame(first.join(), second.join());
+		assertSame(first.join(), get(cache, "1"));
+		assertEquals(1, api.loads.get());
+		assertEquals(1, cache.getMisses());
+		assertEquals(2, cache.getHits());
+	}
+
+	@Test
+	public void testEvictsLeastRecentlyUsed() {
+		final InventoryCache cache = new InventoryCache(api, 2, managedObject -> 1, 60_000, clock::get);
+		get(cache, "1");
+		get(cache, "2");
+		get(cache, "1");
+		get(cache, "3");
+		assertEquals(1, cache.getEvictions());
+		assertEquals(2, cache.getWeight());
+		get(cache, "1");
+		get(cache, "2");
+		assertEquals(4, api.loads.get());
+	}
+
+	@Test
+	public void testReloadsStaleManagedObjects() {
+		final InventoryCache cache = new InventoryCache(api, 10, managedObject -> 1, 1000, clock::get);
+		final ManagedObject first = get(cache, "1");
+		clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1000));
+		assertSame(first, get(cache, "1"));
+		clock.addAndGet(1);
+		assertNotSame(first, get(cache, "1"));
+		assertEquals(2, api.loads.get());
+	}
+
+	@Test
+	public void testAppliesNotifications() {
+		final InventoryCache cache = new InventoryCache(api, 10, managedObject -> 1, 60_000, clock::get);
+		get(cache, "1");
+		get(cache, "2");
+		assertEquals("ack1", cache.onNotification("ack1\n/t123/managedobjects/1\nUPDATE\n\n{\"id\":\"1\",\"name\":\"updated\"}"));
+		assertEquals("updated", get(cache, "1").getName());
+		cache.onNotification("ack2\n/t123/managedobjects/2\nDELETE\n\n");
+		assertEquals(1, cache.size());
+		cache.onNotification("ack3\n/t123/managedobjects/3\nCREATE\n\n{\"id\":\"3\",\"name\":\"created\"}");
+		assertEquals(1, cache.size());
+		assertEquals(2, api.loads.get());
+		assertEquals(3, cache.getNotifications());
+	}
+
+	@Test
+	public void testDropsLoadsInvalidatedInFlight() {
+		final InventoryCache cache = new InventoryCache(api, 10, managedObject -> 1, 60_000, clock::get);
+		final CompletableFuture<ManagedObject> stale = cache.get("1").toCompletableFuture();
+		cache.invalidate("1");
+		api.complete("1", "stale");
+		assertEquals("stale", stale.join().getName());
+		assertEquals(0, cache.size());
+		assertEquals("loaded 2", get(cache, "1").getName());
+	}
+}
@@ -0,0 +1,74 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.supplementary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import org.glassfish.jersey.client.ClientConfig;
+import org.junit.jupiter.api.Test;
+
+import com.cumulocity.client.model.Measurement;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.ws.rs.client.ClientBuilder;
+
+public class JsonCodecTest {
+
+	@Test
+	public void testCodecOfClientConfiguration() {
+		final JsonCodec codec = new JsonCodec(new ObjectMapper());
+		final ClientConfig clientConfig = new ClientConfig();
+		clientConfig.register(codec);
+		assertSame(codec, JsonCodec.of(ClientBuilder.newClient(clientConfig).target("https://endpoint").getConfiguration()));
+		assertSame(JsonCodec.getDefault(), JsonCodec.of(ClientBuilder.newClient().getConfiguration()));
+	}
+
+	@Test
+	public void testRegistersGeneratedModule() {
+		boolean generated;
+		try {
+			Class.forName("com.cumulocity.client.model.GeneratedModelModule");
+			generated = true;
+		} catch (final ClassNotFoundException e) {
+			generated = false;
+		}
+		final ObjectMapper objectMapper = new ObjectMapper();
+		assertSame(objectMapper, JsonCodec.registerGeneratedModule(objectMapper));
+		assertEquals(generated, objectMapper.getRegisteredModuleIds().contains("com.cumulocity.client.model.GeneratedModelModule"));
+		assertEquals(generated, JsonCodec.getDefault().getObjectMapper().getRegisteredModuleIds().contains("com.cumulocity.client.model.GeneratedModelModule"));
+	}
+
+	@Test
+	public void testReadersAndWritersAreCached() {
+		final JsonCodec codec = new JsonCodec(new ObjectMapper());
+		assertSame(codec.readerFor(Measurement.class), codec.readerFor(Measurement.class));
+		assertSame(codec.writerFor(Measurement.class), codec.writerFor(Measurement.class));
+	}
+
+	@Test
+	public void testWriteValueExcludesProperties() throws IOException {
+		final Measurement measurement = new Measurement(new Measurement.Source("4711"), "2023-01-01T00:00:00Z", "c8y_Test");
+		measurement.setId("1");
+		measurement.setSelf("https://endpoint/measurement/measurements/1");
+		measurement.getSource().setSelf("https://endpoint/inventory/managedObjects/4711");
+		measurement.setCustomFragments(Collections.singletonMap("c8y_Fragment", Collections.singletonMap("self", "kept")));
+		final ByteArrayOutputStream output = new ByteArrayOutputStream();
+		new JsonCodec(new ObjectMapper()).writeValue(output, measurement, "self", "id", "source.self");
+		assertEquals("{\"source\":{\"id\":\"4711\"},\"time\":\"2023-01-01T00:00:00Z\",\"type\":\"c8y_Test\",\"c8y_Fragment\":{\"self\":\"kept\"}}",
+				new String(output.toByteArray(), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void testWriteValueKeepsEmptyObjects() throws IOException {
+		final ByteArrayOutputStream output = new ByteArrayOutputStream();
+		new JsonCodec(new ObjectMapper()).writeValue(output, new Measurement(new Measurement.Source(), null, null), "self", "source.self");
+		assertEquals("{\"source\":{}}", new String(output.toByteArray(), StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,117 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.supplementary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import com.cumulocity.client.api.EventsApi;
+import com.cumulocity.client.api.ManagedObjectsApi;
+import com.cumulocity.client.model.Event;
+import com.cumulocity.client.model.EventCollection;
+import com.cumulocity.client.model.ManagedObject;
+import com.cumulocity.client.model.ManagedObjectCollection;
+
+import jakarta.ws.rs.client.ClientBuilder;
+
+public class KeysetPagingTest {
+
+	/**
+	 * Serves events ordered by time, where several events share a time and one time is shared by eleven events.
+	 */
+	private static class EventsStub extends EventsApi {
+
+		private final List<Event> events = new ArrayList<>();
+
+		private final List<String> requests = new ArrayList<>();
+
+		EventsStub() {
+			super(ClientBuilder.newClient().target("https://endpoint"));
+			for (int i = 0; i < 60; i++) {
+				final Event event = new Event();
+				event.setId(String.valueOf(i));
+				final int second = i < 20 ? i / 3 : i < 31 ? 20 : i / 3 + 11;
+				event.setTime(String.format("2023-01-01T00:00:%02d.000Z", second));
+				events.add(event);
+			}
+		}
+
+		@Override
+		public CompletionStage<EventCollection> getEvents(final String createdFrom, final String createdTo, final int currentPage, final String dateFrom, final String dateTo, final String fragmentType, final String fragmentValue, final String lastUpdatedFrom, final String lastUpdatedTo, final int pageSize, final boolean revert, final String source, final String type, final boolean withSourceAssets, final boolean withSourceDevices, final boolean withTotalElements, final boolean withTotalPages) {
+			requests.add(dateFrom + "#" + currentPage);
+			final long from = MeasurementSeriesFetcher.toEpochMillis(dateFrom);
+			final Event[] page = events.stream()
+				.filter(event -> MeasurementSeriesFetcher.toEpochMillis(event.getTime()) >= from)
+				.skip((long) (currentPage - 1) * pageSize)
+				.limit(pageSize)
+				.toArray(Event[]::new);
+			final EventCollection collection = new EventCollection();
+			collection.setEvents(page);
+			return CompletableFuture.completedFuture(collection);
+		}
+	}
+
+	private static class ManagedObjectsStub extends ManagedObjectsApi {
+
+		private final List<String> queries = new ArrayList<>();
+
+		ManagedObjectsStub() {
+			super(ClientBuilder.newClient().target("https://endpoint"));
+		}
+
+		@Override
+		public CompletionStage<ManagedObjectCollection> getManagedObjects(final String childAdditionId, final String childAssetId, final String childDeviceId, final int currentPage, final String fragmentType, final String[] ids, final boolean onlyRoots, final String owner, final int pageSize, final String q, final String query, final boolean skipChildrenNames, final String text, final String type, final boolean withChildren, final boolean withChildrenCount, final boolean withGroups, final boolean withParents, final boolean withTotalElements, final boolean withTotalPages) {
+			queries.add(query);
+			final int index = query.indexOf("id gt ");
+			final int lastId = index < 0 ? 0 : Integer.parseInt(query.substring(index + 6, query.indexOf(')', index)));
+			final ManagedObject[] page = IntStream.rangeClosed(lastId + 1, Math.min(lastId + pageSize, 25)).mapToObj(id -> {
+				final ManagedObject managedObject = new ManagedObject();
+				managedObject.setId(String.valueOf(id));
+				return managedObject;
+			}).toArray(ManagedObject[]::new);
+			final ManagedObjectCollection collection = new ManagedObjectCollection();
+			collection.setManagedObjects(page);
+			return CompletableFuture.completedFuture(collection);
+		}
+	}
+
+	@Test
+	public void testEventsAnchoredOnTime() {
+		final EventsStub api = new EventsStub();
+		try (Stream<Event> events = KeysetPaging.events(api, "4711", null, "2023-01-01T00:00:00Z", "2023-01-02T00:00:00Z", 4).stream()) {
+			assertEquals(IntStream.range(0, 60).mapToObj(String::valueOf).collect(Collectors.toList()), events.map(Event::getId).collect(Collectors.toList()));
+		}
+		assertTrue(api.requests.contains("2023-01-01T00:00:20.000Z#3"));
+	}
+
+	@Test
+	public void testEventsWithoutRangeStartAtEpoch() {
+		final EventsStub api = new EventsStub();
+		try (Stream<Event> events = KeysetPaging.events(api, "4711", null, null, null, 4).stream()) {
+			assertEquals(IntStream.range(0, 60).mapToObj(String::valueOf).collect(Collectors.toList()), events.map(Event::getId).collect(Collectors.toList()));
+		}
+		assertEquals("1970-01-01T00:00:00Z#1", api.requests.get(0));
+	}
+
+	@Test
+	public void testManagedObjectsAnchoredOnId() {
+		final ManagedObjectsStub api = new ManagedObjectsStub();
+		try (Stream<ManagedObject> managedObjects = KeysetPaging.managedObjects(api, "type eq 'c8y_Device'", 10).stream()) {
+			assertEquals(25, managedObjects.map(ManagedObject::getId).distinct().count());
+		}
+		assertEquals("$filter=((type eq 'c8y_Device')) $orderby=id asc", api.queries.get(0));
+		assertEquals("$filter=((type eq 'c8y_Device') and id gt 20) $orderby=id asc", api.queries.get(2));
+		assertEquals(3, api.queries.size());
+	}
+}
@@ -0,0 +1,162 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.supplementary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.cumulocity.client.api.MeasurementsApi;
+import com.cumulocity.client.model.Measurement;
+import com.cumulocity.client.model.MeasurementCollection;
+
+import jakarta.ws.rs.client.ClientBuilder;
+
+public class MeasurementBatchWriterTest {
+
+	/**
+	 * Records the posted batches, acknowledging them once completed by the test.
+	 */
+	private static class RecordingWriter extends MeasurementBatchWriter {
+
+		private final List<MeasurementCollection> batches = new CopyOnWriteArrayList<>();
+
+		private final List<CompletableFuture<MeasurementCollection>> responses = new CopyOnWriteArrayList<>();
+
+		RecordingWriter(final int maxBatchSize, final long maxBatchBytes, final long lingerMillis, final int maxQueuedMeasurements) {
+			super(new MeasurementsApi(ClientBuilder.newClient().target("https://endpoint")), maxBatchSize, maxBatchBytes, lingerMillis, 2, maxQueuedMeasurements, null);
+		}
+
+		RecordingWriter(final long lingerMillis, final ScheduledExecutorService scheduler) {
+			super(new MeasurementsApi(ClientBuilder.newClient().target("https://endpoint")), 1000, Long.MAX_VALUE, lingerMillis, 2, 100, null, scheduler);
+		}
+
+		@Override
+		CompletionStage<MeasurementCollection> post(final List<byte[]> measurements) {
+			try {
+				final ByteArrayOutputStream body = new ByteArrayOutputStream();
+				MeasurementEncoder.writeCollection(body, measurements);
+				final MeasurementCollection batch = JsonCodec.getDefault().readerFor(MeasurementCollection.class).readValue(body.toByteArray());
+				batches.add(batch);
+			} catch (final IOException e) {
+				throw new AssertionError(e);
+			}
+			final CompletableFuture<MeasurementCollection> response = new CompletableFuture<>();
+			responses.add(response);
+			return response;
+		}
+
+		void acknowledgeAll() {
+			for (int i = 0; i < responses.size(); i++) {
+				responses.get(i).complete(batches.get(i));
+			}
+		}
+	}
+
+	private static Measurement measurement(final int i) {
+		final Measurement measurement = new Measurement();
+		measurement.setType("c8y_Test" + i);
+		measurement.setTime("2023-01-01T00:00:00Z");
+		return measurement;
+	}
+
+	@Test
+	public void testFlushesBySizeAndOnDemand() throws InterruptedException, ExecutionException {
+		final RecordingWriter writer = new RecordingWriter(10, Long.MAX_VALUE, 60_000, 100);
+		for (int i = 0; i < 24; i++) {
+			writer.write(measurement(i));
+		}
+		assertEquals(2, writer.batches.size());
+		final CompletionStage<Measurement> last = writer.write(measurement(24));
+		final CompletionStage<Void> flushed = writer.flush();
+		assertEquals(2, writer.batches.size());
+		assertEquals(25, writer.queued());
+		writer.acknowledgeAll();
+		assertEquals(3, writer.batches.size());
+		assertEquals(5, writer.batches.get(2).getMeasurements().length);
+		writer.acknowledgeAll();
+		flushed.toCompletableFuture().get();
+		assertEquals("c8y_Test24", last.toCompletableFuture().get().getType());
+		assertEquals(0, writer.queued());
+		writer.close();
+	}
+
+	@Test
+	public void testFlushesByBytesAndLinger() throws InterruptedException, ExecutionException {
+		final RecordingWriter writer = new RecordingWriter(1000, 200, 50, 100);
+		for (int i = 0; i < 6; i++) {
+			writer.write(measurement(i));
+		}
+		assertTrue(writer.batches.size() >= 1);
+		assertTrue(writer.batches.get(0).getMeasurements().length < 6);
+		final CompletionStage<Measurement> last = writer.write(measurement(6));
+		writer.acknowledgeAll();
+		final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (!last.toCompletableFuture().isDone() && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+			writer.acknowledgeAll();
+		}
+		assertEquals("c8y_Test6", last.toCompletableFuture().get().getType());
+		assertEquals(7, writer.batches.stream().mapToInt(batch -> batch.getMeasurements().length).sum());
+		writer.close();
+	}
+
+	@Test
+	public void testLingersOnGivenScheduler() throws InterruptedException, ExecutionException {
+		final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+		try {
+			for (int i = 0; i < 2; i++) {
+				final RecordingWriter writer = new RecordingWriter(10, scheduler);
+				final CompletionStage<Measurement> written = writer.write(measurement(i));
+				final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+				while (writer.batches.isEmpty() && System.nanoTime() < deadline) {
+					Thread.sleep(10);
+				}
+				writer.acknowledgeAll();
+				assertEquals("c8y_Test" + i, written.toCompletableFuture().get().getType());
+				writer.close();
+				assertFalse(scheduler.isShutdown());
+			}
+		} finally {
+			scheduler.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testBlocksWhileQueueIsFull() throws InterruptedException {
+		final RecordingWriter writer = new RecordingWriter(2, Long.MAX_VALUE, 60_000, 4);
+		for (int i = 0; i < 4; i++) {
+			writer.write(measurement(i));
+		}
+		final Thread blocked = new Thread(() -> {
+			try {
+				writer.write(measurement(4));
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		blocked.start();
+		blocked.join(200);
+		assertTrue(blocked.isAlive());
+		writer.acknowledgeAll();
+		blocked.join(5000);
+		assertFalse(blocked.isAlive());
+		writer.flush();
+		writer.acknowledgeAll();
+		writer.close();
+	}
+}
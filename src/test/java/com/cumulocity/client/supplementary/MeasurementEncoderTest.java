@@ -0,0 +1,97 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.supplementary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.cumulocity.client.model.Measurement;
+import com.cumulocity.client.model.MeasurementCollection;
+import com.fasterxml.jackson.databind.JsonNode;
+
+public class MeasurementEncoderTest {
+
+	private static final MeasurementTemplate TEMPLATE = new MeasurementTemplate("4711", "c8y_Steam")
+		.withSeries("c8y_Steam", "Temperature", "C")
+		.withSeries("c8y_Pressure", "Pressure", "bar")
+		.withSeries("c8y_Steam", "Humidity", null);
+
+	@Test
+	public void testEncodesMeasurements() throws IOException {
+		final MeasurementEncoder encoder = new MeasurementEncoder(64);
+		encoder.append(TEMPLATE, 1672531200123L, new double[] { 21.5, 1013, -0.25 });
+		encoder.append(TEMPLATE, 1672531260000L, new double[] { -3, 1e300, 0 });
+		final MeasurementCollection collection = JsonCodec.getDefault().readerFor(MeasurementCollection.class).readValue(encoder.toByteArray());
+		assertEquals(2, collection.getMeasurements().length);
+		final Measurement first = collection.getMeasurements()[0];
+		assertEquals("4711", first.getSource().getId());
+		assertEquals("c8y_Steam", first.getType());
+		assertEquals("2023-01-01T00:00:00.123Z", first.getTime());
+		final JsonNode node = JsonCodec.getDefault().getObjectMapper().readTree(encoder.toByteArray()).get("measurements");
+		assertEquals(21.5, node.get(0).at("/c8y_Steam/Temperature/value").asDouble());
+		assertEquals("C", node.get(0).at("/c8y_Steam/Temperature/unit").asText());
+		assertEquals(-0.25, node.get(0).at("/c8y_Steam/Humidity/value").asDouble());
+		assertEquals(1013, node.get(0).at("/c8y_Pressure/Pressure/value").asDouble());
+		assertEquals(1e300, node.get(1).at("/c8y_Pressure/Pressure/value").asDouble());
+		assertEquals(-3, node.get(1).at("/c8y_Steam/Temperature/value").asDouble());
+		encoder.reset();
+		assertEquals(0, encoder.size());
+		assertEquals("{\"measurements\":[]}", new String(encoder.toByteArray(), "UTF-8"));
+	}
+
+	@Test
+	public void testOmitsMissingType() throws IOException {
+		final MeasurementEncoder encoder = new MeasurementEncoder();
+		encoder.append(new MeasurementTemplate("4711", null).withSeries("c8y_Steam", "Temperature", "C"), 0, 21.5);
+		assertEquals("{\"measurements\":[{\"source\":{\"id\":\"4711\"},\"time\":\"1970-01-01T00:00:00.000Z\",\"c8y_Steam\":{\"Temperature\":{\"unit\":\"C\",\"value\":21.5}}}]}",
+			new String(encoder.toByteArray(), "UTF-8"));
+	}
+
+	@Test
+	public void testFormatsTimeLikeInstant() {
+		final Random random = new Random(42);
+		final MeasurementTemplate template = new MeasurementTemplate("1", "t").withSeries("f", "s", null);
+		final MeasurementEncoder encoder = new MeasurementEncoder();
+		for (int i = 0; i < 10_000; i++) {
+			final long epochMillis = (long) (random.nextDouble() * 253402300799999L);
+			encoder.reset();
+			encoder.append(template, epochMillis, i);
+			final String json = new String(encoder.toByteArray());
+			final int start = json.indexOf("\"time\":\"") + 8;
+			assertEquals(DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").withZone(ZoneOffset.UTC).format(Instant.ofEpochMilli(epochMillis)),
+				json.substring(start, start + 24));
+		}
+	}
+
+	@Test
+	public void testRejectsTimesOutOfRangeWithoutWriting() throws IOException {
+		final MeasurementEncoder encoder = new MeasurementEncoder();
+		encoder.append(TEMPLATE, 0, new double[] { 1, 2, 3 });
+		assertThrows(IllegalArgumentException.class, () -> encoder.append(TEMPLATE, 253402300800000L, new double[] { 1, 2, 3 }));
+		assertThrows(IllegalArgumentException.class, () -> encoder.append(TEMPLATE, -62167219200001L, new double[] { 1, 2, 3 }));
+		encoder.append(TEMPLATE, 253402300799999L, new double[] { 4, 5, 6 });
+		encoder.append(TEMPLATE, -62167219200000L, new double[] { 7, 8, 9 });
+		final MeasurementCollection collection = JsonCodec.getDefault().readerFor(MeasurementCollection.class).readValue(encoder.toByteArray());
+		assertEquals(3, collection.getMeasurements().length);
+		assertEquals("9999-12-31T23:59:59.999Z", collection.getMeasurements()[1].getTime());
+		assertEquals("0000-01-01T00:00:00.000Z", collection.getMeasurements()[2].getTime());
+	}
+
+	@Test
+	public void testRejectsInvalidValues() {
+		final MeasurementEncoder encoder = new MeasurementEncoder();
+		assertThrows(IllegalArgumentException.class, () -> encoder.append(TEMPLATE, 0, 1.0));
+		assertThrows(IllegalArgumentException.class, () -> encoder.append(TEMPLATE, 0, new double[] { Double.NaN, 1, 2 }));
+		assertEquals(0, encoder.size());
+		assertEquals(encoder.byteSize(), new MeasurementEncoder().byteSize());
+	}
+}
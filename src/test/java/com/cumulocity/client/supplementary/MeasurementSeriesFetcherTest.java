@@ -0,0 +1,110 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.supplementary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.cumulocity.client.api.MeasurementsApi;
+import com.cumulocity.client.model.MeasurementFragmentSeries;
+
+import jakarta.ws.rs.client.ClientBuilder;
+
+public class MeasurementSeriesFetcherTest {
+
+	private static final long MINUTE = 60_000;
+
+	private static final int LIMIT = 100;
+
+	/**
+	 * Serves one value per minute and truncates responses after {@link #LIMIT} values.
+	 */
+	private static class SeriesApi extends MeasurementsApi {
+
+		private final AtomicInteger inFlight = new AtomicInteger();
+
+		private final AtomicInteger maxInFlight = new AtomicInteger();
+
+		SeriesApi() {
+			super(ClientBuilder.newClient().target("https://endpoint"));
+		}
+
+		@Override
+		public CompletionStage<ColumnarMeasurementSeries> getColumnarMeasurementSeries(final String aggregationType, final String dateFrom, final String dateTo, final boolean revert, final String[] series, final String source) {
+			maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+			return CompletableFuture.supplyAsync(() -> {
+				final long from = MeasurementSeriesFetcher.toEpochMillis(dateFrom);
+				final long to = MeasurementSeriesFetcher.toEpochMillis(dateTo);
+				final long first = (from + MINUTE - 1) / MINUTE * MINUTE;
+				final int count = (int) Math.max(0, (to - first + MINUTE - 1) / MINUTE);
+				final int size = Math.min(count, LIMIT);
+				final long[] timestamps = new long[size];
+				final double[] values = new double[2 * size];
+				for (int i = 0; i < size; i++) {
+					timestamps[i] = first + i * MINUTE;
+					values[2 * i] = values[2 * i + 1] = timestamps[i] / MINUTE;
+				}
+				final MeasurementFragmentSeries fragmentSeries = new MeasurementFragmentSeries();
+				fragmentSeries.setType("c8y_Temperature");
+				fragmentSeries.setName("T");
+				inFlight.decrementAndGet();
+				return new ColumnarMeasurementSeries(timestamps, new double[][] { values }, new MeasurementFragmentSeries[] { fragmentSeries }, count > LIMIT);
+			});
+		}
+	}
+
+	@Test
+	public void testSplitsTruncatedRanges() throws InterruptedException, ExecutionException {
+		final SeriesApi api = new SeriesApi();
+		final MeasurementSeriesFetcher fetcher = new MeasurementSeriesFetcher(api, 4, MINUTE);
+		final ColumnarMeasurementSeries series = fetcher.getMeasurementSeries(null, "2023-01-01T00:00:00Z", "2023-01-02T00:00:00Z", null, "4711").toCompletableFuture().get();
+		assertEquals(24 * 60, series.size());
+		assertFalse(series.getTruncated());
+		for (int i = 1; i < series.size(); i++) {
+			assertEquals(MINUTE, series.getTimestamps()[i] - series.getTimestamps()[i - 1]);
+			assertEquals(series.getTimestamps()[i] / MINUTE, series.getMax(0, i));
+		}
+		assertTrue(api.maxInFlight.get() <= 4);
+	}
+
+	@Test
+	public void testConcatMatchesSeries() {
+		final MeasurementFragmentSeries temperature = new MeasurementFragmentSeries();
+		temperature.setType("c8y_Temperature");
+		final MeasurementFragmentSeries humidity = new MeasurementFragmentSeries();
+		humidity.setType("c8y_Humidity");
+		final ColumnarMeasurementSeries first = new ColumnarMeasurementSeries(new long[] { 1, 2 }, new double[][] { { 1, 1, 2, 2 } }, new MeasurementFragmentSeries[] { temperature }, false);
+		final ColumnarMeasurementSeries second = new ColumnarMeasurementSeries(new long[] { 2, 3 }, new double[][] { { 5, 5, 6, 6 }, { 2, 2, 3, 3 } }, new MeasurementFragmentSeries[] { humidity, temperature }, true);
+		final ColumnarMeasurementSeries series = ColumnarMeasurementSeries.concat(Arrays.asList(first, second));
+		assertEquals(3, series.size());
+		assertEquals(3, series.getMax(0, 2));
+		assertTrue(Double.isNaN(series.getMin(1, 0)));
+		assertEquals(6, series.getMin(1, 2));
+		assertTrue(series.getTruncated());
+	}
+
+	@Test
+	public void testStartsQueuedRequestsIteratively() {
+		final AsyncSemaphore semaphore = new AsyncSemaphore(1);
+		final CompletableFuture<Integer> first = new CompletableFuture<>();
+		semaphore.submit(() -> first);
+		final AtomicInteger completed = new AtomicInteger();
+		for (int i = 0; i < 100_000; i++) {
+			semaphore.submit(() -> CompletableFuture.completedFuture(1)).thenRun(completed::incrementAndGet);
+		}
+		assertEquals(100_000, semaphore.queued());
+		first.complete(0);
+		assertEquals(100_000, completed.get());
+		assertEquals(0, semaphore.inFlight());
+	}
+}
@@ -0,0 +1,131 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.supplementary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+
+import org.glassfish.jersey.client.ClientConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.cumulocity.client.api.ManagedObjectsApi;
+import com.cumulocity.client.model.ManagedObject;
+import com.sun.net.httpserver.HttpServer;
+
+import jakarta.ws.rs.client.ClientBuilder;
+
+public class MetricsRecorderTest {
+
+	private static final String MANAGED_OBJECT = "{\"id\":\"1\",\"name\":\"device\"}";
+
+	private HttpServer server;
+
+	@BeforeEach
+	public void start() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/inventory/managedObjects", exchange -> {
+			final ByteArrayOutputStream body = new ByteArrayOutputStream();
+			try (InputStream in = exchange.getRequestBody()) {
+				final byte[] buffer = new byte[1024];
+				for (int n; (n = in.read(buffer)) > 0;) {
+					body.write(buffer, 0, n);
+				}
+			}
+			if (exchange.getRequestURI().getPath().endsWith("/missing")) {
+				exchange.sendResponseHeaders(404, -1);
+				exchange.close();
+				return;
+			}
+			final byte[] response = (exchange.getRequestMethod().equals("POST") ? body.toString("UTF-8") : MANAGED_OBJECT).getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().add("Content-Type", "application/json");
+			exchange.sendResponseHeaders(exchange.getRequestMethod().equals("POST") ? 201 : 200, 0);
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write(response);
+			}
+		});
+		server.start();
+	}
+
+	@AfterEach
+	public void stop() {
+		server.stop(0);
+	}
+
+	@Test
+	public void testRecordsRequestsPerOperation() {
+		final MetricsRecorder metrics = new MetricsRecorder();
+		final ClientConfig clientConfig = new ClientConfig();
+		clientConfig.register(metrics);
+		final ManagedObjectsApi api = new ManagedObjectsApi(ClientBuilder.newClient(clientConfig).target("http://127.0.0.1:" + server.getAddress().getPort()));
+
+		for (int i = 0; i < 3; i++) {
+			assertEquals("device", api.getManagedObject("1", false, false, false, false).toCompletableFuture().join().getName());
+		}
+		assertThrows(RuntimeException.class, () -> api.getManagedObject("missing", false, false, false, false).toCompletableFuture().join());
+		final ManagedObject managedObject = new ManagedObject();
+		managedObject.setName("created");
+		api.createManagedObject(managedObject, null).toCompletableFuture().join();
+
+		final MetricsRecorder.Operation get = metrics.getOperation("ManagedObjectsApi.getManagedObject");
+		assertEquals(4, get.getRequests());
+		assertEquals(0, get.getInFlight());
+		assertEquals(Long.valueOf(3), get.getStatuses().get(200));
+		assertEquals(Long.valueOf(1), get.getStatuses().get(404));
+		assertEquals(3 * MANAGED_OBJECT.length(), get.getResponseBytes());
+		assertEquals(0, get.getRequestBytes());
+		assertTrue(get.getLatency().getPercentile(50) > 0);
+		assertTrue(get.getLatency().getPercentile(99.9) <= get.getLatency().getMax());
+
+		final MetricsRecorder.Operation create = metrics.getOperation("ManagedObjectsApi.createManagedObject");
+		assertEquals(Collections.singletonMap(201, 1L), create.getStatuses());
+		assertEquals("{\"name\":\"created\"}".length(), create.getRequestBytes());
+		assertEquals(create.getRequestBytes(), create.getResponseBytes());
+		assertEquals(2, metrics.getOperations().size());
+		assertNull(metrics.getOperation("ManagedObjectsApi.deleteManagedObject"));
+	}
+
+	@Test
+	public void testReportsPercentilesWithinRelativeError() {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		assertEquals(0, histogram.getPercentile(99));
+		final Random random = new Random(42);
+		final long[] values = new long[10_000];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = (long) Math.exp(random.nextDouble() * 25);
+			histogram.record(values[i]);
+		}
+		Arrays.sort(values);
+		for (final double percentile : new double[] {50, 90, 99, 99.9, 100}) {
+			final long expected = values[(int) Math.ceil(percentile / 100 * values.length) - 1];
+			final long actual = histogram.getPercentile(percentile);
+			assertTrue(actual >= expected && actual <= expected * 1.016 + 1, percentile + ": " + actual + " vs " + expected);
+		}
+		assertEquals(values[values.length - 1], histogram.getMax());
+		assertEquals(values.length, histogram.getCount());
+	}
+
+	@Test
+	public void testBucketsCoverAllValues() {
+		for (long value = 0; value < 100_000; value++) {
+			final int index = LatencyHistogram.indexOf(value);
+			assertTrue(value <= LatencyHistogram.highestValueOf(index));
+			assertTrue(index == 0 || value > LatencyHistogram.highestValueOf(index - 1));
+		}
+		assertEquals(LatencyHistogram.indexOf(1L << 40), LatencyHistogram.indexOf(Long.MAX_VALUE));
+	}
+}
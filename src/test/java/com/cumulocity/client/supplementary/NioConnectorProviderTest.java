@@ -0,0 +1,356 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.supplementary;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyStore;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLHandshakeException;
+import javax.net.ssl.SSLPeerUnverifiedException;
+import javax.net.ssl.TrustManagerFactory;
+
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.client.ClientProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.cumulocity.client.api.ManagedObjectsApi;
+import com.cumulocity.client.model.ManagedObject;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.sun.net.httpserver.HttpsConfigurator;
+import com.sun.net.httpserver.HttpsServer;
+
+import jakarta.ws.rs.NotFoundException;
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.core.Configuration;
+
+public class NioConnectorProviderTest {
+
+	private static final char[] PASSWORD = "changeit".toCharArray();
+
+	private HttpServer server;
+
+	private HttpsServer httpsServer;
+
+	private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+
+	private final List<Client> clients = new java.util.ArrayList<>();
+
+	/**
+	 * Keeps the connector created for the client, to count its connections.
+	 */
+	private static class Provider extends NioConnectorProvider {
+
+		private volatile NioConnector connector;
+
+		Provider(final int maxConnectionsPerHost) {
+			super(maxConnectionsPerHost, 60_000);
+		}
+
+		Provider(final int maxConnectionsPerHost, final Executor executor) {
+			super(maxConnectionsPerHost, 60_000, 1, executor);
+		}
+
+		@Override
+		public NioConnector getConnector(final Client client, final Configuration runtimeConfig) {
+			connector = (NioConnector) super.getConnector(client, runtimeConfig);
+			return connector;
+		}
+	}
+
+	@BeforeEach
+	public void start() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.setExecutor(Executors.newFixedThreadPool(16));
+		server.createContext("/inventory/managedObjects", this::handle);
+		server.start();
+	}
+
+	@AfterEach
+	public void stop() {
+		clients.forEach(Client::close);
+		server.stop(0);
+		if (httpsServer != null) {
+			httpsServer.stop(0);
+		}
+	}
+
+	private void handle(final HttpExchange exchange) throws IOException {
+		clientPorts.add(exchange.getRemoteAddress().getPort());
+		final String path = exchange.getRequestURI().getPath();
+		final String id = path.substring(path.lastIndexOf('/') + 1);
+		if ("POST".equals(exchange.getRequestMethod())) {
+			final String body = new String(readAll(exchange.getRequestBody()), StandardCharsets.UTF_8);
+			respond(exchange, 201, body.replaceFirst("\\{", "{\"id\":\"created\","), false);
+		} else if (id.equals("missing")) {
+			respond(exchange, 404, "{\"error\":\"inventory/Not Found\"}", false);
+		} else if (id.equals("slow")) {
+			sleep(2000);
+			respond(exchange, 200, "{\"id\":\"slow\"}", false);
+		} else {
+			sleep(5);
+			respond(exchange, 200, "{\"id\":\"" + id + "\",\"name\":\"" + exchange.getRequestURI().getQuery() + "\"}", id.startsWith("chunked"));
+		}
+	}
+
+	/**
+	 * Starts a TLS server with the self-signed certificate of <code>localhost</code> and returns a context trusting it.
+	 */
+	private SSLContext startHttps() throws Exception {
+		final KeyStore keyStore = KeyStore.getInstance("PKCS12");
+		try (InputStream input = NioConnectorProviderTest.class.getResourceAsStream("localhost.p12")) {
+			keyStore.load(input, PASSWORD);
+		}
+		final KeyManagerFactory keyManagers = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+		keyManagers.init(keyStore, PASSWORD);
+		final TrustManagerFactory trustManagers = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+		trustManagers.init(keyStore);
+		final SSLContext sslContext = SSLContext.getInstance("TLS");
+		sslContext.init(keyManagers.getKeyManagers(), trustManagers.getTrustManagers(), null);
+		httpsServer = HttpsServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		httpsServer.setHttpsConfigurator(new HttpsConfigurator(sslContext));
+		httpsServer.setExecutor(Executors.newFixedThreadPool(4));
+		httpsServer.createContext("/inventory/managedObjects", this::handle);
+		httpsServer.start();
+		return sslContext;
+	}
+
+	private ManagedObjectsApi httpsApi(final Provider provider, final SSLContext sslContext, final HostnameVerifier hostnameVerifier, final String host) {
+		final ClientConfig clientConfig = new ClientConfig();
+		clientConfig.connectorProvider(provider);
+		clientConfig.property(ClientProperties.READ_TIMEOUT, 5000);
+		final ClientBuilder builder = ClientBuilder.newBuilder().withConfig(clientConfig).sslContext(sslContext);
+		if (hostnameVerifier != null) {
+			builder.hostnameVerifier(hostnameVerifier);
+		}
+		final Client client = builder.build();
+		clients.add(client);
+		return new ManagedObjectsApi(client.target("https://" + host + ":" + httpsServer.getAddress().getPort()));
+	}
+
+	private static void respond(final HttpExchange exchange, final int status, final String body, final boolean chunked) throws IOException {
+		final byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().add("Content-Type", "application/json");
+		exchange.sendResponseHeaders(status, chunked ? 0 : bytes.length);
+		try (OutputStream output = exchange.getResponseBody()) {
+			if (chunked) {
+				for (final byte b : bytes) {
+					output.write(b);
+					output.flush();
+				}
+			} else {
+				output.write(bytes);
+			}
+		}
+	}
+
+	private static byte[] readAll(final InputStream input) throws IOException {
+		final ByteArrayOutputStream output = new ByteArrayOutputStream();
+		final byte[] buffer = new byte[4096];
+		for (int read = input.read(buffer); read >= 0; read = input.read(buffer)) {
+			output.write(buffer, 0, read);
+		}
+		return output.toByteArray();
+	}
+
+	private static void sleep(final long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private ManagedObjectsApi api(final Provider provider, final int port) {
+		final ClientConfig clientConfig = new ClientConfig();
+		clientConfig.connectorProvider(provider);
+		clientConfig.property(ClientProperties.READ_TIMEOUT, 500);
+		final Client client = ClientBuilder.newClient(clientConfig);
+		clients.add(client);
+		return new ManagedObjectsApi(client.target("http://127.0.0.1:" + port));
+	}
+
+	private static ManagedObject get(final ManagedObjectsApi api, final String id) {
+		return api.getManagedObject(id, false, false, false, false).toCompletableFuture().join();
+	}
+
+	@Test
+	public void testSendsRequests() {
+		final ManagedObjectsApi api = api(new Provider(4), server.getAddress().getPort());
+		final ManagedObject managedObject = get(api, "1");
+		assertEquals("1", managedObject.getId());
+		assertEquals("skipChildrenNames=false&withChildren=false&withChildrenCount=false&withParents=false", managedObject.getName());
+		final ManagedObject body = new ManagedObject();
+		body.setName("device");
+		final ManagedObject created = api.createManagedObject(body, null).toCompletableFuture().join();
+		assertEquals("created", created.getId());
+		assertEquals("device", created.getName());
+		assertEquals("chunked", get(api, "chunked").getId());
+	}
+
+	@Test
+	public void testPoolsConnections() {
+		final Provider provider = new Provider(4);
+		final ManagedObjectsApi api = api(provider, server.getAddress().getPort());
+		final List<CompletableFuture<ManagedObject>> responses = IntStream.range(0, 200)
+			.mapToObj(i -> api.getManagedObject(String.valueOf(i), false, false, false, false).toCompletableFuture())
+			.collect(Collectors.toList());
+		for (int i = 0; i < responses.size(); i++) {
+			assertEquals(String.valueOf(i), responses.get(i).join().getId());
+		}
+		assertTrue(clientPorts.size() <= 4, "connections: " + clientPorts.size());
+		assertTrue(provider.connector.getConnections() <= 4);
+	}
+
+	@Test
+	public void testFailsLikeOtherConnectors() {
+		final ManagedObjectsApi api = api(new Provider(4), server.getAddress().getPort());
+		final CompletionException notFound = assertThrows(CompletionException.class, () -> get(api, "missing"));
+		assertTrue(notFound.getCause() instanceof NotFoundException);
+		final CompletionException timeout = assertThrows(CompletionException.class, () -> get(api, "slow"));
+		assertTrue(timeout.getCause() instanceof ProcessingException);
+		assertTrue(timeout.getCause().getCause() instanceof SocketTimeoutException);
+		assertEquals("1", get(api, "1").getId());
+	}
+
+	@Test
+	public void testResolvesHostsOffTheCallingThread() {
+		final Provider provider = new Provider(4);
+		final ClientConfig clientConfig = new ClientConfig();
+		clientConfig.connectorProvider(provider);
+		final Client client = ClientBuilder.newClient(clientConfig);
+		clients.add(client);
+		final ManagedObjectsApi unknown = new ManagedObjectsApi(client.target("http://unknown.invalid:" + server.getAddress().getPort()));
+		final CompletableFuture<ManagedObject> response = unknown.getManagedObject("1", false, false, false, false).toCompletableFuture();
+		final CompletionException e = assertThrows(CompletionException.class, response::join);
+		assertTrue(e.getCause() instanceof ProcessingException);
+		final ManagedObjectsApi local = new ManagedObjectsApi(client.target("http://localhost:" + server.getAddress().getPort()));
+		for (int i = 0; i < 10; i++) {
+			assertEquals(String.valueOf(i), get(local, String.valueOf(i)).getId());
+		}
+	}
+
+	@Test
+	public void testCompletesAfterExecutorShutdown() {
+		final ExecutorService executor = Executors.newSingleThreadExecutor();
+		final ManagedObjectsApi api = api(new Provider(2, executor), server.getAddress().getPort());
+		assertEquals("1", get(api, "1").getId());
+		executor.shutdown();
+		assertEquals("2", get(api, "2").getId());
+		final CompletionException notFound = assertThrows(CompletionException.class, () -> get(api, "missing"));
+		assertTrue(notFound.getCause() instanceof NotFoundException);
+		assertEquals("3", get(api, "3").getId());
+	}
+
+	@Test
+	public void testRetriesOnConnectionClosedWhileIdle() throws IOException {
+		final AtomicInteger accepted = new AtomicInteger();
+		try (ServerSocket socket = new ServerSocket(0, 50, java.net.InetAddress.getByName("127.0.0.1"))) {
+			final Thread acceptor = new Thread(() -> {
+				while (!socket.isClosed()) {
+					try (Socket connection = socket.accept()) {
+						accepted.incrementAndGet();
+						final InputStream input = connection.getInputStream();
+						int matched = 0;
+						while (matched < 4) {
+							final int b = input.read();
+							if (b < 0) {
+								break;
+							}
+							matched = b == (matched % 2 == 0 ? '\r' : '\n') ? matched + 1 : b == '\r' ? 1 : 0;
+						}
+						connection.getOutputStream().write("HTTP/1.1 200 OK\r\nContent-Type: application/json\r\nContent-Length: 8\r\n\r\n{\"id\":1}".getBytes(StandardCharsets.ISO_8859_1));
+					} catch (final IOException e) {
+						return;
+					}
+				}
+			});
+			acceptor.setDaemon(true);
+			acceptor.start();
+			final ManagedObjectsApi api = api(new Provider(1), socket.getLocalPort());
+			assertEquals("1", get(api, "1").getId());
+			sleep(100);
+			assertEquals("1", get(api, "1").getId());
+			assertEquals(2, accepted.get());
+		}
+	}
+
+	@Test
+	public void testSendsRequestsOverTls() throws Exception {
+		final SSLContext sslContext = startHttps();
+		final Provider provider = new Provider(1);
+		final ManagedObjectsApi api = httpsApi(provider, sslContext, null, "localhost");
+		for (int i = 0; i < 10; i++) {
+			assertEquals(String.valueOf(i), get(api, String.valueOf(i)).getId());
+		}
+		final ManagedObject body = new ManagedObject();
+		body.setName("device");
+		assertEquals("device", api.createManagedObject(body, null).toCompletableFuture().join().getName());
+		assertEquals("chunked", get(api, "chunked").getId());
+		assertEquals(1, clientPorts.size());
+		assertEquals(1, provider.connector.getConnections());
+	}
+
+	@Test
+	public void testRejectsHostnameMismatchOverTls() throws Exception {
+		final SSLContext sslContext = startHttps();
+		final ManagedObjectsApi mismatch = httpsApi(new Provider(1), sslContext, null, "127.0.0.1");
+		final CompletionException e = assertThrows(CompletionException.class, () -> get(mismatch, "1"));
+		assertTrue(e.getCause() instanceof ProcessingException);
+		assertTrue(e.getCause().getCause() instanceof SSLHandshakeException, String.valueOf(e.getCause().getCause()));
+		final ManagedObjectsApi rejected = httpsApi(new Provider(1), sslContext, (host, session) -> false, "localhost");
+		final CompletionException unverified = assertThrows(CompletionException.class, () -> get(rejected, "1"));
+		assertTrue(unverified.getCause().getCause() instanceof SSLPeerUnverifiedException, String.valueOf(unverified.getCause().getCause()));
+		final ManagedObjectsApi accepted = httpsApi(new Provider(1), sslContext, (host, session) -> "127.0.0.1".equals(host), "127.0.0.1");
+		assertEquals("1", get(accepted, "1").getId());
+		assertEquals(1, clientPorts.size());
+	}
+
+	@Test
+	public void testParsesChunkedResponsesAcrossBuffers() throws IOException {
+		final byte[] response = ("HTTP/1.1 100 Continue\r\n\r\nHTTP/1.1 200 OK\r\nTransfer-Encoding: chunked\r\n\r\n"
+			+ "5;ext=1\r\nhello\r\n6\r\n world\r\n0\r\nTrailer: x\r\n\r\n").getBytes(StandardCharsets.ISO_8859_1);
+		final HttpResponseParser parser = new HttpResponseParser(false);
+		for (int i = 0; i < response.length - 1; i++) {
+			assertFalse(parser.parse(ByteBuffer.wrap(response, i, 1)));
+		}
+		assertTrue(parser.parse(ByteBuffer.wrap(response, response.length - 1, 1)));
+		assertEquals(200, parser.getStatus());
+		assertTrue(parser.isKeepAlive());
+		assertArrayEquals("hello world".getBytes(StandardCharsets.ISO_8859_1), parser.getBody());
+	}
+}
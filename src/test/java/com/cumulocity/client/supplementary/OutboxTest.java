@@ -0,0 +1,142 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.supplementary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.cumulocity.client.api.EventsApi;
+import com.cumulocity.client.model.Event;
+
+import jakarta.ws.rs.client.ClientBuilder;
+
+public class OutboxTest {
+
+	@TempDir
+	Path directory;
+
+	/**
+	 * Records created events, failing like an unreachable endpoint while <code>reachable</code> is <code>false</code>.
+	 */
+	private static class EventsStub extends EventsApi {
+
+		private final List<String> created = new CopyOnWriteArrayList<>();
+
+		private volatile boolean reachable;
+
+		EventsStub(final boolean reachable) {
+			super(ClientBuilder.newClient().target("http://127.0.0.1:1"));
+			this.reachable = reachable;
+		}
+
+		@Override
+		public CompletionStage<Event> createEvent(final Event body, final String xCumulocityProcessingMode) {
+			if (!reachable) {
+				return super.createEvent(body, xCumulocityProcessingMode);
+			}
+			created.add(body.getText());
+			return CompletableFuture.completedFuture(body);
+		}
+	}
+
+	private static Event event(final int i) {
+		final Event event = new Event();
+		event.setText("event " + i);
+		event.setType("c8y_Test");
+		event.setTime("2023-01-01T00:00:00Z");
+		return event;
+	}
+
+	private static void await(final BooleanSupplier condition) throws InterruptedException {
+		final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+		assertTrue(condition.getAsBoolean());
+	}
+
+	private Outbox open(final EventsStub eventsApi) throws IOException {
+		return new Outbox(directory, 1024, 1000, 0, 10, null, eventsApi, null);
+	}
+
+	@Test
+	public void testDrainsOnceReachable() throws IOException, InterruptedException {
+		final EventsStub eventsApi = new EventsStub(false);
+		try (Outbox outbox = open(eventsApi)) {
+			for (int i = 0; i < 50; i++) {
+				outbox.createEvent(event(i));
+			}
+			await(() -> outbox.getStatistics().getFailedAttempts() > 0);
+			assertEquals(50, outbox.getStatistics().getBacklogRecords());
+			eventsApi.reachable = true;
+			await(() -> outbox.getStatistics().getBacklogRecords() == 0);
+			assertEquals(50, outbox.getStatistics().getSent());
+		}
+		assertEquals(50, eventsApi.created.size());
+		for (int i = 0; i < 50; i++) {
+			assertEquals("event " + i, eventsApi.created.get(i));
+		}
+		try (Stream<Path> files = Files.list(directory)) {
+			assertTrue(files.filter(file -> file.toString().endsWith(".segment")).count() <= 1);
+		}
+	}
+
+	@Test
+	public void testRecoversAfterRestart() throws IOException, InterruptedException {
+		try (Outbox outbox = open(new EventsStub(false))) {
+			for (int i = 0; i < 30; i++) {
+				outbox.createEvent(event(i));
+			}
+		}
+		final EventsStub eventsApi = new EventsStub(true);
+		try (Outbox outbox = open(eventsApi)) {
+			await(() -> eventsApi.created.size() == 30);
+			outbox.createEvent(event(30));
+			await(() -> eventsApi.created.size() == 31);
+		}
+		assertEquals("event 0", eventsApi.created.get(0));
+		assertEquals("event 30", eventsApi.created.get(30));
+		try (Outbox outbox = open(new EventsStub(false))) {
+			assertEquals(0, outbox.getStatistics().getBacklogRecords());
+		}
+	}
+
+	@Test
+	public void testDropsOldestSegment() throws IOException {
+		try (Outbox outbox = new Outbox(directory, 256, 2, 0, 60_000, null, new EventsStub(false), null)) {
+			for (int i = 0; i < 20; i++) {
+				outbox.createEvent(event(i));
+			}
+			final Outbox.Statistics statistics = outbox.getStatistics();
+			assertTrue(statistics.getDropped() > 0);
+			assertEquals(20, statistics.getBacklogRecords() + statistics.getDropped());
+		}
+	}
+
+	@Test
+	public void testDropsRecordsWithoutApi() throws IOException, InterruptedException {
+		try (Outbox outbox = open(new EventsStub(false))) {
+			outbox.createEvent(event(0));
+		}
+		try (Outbox outbox = new Outbox(directory, 1024, 1000, 0, 10, null, null, null)) {
+			await(() -> outbox.getStatistics().getBacklogRecords() == 0);
+			assertEquals(1, outbox.getStatistics().getRejected());
+			assertEquals(0, outbox.getStatistics().getJournalFailures());
+		}
+	}
+}
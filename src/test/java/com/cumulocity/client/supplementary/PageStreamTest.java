@@ -0,0 +1,160 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.supplementary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import com.cumulocity.client.api.EventsApi;
+import com.cumulocity.client.model.Event;
+import com.cumulocity.client.model.EventCollection;
+
+import jakarta.ws.rs.client.ClientBuilder;
+
+public class PageStreamTest {
+
+	/**
+	 * Serves <code>pages</code> pages of three events each, linking page <code>n</code> to page <code>n + 1</code>.
+	 */
+	private static class PagedApi extends EventsApi {
+
+		private final int pages;
+
+		private final List<CompletableFuture<EventCollection>> requests = new ArrayList<>();
+
+		private boolean complete = true;
+
+		/**
+		 * The ID of the event answered as <code>null</code> element, if any.
+		 */
+		private int missing = -1;
+
+		PagedApi(final int pages) {
+			super(ClientBuilder.newClient().target("https://endpoint"));
+			this.pages = pages;
+		}
+
+		CompletionStage<EventCollection> firstPage() {
+			return getPage("https://endpoint/event/events?pageSize=3&currentPage=1", EventCollection.class);
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		protected <T> CompletionStage<T> getPage(final String link, final Class<T> type) {
+			final int currentPage = Integer.parseInt(link.substring(link.lastIndexOf('=') + 1));
+			final Event[] events = new Event[currentPage <= pages ? 3 : 0];
+			for (int i = 0; i < events.length; i++) {
+				final int id = (currentPage - 1) * 3 + i;
+				if (id != missing) {
+					events[i] = new Event();
+					events[i].setId(String.valueOf(id));
+				}
+			}
+			final EventCollection collection = new EventCollection();
+			collection.setEvents(events);
+			collection.setNext("https://endpoint/event/events?pageSize=3&currentPage=" + (currentPage + 1));
+			final CompletableFuture<EventCollection> request = new CompletableFuture<>();
+			requests.add(request);
+			if (complete) {
+				request.complete(collection);
+			}
+			return (CompletionStage<T>) request;
+		}
+	}
+
+	private static class RecordingSubscriber implements PageStream.Subscriber<Event> {
+
+		private final List<String> ids = new ArrayList<>();
+
+		private PageStream.Subscription subscription;
+
+		private int completions;
+
+		@Override
+		public void onSubscribe(final PageStream.Subscription subscription) {
+			this.subscription = subscription;
+		}
+
+		@Override
+		public void onNext(final Event item) {
+			ids.add(item.getId());
+		}
+
+		@Override
+		public void onError(final Throwable throwable) {
+		}
+
+		@Override
+		public void onComplete() {
+			completions++;
+		}
+	}
+
+	@Test
+	public void testFollowsNextLinks() {
+		final PagedApi api = new PagedApi(4);
+		final PageStream<Event> events = PageStream.of(api, api::firstPage, EventCollection::getEvents, EventCollection::getNext);
+		try (Stream<Event> stream = events.stream()) {
+			assertEquals("0,1,2,3,4,5,6,7,8,9,10,11", stream.map(Event::getId).collect(Collectors.joining(",")));
+		}
+		assertEquals(5, api.requests.size());
+	}
+
+	@Test
+	public void testHonoursDemandAndPrefetch() {
+		final PagedApi api = new PagedApi(10);
+		final RecordingSubscriber subscriber = new RecordingSubscriber();
+		PageStream.of(api, api::firstPage, EventCollection::getEvents, EventCollection::getNext).prefetch(2).subscribe(subscriber);
+		assertTrue(subscriber.ids.isEmpty());
+		assertEquals(2, api.requests.size());
+		subscriber.subscription.request(4);
+		assertEquals(4, subscriber.ids.size());
+		assertEquals(3, api.requests.size());
+		subscriber.subscription.request(Long.MAX_VALUE);
+		assertEquals(30, subscriber.ids.size());
+		assertEquals(1, subscriber.completions);
+	}
+
+	@Test
+	public void testCancelsRequestInFlight() {
+		final PagedApi api = new PagedApi(10);
+		api.complete = false;
+		final RecordingSubscriber subscriber = new RecordingSubscriber();
+		PageStream.of(api, api::firstPage, EventCollection::getEvents, EventCollection::getNext).subscribe(subscriber);
+		subscriber.subscription.request(1);
+		assertEquals(1, api.requests.size());
+		subscriber.subscription.cancel();
+		assertTrue(api.requests.get(0).isCancelled());
+		assertTrue(subscriber.ids.isEmpty());
+	}
+
+	@Test
+	public void testSkipsNullElements() {
+		final PagedApi api = new PagedApi(3);
+		api.missing = 4;
+		final PageStream<Event> events = PageStream.of(api, api::firstPage, EventCollection::getEvents, EventCollection::getNext);
+		try (Stream<Event> stream = events.stream()) {
+			assertEquals("0,1,2,3,5,6,7,8", stream.map(Event::getId).collect(Collectors.joining(",")));
+		}
+		final RecordingSubscriber subscriber = new RecordingSubscriber();
+		events.subscribe(subscriber);
+		subscriber.subscription.request(4);
+		assertEquals(Arrays.asList("0", "1", "2", "3"), subscriber.ids);
+		subscriber.subscription.request(1);
+		assertEquals(Arrays.asList("0", "1", "2", "3", "5"), subscriber.ids);
+		subscriber.subscription.request(Long.MAX_VALUE);
+		assertEquals(8, subscriber.ids.size());
+		assertEquals(1, subscriber.completions);
+	}
+}
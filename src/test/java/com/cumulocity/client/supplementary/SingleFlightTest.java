@@ -0,0 +1,98 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.supplementary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.glassfish.jersey.client.ClientConfig;
+import org.junit.jupiter.api.Test;
+
+import com.cumulocity.client.api.ManagedObjectsApi;
+import com.cumulocity.client.model.ManagedObject;
+
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.client.ClientRequestFilter;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+public class SingleFlightTest {
+
+	private final SingleFlight singleFlight = new SingleFlight();
+
+	private final AtomicInteger sent = new AtomicInteger();
+
+	private final CountDownLatch release = new CountDownLatch(1);
+
+	/**
+	 * Creates an API answering each request with the managed object of the requested ID once <code>release</code> is
+	 * counted down, without sending it.
+	 */
+	private ManagedObjectsApi api() {
+		final ClientConfig clientConfig = new ClientConfig();
+		clientConfig.register(singleFlight);
+		clientConfig.register((ClientRequestFilter) request -> {
+			sent.incrementAndGet();
+			try {
+				release.await(10, TimeUnit.SECONDS);
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			final String path = request.getUri().getPath();
+			final String id = path.substring(path.lastIndexOf('/') + 1);
+			request.abortWith(Response.ok("{\"id\":\"" + id + "\"}", MediaType.APPLICATION_JSON_TYPE).build());
+		});
+		return new ManagedObjectsApi(ClientBuilder.newClient(clientConfig).target("http://127.0.0.1:1"));
+	}
+
+	private CompletableFuture<ManagedObject> get(final ManagedObjectsApi api, final String id) {
+		return api.getManagedObject(id, false, false, false, false).toCompletableFuture();
+	}
+
+	@Test
+	public void testCoalescesIdenticalRequests() {
+		final ManagedObjectsApi api = api();
+		final CompletableFuture<ManagedObject> first = get(api, "1");
+		final CompletableFuture<ManagedObject> second = get(api, "1");
+		final CompletableFuture<ManagedObject> third = get(api, "1");
+		final CompletableFuture<ManagedObject> other = get(api, "2");
+		assertEquals(2, singleFlight.getInFlight());
+		release.countDown();
+		assertEquals("1", first.join().getId());
+		assertSame(first.join(), second.join());
+		assertSame(first.join(), third.join());
+		assertEquals("2", other.join().getId());
+		assertEquals(2, sent.get());
+		assertEquals(4, singleFlight.getRequests());
+		assertEquals(2, singleFlight.getCoalesced());
+		assertEquals(0, singleFlight.getInFlight());
+	}
+
+	@Test
+	public void testSendsAgainAfterCompletion() {
+		final ManagedObjectsApi api = api();
+		release.countDown();
+		get(api, "1").join();
+		get(api, "1").join();
+		assertEquals(2, sent.get());
+		assertEquals(0, singleFlight.getCoalesced());
+	}
+
+	@Test
+	public void testCancellationDoesNotAffectOtherCallers() {
+		final ManagedObjectsApi api = api();
+		final CompletableFuture<ManagedObject> first = get(api, "1");
+		final CompletableFuture<ManagedObject> second = get(api, "1");
+		assertTrue(first.cancel(true));
+		release.countDown();
+		assertEquals("1", second.join().getId());
+		assertEquals(1, sent.get());
+	}
+}
@@ -0,0 +1,111 @@
+// Copyright (c) 2014-2023 Software AG, Darmstadt, Germany and/or Software AG USA Inc., Reston, VA, USA, and/or its subsidiaries and/or its affiliates and/or their licensors.
+// Use, reproduction, transfer, publication or disclosure is prohibited except as specifically provided for in your License Agreement with Software AG.	
+
+package com.cumulocity.client.supplementary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import com.cumulocity.client.api.EventsApi;
+import com.cumulocity.client.model.Event;
+import com.cumulocity.client.model.EventCollection;
+
+import jakarta.ws.rs.client.ClientBuilder;
+
+public class TimeSlicedExporterTest {
+
+	private static final long MINUTE = 60_000;
+
+	private static final String DATE_FROM = "2023-01-01T00:00:00Z";
+
+	private static final String DATE_TO = "2023-01-01T10:00:00Z";
+
+	/**
+	 * Serves one event per minute in pages of seven events.
+	 */
+	private static class EventStub extends EventsApi {
+
+		EventStub() {
+			super(ClientBuilder.newClient().target("https://endpoint"));
+		}
+
+		CompletionStage<EventCollection> page(final String dateFrom, final String dateTo, final int currentPage) {
+			final long from = MeasurementSeriesFetcher.toEpochMillis(dateFrom);
+			final long to = MeasurementSeriesFetcher.toEpochMillis(dateTo);
+			final long first = (from + MINUTE - 1) / MINUTE * MINUTE + (currentPage - 1) * 7 * MINUTE;
+			final int size = (int) Math.max(0, Math.min(7, (to - first + MINUTE - 1) / MINUTE));
+			final Event[] events = new Event[size];
+			for (int i = 0; i < size; i++) {
+				events[i] = new Event();
+				events[i].setTime(MeasurementSeriesFetcher.toDate(first + i * MINUTE));
+			}
+			final EventCollection collection = new EventCollection();
+			collection.setEvents(events);
+			if (size == 7) {
+				collection.setNext("https://endpoint/event/events?dateFrom=" + dateFrom + "&dateTo=" + dateTo + "&currentPage=" + (currentPage + 1));
+			}
+			return CompletableFuture.supplyAsync(() -> collection);
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		protected <T> CompletionStage<T> getPage(final String link, final Class<T> type) {
+			final String[] parameters = link.substring(link.indexOf('?') + 1).split("&");
+			return (CompletionStage<T>) page(parameters[0].substring(9), parameters[1].substring(7), Integer.parseInt(parameters[2].substring(12)));
+		}
+	}
+
+	private static TimeSlicedExporter<Event> exporter(final EventStub api) {
+		return TimeSlicedExporter.of(api, (dateFrom, dateTo) -> api.page(dateFrom, dateTo, 1), EventCollection::getEvents, EventCollection::getNext);
+	}
+
+	@Test
+	public void testConcatenatesSlicesInOrder() {
+		final List<TimeSlicedExporter.SliceStatistics> statistics = new CopyOnWriteArrayList<>();
+		try (Stream<Event> events = exporter(new EventStub()).slices(7).onSliceComplete(statistics::add).export(DATE_FROM, DATE_TO)) {
+			final List<Long> times = events.map(event -> MeasurementSeriesFetcher.toEpochMillis(event.getTime())).collect(Collectors.toList());
+			assertEquals(600, times.size());
+			for (int i = 0; i < times.size(); i++) {
+				assertEquals(MeasurementSeriesFetcher.toEpochMillis(DATE_FROM) + i * MINUTE, times.get(i));
+			}
+		}
+		assertEquals(7, statistics.size());
+		assertEquals(600, statistics.stream().mapToLong(TimeSlicedExporter.SliceStatistics::getElements).sum());
+	}
+
+	@Test
+	public void testFetchesFollowingSlicesWhileConsumingFirst() throws InterruptedException {
+		final List<TimeSlicedExporter.SliceStatistics> statistics = new CopyOnWriteArrayList<>();
+		try (Stream<Event> events = exporter(new EventStub()).slices(4).prefetch(1).buffer(32).onSliceComplete(statistics::add).export(DATE_FROM, DATE_TO)) {
+			final Iterator<Event> iterator = events.iterator();
+			assertEquals(MeasurementSeriesFetcher.toEpochMillis(DATE_FROM), MeasurementSeriesFetcher.toEpochMillis(iterator.next().getTime()));
+			final long deadline = System.currentTimeMillis() + 5000;
+			while (statistics.size() < 4 && System.currentTimeMillis() < deadline) {
+				Thread.sleep(10);
+			}
+			assertEquals(4, statistics.size());
+			int count = 1;
+			while (iterator.hasNext()) {
+				iterator.next();
+				count++;
+			}
+			assertEquals(600, count);
+		}
+	}
+
+	@Test
+	public void testEmitsUnordered() {
+		try (Stream<Event> events = exporter(new EventStub()).slices(5).ordered(false).export(DATE_FROM, DATE_TO)) {
+			assertEquals(600, events.map(Event::getTime).distinct().count());
+		}
+	}
+}